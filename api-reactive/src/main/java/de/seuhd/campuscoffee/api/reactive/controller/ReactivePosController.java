@@ -0,0 +1,90 @@
+package de.seuhd.campuscoffee.api.reactive.controller;
+
+import de.seuhd.campuscoffee.api.dtos.PosDto;
+import de.seuhd.campuscoffee.api.mapper.PosDtoMapper;
+import de.seuhd.campuscoffee.domain.ports.ReactivePosService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+
+/**
+ * WebFlux controller for handling POS-related API requests, the reactive counterpart of the servlet stack's
+ * {@code PosController} with the same paths, status codes, and JSON representation.
+ * <p>
+ * {@code GET /api/pos} streams the catalog from the database to the client: each POS is mapped and written as
+ * soon as its row arrives, and rows are only fetched as fast as the client reads (backpressure). With
+ * {@code Accept: application/x-ndjson}, the response is one JSON document per line, which clients can process
+ * while it is still being transferred.
+ */
+@Controller
+@RequestMapping("/api/pos")
+@RequiredArgsConstructor
+public class ReactivePosController {
+    private final ReactivePosService posService;
+    private final PosDtoMapper posDtoMapper;
+
+    @GetMapping(value = "", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<Flux<PosDto>> getAll() {
+        return ResponseEntity.ok(posService.getAll().map(posDtoMapper::fromDomain));
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<PosDto>> getById(
+            @PathVariable Long id) {
+        return posService.getById(id)
+                .map(posDtoMapper::fromDomain)
+                .map(ResponseEntity::ok);
+    }
+
+    @PostMapping("")
+    public Mono<ResponseEntity<PosDto>> create(
+            @RequestBody PosDto posDto,
+            ServerHttpRequest request) {
+        return upsert(posDto)
+                .map(created -> ResponseEntity
+                        .created(getLocation(request, created.id()))
+                        .body(created));
+    }
+
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<PosDto>> update(
+            @PathVariable Long id,
+            @RequestBody PosDto posDto) {
+        if (!id.equals(posDto.id())) {
+            return Mono.error(new IllegalArgumentException("POS ID in path and body do not match."));
+        }
+        return upsert(posDto).map(ResponseEntity::ok);
+    }
+
+    /**
+     * Common upsert logic for create and update.
+     *
+     * @param posDto the POS DTO to map and upsert
+     * @return the upserted POS mapped back to the DTO format.
+     */
+    private Mono<PosDto> upsert(PosDto posDto) {
+        return posService.upsert(posDtoMapper.toDomain(posDto))
+                .map(posDtoMapper::fromDomain);
+    }
+
+    /**
+     * Builds the location URI for a newly created resource.
+     * @param request the current request
+     * @param resourceId the ID of the created resource
+     * @return the location URI
+     */
+    private URI getLocation(ServerHttpRequest request, Long resourceId) {
+        return UriComponentsBuilder.fromUri(request.getURI())
+                .path("/{id}")
+                .buildAndExpand(resourceId)
+                .toUri();
+    }
+}
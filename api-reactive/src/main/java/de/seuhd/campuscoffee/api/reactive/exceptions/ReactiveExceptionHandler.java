@@ -0,0 +1,127 @@
+package de.seuhd.campuscoffee.api.reactive.exceptions;
+
+import de.seuhd.campuscoffee.api.exceptions.ErrorResponse;
+import de.seuhd.campuscoffee.domain.exceptions.DuplicatePosNameException;
+import de.seuhd.campuscoffee.domain.exceptions.PosNotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+
+import java.time.LocalDateTime;
+
+/**
+ * Exception handler for the WebFlux controllers, the reactive counterpart of the servlet stack's
+ * {@code GlobalExceptionHandler}: same status codes, same {@link ErrorResponse} body, and the same
+ * {@code campuscoffee.exceptions} counter.
+ */
+@Slf4j
+@ControllerAdvice
+@RequiredArgsConstructor
+public class ReactiveExceptionHandler {
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Handles all "Not Found" exceptions from the domain layer.
+     * Returns HTTP 404 (Not Found).
+     *
+     * @param exception the NotFoundException that was thrown
+     * @param request the request
+     * @return ResponseEntity with ErrorResponse and HTTP 404
+     */
+    @ExceptionHandler(PosNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleNotFoundException(
+            RuntimeException exception,
+            ServerHttpRequest request
+    ) {
+        log.warn("Resource not found: {}", exception.getMessage());
+        return buildErrorResponse(exception, HttpStatus.NOT_FOUND, request, exception.getMessage());
+    }
+
+    /**
+     * Handles duplicate/uniqueness constraint violations.
+     * Returns HTTP 409 (Conflict).
+     *
+     * @param exception the duplicate exception that was thrown
+     * @param request the request
+     * @return ResponseEntity with ErrorResponse and HTTP 409
+     */
+    @ExceptionHandler(DuplicatePosNameException.class)
+    public ResponseEntity<ErrorResponse> handleDuplicateException(
+            RuntimeException exception,
+            ServerHttpRequest request
+    ) {
+        log.warn("Duplicate resource: {}", exception.getMessage());
+        return buildErrorResponse(exception, HttpStatus.CONFLICT, request, exception.getMessage());
+    }
+
+    /**
+     * Handles validation and bad request exceptions.
+     * Returns HTTP 400 (Bad Request).
+     *
+     * @param exception the exception that was thrown
+     * @param request the request
+     * @return ResponseEntity with ErrorResponse and HTTP 400
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ErrorResponse> handleBadRequestException(
+            RuntimeException exception,
+            ServerHttpRequest request
+    ) {
+        log.warn("Bad request: {}", exception.getMessage());
+        return buildErrorResponse(exception, HttpStatus.BAD_REQUEST, request, exception.getMessage());
+    }
+
+    /**
+     * Fallback handler for unexpected exceptions.
+     * Returns HTTP 500 (Internal Server Error).
+     *
+     * @param exception the unexpected exception that was thrown
+     * @param request the request
+     * @return ResponseEntity with ErrorResponse and HTTP 500
+     */
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ErrorResponse> handleGenericException(
+            Exception exception,
+            ServerHttpRequest request
+    ) {
+        log.error("Unexpected error occurred", exception);
+        return buildErrorResponse(exception, HttpStatus.INTERNAL_SERVER_ERROR, request,
+                "An unexpected error occurred.");
+    }
+
+    /**
+     * Builds a standardized error response.
+     *
+     * @param exception the exception that was thrown
+     * @param status the HTTP status to return
+     * @param request the request
+     * @param message the error message
+     * @return ResponseEntity with ErrorResponse and the specified HTTP status
+     */
+    private ResponseEntity<ErrorResponse> buildErrorResponse(
+            Exception exception,
+            HttpStatus status,
+            ServerHttpRequest request,
+            String message
+    ) {
+        meterRegistry.counter("campuscoffee.exceptions",
+                "type", exception.getClass().getSimpleName(),
+                "status", String.valueOf(status.value())
+        ).increment();
+        ErrorResponse error = ErrorResponse.builder()
+                .errorCode(exception.getClass().getSimpleName())
+                .message(message)
+                .statusCode(status.value())
+                .statusMessage(status.getReasonPhrase())
+                .timestamp(LocalDateTime.now())
+                .path(request.getPath().value())
+                .build();
+
+        return ResponseEntity.status(status).body(error);
+    }
+}
@@ -0,0 +1,63 @@
+package de.seuhd.campuscoffee.api.analytics;
+
+import de.seuhd.campuscoffee.domain.model.PosListing;
+import de.seuhd.campuscoffee.domain.ports.PopularityService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+/**
+ * Feeds successful POS reads into the popularity analytics: views of single POS ({@code GET /api/pos/{id}}) and
+ * list requests ({@code GET /api/pos}, {@code /api/pos/open}, and {@code /api/pos/leaderboard}).
+ * <p>
+ * The endpoint is identified by the mapping pattern that Spring MVC already resolved, so recording costs a map lookup
+ * and a queue offer (see {@link PopularityService}). Clients are identified by their remote address. Behind a load
+ * balancer, {@code server.forward-headers-strategy} resolves it from {@code X-Forwarded-For}, but only for requests
+ * from trusted proxies ({@code server.tomcat.remoteip.internal-proxies}), so that clients cannot forge the header to
+ * inflate the distinct client counts.
+ */
+@RequiredArgsConstructor
+public class PopularityInterceptor implements HandlerInterceptor {
+    private final PopularityService popularityService;
+
+    @Override
+    public void afterCompletion(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                @NonNull Object handler, @Nullable Exception exception) {
+        if (exception != null || response.getStatus() != HttpStatus.OK.value()
+                || !HttpMethod.GET.matches(request.getMethod())) {
+            return;
+        }
+        if (!(request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE) instanceof String pattern)) {
+            return;
+        }
+        String client = request.getRemoteAddr();
+        switch (pattern) {
+            case "/api/pos/{id}" -> recordView(request, client);
+            case "/api/pos" -> popularityService.recordListing(PosListing.ALL, client);
+            case "/api/pos/open" -> popularityService.recordListing(PosListing.OPEN, client);
+            case "/api/pos/leaderboard" -> popularityService.recordListing(PosListing.LEADERBOARD, client);
+            default -> {
+                // not a POS read
+            }
+        }
+    }
+
+    private void recordView(HttpServletRequest request, String client) {
+        if (request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE) instanceof Map<?, ?> variables
+                && variables.get("id") instanceof String id) {
+            try {
+                popularityService.recordView(Long.parseLong(id), client);
+            } catch (NumberFormatException e) {
+                // unreachable for successful requests, since the controller parsed the ID as well
+            }
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package de.seuhd.campuscoffee.api.cache;
+
+import de.seuhd.campuscoffee.api.configuration.ResponseEncoders;
+import de.seuhd.campuscoffee.domain.events.PosChangedEvent;
+import de.seuhd.campuscoffee.domain.instrumentation.RequestTimings;
+import de.seuhd.campuscoffee.domain.model.Pos;
+import org.jspecify.annotations.NonNull;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Cache of fully encoded POS response bodies.
+ * <p>
+ * Single POS are cached per ID and media type together with the {@code updatedAt} timestamp and the live status
+ * version of the encoded version. A cached body is only returned if it was encoded from a POS with the same timestamp
+ * and status version, so it can never be stale with respect to the POS and status the caller just retrieved. Entries are evicted in LRU order once the total size of the
+ * cached bodies exceeds the configured limit.
+ * <p>
+ * The full POS list is cached as one body per media type together with the global live status version it embeds.
+ * It is invalidated on every {@link PosChangedEvent} and on every status change, and additionally expires after a
+ * short time-to-live to bound staleness for changes made by other instances.
+ */
+@Component
+public class PosResponseCache {
+    private final ResponseEncoders responseEncoders;
+    private final long maxBytes;
+    private final long listTtlNanos;
+
+    // access-ordered map for LRU eviction; guarded by lock
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private final ReentrantLock lock = new ReentrantLock();
+    private long cachedBytes;
+
+    // incremented on every change of the catalog; list bodies encoded for an older generation are ignored
+    private final AtomicLong listGeneration = new AtomicLong();
+    private final Map<MediaType, ListEntry> listEntries = new ConcurrentHashMap<>();
+
+    public PosResponseCache(
+            ResponseEncoders responseEncoders,
+            @Value("${campus-coffee.response-cache.max-bytes:16777216}") long maxBytes,
+            @Value("${campus-coffee.response-cache.list-ttl:PT10S}") Duration listTtl) {
+        this.responseEncoders = responseEncoders;
+        this.maxBytes = maxBytes;
+        this.listTtlNanos = listTtl.toNanos();
+    }
+
+    /**
+     * Returns the encoded response body for a single POS, encoding and caching it on a miss.
+     *
+     * @param pos           the current version of the POS; must have an ID
+     * @param statusVersion the version of the current live status of the POS (see
+     *                      {@link de.seuhd.campuscoffee.domain.model.PosStatus#version()}); -1 if there is none
+     * @param mediaType     the negotiated media type
+     * @param body          supplies the response object to encode on a cache miss (e.g., the mapped DTO)
+     * @return the encoded response body
+     */
+    public byte @NonNull [] get(@NonNull Pos pos, long statusVersion, @NonNull MediaType mediaType,
+                                @NonNull Supplier<?> body) {
+        Key key = new Key(Objects.requireNonNull(pos.id()), mediaType);
+        lock.lock();
+        try {
+            Entry entry = entries.get(key);
+            if (entry != null && Objects.equals(entry.updatedAt(), pos.updatedAt())
+                    && entry.statusVersion() == statusVersion) {
+                return entry.body();
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        byte[] encoded = encode(mediaType, body.get());
+        if (encoded.length <= maxBytes) {
+            put(key, new Entry(pos.updatedAt(), statusVersion, encoded));
+        }
+        return encoded;
+    }
+
+    /**
+     * Returns the encoded response body for the full POS list, encoding and caching it on a miss.
+     *
+     * @param statusVersion the current version of all live statuses (see
+     *                      {@link de.seuhd.campuscoffee.domain.ports.PosStatusService#version()}), read before the
+     *                      statuses that the body embeds
+     * @param mediaType     the negotiated media type
+     * @param body          supplies the response object to encode on a cache miss (e.g., the list of mapped DTOs)
+     * @return the encoded response body
+     */
+    public byte @NonNull [] getList(long statusVersion, @NonNull MediaType mediaType, @NonNull Supplier<?> body) {
+        long generation = listGeneration.get();
+        ListEntry entry = listEntries.get(mediaType);
+        if (entry != null && entry.generation() == generation && entry.statusVersion() == statusVersion
+                && System.nanoTime() - entry.encodedAt() < listTtlNanos) {
+            return entry.body();
+        }
+
+        byte[] encoded = encode(mediaType, body.get());
+        if (encoded.length <= maxBytes) {
+            // if the catalog or a status changed in the meantime, the versions do not match and the entry is never
+            // served
+            listEntries.put(mediaType, new ListEntry(generation, statusVersion, System.nanoTime(), encoded));
+        }
+        return encoded;
+    }
+
+    /**
+     * Invalidates the cached bodies affected by a change of the catalog.
+     *
+     * @param event the change event published by the domain layer
+     */
+    @EventListener
+    public void onPosChanged(@NonNull PosChangedEvent event) {
+        listGeneration.incrementAndGet();
+        listEntries.clear();
+        lock.lock();
+        try {
+            if (event.affectsAll()) {
+                entries.clear();
+                cachedBytes = 0;
+            } else {
+                for (MediaType mediaType : responseEncoders.supportedMediaTypes()) {
+                    Entry removed = entries.remove(new Key(event.posId(), mediaType));
+                    if (removed != null) {
+                        cachedBytes -= removed.body().length;
+                    }
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void put(Key key, Entry entry) {
+        lock.lock();
+        try {
+            Entry previous = entries.put(key, entry);
+            if (previous != null) {
+                cachedBytes -= previous.body().length;
+            }
+            cachedBytes += entry.body().length;
+            Iterator<Entry> eldest = entries.values().iterator();
+            while (cachedBytes > maxBytes && eldest.hasNext()) {
+                cachedBytes -= eldest.next().body().length;
+                eldest.remove();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private byte[] encode(MediaType mediaType, Object body) {
+        RequestTimings timings = RequestTimings.current();
+        if (timings != null) {
+            timings.enter(RequestTimings.ENCODE);
+        }
+        try {
+            return responseEncoders.get(mediaType).writeValueAsBytes(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to encode response as " + mediaType, e);
+        } finally {
+            if (timings != null) {
+                timings.exit(RequestTimings.ENCODE);
+            }
+        }
+    }
+
+    private record Key(long posId, MediaType mediaType) {}
+
+    private record Entry(LocalDateTime updatedAt, long statusVersion, byte[] body) {}
+
+    private record ListEntry(long generation, long statusVersion, long encodedAt, byte[] body) {}
+}
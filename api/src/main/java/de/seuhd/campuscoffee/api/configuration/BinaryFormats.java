@@ -0,0 +1,51 @@
+package de.seuhd.campuscoffee.api.configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.jspecify.annotations.NonNull;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Binary encodings that clients can request instead of JSON via the {@code Accept} header.
+ * <p>
+ * Compared to the JSON mapper, the binary mappers encode enums ({@code PosType}, {@code CampusType}) by their
+ * index and timestamps as numeric arrays, which both fit into one or two bytes per value in CBOR and Smile.
+ * Enum indexes follow the declaration order, so new enum constants must only be appended.
+ */
+public final class BinaryFormats {
+    public static final MediaType APPLICATION_CBOR = MediaType.APPLICATION_CBOR;
+    public static final MediaType APPLICATION_SMILE = new MediaType("application", "x-jackson-smile");
+
+    private BinaryFormats() {}
+
+    /**
+     * Creates the object mapper used for CBOR responses and request bodies.
+     *
+     * @param builder the (Spring Boot-configured) object mapper builder to derive the mapper from
+     * @return the CBOR object mapper
+     */
+    public static @NonNull ObjectMapper cborMapper(@NonNull Jackson2ObjectMapperBuilder builder) {
+        return compact(builder).factory(new CBORFactory()).build();
+    }
+
+    /**
+     * Creates the object mapper used for Smile responses and request bodies.
+     *
+     * @param builder the (Spring Boot-configured) object mapper builder to derive the mapper from
+     * @return the Smile object mapper
+     */
+    public static @NonNull ObjectMapper smileMapper(@NonNull Jackson2ObjectMapperBuilder builder) {
+        return compact(builder).factory(new SmileFactory()).build();
+    }
+
+    private static Jackson2ObjectMapperBuilder compact(Jackson2ObjectMapperBuilder builder) {
+        return builder
+                .featuresToEnable(
+                        SerializationFeature.WRITE_ENUMS_USING_INDEX,
+                        SerializationFeature.WRITE_DATES_AS_TIMESTAMPS
+                );
+    }
+}
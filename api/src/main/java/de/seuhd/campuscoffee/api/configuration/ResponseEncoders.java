@@ -0,0 +1,91 @@
+package de.seuhd.campuscoffee.api.configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Object mappers for all encodings the API supports, keyed by media type.
+ * JSON uses the object mapper configured by Spring Boot, the binary encodings are created by {@link BinaryFormats}.
+ * The same mappers back the message converters and the pre-encoded responses, so both produce identical bytes.
+ */
+@Component
+public class ResponseEncoders {
+    // insertion order defines the preference if a client accepts several encodings equally (e.g., "*/*")
+    private final Map<MediaType, ObjectMapper> objectMappers = new LinkedHashMap<>();
+
+    public ResponseEncoders(ObjectMapper objectMapper, ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilder) {
+        objectMappers.put(MediaType.APPLICATION_JSON, objectMapper);
+        objectMappers.put(BinaryFormats.APPLICATION_CBOR, BinaryFormats.cborMapper(objectMapperBuilder.getObject()));
+        objectMappers.put(BinaryFormats.APPLICATION_SMILE, BinaryFormats.smileMapper(objectMapperBuilder.getObject()));
+    }
+
+    /**
+     * Returns all supported media types, in order of preference.
+     *
+     * @return the supported media types
+     */
+    public @NonNull Set<MediaType> supportedMediaTypes() {
+        return Collections.unmodifiableSet(objectMappers.keySet());
+    }
+
+    /**
+     * Returns the object mapper for the given (supported) media type.
+     *
+     * @param mediaType one of the media types returned by {@link #negotiate(String)}
+     * @return the object mapper
+     * @throws IllegalArgumentException if the media type is not supported
+     */
+    public @NonNull ObjectMapper get(@NonNull MediaType mediaType) {
+        ObjectMapper objectMapper = objectMappers.get(mediaType);
+        if (objectMapper == null) {
+            throw new IllegalArgumentException("Unsupported media type: " + mediaType);
+        }
+        return objectMapper;
+    }
+
+    /**
+     * Selects the encoding for a response based on the {@code Accept} header of the request.
+     * Falls back to JSON if the header is missing, invalid, or does not match any supported encoding.
+     *
+     * @param accept the value of the {@code Accept} header; may be null
+     * @return the selected media type
+     */
+    public @NonNull MediaType negotiate(@Nullable String accept) {
+        if (accept == null || accept.isBlank()) {
+            return MediaType.APPLICATION_JSON;
+        }
+        List<MediaType> acceptedTypes;
+        try {
+            acceptedTypes = new ArrayList<>(MediaType.parseMediaTypes(accept));
+        } catch (InvalidMediaTypeException e) {
+            return MediaType.APPLICATION_JSON;
+        }
+        // stable sort, so types with the same quality keep the order of the header
+        acceptedTypes.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+        for (MediaType acceptedType : acceptedTypes) {
+            if (acceptedType.getQualityValue() == 0) {
+                break;
+            }
+            for (MediaType supportedType : objectMappers.keySet()) {
+                if (acceptedType.isCompatibleWith(supportedType)) {
+                    return supportedType;
+                }
+            }
+        }
+        return MediaType.APPLICATION_JSON;
+    }
+}
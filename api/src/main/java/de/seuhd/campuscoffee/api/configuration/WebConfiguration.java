@@ -0,0 +1,56 @@
+package de.seuhd.campuscoffee.api.configuration;
+
+import de.seuhd.campuscoffee.api.analytics.PopularityInterceptor;
+import de.seuhd.campuscoffee.api.limiter.ConcurrencyLimitInterceptor;
+import de.seuhd.campuscoffee.api.limiter.ConcurrencyLimitProperties;
+import de.seuhd.campuscoffee.domain.ports.PopularityService;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Web MVC configuration of the API layer.
+ * Registers the binary encodings from {@link BinaryFormats} as additional message converters. They are appended
+ * after the JSON converter, so JSON remains the default if a client does not request a binary encoding.
+ * If enabled, the POS endpoints are protected by adaptive concurrency limits (see {@link ConcurrencyLimitInterceptor}),
+ * and their reads feed the popularity analytics (see {@link PopularityInterceptor}).
+ */
+@Configuration
+@RequiredArgsConstructor
+public class WebConfiguration implements WebMvcConfigurer {
+    private final ResponseEncoders responseEncoders;
+    private final ConcurrencyLimitProperties concurrencyLimitProperties;
+    private final MeterRegistry meterRegistry;
+    private final PopularityService popularityService;
+
+    @Value("${campus-coffee.analytics.enabled:true}")
+    private final boolean analyticsEnabled;
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(new MappingJackson2CborHttpMessageConverter(
+                responseEncoders.get(BinaryFormats.APPLICATION_CBOR)));
+        converters.add(new MappingJackson2SmileHttpMessageConverter(
+                responseEncoders.get(BinaryFormats.APPLICATION_SMILE)));
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        if (concurrencyLimitProperties.enabled()) {
+            registry.addInterceptor(new ConcurrencyLimitInterceptor(concurrencyLimitProperties, meterRegistry))
+                    .addPathPatterns("/api/pos", "/api/pos/**");
+        }
+        if (analyticsEnabled) {
+            registry.addInterceptor(new PopularityInterceptor(popularityService))
+                    .addPathPatterns("/api/pos", "/api/pos/**");
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package de.seuhd.campuscoffee.api.controller;
+
+import de.seuhd.campuscoffee.api.dtos.RecordingDto;
+import de.seuhd.campuscoffee.api.dtos.RecordingSummaryDto;
+import de.seuhd.campuscoffee.api.mapper.RecordingDtoMapper;
+import de.seuhd.campuscoffee.domain.ports.FlightRecordingService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.*;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Admin controller for on-demand Java Flight Recorder recordings.
+ */
+@Controller
+@RequestMapping("/api/admin/jfr")
+@RequiredArgsConstructor
+public class FlightRecordingController {
+    private final FlightRecordingService flightRecordingService;
+    private final RecordingDtoMapper recordingDtoMapper;
+
+    @GetMapping("")
+    public ResponseEntity<RecordingDto> get() {
+        return ResponseEntity.ok(
+                recordingDtoMapper.fromDomain(flightRecordingService.getInfo())
+        );
+    }
+
+    @PostMapping("/start")
+    public ResponseEntity<RecordingDto> start(
+            @RequestParam(defaultValue = "default") String settings,
+            @RequestParam(required = false) Duration duration) {
+        return ResponseEntity.ok(
+                recordingDtoMapper.fromDomain(flightRecordingService.start(settings, duration))
+        );
+    }
+
+    @PostMapping("/stop")
+    public ResponseEntity<RecordingDto> stop() {
+        return ResponseEntity.ok(
+                recordingDtoMapper.fromDomain(flightRecordingService.stop())
+        );
+    }
+
+    // not a GET: every call writes a new dump
+    @PostMapping("/dump")
+    public ResponseEntity<Resource> dump() {
+        Path dump = flightRecordingService.dump();
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(dump.getFileName().toString())
+                        .build()
+                        .toString())
+                .body(new FileSystemResource(dump));
+    }
+
+    @GetMapping("/summary")
+    public ResponseEntity<RecordingSummaryDto> summary(
+            @RequestParam(defaultValue = "10") int top) {
+        return ResponseEntity.ok(
+                recordingDtoMapper.fromDomain(flightRecordingService.summarize(top))
+        );
+    }
+}
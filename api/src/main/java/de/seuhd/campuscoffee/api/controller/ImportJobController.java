@@ -0,0 +1,44 @@
+package de.seuhd.campuscoffee.api.controller;
+
+import de.seuhd.campuscoffee.api.dtos.ImportJobDto;
+import de.seuhd.campuscoffee.api.dtos.ImportJobRequestDto;
+import de.seuhd.campuscoffee.api.mapper.ImportJobDtoMapper;
+import de.seuhd.campuscoffee.domain.ports.ImportJobService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+/**
+ * Controller for submitting asynchronous OSM import jobs and polling their status.
+ * Submitting returns {@code 202 Accepted} right away; the imports are processed in the background.
+ */
+@Controller
+@RequestMapping("/api/import-jobs")
+@RequiredArgsConstructor
+public class ImportJobController {
+    private final ImportJobService importJobService;
+    private final ImportJobDtoMapper importJobDtoMapper;
+
+    @PostMapping("")
+    public ResponseEntity<ImportJobDto> submit(
+            @RequestBody ImportJobRequestDto request) {
+        ImportJobDto job = importJobDtoMapper.fromDomain(importJobService.submit(request.nodeIds()));
+        return ResponseEntity
+                .accepted()
+                .location(ServletUriComponentsBuilder.fromCurrentRequest()
+                        .path("/{id}")
+                        .buildAndExpand(job.id())
+                        .toUri())
+                .body(job);
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<ImportJobDto> getById(
+            @PathVariable Long id) {
+        return ResponseEntity.ok(
+                importJobDtoMapper.fromDomain(importJobService.getById(id))
+        );
+    }
+}
@@ -0,0 +1,33 @@
+package de.seuhd.campuscoffee.api.controller;
+
+import de.seuhd.campuscoffee.api.dtos.PopularityReportDto;
+import de.seuhd.campuscoffee.api.mapper.PopularityReportDtoMapper;
+import de.seuhd.campuscoffee.domain.ports.PopularityService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.time.Duration;
+
+/**
+ * Admin controller for the popularity analytics: the most viewed POS of a recent time window.
+ */
+@Controller
+@RequestMapping("/api/admin/analytics")
+@RequiredArgsConstructor
+public class PopularityController {
+    private final PopularityService popularityService;
+    private final PopularityReportDtoMapper popularityReportDtoMapper;
+
+    @GetMapping("/trending")
+    public ResponseEntity<PopularityReportDto> trending(
+            @RequestParam(defaultValue = "PT1H") Duration window,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(
+                popularityReportDtoMapper.fromDomain(popularityService.getReport(window, limit))
+        );
+    }
+}
@@ -1,16 +1,31 @@
 package de.seuhd.campuscoffee.api.controller;
 
+import de.seuhd.campuscoffee.api.cache.PosResponseCache;
+import de.seuhd.campuscoffee.api.configuration.ResponseEncoders;
+import de.seuhd.campuscoffee.api.dtos.ImportJobDto;
 import de.seuhd.campuscoffee.api.dtos.PosDto;
+import de.seuhd.campuscoffee.api.mapper.ImportJobDtoMapper;
 import de.seuhd.campuscoffee.api.mapper.PosDtoMapper;
+import de.seuhd.campuscoffee.domain.model.CampusType;
+import de.seuhd.campuscoffee.domain.model.Pos;
+import de.seuhd.campuscoffee.domain.model.PosStatus;
+import de.seuhd.campuscoffee.domain.model.PosType;
+import de.seuhd.campuscoffee.domain.ports.ImportJobService;
 import de.seuhd.campuscoffee.domain.ports.PosService;
+import de.seuhd.campuscoffee.domain.ports.PosStatusService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * Controller for handling POS-related API requests.
@@ -21,24 +36,50 @@ import java.util.List;
 public class PosController {
     private final PosService posService;
     private final PosDtoMapper posDtoMapper;
+    private final ResponseEncoders responseEncoders;
+    private final PosResponseCache posResponseCache;
+    private final ImportJobService importJobService;
+    private final ImportJobDtoMapper importJobDtoMapper;
+    private final PosStatusService posStatusService;
 
     @GetMapping("")
-    public ResponseEntity<List<PosDto>> getAll() {
-        return ResponseEntity.ok(
+    public ResponseEntity<byte[]> getAll(
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        MediaType mediaType = responseEncoders.negotiate(accept);
+        return encoded(mediaType, posResponseCache.getList(posStatusService.version(), mediaType, () ->
                 posService.getAll().stream()
-                        .map(posDtoMapper::fromDomain)
+                        .map(this::withStatus)
                         .toList()
-        );
+        ));
     }
 
-    @GetMapping("/{id}")
-    public ResponseEntity<PosDto> getById(
-            @PathVariable Long id) {
+    /**
+     * Lists the POS that are open at the given local time (default: now), optionally filtered by campus and type.
+     */
+    @GetMapping("/open")
+    public ResponseEntity<List<PosDto>> getOpen(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at,
+            @RequestParam(required = false) CampusType campus,
+            @RequestParam(required = false) PosType type) {
         return ResponseEntity.ok(
-                posDtoMapper.fromDomain(posService.getById(id))
+                posService.getOpenAt(at, campus, type).stream()
+                        .map(this::withStatus)
+                        .toList()
         );
     }
 
+    @GetMapping("/{id}")
+    public ResponseEntity<byte[]> getById(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        MediaType mediaType = responseEncoders.negotiate(accept);
+        Pos pos = posService.getById(id);
+        PosStatus status = posStatusService.find(id).orElse(null);
+        long statusVersion = status != null ? status.version() : -1;
+        return encoded(mediaType, posResponseCache.get(pos, statusVersion, mediaType,
+                () -> posDtoMapper.fromDomain(pos, status)));
+    }
+
     @PostMapping("")
     public ResponseEntity<PosDto> create(
             @RequestBody PosDto posDto) {
@@ -59,6 +100,23 @@ public class PosController {
                 .body(created);
     }
 
+    /**
+     * Submits the import as a background job instead of calling OpenStreetMap within the request.
+     * Returns {@code 202 Accepted} with the job, whose status is available at the {@code Location} header.
+     */
+    @PostMapping(value = "/import/osm/{nodeId}", params = "async=true")
+    public ResponseEntity<ImportJobDto> submitImport(
+            @PathVariable Long nodeId) {
+        ImportJobDto job = importJobDtoMapper.fromDomain(importJobService.submit(List.of(nodeId)));
+        return ResponseEntity
+                .accepted()
+                .location(ServletUriComponentsBuilder.fromCurrentContextPath()
+                        .path("/api/import-jobs/{id}")
+                        .buildAndExpand(job.id())
+                        .toUri())
+                .body(job);
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<PosDto> update(
             @PathVariable Long id,
@@ -83,6 +141,30 @@ public class PosController {
         );
     }
 
+    /**
+     * Maps a POS to its DTO, including its latest live status.
+     *
+     * @param pos the POS to map
+     * @return the DTO with the status, if the POS has reported one
+     */
+    private PosDto withStatus(Pos pos) {
+        return posDtoMapper.fromDomain(pos, posStatusService.find(Objects.requireNonNull(pos.id())).orElse(null));
+    }
+
+    /**
+     * Builds a response with a pre-encoded body that is written to the client without further mapping.
+     *
+     * @param mediaType the media type the body is encoded in
+     * @param body the encoded response body
+     * @return the response entity
+     */
+    private ResponseEntity<byte[]> encoded(MediaType mediaType, byte[] body) {
+        return ResponseEntity.ok()
+                .contentType(mediaType)
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(body);
+    }
+
     /**
      * Builds the location URI for a newly created resource.
      * @param resourceId the ID of the created resource
@@ -0,0 +1,31 @@
+package de.seuhd.campuscoffee.api.controller;
+
+import de.seuhd.campuscoffee.api.dtos.PosStatusRequestDto;
+import de.seuhd.campuscoffee.domain.ports.PosStatusService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Controller for the live status reports of POS (availability and queue length).
+ * Reports are recorded in memory and written to the database in batches; the latest status is part of the POS
+ * returned by {@link PosController}.
+ */
+@Controller
+@RequestMapping("/api/pos")
+@RequiredArgsConstructor
+public class PosStatusController {
+    private final PosStatusService posStatusService;
+
+    @PutMapping("/{id}/status")
+    public ResponseEntity<Void> report(
+            @PathVariable Long id,
+            @RequestBody PosStatusRequestDto request) {
+        if (request.availability() == null || request.queueLength() == null) {
+            throw new IllegalArgumentException("A status report requires the availability and the queue length.");
+        }
+        posStatusService.report(id, request.availability(), request.queueLength());
+        return ResponseEntity.noContent().build();
+    }
+}
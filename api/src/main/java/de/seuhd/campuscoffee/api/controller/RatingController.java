@@ -0,0 +1,56 @@
+package de.seuhd.campuscoffee.api.controller;
+
+import de.seuhd.campuscoffee.api.dtos.PosRatingDto;
+import de.seuhd.campuscoffee.api.dtos.RatingRequestDto;
+import de.seuhd.campuscoffee.api.mapper.PosRatingDtoMapper;
+import de.seuhd.campuscoffee.domain.model.CampusType;
+import de.seuhd.campuscoffee.domain.model.PosType;
+import de.seuhd.campuscoffee.domain.ports.RatingService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Controller for rating POS and for the "best coffee" leaderboards.
+ */
+@Controller
+@RequestMapping("/api/pos")
+@RequiredArgsConstructor
+public class RatingController {
+    private final RatingService ratingService;
+    private final PosRatingDtoMapper posRatingDtoMapper;
+
+    /**
+     * Rates a POS and returns its updated aggregated ratings.
+     */
+    @PostMapping("/{id}/ratings")
+    public ResponseEntity<PosRatingDto> rate(
+            @PathVariable Long id,
+            @RequestBody RatingRequestDto request) {
+        if (request.stars() == null) {
+            throw new IllegalArgumentException("A rating requires the number of stars.");
+        }
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(posRatingDtoMapper.fromDomain(ratingService.rate(id, request.stars())));
+    }
+
+    /**
+     * Lists the best rated POS, optionally restricted to a campus and/or type.
+     */
+    @GetMapping("/leaderboard")
+    public ResponseEntity<List<PosRatingDto>> getLeaderboard(
+            @RequestParam(required = false) CampusType campus,
+            @RequestParam(required = false) PosType type,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(
+                ratingService.getLeaderboard(campus, type, limit).stream()
+                        .map(posRatingDtoMapper::fromDomain)
+                        .toList()
+        );
+    }
+}
@@ -0,0 +1,38 @@
+package de.seuhd.campuscoffee.api.controller;
+
+import de.seuhd.campuscoffee.api.dtos.SnapshotDto;
+import de.seuhd.campuscoffee.api.mapper.SnapshotDtoMapper;
+import de.seuhd.campuscoffee.domain.ports.SnapshotService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+/**
+ * Admin controller for creating and inspecting binary catalog snapshots.
+ */
+@Controller
+@RequestMapping("/api/admin/snapshot")
+@RequiredArgsConstructor
+public class SnapshotController {
+    private final SnapshotService snapshotService;
+    private final SnapshotDtoMapper snapshotDtoMapper;
+
+    @GetMapping("")
+    public ResponseEntity<SnapshotDto> get() {
+        return ResponseEntity.ok(
+                snapshotDtoMapper.fromDomain(snapshotService.getSnapshotInfo())
+        );
+    }
+
+    @PostMapping("")
+    public ResponseEntity<SnapshotDto> create() {
+        SnapshotDto created = snapshotDtoMapper.fromDomain(snapshotService.createSnapshot());
+        return ResponseEntity
+                .created(ServletUriComponentsBuilder.fromCurrentRequest().build().toUri())
+                .body(created);
+    }
+}
@@ -0,0 +1,20 @@
+package de.seuhd.campuscoffee.api.dtos;
+
+import de.seuhd.campuscoffee.domain.model.ImportStatus;
+import lombok.Builder;
+import org.jspecify.annotations.NonNull;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO record for asynchronous OSM import jobs.
+ */
+@Builder(toBuilder = true)
+public record ImportJobDto(
+        @NonNull Long id,
+        @NonNull LocalDateTime createdAt,
+        @NonNull LocalDateTime updatedAt,
+        @NonNull ImportStatus status,
+        @NonNull List<ImportJobItemDto> items
+) {}
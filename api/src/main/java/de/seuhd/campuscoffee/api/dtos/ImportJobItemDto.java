@@ -0,0 +1,21 @@
+package de.seuhd.campuscoffee.api.dtos;
+
+import de.seuhd.campuscoffee.domain.model.ImportStatus;
+import lombok.Builder;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO record for the import of a single OSM node within an import job.
+ */
+@Builder(toBuilder = true)
+public record ImportJobItemDto(
+        @NonNull Long nodeId,
+        @NonNull ImportStatus status,
+        int attempts,
+        @NonNull LocalDateTime nextAttemptAt,
+        @Nullable Long posId, // set once the import succeeded
+        @Nullable String error // message of the latest failed attempt
+) {}
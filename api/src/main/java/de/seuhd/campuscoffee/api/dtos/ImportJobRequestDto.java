@@ -0,0 +1,14 @@
+package de.seuhd.campuscoffee.api.dtos;
+
+import lombok.Builder;
+import org.jspecify.annotations.NonNull;
+
+import java.util.List;
+
+/**
+ * DTO record for submitting an asynchronous OSM import job.
+ */
+@Builder(toBuilder = true)
+public record ImportJobRequestDto(
+        @NonNull List<Long> nodeIds
+) {}
@@ -0,0 +1,31 @@
+package de.seuhd.campuscoffee.api.dtos;
+
+import de.seuhd.campuscoffee.domain.model.PosListing;
+import lombok.Builder;
+import org.jspecify.annotations.NonNull;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DTO record for the estimated popularity of the POS during a recent time window.
+ */
+@Builder(toBuilder = true)
+public record PopularityReportDto(
+        @NonNull LocalDateTime since,
+        @NonNull Duration window,
+        long views, // views of single POS
+        long distinctClients,
+        @NonNull Map<PosListing, Long> listings,
+        @NonNull List<TrendingPosDto> trending
+) {
+    @Builder(toBuilder = true)
+    public record TrendingPosDto(
+            @NonNull Long posId,
+            long views,
+            long previousViews, // views in the equally long window before
+            long distinctClients
+    ) {}
+}
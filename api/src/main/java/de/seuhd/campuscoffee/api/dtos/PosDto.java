@@ -23,5 +23,7 @@ public record PosDto(
         @NonNull String street,
         @NonNull String houseNumber,
         @NonNull Integer postalCode,
-        @NonNull String city
+        @NonNull String city,
+        @Nullable String openingHours, // in OpenStreetMap syntax, e.g., "Mo-Fr 08:00-18:00; Sa 10:00-14:00"
+        @Nullable PosStatusDto status // latest live status; read-only, null if the POS has not reported one
 ) {}
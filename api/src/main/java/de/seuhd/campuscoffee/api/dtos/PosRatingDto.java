@@ -0,0 +1,20 @@
+package de.seuhd.campuscoffee.api.dtos;
+
+import de.seuhd.campuscoffee.domain.model.CampusType;
+import de.seuhd.campuscoffee.domain.model.PosType;
+import lombok.Builder;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * DTO record for the aggregated ratings of a POS.
+ */
+@Builder(toBuilder = true)
+public record PosRatingDto(
+        @NonNull Long posId,
+        @NonNull String name,
+        @NonNull CampusType campus,
+        @NonNull PosType type,
+        long ratingCount,
+        double averageRating,
+        double bayesianAverage // the leaderboards are ordered by this average
+) {}
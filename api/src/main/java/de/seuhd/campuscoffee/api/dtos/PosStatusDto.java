@@ -0,0 +1,17 @@
+package de.seuhd.campuscoffee.api.dtos;
+
+import de.seuhd.campuscoffee.domain.model.PosAvailability;
+import lombok.Builder;
+import org.jspecify.annotations.NonNull;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO record for the latest live status of a POS.
+ */
+@Builder(toBuilder = true)
+public record PosStatusDto(
+        @NonNull PosAvailability availability,
+        int queueLength,
+        @NonNull LocalDateTime reportedAt // set by the server when the status was received (UTC)
+) {}
@@ -0,0 +1,14 @@
+package de.seuhd.campuscoffee.api.dtos;
+
+import de.seuhd.campuscoffee.domain.model.PosAvailability;
+import lombok.Builder;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * DTO record for a live status report of a POS.
+ */
+@Builder(toBuilder = true)
+public record PosStatusRequestDto(
+        @NonNull PosAvailability availability,
+        @NonNull Integer queueLength
+) {}
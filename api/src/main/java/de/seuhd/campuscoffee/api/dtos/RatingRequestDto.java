@@ -0,0 +1,12 @@
+package de.seuhd.campuscoffee.api.dtos;
+
+import lombok.Builder;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * DTO record for rating a POS.
+ */
+@Builder(toBuilder = true)
+public record RatingRequestDto(
+        @NonNull Integer stars // 1 to 5
+) {}
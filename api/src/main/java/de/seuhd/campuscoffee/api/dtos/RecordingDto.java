@@ -0,0 +1,22 @@
+package de.seuhd.campuscoffee.api.dtos;
+
+import lombok.Builder;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * DTO record for flight recording metadata.
+ */
+@Builder(toBuilder = true)
+public record RecordingDto(
+        @NonNull String name,
+        @NonNull String settings,
+        @NonNull String state,
+        @Nullable LocalDateTime startedAt,
+        @Nullable Duration duration, // null if the recording runs until it is stopped
+        @NonNull String destination,
+        long sizeBytes
+) {}
@@ -0,0 +1,37 @@
+package de.seuhd.campuscoffee.api.dtos;
+
+import lombok.Builder;
+import org.jspecify.annotations.NonNull;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO record for the summary of the CampusCoffee events in a flight recording.
+ */
+@Builder(toBuilder = true)
+public record RecordingSummaryDto(
+        @NonNull String source,
+        long eventCount,
+        @NonNull List<OperationStatsDto> operations,
+        @NonNull List<SlowOperationDto> slowest
+) {
+    @Builder(toBuilder = true)
+    public record OperationStatsDto(
+            @NonNull String event,
+            long count,
+            @NonNull Duration mean,
+            @NonNull Duration p95,
+            @NonNull Duration max
+    ) {}
+
+    @Builder(toBuilder = true)
+    public record SlowOperationDto(
+            @NonNull String event,
+            @NonNull LocalDateTime startedAt,
+            @NonNull Duration duration,
+            @NonNull String thread,
+            @NonNull String details
+    ) {}
+}
@@ -0,0 +1,19 @@
+package de.seuhd.campuscoffee.api.dtos;
+
+import lombok.Builder;
+import org.jspecify.annotations.NonNull;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO record for catalog snapshot metadata.
+ */
+@Builder(toBuilder = true)
+public record SnapshotDto(
+        @NonNull String location,
+        @NonNull LocalDateTime createdAt,
+        int posCount,
+        long catalogVersion,
+        long sizeBytes,
+        boolean serving // true while this instance serves reads from the snapshot
+) {}
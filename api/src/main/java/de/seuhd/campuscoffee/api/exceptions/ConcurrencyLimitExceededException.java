@@ -0,0 +1,19 @@
+package de.seuhd.campuscoffee.api.exceptions;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Exception thrown when a request is rejected because the adaptive concurrency limit of its group is reached.
+ */
+@Getter
+public class ConcurrencyLimitExceededException extends RuntimeException {
+    private final Duration retryAfter;
+
+    public ConcurrencyLimitExceededException(Duration retryAfter) {
+        // no stack trace: rejections are expected under overload and must stay cheap
+        super("The service is overloaded, please retry later.", null, false, false);
+        this.retryAfter = retryAfter;
+    }
+}
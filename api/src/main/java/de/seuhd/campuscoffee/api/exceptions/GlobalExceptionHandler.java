@@ -1,24 +1,31 @@
 package de.seuhd.campuscoffee.api.exceptions;
 
 import de.seuhd.campuscoffee.domain.exceptions.*;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import java.time.LocalDateTime;
 
 /**
  * Global exception handler for all controllers.
  * Provides centralized exception handling and standardized error responses.
+ * Every handled exception is counted as {@code campuscoffee.exceptions} (tags {@code type} and {@code status}).
  */
 @Slf4j
 @ControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
+    private final MeterRegistry meterRegistry;
 
     /**
      * Handles all "Not Found" exceptions from the domain layer.
@@ -30,7 +37,10 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler({
             PosNotFoundException.class,
-            OsmNodeNotFoundException.class
+            OsmNodeNotFoundException.class,
+            SnapshotNotFoundException.class,
+            RecordingNotFoundException.class,
+            ImportJobNotFoundException.class
     })
     public ResponseEntity<ErrorResponse> handleNotFoundException(
             RuntimeException exception,
@@ -49,7 +59,9 @@ public class GlobalExceptionHandler {
      * @return ResponseEntity with ErrorResponse and HTTP 409
      */
     @ExceptionHandler({
-            DuplicatePosNameException.class
+            DuplicatePosNameException.class,
+            PossibleDuplicatePosException.class,
+            RecordingAlreadyRunningException.class
     })
     public ResponseEntity<ErrorResponse> handleDuplicateException(
             RuntimeException exception,
@@ -69,7 +81,8 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler({
             IllegalArgumentException.class,
-            OsmNodeMissingFieldsException.class
+            OsmNodeMissingFieldsException.class,
+            MethodArgumentTypeMismatchException.class
     })
     public ResponseEntity<ErrorResponse> handleBadRequestException(
             RuntimeException exception,
@@ -79,6 +92,51 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(exception, HttpStatus.BAD_REQUEST, request);
     }
 
+    /**
+     * Handles requests rejected by the adaptive concurrency limiter.
+     * Returns HTTP 503 (Service Unavailable) with a {@code Retry-After} header.
+     * Logged at debug level only, because rejections are frequent under overload.
+     *
+     * @param exception the exception that was thrown
+     * @param request the web request
+     * @return ResponseEntity with ErrorResponse and HTTP 503
+     */
+    @ExceptionHandler({
+            ConcurrencyLimitExceededException.class
+    })
+    public ResponseEntity<ErrorResponse> handleConcurrencyLimitExceededException(
+            ConcurrencyLimitExceededException exception,
+            WebRequest request
+    ) {
+        log.debug("Request rejected: {}", exception.getMessage());
+        ResponseEntity<ErrorResponse> response = buildErrorResponse(exception, HttpStatus.SERVICE_UNAVAILABLE, request);
+        return ResponseEntity.status(response.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, exception.getRetryAfter().toSeconds())))
+                .body(response.getBody());
+    }
+
+    /**
+     * Handles synchronous OSM imports that would exceed the per-host rate limit of OpenStreetMap.
+     * Returns HTTP 503 (Service Unavailable) with a {@code Retry-After} header.
+     *
+     * @param exception the exception that was thrown
+     * @param request the web request
+     * @return ResponseEntity with ErrorResponse and HTTP 503
+     */
+    @ExceptionHandler({
+            OsmRateLimitExceededException.class
+    })
+    public ResponseEntity<ErrorResponse> handleOsmRateLimitExceededException(
+            OsmRateLimitExceededException exception,
+            WebRequest request
+    ) {
+        log.warn("OSM rate limit exceeded: {}", exception.getMessage());
+        ResponseEntity<ErrorResponse> response = buildErrorResponse(exception, HttpStatus.SERVICE_UNAVAILABLE, request);
+        return ResponseEntity.status(response.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, exception.getRetryAfter().toSeconds())))
+                .body(response.getBody());
+    }
+
     /**
      * Fallback handler for unexpected exceptions.
      * Returns HTTP 500 (Internal Server Error).
@@ -128,6 +186,10 @@ public class GlobalExceptionHandler {
             WebRequest request,
             String message
     ) {
+        meterRegistry.counter("campuscoffee.exceptions",
+                "type", exception.getClass().getSimpleName(),
+                "status", String.valueOf(status.value())
+        ).increment();
         ErrorResponse error = ErrorResponse.builder()
                 .errorCode(exception.getClass().getSimpleName())
                 .message(message)
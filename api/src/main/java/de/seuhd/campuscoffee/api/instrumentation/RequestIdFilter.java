@@ -0,0 +1,72 @@
+package de.seuhd.campuscoffee.api.instrumentation;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Assigns each request an ID and puts it into the MDC as {@value #MDC_KEY}, so that all log events of the request
+ * carry it (as a field in the structured log file). The ID is taken from the configured request header (default
+ * {@code X-Request-Id}) if a proxy already assigned one, and is returned in the same response header.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestIdFilter extends OncePerRequestFilter {
+    private static final String MDC_KEY = "requestId";
+    private static final int MAX_LENGTH = 64;
+
+    private final String header;
+
+    public RequestIdFilter(@Value("${campus-coffee.logging.request-id-header:X-Request-Id}") String header) {
+        this.header = header;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        String requestId = accept(request.getHeader(header));
+        if (requestId == null) {
+            // unique enough to correlate log events, and cheaper than a random UUID
+            requestId = Long.toHexString(ThreadLocalRandom.current().nextLong());
+        }
+        response.setHeader(header, requestId);
+        MDC.put(MDC_KEY, requestId);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.remove(MDC_KEY);
+        }
+    }
+
+    /**
+     * Accepts IDs of reasonable length that consist of letters, digits, and dashes, so that clients cannot inject
+     * arbitrary content into the logs.
+     */
+    private static @Nullable String accept(@Nullable String requestId) {
+        if (requestId == null || requestId.isEmpty() || requestId.length() > MAX_LENGTH) {
+            return null;
+        }
+        for (int i = 0; i < requestId.length(); i++) {
+            char c = requestId.charAt(i);
+            if (!(c == '-' || c >= '0' && c <= '9' || c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z')) {
+                return null;
+            }
+        }
+        return requestId;
+    }
+}
@@ -0,0 +1,106 @@
+package de.seuhd.campuscoffee.api.instrumentation;
+
+import de.seuhd.campuscoffee.domain.instrumentation.RequestTimings;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBooleanProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Reports where the time of a single request went, in the {@code Server-Timing} response header (shown by the
+ * browser devtools) and the number of executed SQL statements in the {@code X-Query-Count} response header.
+ * <p>
+ * A request is instrumented if it carries the configured request header or is sampled. For instrumented requests,
+ * the filter starts a {@link RequestTimings} recording that the instrumentation points of the layers add to.
+ * The response body is buffered, so that the headers can be set after the body has been written. Durations of
+ * nested phases are included in their parents (e.g., {@code sql} in {@code data} in {@code service}).
+ */
+@Component
+@ConditionalOnBooleanProperty("campus-coffee.server-timing.enabled")
+@RequiredArgsConstructor
+public class ServerTimingFilter extends OncePerRequestFilter {
+    private static final String SERVER_TIMING = "Server-Timing";
+    private static final String QUERY_COUNT = "X-Query-Count";
+
+    private static final Map<String, String> DESCRIPTIONS = Map.of(
+            RequestTimings.SERVICE, "PosService",
+            RequestTimings.DATA, "PosDataService",
+            RequestTimings.OSM, "OsmDataService",
+            RequestTimings.SQL, "SQL",
+            RequestTimings.ENTITY_MAPPER, "PosEntityMapper",
+            RequestTimings.DTO_MAPPER, "PosDtoMapper",
+            RequestTimings.ENCODE, "Response encoding",
+            RequestTimings.WRITE, "Response writing"
+    );
+
+    private final ServerTimingProperties properties;
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        if (!isInstrumented(request)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        RequestTimings timings = RequestTimings.start();
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        try {
+            filterChain.doFilter(request, responseWrapper);
+        } finally {
+            // the write phase is entered when the controller returns (see the server timing aspect)
+            timings.exit(RequestTimings.WRITE);
+            RequestTimings.stop();
+            responseWrapper.setHeader(SERVER_TIMING, format(timings));
+            responseWrapper.setHeader(QUERY_COUNT, String.valueOf(timings.count(RequestTimings.SQL)));
+            responseWrapper.copyBodyToResponse();
+        }
+    }
+
+    private boolean isInstrumented(HttpServletRequest request) {
+        return request.getHeader(properties.requestHeader()) != null
+                || (properties.sampleRate() > 0 && ThreadLocalRandom.current().nextDouble() < properties.sampleRate());
+    }
+
+    /**
+     * Formats the recorded phases as {@code Server-Timing} header value, e.g.,
+     * {@code service;dur=3.412;desc="PosService", sql;dur=1.027;desc="SQL (2 statements)", total;dur=4.950}.
+     */
+    private static String format(RequestTimings timings) {
+        StringBuilder header = new StringBuilder();
+        for (String phase : timings.phases()) {
+            String description = DESCRIPTIONS.getOrDefault(phase, phase);
+            if (RequestTimings.SQL.equals(phase)) {
+                description += " (" + timings.count(phase) + " statements)";
+            }
+            appendMetric(header, phase, timings.nanos(phase), description);
+        }
+        appendMetric(header, "total", timings.elapsedNanos(), null);
+        return header.toString();
+    }
+
+    private static void appendMetric(StringBuilder header, String name, long nanos, @Nullable String description) {
+        if (!header.isEmpty()) {
+            header.append(", ");
+        }
+        header.append(name).append(";dur=").append(String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0));
+        if (description != null) {
+            header.append(";desc=\"").append(description).append('"');
+        }
+    }
+}
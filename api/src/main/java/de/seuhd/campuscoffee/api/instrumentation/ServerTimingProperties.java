@@ -0,0 +1,17 @@
+package de.seuhd.campuscoffee.api.instrumentation;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration of the per-request timing breakdown (see {@link ServerTimingFilter}).
+ *
+ * @param enabled       whether the instrumentation is installed at all; if false, no request can opt in
+ * @param requestHeader the request header that opts a single request in (any value)
+ * @param sampleRate    the fraction of all other requests that are instrumented, between 0 and 1
+ */
+@ConfigurationProperties(prefix = "campus-coffee.server-timing")
+public record ServerTimingProperties(
+        boolean enabled,
+        String requestHeader,
+        double sampleRate
+) {}
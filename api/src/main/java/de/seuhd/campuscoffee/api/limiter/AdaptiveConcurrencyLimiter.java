@@ -0,0 +1,128 @@
+package de.seuhd.campuscoffee.api.limiter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.jspecify.annotations.NonNull;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Concurrency limiter whose limit adapts to the observed latency (gradient algorithm, similar to TCP Vegas).
+ * <p>
+ * The limiter tracks a short-term and a long-term exponentially weighted moving average of the request latency.
+ * As long as the short-term latency stays close to the long-term baseline, the limit grows by roughly the square
+ * root of the current limit (the tolerated queue). When the short-term latency rises, e.g., because the database
+ * slows down, the ratio of both averages (the gradient) drops below one and shrinks the limit proportionally.
+ * Requests that exceed the limit are rejected immediately instead of queueing on a request thread.
+ * <p>
+ * Metrics: {@code campuscoffee.limiter.limit}, {@code campuscoffee.limiter.in.flight}, and
+ * {@code campuscoffee.limiter.rejected}, each tagged with the limiter {@code group}.
+ */
+public final class AdaptiveConcurrencyLimiter {
+    private static final double SMOOTHING = 0.2;
+    private static final double TOLERANCE = 1.5; // latency increase tolerated before the limit shrinks
+    private static final double SHORT_WINDOW = 10;
+    private static final double LONG_WINDOW = 600;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Counter rejected;
+    private volatile double limit;
+
+    // latency averages in nanoseconds; guarded by updateLock
+    private final ReentrantLock updateLock = new ReentrantLock();
+    private double shortRtt;
+    private double longRtt;
+
+    public AdaptiveConcurrencyLimiter(@NonNull String group, int initialLimit, int minLimit, int maxLimit,
+                                      @NonNull MeterRegistry meterRegistry) {
+        if (minLimit < 1 || minLimit > initialLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Invalid limits for limiter group " + group + ": "
+                    + minLimit + " <= " + initialLimit + " <= " + maxLimit + " must hold.");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limit = initialLimit;
+        this.rejected = Counter.builder("campuscoffee.limiter.rejected")
+                .description("Requests rejected because the concurrency limit was reached")
+                .tag("group", group)
+                .register(meterRegistry);
+        Gauge.builder("campuscoffee.limiter.limit", this, AdaptiveConcurrencyLimiter::getLimit)
+                .description("Current adaptive concurrency limit")
+                .tag("group", group)
+                .register(meterRegistry);
+        Gauge.builder("campuscoffee.limiter.in.flight", inFlight, AtomicInteger::get)
+                .description("Requests currently in flight")
+                .tag("group", group)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Tries to acquire a permit for a request.
+     * Every successful call must be followed by exactly one call to {@link #release(long, boolean)}.
+     *
+     * @return true if the request may proceed, false if it must be rejected
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                rejected.increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Releases the permit of a completed request and feeds its latency into the limit calculation.
+     *
+     * @param latencyNanos the latency of the request in nanoseconds
+     * @param sample       whether the latency is representative (false, e.g., for failed requests)
+     */
+    public void release(long latencyNanos, boolean sample) {
+        int inFlightAtCompletion = inFlight.getAndDecrement();
+        // skip the sample under contention rather than making request threads wait for each other
+        if (!sample || !updateLock.tryLock()) {
+            return;
+        }
+        try {
+            update(latencyNanos, inFlightAtCompletion);
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    public double getLimit() {
+        return limit;
+    }
+
+    private void update(long latencyNanos, int inFlightAtCompletion) {
+        if (longRtt == 0) {
+            shortRtt = latencyNanos;
+            longRtt = latencyNanos;
+            return;
+        }
+        shortRtt += (latencyNanos - shortRtt) / SHORT_WINDOW;
+        longRtt += (latencyNanos - longRtt) / LONG_WINDOW;
+        // let the baseline follow quickly if the latency recovered after a longer period of overload
+        if (longRtt / shortRtt > 2) {
+            longRtt *= 0.95;
+        }
+
+        double currentLimit = limit;
+        double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * longRtt / shortRtt));
+        double newLimit = currentLimit * gradient + Math.sqrt(currentLimit);
+        if (newLimit > currentLimit && inFlightAtCompletion < currentLimit / 2) {
+            // the limit is not the bottleneck, so there is no evidence that a higher limit is safe
+            return;
+        }
+        newLimit = currentLimit * (1 - SMOOTHING) + newLimit * SMOOTHING;
+        limit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+    }
+}
@@ -0,0 +1,73 @@
+package de.seuhd.campuscoffee.api.limiter;
+
+import de.seuhd.campuscoffee.api.exceptions.ConcurrencyLimitExceededException;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Interceptor that applies separate {@link AdaptiveConcurrencyLimiter}s to read, write, and OSM import requests.
+ * Rejected requests fail fast with a {@link ConcurrencyLimitExceededException}, which the global exception handler
+ * turns into HTTP 503 with a {@code Retry-After} header.
+ */
+public class ConcurrencyLimitInterceptor implements HandlerInterceptor {
+    private static final String PERMIT_ATTRIBUTE = ConcurrencyLimitInterceptor.class.getName() + ".permit";
+
+    private final ConcurrencyLimitProperties properties;
+    private final AdaptiveConcurrencyLimiter readLimiter;
+    private final AdaptiveConcurrencyLimiter writeLimiter;
+    private final AdaptiveConcurrencyLimiter importLimiter;
+
+    public ConcurrencyLimitInterceptor(ConcurrencyLimitProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.readLimiter = createLimiter("read", properties.read(), meterRegistry);
+        this.writeLimiter = createLimiter("write", properties.write(), meterRegistry);
+        this.importLimiter = createLimiter("import", properties.osmImport(), meterRegistry);
+    }
+
+    @Override
+    public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                             @NonNull Object handler) {
+        AdaptiveConcurrencyLimiter limiter = selectLimiter(request);
+        if (!limiter.tryAcquire()) {
+            throw new ConcurrencyLimitExceededException(properties.retryAfter());
+        }
+        request.setAttribute(PERMIT_ATTRIBUTE, new Permit(limiter, System.nanoTime()));
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                @NonNull Object handler, @Nullable Exception exception) {
+        if (request.getAttribute(PERMIT_ATTRIBUTE) instanceof Permit permit) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            // only successful requests are representative for the latency of the downstream resources
+            boolean sample = exception == null && response.getStatus() < 500;
+            permit.limiter().release(System.nanoTime() - permit.startNanos(), sample);
+        }
+    }
+
+    private AdaptiveConcurrencyLimiter selectLimiter(HttpServletRequest request) {
+        // status reports are recorded in memory and would distort the latency samples of the write limiter
+        if (HttpMethod.GET.matches(request.getMethod()) || request.getRequestURI().endsWith("/status")) {
+            return readLimiter;
+        }
+        // asynchronous imports only enqueue a job and are limited like other writes
+        if (request.getRequestURI().contains("/import/") && !"true".equals(request.getParameter("async"))) {
+            return importLimiter;
+        }
+        return writeLimiter;
+    }
+
+    private static AdaptiveConcurrencyLimiter createLimiter(String group, ConcurrencyLimitProperties.Group limits,
+                                                            MeterRegistry meterRegistry) {
+        return new AdaptiveConcurrencyLimiter(group, limits.initialLimit(), limits.minLimit(), limits.maxLimit(),
+                meterRegistry);
+    }
+
+    private record Permit(AdaptiveConcurrencyLimiter limiter, long startNanos) {}
+}
@@ -0,0 +1,32 @@
+package de.seuhd.campuscoffee.api.limiter;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the adaptive concurrency limits for the POS endpoints.
+ *
+ * @param enabled    whether requests are limited at all
+ * @param retryAfter the delay clients are asked to wait before retrying a rejected request
+ * @param read       limits for read requests (GET)
+ * @param write      limits for create and update requests
+ * @param osmImport  limits for OpenStreetMap imports
+ */
+@ConfigurationProperties(prefix = "campus-coffee.concurrency-limits")
+public record ConcurrencyLimitProperties(
+        boolean enabled,
+        Duration retryAfter,
+        Group read,
+        Group write,
+        Group osmImport
+) {
+    /**
+     * Limits of one group of requests.
+     *
+     * @param initialLimit the limit before any latency has been observed
+     * @param minLimit     the lower bound of the limit
+     * @param maxLimit     the upper bound of the limit
+     */
+    public record Group(int initialLimit, int minLimit, int maxLimit) {}
+}
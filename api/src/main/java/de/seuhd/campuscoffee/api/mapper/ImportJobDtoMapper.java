@@ -0,0 +1,15 @@
+package de.seuhd.campuscoffee.api.mapper;
+
+import de.seuhd.campuscoffee.api.dtos.ImportJobDto;
+import de.seuhd.campuscoffee.domain.model.ImportJob;
+import org.mapstruct.Mapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+
+/**
+ * MapStruct mapper for converting import jobs from the domain model to DTOs.
+ */
+@Mapper(componentModel = "spring")
+@ConditionalOnMissingBean // prevent IntelliJ warning about duplicate beans
+public interface ImportJobDtoMapper {
+    ImportJobDto fromDomain(ImportJob source);
+}
@@ -0,0 +1,17 @@
+package de.seuhd.campuscoffee.api.mapper;
+
+import de.seuhd.campuscoffee.api.dtos.PopularityReportDto;
+import de.seuhd.campuscoffee.domain.model.PopularityReport;
+import de.seuhd.campuscoffee.domain.model.TrendingPos;
+import org.mapstruct.Mapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+
+/**
+ * MapStruct mapper for converting popularity reports from the domain model to DTOs.
+ */
+@Mapper(componentModel = "spring")
+@ConditionalOnMissingBean // prevent IntelliJ warning about duplicate beans
+public interface PopularityReportDtoMapper {
+    PopularityReportDto fromDomain(PopularityReport source);
+    PopularityReportDto.TrendingPosDto fromDomain(TrendingPos source);
+}
@@ -1,8 +1,12 @@
 package de.seuhd.campuscoffee.api.mapper;
 
 import de.seuhd.campuscoffee.api.dtos.PosDto;
+import de.seuhd.campuscoffee.api.dtos.PosStatusDto;
+import de.seuhd.campuscoffee.domain.model.OpeningHours;
 import de.seuhd.campuscoffee.domain.model.Pos;
+import de.seuhd.campuscoffee.domain.model.PosStatus;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 
 /**
@@ -15,6 +19,29 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean
 @Mapper(componentModel = "spring")
 @ConditionalOnMissingBean // prevent IntelliJ warning about duplicate beans
 public interface PosDtoMapper {
+    @Mapping(target = "status", ignore = true)
     PosDto fromDomain(Pos source);
+    @Mapping(target = "status", source = "status")
+    PosDto fromDomain(Pos source, PosStatus status);
+    PosStatusDto fromDomain(PosStatus source);
     Pos toDomain(PosDto source);
+
+    /**
+     * Parses opening hours entered in OpenStreetMap syntax.
+     *
+     * @param expression the opening hours; may be null
+     * @return the parsed opening hours, or null if none were given
+     * @throws IllegalArgumentException if the syntax is not supported (see {@link OpeningHours#parse(String)})
+     */
+    default OpeningHours toOpeningHours(String expression) {
+        return expression == null || expression.isBlank() ? null : OpeningHours.parse(expression);
+    }
+
+    /**
+     * @param openingHours the opening hours; may be null
+     * @return the opening hours in OpenStreetMap syntax, or null if there are none
+     */
+    default String fromOpeningHours(OpeningHours openingHours) {
+        return openingHours == null ? null : openingHours.expression();
+    }
 }
@@ -0,0 +1,17 @@
+package de.seuhd.campuscoffee.api.mapper;
+
+import de.seuhd.campuscoffee.api.dtos.PosRatingDto;
+import de.seuhd.campuscoffee.domain.model.PosRating;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+
+/**
+ * MapStruct mapper for converting aggregated POS ratings from the domain model to DTOs.
+ */
+@Mapper(componentModel = "spring")
+@ConditionalOnMissingBean // prevent IntelliJ warning about duplicate beans
+public interface PosRatingDtoMapper {
+    @Mapping(target = "averageRating", expression = "java(source.averageRating())")
+    PosRatingDto fromDomain(PosRating source);
+}
@@ -0,0 +1,20 @@
+package de.seuhd.campuscoffee.api.mapper;
+
+import de.seuhd.campuscoffee.api.dtos.RecordingDto;
+import de.seuhd.campuscoffee.api.dtos.RecordingSummaryDto;
+import de.seuhd.campuscoffee.domain.model.RecordingInfo;
+import de.seuhd.campuscoffee.domain.model.RecordingSummary;
+import org.mapstruct.Mapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+
+/**
+ * MapStruct mapper for converting flight recording metadata and summaries from the domain model to DTOs.
+ */
+@Mapper(componentModel = "spring")
+@ConditionalOnMissingBean // prevent IntelliJ warning about duplicate beans
+public interface RecordingDtoMapper {
+    RecordingDto fromDomain(RecordingInfo source);
+    RecordingSummaryDto fromDomain(RecordingSummary source);
+    RecordingSummaryDto.OperationStatsDto fromDomain(RecordingSummary.OperationStats source);
+    RecordingSummaryDto.SlowOperationDto fromDomain(RecordingSummary.SlowOperation source);
+}
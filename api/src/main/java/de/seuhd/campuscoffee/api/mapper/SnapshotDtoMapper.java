@@ -0,0 +1,15 @@
+package de.seuhd.campuscoffee.api.mapper;
+
+import de.seuhd.campuscoffee.api.dtos.SnapshotDto;
+import de.seuhd.campuscoffee.domain.model.SnapshotInfo;
+import org.mapstruct.Mapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+
+/**
+ * MapStruct mapper for converting snapshot metadata from the domain model to DTOs.
+ */
+@Mapper(componentModel = "spring")
+@ConditionalOnMissingBean // prevent IntelliJ warning about duplicate beans
+public interface SnapshotDtoMapper {
+    SnapshotDto fromDomain(SnapshotInfo source);
+}
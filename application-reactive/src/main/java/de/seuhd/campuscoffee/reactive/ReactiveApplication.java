@@ -0,0 +1,38 @@
+package de.seuhd.campuscoffee.reactive;
+
+import de.seuhd.campuscoffee.domain.impl.ReactivePosServiceImpl;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+/**
+ * Main class to start the reactive (WebFlux and R2DBC) variant of the application.
+ * <p>
+ * Only the reactive adapters are scanned: the domain and api modules also contain the blocking services and
+ * servlet controllers of the {@code application} module, which must not be picked up here. The Spring MVC and
+ * Tomcat classes that every module has on its classpath are ignored by forcing a reactive web application on Netty.
+ */
+@SpringBootApplication(scanBasePackages = {
+        "de.seuhd.campuscoffee.data.r2dbc",
+        "de.seuhd.campuscoffee.api.reactive",
+        "de.seuhd.campuscoffee.api.mapper"
+})
+@Import(ReactivePosServiceImpl.class)
+public class ReactiveApplication {
+    public static void main(String[] args) {
+        new SpringApplicationBuilder(ReactiveApplication.class)
+                .web(WebApplicationType.REACTIVE)
+                .run(args);
+    }
+
+    /**
+     * Prefers Netty over Tomcat, which would otherwise win because it is on the classpath as well.
+     */
+    @Bean
+    NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+}
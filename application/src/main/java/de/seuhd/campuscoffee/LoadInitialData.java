@@ -1,33 +1,55 @@
 package de.seuhd.campuscoffee;
 
 import de.seuhd.campuscoffee.domain.model.Pos;
+import de.seuhd.campuscoffee.domain.tests.SyntheticPosGenerator;
 import de.seuhd.campuscoffee.domain.tests.TestFixtures;
 import de.seuhd.campuscoffee.domain.ports.PosService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
 import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Component that loads initial data into the application when running in the "dev" profile.
+ * The fixtures and, if {@code campus-coffee.seed.synthetic-count} is positive, a synthetic catalog of that size are
+ * inserted in one bulk insert. The fixtures come first, so that they get the IDs 1 to 4, which the examples of the
+ * README use for manual testing.
+ * <p>
+ * The data is loaded once the application context is refreshed, so that it does not delay the initialization of
+ * the other beans (and is not skipped by lazy initialization); the application only reports readiness afterwards.
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 @Profile("dev")
-class LoadInitialData implements InitializingBean {
+@Order(Ordered.HIGHEST_PRECEDENCE)
+class LoadInitialData implements ApplicationRunner {
     private final PosService posService;
 
+    @Value("${campus-coffee.seed.synthetic-count:0}")
+    private final long syntheticCount;
+
+    @Value("${campus-coffee.seed.seed:42}")
+    private final long seed;
+
     @Override
-    public void afterPropertiesSet() {
+    public void run(ApplicationArguments args) {
         log.info("Deleting existing data...");
         posService.clear();
         log.info("Loading initial data...");
-        List<Pos> posList = TestFixtures.createPosFixtures(posService);
-        log.info("Created {} POS.", posList.size());
+        List<Pos> fixtures = TestFixtures.getPosFixturesForInsertion();
+        long inserted = posService.bulkInsert(Stream.concat(
+                fixtures.stream(), new SyntheticPosGenerator(seed).stream(syntheticCount)));
+        log.info("Inserted {} POS ({} fixtures, {} synthetic POS with seed {}).",
+                inserted, fixtures.size(), inserted - fixtures.size(), seed);
         log.info("Initial data loaded successfully.");
     }
 }
\ No newline at end of file
@@ -0,0 +1,34 @@
+package de.seuhd.campuscoffee.instrumentation;
+
+import de.seuhd.campuscoffee.domain.instrumentation.MapperEvent;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBooleanProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Records calls of the POS mappers as JFR {@link MapperEvent}s.
+ * The event fields are only set if the call is recorded, i.e., a recording is running and the call exceeded the
+ * threshold of the event.
+ */
+@Aspect
+@Component
+@ConditionalOnBooleanProperty("campus-coffee.jfr.mapper-events")
+class MapperEventAspect {
+    @Around("execution(* de.seuhd.campuscoffee.data.mapper.PosEntityMapper.*(..))"
+            + " || execution(* de.seuhd.campuscoffee.api.mapper.PosDtoMapper.*(..))")
+    Object recordMapperEvent(ProceedingJoinPoint joinPoint) throws Throwable {
+        MapperEvent event = new MapperEvent();
+        event.begin();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.set(joinPoint.getSignature().getDeclaringType().getSimpleName(), joinPoint.getSignature().getName());
+                event.commit();
+            }
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package de.seuhd.campuscoffee.instrumentation;
+
+import de.seuhd.campuscoffee.domain.instrumentation.RequestTimings;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBooleanProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Records the time spent in the services, ports, and mappers of all layers in the {@link RequestTimings} of
+ * instrumented requests. Lives in the application module, because it is the only module that sees all layers.
+ * For requests that are not instrumented, the advice only costs a thread-local lookup.
+ */
+@Aspect
+@Component
+@ConditionalOnBooleanProperty("campus-coffee.server-timing.enabled")
+class ServerTimingAspect {
+    @Around("execution(* de.seuhd.campuscoffee.domain.ports.PosService.*(..))")
+    Object timePosService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, RequestTimings.SERVICE);
+    }
+
+    @Around("execution(* de.seuhd.campuscoffee.domain.ports.PosDataService.*(..))")
+    Object timePosDataService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, RequestTimings.DATA);
+    }
+
+    @Around("execution(* de.seuhd.campuscoffee.domain.ports.OsmDataService.*(..))")
+    Object timeOsmDataService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, RequestTimings.OSM);
+    }
+
+    @Around("execution(* de.seuhd.campuscoffee.data.mapper.PosEntityMapper.*(..))")
+    Object timePosEntityMapper(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, RequestTimings.ENTITY_MAPPER);
+    }
+
+    @Around("execution(* de.seuhd.campuscoffee.api.mapper.PosDtoMapper.*(..))")
+    Object timePosDtoMapper(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, RequestTimings.DTO_MAPPER);
+    }
+
+    /**
+     * Everything after a controller returns (message conversion and writing the body) is the write phase,
+     * which ends in the server timing filter.
+     */
+    @Around("@within(org.springframework.stereotype.Controller)")
+    Object markWritePhase(ProceedingJoinPoint joinPoint) throws Throwable {
+        try {
+            return joinPoint.proceed();
+        } finally {
+            RequestTimings timings = RequestTimings.current();
+            if (timings != null) {
+                timings.enter(RequestTimings.WRITE);
+            }
+        }
+    }
+
+    private static Object time(ProceedingJoinPoint joinPoint, String phase) throws Throwable {
+        RequestTimings timings = RequestTimings.current();
+        if (timings == null) {
+            return joinPoint.proceed();
+        }
+        timings.enter(phase);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            timings.exit(phase);
+        }
+    }
+}
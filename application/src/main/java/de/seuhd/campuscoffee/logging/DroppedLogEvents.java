@@ -0,0 +1,34 @@
+package de.seuhd.campuscoffee.logging;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the log events that were not written, by reason.
+ * <p>
+ * The counters are static, because Logback creates its appenders and filters before the application context exists
+ * (and again when Spring Boot reinitializes the logging system); {@link LoggingMetrics} publishes them.
+ */
+enum DroppedLogEvents {
+    /**
+     * Events of level INFO or below discarded because the queue of an async appender was almost full.
+     */
+    DISCARDED,
+    /**
+     * Events discarded because the queue of an async appender was full (only if it never blocks).
+     */
+    QUEUE_FULL,
+    /**
+     * Events not sampled by a {@link SamplingTurboFilter}.
+     */
+    SAMPLED;
+
+    private final LongAdder count = new LongAdder();
+
+    void increment() {
+        count.increment();
+    }
+
+    long count() {
+        return count.sum();
+    }
+}
@@ -0,0 +1,29 @@
+package de.seuhd.campuscoffee.logging;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.jspecify.annotations.NonNull;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes the log events that were dropped as {@code campuscoffee.logging.dropped} (tagged with the reason:
+ * discarded, queue-full, or sampled) and the events waiting in the async appenders as
+ * {@code campuscoffee.logging.queue}.
+ */
+@Component
+class LoggingMetrics implements MeterBinder {
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        for (DroppedLogEvents reason : DroppedLogEvents.values()) {
+            FunctionCounter.builder("campuscoffee.logging.dropped", reason, DroppedLogEvents::count)
+                    .tag("reason", reason.name().toLowerCase().replace('_', '-'))
+                    .description("Log events that were not written")
+                    .register(registry);
+        }
+        Gauge.builder("campuscoffee.logging.queue", MeteredAsyncAppender::queuedEvents)
+                .description("Log events waiting for the async appenders")
+                .register(registry);
+    }
+}
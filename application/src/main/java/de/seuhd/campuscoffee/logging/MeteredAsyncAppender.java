@@ -0,0 +1,62 @@
+package de.seuhd.campuscoffee.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Asynchronous appender that counts the events it drops (see {@link DroppedLogEvents}).
+ * <p>
+ * Like Logback's {@link AsyncAppender}, it hands events to a single worker thread over a bounded queue, so that the
+ * file and console I/O of the wrapped appender no longer runs on the request threads; the worker drains the queue in
+ * batches. Once fewer than {@code discardingThreshold} slots are left, events of level INFO and below are discarded;
+ * warnings and errors are only dropped if the queue is full and {@code neverBlock} is set, otherwise they wait for a
+ * free slot. Logback drops events silently, so the appender counts them before they reach the queue. Events dropped
+ * because the queue filled up concurrently are counted approximately.
+ */
+public class MeteredAsyncAppender extends AsyncAppender {
+    private static final Map<String, MeteredAsyncAppender> STARTED = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the number of events waiting in the queues of all started appenders.
+     *
+     * @return the number of queued events
+     */
+    static int queuedEvents() {
+        return STARTED.values().stream().mapToInt(MeteredAsyncAppender::getNumberOfElementsInQueue).sum();
+    }
+
+    @Override
+    public void start() {
+        super.start();
+        if (isStarted()) {
+            STARTED.put(getName(), this);
+        }
+    }
+
+    @Override
+    public void stop() {
+        STARTED.remove(getName(), this);
+        super.stop();
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        if (isNeverBlock() && getRemainingCapacity() == 0 && !super.isDiscardable(event)) {
+            DroppedLogEvents.QUEUE_FULL.increment();
+        }
+        super.append(event);
+    }
+
+    @Override
+    protected boolean isDiscardable(ILoggingEvent event) {
+        // only called once the queue is below the discarding threshold
+        boolean discardable = super.isDiscardable(event);
+        if (discardable) {
+            DroppedLogEvents.DISCARDED.increment();
+        }
+        return discardable;
+    }
+}
@@ -0,0 +1,63 @@
+package de.seuhd.campuscoffee.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Logs only a random sample of the events of one logger (and its descendants) up to a level, e.g., one in a hundred
+ * successful upserts:
+ * <pre>{@code
+ * <turboFilter class="de.seuhd.campuscoffee.logging.SamplingTurboFilter">
+ *     <loggerName>de.seuhd.campuscoffee.domain.impl.PosServiceImpl.upserts</loggerName>
+ *     <level>INFO</level>
+ *     <rate>0.01</rate>
+ * </turboFilter>
+ * }</pre>
+ * Turbo filters run before a logging event is created, so events that are not sampled cost neither the formatting
+ * nor a slot in the queue of an async appender. Events above the level (e.g., warnings for a level of INFO) and
+ * events disabled by the level of the logger are not affected. Dropped events are counted as
+ * {@link DroppedLogEvents#SAMPLED}.
+ */
+public class SamplingTurboFilter extends TurboFilter {
+    private String loggerName = Logger.ROOT_LOGGER_NAME;
+    private Level level = Level.INFO;
+    private double rate = 1.0;
+
+    public void setLoggerName(String loggerName) {
+        this.loggerName = loggerName;
+    }
+
+    public void setLevel(String level) {
+        this.level = Level.toLevel(level, Level.INFO);
+    }
+
+    public void setRate(double rate) {
+        this.rate = rate;
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level eventLevel, String format, Object[] params,
+                              Throwable t) {
+        // without a format, the call is a level check such as isInfoEnabled(), which must not be sampled
+        if (format == null || eventLevel.levelInt > level.levelInt
+                || !eventLevel.isGreaterOrEqual(logger.getEffectiveLevel()) || !matches(logger.getName())) {
+            return FilterReply.NEUTRAL;
+        }
+        if (rate >= 1.0 || ThreadLocalRandom.current().nextDouble() < rate) {
+            return FilterReply.NEUTRAL;
+        }
+        DroppedLogEvents.SAMPLED.increment();
+        return FilterReply.DENY;
+    }
+
+    private boolean matches(String name) {
+        return loggerName.equals(Logger.ROOT_LOGGER_NAME)
+                || name.startsWith(loggerName)
+                && (name.length() == loggerName.length() || name.charAt(loggerName.length()) == '.');
+    }
+}
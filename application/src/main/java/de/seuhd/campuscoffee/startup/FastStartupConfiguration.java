@@ -0,0 +1,26 @@
+package de.seuhd.campuscoffee.startup;
+
+import de.seuhd.campuscoffee.api.controller.PosController;
+import de.seuhd.campuscoffee.domain.ports.SnapshotService;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration of the "fast-startup" profile, which initializes beans lazily
+ * ({@code spring.main.lazy-initialization=true}).
+ * <p>
+ * The POS read path (the controller and everything it depends on, down to the data source), the warm start from a
+ * snapshot, and the health endpoint probed by the orchestrator are still created on startup: otherwise, the first
+ * request would pay for their initialization. Everything else, e.g., the admin endpoints and the OSM client, is
+ * created when it is first used. Without lazy initialization, the filter has no effect.
+ */
+@Configuration
+class FastStartupConfiguration {
+    @Bean
+    static LazyInitializationExcludeFilter eagerReadPath() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+                PosController.class, SnapshotService.class, HealthEndpoint.class);
+    }
+}
@@ -0,0 +1,52 @@
+package de.seuhd.campuscoffee.startup;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Configuration of the JIT warm-up before the application reports readiness (see {@link WarmUpRunner}).
+ *
+ * @param enabled             whether the warm-up runs at all
+ * @param mix                 relative weights of the replayed calls
+ * @param roundSize           number of calls between two checks whether compilation has settled
+ * @param settledCompileTime  compilation is considered settled once a round adds at most this much JIT time
+ * @param maxDuration         upper bound for the warm-up; readiness is reported afterwards in any case
+ * @param seed                seed for the order of the calls, so that warm-ups are reproducible
+ */
+@ConfigurationProperties(prefix = "campus-coffee.warm-up")
+record WarmUpProperties(
+        boolean enabled,
+        Map<Operation, Integer> mix,
+        int roundSize,
+        Duration settledCompileTime,
+        Duration maxDuration,
+        long seed
+) {
+    /**
+     * The read-only calls of the {@code PosController} that the warm-up replays.
+     */
+    enum Operation {
+        /**
+         * The full list, mostly served from the response cache.
+         */
+        GET_ALL,
+        /**
+         * A POS by ID, in a random encoding; misses the response cache on the first call per POS and encoding.
+         */
+        GET_BY_ID,
+        /**
+         * A POS that does not exist, which takes the exception path.
+         */
+        GET_MISSING,
+        /**
+         * The POS open now, encoded as JSON like the message converter does.
+         */
+        GET_OPEN,
+        /**
+         * The full list encoded without the response cache, as on a cache miss after a change.
+         */
+        ENCODE_LIST
+    }
+}
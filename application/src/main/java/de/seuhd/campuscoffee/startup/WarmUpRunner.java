@@ -0,0 +1,170 @@
+package de.seuhd.campuscoffee.startup;
+
+import de.seuhd.campuscoffee.api.configuration.ResponseEncoders;
+import de.seuhd.campuscoffee.api.controller.PosController;
+import de.seuhd.campuscoffee.api.dtos.PosDto;
+import de.seuhd.campuscoffee.api.mapper.PosDtoMapper;
+import de.seuhd.campuscoffee.domain.exceptions.PosNotFoundException;
+import de.seuhd.campuscoffee.domain.model.Pos;
+import de.seuhd.campuscoffee.domain.ports.PosService;
+import de.seuhd.campuscoffee.startup.WarmUpProperties.Operation;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBooleanProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.CompilationMXBean;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SplittableRandom;
+
+/**
+ * Warms up the JIT compiler before the application reports readiness, so that the first requests after a deployment
+ * are not served by the interpreter.
+ * <p>
+ * The runner replays a mix of read-only {@code PosController} calls in-process (see {@link WarmUpProperties}): the
+ * calls run through the controller, services, mappers, response cache, and encoders, but not through the interceptors,
+ * so they neither count as views in the popularity analytics nor affect the concurrency limits. They run in rounds
+ * until a round adds at most {@code campus-coffee.warm-up.settled-compile-time} of JIT compilation, or until
+ * {@code campus-coffee.warm-up.max-duration} has passed.
+ * <p>
+ * Spring Boot reports readiness after all application runners have completed, so the readiness probe fails during
+ * the warm-up; the runner is ordered last, after the dev data is loaded. The duration is recorded in the timer
+ * {@code campuscoffee.warmup} (tagged with the outcome: settled, timeout, or failed) and the calls in
+ * {@code campuscoffee.warmup.calls}. A failed warm-up is logged and does not prevent startup.
+ */
+@Slf4j
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+@ConditionalOnBooleanProperty("campus-coffee.warm-up.enabled")
+@RequiredArgsConstructor
+class WarmUpRunner implements ApplicationRunner {
+    private static final long MISSING_ID = -1L;
+
+    private final WarmUpProperties properties;
+    private final PosController posController;
+    private final PosService posService;
+    private final PosDtoMapper posDtoMapper;
+    private final ResponseEncoders responseEncoders;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        CompilationMXBean compilation = ManagementFactory.getCompilationMXBean();
+        boolean compileTimeSupported = compilation != null && compilation.isCompilationTimeMonitoringSupported();
+        Map<Operation, Long> calls = new EnumMap<>(Operation.class);
+        long start = System.nanoTime();
+        long deadline = start + properties.maxDuration().toNanos();
+        String outcome = "timeout";
+        try {
+            Replay replay = new Replay(posService.getAll());
+            long compileTime = compileTimeSupported ? compilation.getTotalCompilationTime() : 0;
+            while (System.nanoTime() < deadline) {
+                for (int i = 0; i < properties.roundSize(); i++) {
+                    calls.merge(replay.next(), 1L, Long::sum);
+                }
+                if (compileTimeSupported) {
+                    long totalCompileTime = compilation.getTotalCompilationTime();
+                    if (totalCompileTime - compileTime <= properties.settledCompileTime().toMillis()) {
+                        outcome = "settled";
+                        break;
+                    }
+                    compileTime = totalCompileTime;
+                }
+            }
+        } catch (RuntimeException e) {
+            outcome = "failed";
+            log.warn("Warm-up failed, reporting readiness anyway: {}", e.getMessage());
+        }
+
+        Duration duration = Duration.ofNanos(System.nanoTime() - start);
+        Timer.builder("campuscoffee.warmup")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(duration);
+        calls.forEach((operation, count) -> meterRegistry
+                .counter("campuscoffee.warmup.calls", "operation", operation.name().toLowerCase())
+                .increment(count));
+        log.info("Warm-up {} after {} ms and {} calls", outcome, duration.toMillis(),
+                calls.values().stream().mapToLong(Long::longValue).sum());
+    }
+
+    /**
+     * Draws calls from the configured mix and executes them.
+     */
+    private final class Replay {
+        private final SplittableRandom random = new SplittableRandom(properties.seed());
+        private final MediaType[] mediaTypes = responseEncoders.supportedMediaTypes().toArray(MediaType[]::new);
+        private final Long[] ids;
+        private final List<PosDto> dtos;
+        private final Operation[] operations;
+        private final int[] cumulativeWeights;
+
+        Replay(List<Pos> catalog) {
+            ids = catalog.stream().map(Pos::id).filter(Objects::nonNull).toArray(Long[]::new);
+            dtos = catalog.stream().map(posDtoMapper::fromDomain).toList();
+            // without POS, there are no lookups by ID to replay
+            Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+            properties.mix().forEach((operation, weight) -> {
+                if (weight > 0 && (operation != Operation.GET_BY_ID || ids.length > 0)) {
+                    weights.put(operation, weight);
+                }
+            });
+            if (weights.isEmpty()) {
+                throw new IllegalStateException("The warm-up mix contains no calls");
+            }
+            operations = weights.keySet().toArray(Operation[]::new);
+            cumulativeWeights = new int[operations.length];
+            int total = 0;
+            for (int i = 0; i < operations.length; i++) {
+                total += weights.get(operations[i]);
+                cumulativeWeights[i] = total;
+            }
+        }
+
+        Operation next() {
+            int draw = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+            int index = 0;
+            while (draw >= cumulativeWeights[index]) {
+                index++;
+            }
+            Operation operation = operations[index];
+            MediaType mediaType = mediaTypes[random.nextInt(mediaTypes.length)];
+            switch (operation) {
+                case GET_ALL -> posController.getAll(mediaType.toString());
+                case GET_BY_ID -> posController.getById(ids[random.nextInt(ids.length)], mediaType.toString());
+                case GET_MISSING -> {
+                    try {
+                        posController.getById(MISSING_ID, mediaType.toString());
+                    } catch (PosNotFoundException e) {
+                        // expected
+                    }
+                }
+                case GET_OPEN -> encode(MediaType.APPLICATION_JSON, posController.getOpen(null, null, null).getBody());
+                case ENCODE_LIST -> encode(mediaType, dtos);
+            }
+            return operation;
+        }
+
+        private void encode(MediaType mediaType, Object body) {
+            try {
+                responseEncoders.get(mediaType).writeValueAsBytes(body);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -1,15 +1,21 @@
 package de.seuhd.campuscoffee;
 
+import de.seuhd.campuscoffee.api.dtos.ImportJobDto;
+import de.seuhd.campuscoffee.api.dtos.PopularityReportDto;
 import de.seuhd.campuscoffee.api.dtos.PosDto;
+import de.seuhd.campuscoffee.api.dtos.PosRatingDto;
 import io.restassured.http.ContentType;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.utility.DockerImageName;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.containsString;
 
 /**
  * Utility class for system tests.
@@ -44,6 +50,17 @@ public class TestUtils {
                 .toList();
     }
 
+    public static byte[] retrievePos(String mediaType) {
+        return given()
+                .accept(mediaType)
+                .when()
+                .get("/api/pos")
+                .then()
+                .statusCode(200)
+                .contentType(mediaType)
+                .extract().asByteArray();
+    }
+
     public static PosDto retrievePosById(Long id) {
         return given()
                 .contentType(ContentType.JSON)
@@ -54,6 +71,133 @@ public class TestUtils {
                 .extract().as(PosDto.class);
     }
 
+    public static byte[] retrievePosById(Long id, String mediaType) {
+        return given()
+                .accept(mediaType)
+                .when()
+                .get("/api/pos/{id}", id)
+                .then()
+                .statusCode(200)
+                .contentType(mediaType)
+                .extract().asByteArray();
+    }
+
+    public static List<PosDto> retrieveOpenPos(String at, String campus) {
+        Map<String, String> params = new HashMap<>();
+        params.put("at", at);
+        if (campus != null) {
+            params.put("campus", campus);
+        }
+        return given()
+                .contentType(ContentType.JSON)
+                .queryParams(params)
+                .when()
+                .get("/api/pos/open")
+                .then()
+                .statusCode(200)
+                .extract().jsonPath().getList("$", PosDto.class)
+                .stream()
+                .toList();
+    }
+
+    public static void reportPosStatus(Long id, String availability, int queueLength) {
+        given()
+                .contentType(ContentType.JSON)
+                .body(Map.of("availability", availability, "queueLength", queueLength))
+                .when()
+                .put("/api/pos/{id}/status", id)
+                .then()
+                .statusCode(204);
+    }
+
+    public static PosRatingDto ratePos(Long id, int stars) {
+        return given()
+                .contentType(ContentType.JSON)
+                .body(Map.of("stars", stars))
+                .when()
+                .post("/api/pos/{id}/ratings", id)
+                .then()
+                .statusCode(201)
+                .extract().as(PosRatingDto.class);
+    }
+
+    public static List<PosRatingDto> retrieveLeaderboard() {
+        return given()
+                .contentType(ContentType.JSON)
+                .when()
+                .get("/api/pos/leaderboard")
+                .then()
+                .statusCode(200)
+                .extract().jsonPath().getList("$", PosRatingDto.class)
+                .stream()
+                .toList();
+    }
+
+    public static PopularityReportDto retrievePopularityReport(String window, int limit) {
+        return given()
+                .contentType(ContentType.JSON)
+                .queryParam("window", window)
+                .queryParam("limit", limit)
+                .when()
+                .get("/api/admin/analytics/trending")
+                .then()
+                .statusCode(200)
+                .extract().as(PopularityReportDto.class);
+    }
+
+    public static String retrieveReadiness() {
+        return given()
+                .when()
+                .get("/actuator/health/readiness")
+                .then()
+                .statusCode(200)
+                .extract().jsonPath().getString("status");
+    }
+
+    public static PosDto importPos(Long nodeId) {
+        return given()
+                .contentType(ContentType.JSON)
+                .when()
+                .post("/api/pos/import/osm/{nodeId}", nodeId)
+                .then()
+                .statusCode(201)
+                .extract().as(PosDto.class);
+    }
+
+    public static ImportJobDto submitImportJob(List<Long> nodeIds) {
+        return given()
+                .contentType(ContentType.JSON)
+                .body(Map.of("nodeIds", nodeIds))
+                .when()
+                .post("/api/import-jobs")
+                .then()
+                .statusCode(202)
+                .header("Location", containsString("/api/import-jobs/"))
+                .extract().as(ImportJobDto.class);
+    }
+
+    public static ImportJobDto submitOsmImport(Long nodeId) {
+        return given()
+                .contentType(ContentType.JSON)
+                .queryParam("async", true)
+                .when()
+                .post("/api/pos/import/osm/{nodeId}", nodeId)
+                .then()
+                .statusCode(202)
+                .header("Location", containsString("/api/import-jobs/"))
+                .extract().as(ImportJobDto.class);
+    }
+
+    public static ImportJobDto retrieveImportJob(Long id) {
+        return given()
+                .contentType(ContentType.JSON)
+                .when()
+                .get("/api/import-jobs/{id}", id)
+                .then()
+                .statusCode(200)
+                .extract().as(ImportJobDto.class);
+    }
+
     public static List<PosDto> createPos(List<PosDto> posList) {
         return posList.stream()
                 .map(posDto -> given()
@@ -68,6 +212,19 @@ public class TestUtils {
                 .toList();
     }
 
+    public static byte[] createPos(byte[] posDto, String mediaType) {
+        return given()
+                .contentType(mediaType)
+                .accept(mediaType)
+                .body(posDto)
+                .when()
+                .post("/api/pos")
+                .then()
+                .statusCode(201)
+                .contentType(mediaType)
+                .extract().asByteArray();
+    }
+
     public static List<PosDto> updatePos(List<PosDto> posList) {
         return posList.stream()
                 .map(posDto -> given()
@@ -0,0 +1,114 @@
+package de.seuhd.campuscoffee.api.limiter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Tests for the gradient update of the adaptive concurrency limit, including its bounds.
+ */
+public class AdaptiveConcurrencyLimiterTests {
+    private static final long BASELINE_LATENCY = Duration.ofMillis(1).toNanos();
+    private static final long OVERLOAD_LATENCY = Duration.ofMillis(100).toNanos();
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void rejectsRequestsBeyondLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 2, 1, 4, meterRegistry);
+
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+        assertThat(meterRegistry.get("campuscoffee.limiter.rejected").counter().count()).isEqualTo(1);
+
+        limiter.release(BASELINE_LATENCY, false);
+        assertThat(limiter.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void limitGrowsUpToMaximumWhileLatencyIsStableAtFullLoad() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 10, 5, 12, meterRegistry);
+
+        // the first sample only sets the latency baseline
+        releaseAtFullLoad(limiter, BASELINE_LATENCY, 1);
+        assertThat(limiter.getLimit()).isEqualTo(10);
+
+        // with a gradient of 1, each sample adds a smoothed square root of the limit
+        releaseAtFullLoad(limiter, BASELINE_LATENCY, 1);
+        assertThat(limiter.getLimit()).isCloseTo(10 + 0.2 * Math.sqrt(10), within(1e-9));
+
+        releaseAtFullLoad(limiter, BASELINE_LATENCY, 100);
+        assertThat(limiter.getLimit()).isEqualTo(12);
+    }
+
+    @Test
+    void limitDoesNotGrowWithoutLoad() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 10, 5, 12, meterRegistry);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(limiter.tryAcquire()).isTrue();
+            limiter.release(BASELINE_LATENCY, true);
+        }
+        assertThat(limiter.getLimit()).isEqualTo(10);
+    }
+
+    @Test
+    void limitShrinksDownToMinimumWhenLatencyRises() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 10, 5, 12, meterRegistry);
+        releaseAtFullLoad(limiter, BASELINE_LATENCY, 1);
+
+        // the gradient is clamped at 0.5: the limit converges to 4 without the lower bound
+        releaseAtFullLoad(limiter, OVERLOAD_LATENCY, 1);
+        assertThat(limiter.getLimit()).isLessThan(10);
+
+        releaseAtFullLoad(limiter, OVERLOAD_LATENCY, 100);
+        assertThat(limiter.getLimit()).isEqualTo(5);
+    }
+
+    @Test
+    void failedRequestsAreNotSampled() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 10, 5, 12, meterRegistry);
+        releaseAtFullLoad(limiter, BASELINE_LATENCY, 1);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(limiter.tryAcquire()).isTrue();
+            limiter.release(OVERLOAD_LATENCY, false);
+        }
+        assertThat(limiter.getLimit()).isEqualTo(10);
+    }
+
+    @Test
+    void rejectsInvalidLimits() {
+        assertThatThrownBy(() -> new AdaptiveConcurrencyLimiter("test", 5, 0, 10, meterRegistry))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new AdaptiveConcurrencyLimiter("test", 5, 6, 10, meterRegistry))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new AdaptiveConcurrencyLimiter("test", 11, 5, 10, meterRegistry))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * Fills the limit with requests and completes one of them with the given latency, the given number of times.
+     * The remaining requests are released without a sample afterwards.
+     */
+    private static void releaseAtFullLoad(AdaptiveConcurrencyLimiter limiter, long latencyNanos, int samples) {
+        int inFlight = 0;
+        for (int i = 0; i < samples; i++) {
+            while (limiter.tryAcquire()) {
+                inFlight++;
+            }
+            limiter.release(latencyNanos, true);
+            inFlight--;
+        }
+        for (; inFlight > 0; inFlight--) {
+            limiter.release(latencyNanos, false);
+        }
+    }
+}
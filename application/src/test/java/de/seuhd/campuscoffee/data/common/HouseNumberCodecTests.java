@@ -0,0 +1,95 @@
+package de.seuhd.campuscoffee.data.common;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for the conversion between house number strings and their structured representation in the database.
+ */
+public class HouseNumberCodecTests {
+    @ParameterizedTest
+    @CsvSource({
+            "21, 21, , ",
+            "21a, 21, a, ",
+            "21-23, 21, , 23",
+            "21a-23, 21, a, 23",
+            "2147483600, 2147483600, , "
+    })
+    void parseAndFormatValidHouseNumbers(String houseNumber, int number, @Nullable Character suffix,
+                                         @Nullable Integer numberTo) {
+        Fields fields = new Fields();
+        HouseNumberCodec.parse(houseNumber, fields);
+
+        assertThat(fields.getHouseNumber()).isEqualTo(number);
+        assertThat(fields.getHouseNumberSuffix()).isEqualTo(suffix);
+        assertThat(fields.getHouseNumberTo()).isEqualTo(numberTo);
+        assertThat(HouseNumberCodec.format(fields)).isEqualTo(houseNumber);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "",
+            "a",
+            "23-21",
+            "21-21",
+            "21-",
+            "-21",
+            "21–23", // en dash
+            " 21",
+            "21 ",
+            "21 a",
+            "21 - 23",
+            "21ab",
+            "21-23a",
+            "99999999999",
+            "21-99999999999"
+    })
+    void parseRejectsInvalidHouseNumbers(String houseNumber) {
+        Fields fields = new Fields();
+
+        assertThatThrownBy(() -> HouseNumberCodec.parse(houseNumber, fields))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(fields.getHouseNumber()).isNull();
+    }
+
+    private static class Fields implements HouseNumberFields {
+        private @Nullable Integer houseNumber;
+        private @Nullable Character houseNumberSuffix;
+        private @Nullable Integer houseNumberTo;
+
+        @Override
+        public @Nullable Integer getHouseNumber() {
+            return houseNumber;
+        }
+
+        @Override
+        public void setHouseNumber(@Nullable Integer houseNumber) {
+            this.houseNumber = houseNumber;
+        }
+
+        @Override
+        public @Nullable Character getHouseNumberSuffix() {
+            return houseNumberSuffix;
+        }
+
+        @Override
+        public void setHouseNumberSuffix(@Nullable Character houseNumberSuffix) {
+            this.houseNumberSuffix = houseNumberSuffix;
+        }
+
+        @Override
+        public @Nullable Integer getHouseNumberTo() {
+            return houseNumberTo;
+        }
+
+        @Override
+        public void setHouseNumberTo(@Nullable Integer houseNumberTo) {
+            this.houseNumberTo = houseNumberTo;
+        }
+    }
+}
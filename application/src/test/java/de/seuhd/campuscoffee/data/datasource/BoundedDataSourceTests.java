@@ -0,0 +1,113 @@
+package de.seuhd.campuscoffee.data.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for bounding the number of threads holding a connection.
+ * The data source has a single permit, so that a second connection is only available once the permit is released.
+ */
+public class BoundedDataSourceTests {
+    private static final Duration SHORT_TIMEOUT = Duration.ofMillis(100);
+    private static final Duration LONG_TIMEOUT = Duration.ofSeconds(5);
+
+    private final AtomicInteger failures = new AtomicInteger();
+    private final AtomicInteger closed = new AtomicInteger();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    void afterEach() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void closeReleasesPermitOnce() throws SQLException {
+        BoundedDataSource dataSource = new BoundedDataSource(targetDataSource(), 1, SHORT_TIMEOUT);
+
+        Connection connection = dataSource.getConnection();
+        connection.close();
+        connection.close();
+        assertThat(closed).hasValue(2);
+
+        // a second release of the permit would make room for two connections
+        Connection next = dataSource.getConnection();
+        assertThatThrownBy(dataSource::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+        next.close();
+    }
+
+    @Test
+    void failedGetConnectionReleasesPermit() throws SQLException {
+        BoundedDataSource dataSource = new BoundedDataSource(targetDataSource(), 1, SHORT_TIMEOUT);
+        failures.set(1);
+
+        assertThatThrownBy(dataSource::getConnection)
+                .isInstanceOf(SQLException.class)
+                .isNotInstanceOf(SQLTransientConnectionException.class);
+
+        dataSource.getConnection().close();
+    }
+
+    @Test
+    void waitersBeyondPoolSizeBlockUntilPermitIsReleased() throws Exception {
+        BoundedDataSource dataSource = new BoundedDataSource(targetDataSource(), 1, LONG_TIMEOUT);
+        Connection connection = dataSource.getConnection();
+
+        Future<Connection> waiting = executor.submit(() -> dataSource.getConnection());
+        // neither granted nor failed while the permit is held
+        Thread.sleep(SHORT_TIMEOUT.toMillis());
+        assertThat(waiting.isDone()).isFalse();
+
+        connection.close();
+        waiting.get(LONG_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS).close();
+        assertThat(closed).hasValue(2);
+    }
+
+    /**
+     * Returns a data source that fails as often as {@link #failures} says and then hands out connections, which only
+     * count how often they are closed.
+     */
+    private DataSource targetDataSource() {
+        return (DataSource) Proxy.newProxyInstance(
+                DataSource.class.getClassLoader(),
+                new Class<?>[]{DataSource.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getConnection" -> {
+                        if (failures.getAndUpdate(count -> Math.max(count - 1, 0)) > 0) {
+                            throw new SQLException("Connection refused.");
+                        }
+                        yield connection();
+                    }
+                    case "toString" -> "target data source";
+                    default -> throw new UnsupportedOperationException("Unexpected call of " + method);
+                });
+    }
+
+    private Connection connection() {
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "close" -> {
+                        closed.incrementAndGet();
+                        yield null;
+                    }
+                    case "toString" -> "connection";
+                    default -> throw new UnsupportedOperationException("Unexpected call of " + method);
+                });
+    }
+}
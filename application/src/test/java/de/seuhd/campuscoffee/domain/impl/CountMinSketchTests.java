@@ -0,0 +1,62 @@
+package de.seuhd.campuscoffee.domain.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for the error bounds of the Count-Min sketch.
+ */
+public class CountMinSketchTests {
+    private static final int DEPTH = 4;
+    private static final int WIDTH = 256;
+
+    @Test
+    void estimatesAreExactWithoutCollisions() {
+        CountMinSketch sketch = new CountMinSketch(DEPTH, WIDTH);
+        sketch.add(1L, 5);
+        sketch.add(2L, 1);
+        sketch.add(1L, 2);
+
+        assertThat(sketch.estimate(1L)).isEqualTo(7);
+        assertThat(sketch.estimate(2L)).isEqualTo(1);
+        assertThat(sketch.estimate(3L)).isZero();
+    }
+
+    @Test
+    void estimatesStayWithinErrorBound() {
+        CountMinSketch sketch = new CountMinSketch(DEPTH, WIDTH);
+        // far more keys than counters per row, with a skewed distribution as for POS views
+        Map<Long, Long> counts = new HashMap<>();
+        long total = 0;
+        for (long key = 1; key <= 5000; key++) {
+            long count = 1 + 1000 / key;
+            sketch.add(key, count);
+            counts.put(key, count);
+            total += count;
+        }
+
+        // never underestimated; overestimated by at most e / width of the total with probability 1 - e^-depth
+        long bound = (long) Math.ceil(Math.E / WIDTH * total);
+        long withinBound = 0;
+        for (Map.Entry<Long, Long> entry : counts.entrySet()) {
+            long estimate = sketch.estimate(entry.getKey());
+            assertThat(estimate).isGreaterThanOrEqualTo(entry.getValue());
+            if (estimate - entry.getValue() <= bound) {
+                withinBound++;
+            }
+        }
+        double expected = 1 - Math.exp(-DEPTH);
+        assertThat((double) withinBound / counts.size()).isGreaterThanOrEqualTo(expected - 0.01);
+    }
+
+    @Test
+    void rejectsInvalidDimensions() {
+        assertThatThrownBy(() -> new CountMinSketch(0, WIDTH)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new CountMinSketch(DEPTH, 100)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
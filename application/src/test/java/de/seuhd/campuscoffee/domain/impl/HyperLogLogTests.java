@@ -0,0 +1,57 @@
+package de.seuhd.campuscoffee.domain.impl;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.withinPercentage;
+
+/**
+ * Tests for the error bounds of the HyperLogLog sketch.
+ */
+public class HyperLogLogTests {
+    private static final int PRECISION = 12;
+    // three times the standard error of 1.04 / sqrt(2^12)
+    private static final double MAX_ERROR_PERCENT = 3 * 104 / Math.sqrt(1 << PRECISION);
+
+    @ParameterizedTest
+    @ValueSource(ints = {100, 1_000, 10_000, 100_000})
+    void estimatesDistinctValuesWithinErrorBound(int distinct) {
+        HyperLogLog sketch = new HyperLogLog(PRECISION);
+        for (int i = 0; i < distinct; i++) {
+            sketch.add(Hashes.hash("client-" + i));
+            // duplicates do not count
+            sketch.add(Hashes.hash("client-" + i));
+        }
+
+        assertThat(sketch.estimate()).isCloseTo(distinct, withinPercentage(MAX_ERROR_PERCENT));
+    }
+
+    @Test
+    void mergeEqualsSketchOfUnion() {
+        HyperLogLog first = new HyperLogLog(PRECISION);
+        HyperLogLog second = new HyperLogLog(PRECISION);
+        HyperLogLog union = new HyperLogLog(PRECISION);
+        for (int i = 0; i < 20_000; i++) {
+            long hash = Hashes.hash("client-" + i);
+            // overlapping halves
+            (i < 12_000 ? first : second).add(hash);
+            if (i >= 8_000 && i < 12_000) {
+                second.add(hash);
+            }
+            union.add(hash);
+        }
+
+        first.merge(second);
+
+        assertThat(first.estimate()).isEqualTo(union.estimate());
+    }
+
+    @Test
+    void rejectsMergeOfDifferentPrecision() {
+        assertThatThrownBy(() -> new HyperLogLog(PRECISION).merge(new HyperLogLog(PRECISION - 1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
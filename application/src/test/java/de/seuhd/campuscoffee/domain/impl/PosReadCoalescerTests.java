@@ -0,0 +1,142 @@
+package de.seuhd.campuscoffee.domain.impl;
+
+import de.seuhd.campuscoffee.domain.exceptions.PosNotFoundException;
+import de.seuhd.campuscoffee.domain.model.Pos;
+import de.seuhd.campuscoffee.domain.tests.TestFixtures;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for coalescing concurrent POS reads into a single load.
+ * The load blocks until all callers have joined it, which the tests observe through the
+ * {@code campuscoffee.singleflight.calls} counter.
+ */
+public class PosReadCoalescerTests {
+    private static final int CALLERS = 8;
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PosReadCoalescer posReadCoalescer = new PosReadCoalescer(meterRegistry);
+    private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @AfterEach
+    void afterEach() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentGetByIdCallsShareOneLoad() throws Exception {
+        Pos pos = TestFixtures.getPosList().getFirst();
+
+        List<Future<Pos>> results = callConcurrently(() -> posReadCoalescer.getById(1L, () -> load(pos)));
+        awaitCoalesced("getById");
+        release.countDown();
+
+        for (Future<Pos> result : results) {
+            assertThat(result.get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)).isSameAs(pos);
+        }
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void concurrentGetAllCallsShareOneLoad() throws Exception {
+        List<Pos> posList = TestFixtures.getPosList();
+
+        List<Future<List<Pos>>> results = callConcurrently(() -> posReadCoalescer.getAll(() -> load(posList)));
+        awaitCoalesced("getAll");
+        release.countDown();
+
+        for (Future<List<Pos>> result : results) {
+            assertThat(result.get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)).isSameAs(posList);
+        }
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void exceptionOfLoadReachesEveryCaller() throws Exception {
+        PosNotFoundException notFound = new PosNotFoundException(1L);
+
+        List<Future<Pos>> results = callConcurrently(() -> posReadCoalescer.getById(1L, () -> {
+            load(null);
+            throw notFound;
+        }));
+        awaitCoalesced("getById");
+        release.countDown();
+
+        for (Future<Pos> result : results) {
+            assertThatThrownBy(() -> result.get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .cause()
+                    .isSameAs(notFound);
+        }
+        assertThat(loads).hasValue(1);
+
+        // nothing is cached: the next call loads again
+        Pos pos = TestFixtures.getPosList().getFirst();
+        assertThat(posReadCoalescer.getById(1L, () -> load(pos))).isSameAs(pos);
+        assertThat(loads).hasValue(2);
+    }
+
+    private <T> List<Future<T>> callConcurrently(Callable<T> call) {
+        List<Future<T>> results = new ArrayList<>(CALLERS);
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(call));
+        }
+        return results;
+    }
+
+    /**
+     * Counts the load and blocks until the test releases it.
+     */
+    private <T> T load(T value) {
+        loads.incrementAndGet();
+        try {
+            if (!release.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new IllegalStateException("The load was not released");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+        return value;
+    }
+
+    /**
+     * Waits until all callers but the one running the load have joined it.
+     */
+    private void awaitCoalesced(String operation) throws InterruptedException {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (coalesced(operation) < CALLERS - 1 && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertThat(coalesced(operation)).isEqualTo(CALLERS - 1);
+    }
+
+    private double coalesced(String operation) {
+        return meterRegistry.get("campuscoffee.singleflight.calls")
+                .tag("operation", operation)
+                .tag("result", "coalesced")
+                .counter()
+                .count();
+    }
+}
@@ -0,0 +1,178 @@
+package de.seuhd.campuscoffee.domain.impl;
+
+import de.seuhd.campuscoffee.data.snapshot.CatalogSnapshotFormat;
+import de.seuhd.campuscoffee.data.snapshot.MappedCatalogSnapshot;
+import de.seuhd.campuscoffee.domain.events.PosChangedEvent;
+import de.seuhd.campuscoffee.domain.exceptions.SnapshotNotFoundException;
+import de.seuhd.campuscoffee.domain.model.Pos;
+import de.seuhd.campuscoffee.domain.model.SnapshotInfo;
+import de.seuhd.campuscoffee.domain.ports.CatalogSnapshot;
+import de.seuhd.campuscoffee.domain.ports.PosDataService;
+import de.seuhd.campuscoffee.domain.ports.SnapshotDataService;
+import de.seuhd.campuscoffee.domain.tests.TestFixtures;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for writing, mapping, and serving catalog snapshots, and for the fallback to the database.
+ * Snapshots are written to and mapped from a temporary file in the binary snapshot format; the database is replaced
+ * by a fixed POS list and a catalog version that the tests advance.
+ */
+public class SnapshotServiceTests {
+    private static final Duration MAX_SERVE_DURATION = Duration.ofMinutes(5);
+    private static final Duration MAX_AGE = Duration.ofHours(24);
+
+    @TempDir
+    Path directory;
+
+    private final AtomicLong catalogVersion = new AtomicLong(42);
+    private final List<Pos> posList = IntStream.range(0, TestFixtures.getPosList().size())
+            .mapToObj(i -> TestFixtures.getPosList().get(i).toBuilder().id(i + 1L).build())
+            .toList();
+    private Path path;
+
+    @BeforeEach
+    void beforeEach() {
+        path = directory.resolve("campus-coffee.snapshot");
+    }
+
+    @Test
+    void snapshotRoundTrip() {
+        SnapshotServiceImpl writer = snapshotService(false, MAX_AGE);
+        SnapshotInfo created = writer.createSnapshot();
+        assertThat(created.posCount()).isEqualTo(posList.size());
+        assertThat(created.catalogVersion()).isEqualTo(42);
+        assertThat(writer.getSnapshotInfo())
+                .usingRecursiveComparison()
+                .isEqualTo(created);
+        assertThat(writer.getServingSnapshot()).isEmpty();
+
+        SnapshotServiceImpl reader = snapshotService(true, MAX_AGE);
+        CatalogSnapshot serving = reader.getServingSnapshot().orElseThrow();
+        assertThat(serving.getAll())
+                .usingRecursiveComparison()
+                .isEqualTo(posList);
+        assertThat(serving.findById(2L).orElseThrow())
+                .usingRecursiveComparison()
+                .isEqualTo(posList.get(1));
+        assertThat(serving.findById(posList.size() + 1L)).isEmpty();
+        assertThat(reader.getSnapshotInfo().serving()).isTrue();
+    }
+
+    @Test
+    void snapshotIsNotServedAfterCatalogChanged() {
+        snapshotService(false, MAX_AGE).createSnapshot();
+        catalogVersion.incrementAndGet();
+
+        SnapshotServiceImpl reader = snapshotService(true, MAX_AGE);
+        assertThat(reader.getServingSnapshot()).isEmpty();
+        assertThat(reader.getSnapshotInfo().serving()).isFalse();
+    }
+
+    @Test
+    void snapshotIsNotServedIfTooOld() {
+        snapshotService(false, MAX_AGE).createSnapshot();
+
+        assertThat(snapshotService(true, Duration.ZERO).getServingSnapshot()).isEmpty();
+    }
+
+    @Test
+    void snapshotIsServedUntilCatalogChanges() {
+        snapshotService(false, MAX_AGE).createSnapshot();
+        SnapshotServiceImpl reader = snapshotService(true, MAX_AGE);
+
+        // e.g., the change feed connecting: the catalog version proves that nothing changed
+        reader.onPosChanged(PosChangedEvent.all());
+        assertThat(reader.getServingSnapshot()).isPresent();
+
+        catalogVersion.incrementAndGet();
+        reader.onPosChanged(PosChangedEvent.all());
+        assertThat(reader.getServingSnapshot()).isEmpty();
+    }
+
+    @Test
+    void snapshotIsNotServedAfterChangeOfSinglePos() {
+        snapshotService(false, MAX_AGE).createSnapshot();
+        SnapshotServiceImpl reader = snapshotService(true, MAX_AGE);
+
+        reader.onPosChanged(new PosChangedEvent(1L));
+        assertThat(reader.getServingSnapshot()).isEmpty();
+    }
+
+    @Test
+    void missingSnapshot() {
+        SnapshotServiceImpl reader = snapshotService(true, MAX_AGE);
+
+        assertThat(reader.getServingSnapshot()).isEmpty();
+        assertThatThrownBy(reader::getSnapshotInfo).isInstanceOf(SnapshotNotFoundException.class);
+    }
+
+    private SnapshotServiceImpl snapshotService(boolean warmStart, Duration maxAge) {
+        SnapshotServiceImpl snapshotService = new SnapshotServiceImpl(
+                snapshotDataService(), posDataService(), warmStart, MAX_SERVE_DURATION, maxAge);
+        snapshotService.afterPropertiesSet();
+        return snapshotService;
+    }
+
+    /**
+     * Stores the snapshot like the data layer does, without the Spring context.
+     */
+    private SnapshotDataService snapshotDataService() {
+        return new SnapshotDataService() {
+            @Override
+            public SnapshotInfo write(List<Pos> posList, long catalogVersion) {
+                LocalDateTime createdAt = LocalDateTime.now(ZoneOffset.UTC);
+                try {
+                    CatalogSnapshotFormat.write(posList, path, createdAt, catalogVersion);
+                    return open().orElseThrow().info();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+
+            @Override
+            public Optional<CatalogSnapshot> open() {
+                if (!Files.isRegularFile(path)) {
+                    return Optional.empty();
+                }
+                try {
+                    return Optional.of(MappedCatalogSnapshot.map(path));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        };
+    }
+
+    /**
+     * Answers {@link PosDataService#getAll()} and {@link PosDataService#getCatalogVersion()}; the snapshot service
+     * does not use any other method.
+     */
+    private PosDataService posDataService() {
+        return (PosDataService) Proxy.newProxyInstance(
+                PosDataService.class.getClassLoader(),
+                new Class<?>[]{PosDataService.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getAll" -> posList;
+                    case "getCatalogVersion" -> catalogVersion.get();
+                    default -> throw new UnsupportedOperationException("Unexpected call of " + method);
+                });
+    }
+}
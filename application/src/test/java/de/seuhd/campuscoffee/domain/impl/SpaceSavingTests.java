@@ -0,0 +1,71 @@
+package de.seuhd.campuscoffee.domain.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the top-K guarantees of the Space-Saving summary.
+ */
+public class SpaceSavingTests {
+    private static final int CAPACITY = 10;
+    private static final int HEAVY_HITTERS = 5;
+    private static final int ROUNDS = 1500;
+    private static final int NOISE_PER_ROUND = 3;
+    private static final int CLIENTS = 3;
+
+    @Test
+    void tracksKeysAboveThresholdWithBoundedError() {
+        SpaceSaving sketch = new SpaceSaving(CAPACITY, 8);
+        long noiseKey = 1000;
+        for (int round = 0; round < ROUNDS; round++) {
+            for (long key = 1; key <= HEAVY_HITTERS; key++) {
+                sketch.add(key, Hashes.hash("client-" + round % CLIENTS));
+            }
+            // keys that occur only once and compete for the remaining counters
+            for (int i = 0; i < NOISE_PER_ROUND; i++) {
+                sketch.add(noiseKey++, Hashes.hash("noise"));
+            }
+        }
+
+        // every key that occurred more than total / capacity times is tracked
+        long total = (long) ROUNDS * (HEAVY_HITTERS + NOISE_PER_ROUND);
+        assertThat(ROUNDS).isGreaterThan((int) (total / CAPACITY));
+        Map<Long, SpaceSaving.Counter> counters = sketch.counters().stream()
+                .collect(Collectors.toMap(SpaceSaving.Counter::key, Function.identity()));
+        assertThat(counters).hasSize(CAPACITY);
+        for (long key = 1; key <= HEAVY_HITTERS; key++) {
+            SpaceSaving.Counter counter = counters.get(key);
+            assertThat(counter).isNotNull();
+            // the count is never underestimated and overestimated by at most the error
+            assertThat(counter.count()).isGreaterThanOrEqualTo(ROUNDS);
+            assertThat(counter.count() - counter.error()).isLessThanOrEqualTo(ROUNDS);
+            assertThat(counter.clients().estimate()).isEqualTo(CLIENTS);
+        }
+
+        // keys that took over a counter inherit its count as error, and occurred at most once
+        counters.values().stream()
+                .filter(counter -> counter.key() > HEAVY_HITTERS)
+                .forEach(counter -> assertThat(counter.count() - counter.error()).isLessThanOrEqualTo(1));
+    }
+
+    @Test
+    void countsAreExactBelowCapacity() {
+        SpaceSaving sketch = new SpaceSaving(CAPACITY, 8);
+        for (long key = 1; key <= CAPACITY; key++) {
+            for (long i = 0; i < key; i++) {
+                sketch.add(key, Hashes.hash("client-" + i));
+            }
+        }
+
+        assertThat(sketch.counters()).hasSize(CAPACITY).allSatisfy(counter -> {
+            assertThat(counter.count()).isEqualTo(counter.key());
+            assertThat(counter.error()).isZero();
+            assertThat(counter.clients().estimate()).isEqualTo(counter.key());
+        });
+    }
+}
@@ -0,0 +1,131 @@
+package de.seuhd.campuscoffee.domain.model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+import static java.time.DayOfWeek.FRIDAY;
+import static java.time.DayOfWeek.MONDAY;
+import static java.time.DayOfWeek.SATURDAY;
+import static java.time.DayOfWeek.SUNDAY;
+import static java.time.DayOfWeek.THURSDAY;
+import static java.time.DayOfWeek.TUESDAY;
+import static java.time.DayOfWeek.WEDNESDAY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for parsing opening hours in OpenStreetMap syntax into minutes of the week.
+ */
+public class OpeningHoursTests {
+    @Test
+    void parseWeekdayRangeAndTimeRanges() {
+        OpeningHours openingHours = OpeningHours.parse(" Mo,We 08:00-12:00,13:00-17:00 ");
+
+        assertThat(openingHours.expression()).isEqualTo("Mo,We 08:00-12:00,13:00-17:00");
+        assertThat(openingHours.intervals()).containsExactly(
+                at(MONDAY, "08:00"), at(MONDAY, "12:00"),
+                at(MONDAY, "13:00"), at(MONDAY, "17:00"),
+                at(WEDNESDAY, "08:00"), at(WEDNESDAY, "12:00"),
+                at(WEDNESDAY, "13:00"), at(WEDNESDAY, "17:00"));
+    }
+
+    @Test
+    void parseDayRangeWrappingAroundWeek() {
+        OpeningHours openingHours = OpeningHours.parse("Fr-Mo 10:00-12:00");
+
+        assertThat(openingHours.intervals()).containsExactly(
+                at(MONDAY, "10:00"), at(MONDAY, "12:00"),
+                at(FRIDAY, "10:00"), at(FRIDAY, "12:00"),
+                at(SATURDAY, "10:00"), at(SATURDAY, "12:00"),
+                at(SUNDAY, "10:00"), at(SUNDAY, "12:00"));
+        assertThat(openingHours.isOpenAt(at(TUESDAY, "11:00"))).isFalse();
+    }
+
+    @Test
+    void parseTimeRangePastMidnightSpillsIntoNextDay() {
+        OpeningHours openingHours = OpeningHours.parse("Fr 20:00-02:00");
+
+        assertThat(openingHours.intervals()).containsExactly(at(FRIDAY, "20:00"), at(SATURDAY, "02:00"));
+    }
+
+    @Test
+    void parseTimeRangePastSundayMidnightSpillsIntoNextWeek() {
+        OpeningHours openingHours = OpeningHours.parse("Su 20:00-02:00");
+
+        assertThat(openingHours.intervals()).containsExactly(
+                at(MONDAY, "00:00"), at(MONDAY, "02:00"),
+                at(SUNDAY, "20:00"), OpeningHours.MINUTES_PER_WEEK);
+        assertThat(openingHours.isOpenAt(at(MONDAY, "01:59"))).isTrue();
+        assertThat(openingHours.isOpenAt(at(MONDAY, "02:00"))).isFalse();
+        assertThat(openingHours.isOpenAt(at(SUNDAY, "23:59"))).isTrue();
+    }
+
+    @Test
+    void parseLaterRulesOverrideEarlierRulesForTheirDays() {
+        OpeningHours openingHours = OpeningHours.parse("Mo-Fr 08:00-18:00; We 10:00-12:00");
+
+        assertThat(openingHours.intervals()).containsExactly(
+                at(MONDAY, "08:00"), at(MONDAY, "18:00"),
+                at(TUESDAY, "08:00"), at(TUESDAY, "18:00"),
+                at(WEDNESDAY, "10:00"), at(WEDNESDAY, "12:00"),
+                at(THURSDAY, "08:00"), at(THURSDAY, "18:00"),
+                at(FRIDAY, "08:00"), at(FRIDAY, "18:00"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"24/7; Sa,Su off", "24/7; Sa-Su closed", "Mo-Fr; Sa,Su OFF"})
+    void parseOffAndClosedCloseSelectedDays(String expression) {
+        OpeningHours openingHours = OpeningHours.parse(expression);
+
+        assertThat(openingHours.intervals()).containsExactly(0, at(SATURDAY, "00:00"));
+    }
+
+    @Test
+    void parseOffWithoutDaysClosesAllDays() {
+        assertThat(OpeningHours.parse("Mo-Fr 08:00-18:00; off").intervals()).isEmpty();
+        assertThat(OpeningHours.parse("closed").intervals()).isEmpty();
+    }
+
+    @Test
+    void parseEndOfDayAs24() {
+        assertThat(OpeningHours.parse("Mo 18:00-24:00").intervals())
+                .containsExactly(at(MONDAY, "18:00"), at(TUESDAY, "00:00"));
+        assertThat(OpeningHours.parse("Su 22:00-24:00").intervals())
+                .containsExactly(at(SUNDAY, "22:00"), OpeningHours.MINUTES_PER_WEEK);
+        // adjacent ranges of consecutive days are merged
+        assertThat(OpeningHours.parse("Mo 18:00-24:00; Tu 00:00-02:00").intervals())
+                .containsExactly(at(MONDAY, "18:00"), at(TUESDAY, "02:00"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "",
+            " ",
+            "PH off",
+            "Mo-Fr 08:00-18:00; PH off",
+            "Jan-Mar 10:00-12:00",
+            "sunrise-sunset",
+            "Mo-We-Fr 10:00-12:00",
+            "Mo 8-12",
+            "Mo 08:00",
+            "Mo 08:00-08:00",
+            "Mo 24:00-02:00",
+            "Mo 10:00-25:00",
+            "Mo 10:60-12:00"
+    })
+    void parseRejectsUnsupportedSyntax(String expression) {
+        assertThatThrownBy(() -> OpeningHours.parse(expression))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * @return the minute of the week of a day and a time
+     */
+    private static int at(DayOfWeek day, String time) {
+        return (day.getValue() - 1) * OpeningHours.MINUTES_PER_DAY + LocalTime.parse(time).toSecondOfDay() / 60;
+    }
+}
@@ -0,0 +1,34 @@
+package de.seuhd.campuscoffee.domain.tests;
+
+import de.seuhd.campuscoffee.domain.model.Pos;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the generation of synthetic POS catalogs.
+ */
+public class SyntheticPosGeneratorTests {
+    private static final long SEED = 42;
+
+    @Test
+    void generateDependsOnlyOnSeedAndIndex() {
+        List<Pos> catalog = new SyntheticPosGenerator(SEED).stream(100).toList();
+
+        // any slice can be generated on its own, by another generator with the same seed
+        SyntheticPosGenerator other = new SyntheticPosGenerator(SEED);
+        for (int index = 99; index >= 0; index--) {
+            assertThat(other.generate(index)).isEqualTo(catalog.get(index));
+        }
+        assertThat(new SyntheticPosGenerator(SEED + 1).stream(100).toList()).isNotEqualTo(catalog);
+    }
+
+    @Test
+    void generateUniqueNames() {
+        List<String> names = new SyntheticPosGenerator(SEED).stream(10_000).map(Pos::name).toList();
+
+        assertThat(names).doesNotHaveDuplicates();
+    }
+}
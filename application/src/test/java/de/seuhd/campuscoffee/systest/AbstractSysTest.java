@@ -8,18 +8,32 @@ import org.junit.jupiter.api.BeforeEach;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.testcontainers.containers.PostgreSQLContainer;
 
+import java.util.function.Supplier;
+
 import static de.seuhd.campuscoffee.TestUtils.configurePostgresContainers;
 import static de.seuhd.campuscoffee.TestUtils.getPostgresContainer;
 
 /**
  * Abstract base class for system tests.
  * Sets up the Spring Boot test context, manages the PostgreSQL testcontainer, and configures REST Assured.
+ * Tests can assert the number of SQL statements an API call issues with {@link #assertSqlBudget}.
  */
-@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+// no import job worker and no status flushes during the tests: background SQL would be counted against the
+// SQL budgets of the API calls; a short warm-up keeps the startup of the test context fast
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "campus-coffee.import-jobs.worker.enabled=false",
+                "campus-coffee.live-status.flush-interval=PT1H",
+                "campus-coffee.warm-up.max-duration=PT2S"
+        }
+)
+@Import(SqlStatementRecorder.class)
 public abstract class AbstractSysTest {
     protected static final PostgreSQLContainer<?> postgresContainer;
 
@@ -40,6 +54,9 @@ public abstract class AbstractSysTest {
     @Autowired
     protected PosDtoMapper posDtoMapper;
 
+    @Autowired
+    private SqlStatementRecorder sqlStatementRecorder;
+
     @LocalServerPort
     private Integer port;
 
@@ -53,4 +70,20 @@ public abstract class AbstractSysTest {
     void afterEach() {
         posService.clear();
     }
+
+    /**
+     * Executes an API call and asserts that it issues exactly the budgeted number of SQL statements.
+     * On failure, the message lists the recorded statements.
+     *
+     * @param budget  the expected number of statements per type
+     * @param apiCall the API call
+     * @param <T>     the result type of the API call
+     * @return the result of the API call
+     */
+    protected <T> T assertSqlBudget(SqlStatementRecorder.SqlBudget budget, Supplier<T> apiCall) {
+        sqlStatementRecorder.start();
+        T result = apiCall.get();
+        sqlStatementRecorder.assertBudget(budget);
+        return result;
+    }
 }
\ No newline at end of file
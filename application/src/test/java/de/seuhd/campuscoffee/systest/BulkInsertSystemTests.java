@@ -0,0 +1,36 @@
+package de.seuhd.campuscoffee.systest;
+
+import de.seuhd.campuscoffee.domain.ports.PosDataService;
+import de.seuhd.campuscoffee.domain.tests.SyntheticPosGenerator;
+import de.seuhd.campuscoffee.systest.SqlStatementRecorder.SqlBudget;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * System tests for the bulk insert of POS (used to seed synthetic catalogs).
+ */
+public class BulkInsertSystemTests extends AbstractSysTest {
+    @Autowired
+    private PosDataService posDataService;
+
+    @Test
+    void bulkInsertBatchesAcrossBatchBoundary() {
+        // batches of 1,000 POS: two full batches and one with a single POS, each one INSERT statement
+        long inserted = assertSqlBudget(SqlBudget.none().withInserts(3), () ->
+                posDataService.bulkInsert(new SyntheticPosGenerator(42).stream(2_001)));
+
+        assertThat(inserted).isEqualTo(2_001);
+        assertThat(posDataService.countByCampus().values().stream().mapToLong(Long::longValue).sum())
+                .isEqualTo(2_001);
+    }
+
+    @Test
+    void bulkInsertOfEmptyStreamIssuesNoStatements() {
+        long inserted = assertSqlBudget(SqlBudget.none(), () ->
+                posDataService.bulkInsert(new SyntheticPosGenerator(42).stream(0)));
+
+        assertThat(inserted).isZero();
+    }
+}
@@ -0,0 +1,81 @@
+package de.seuhd.campuscoffee.systest;
+
+import de.seuhd.campuscoffee.TestUtils;
+import de.seuhd.campuscoffee.api.dtos.PosDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+/**
+ * System tests for the adaptive concurrency limits.
+ * The limit of synchronous OSM imports is fixed to 1, and the OpenStreetMap rate limit makes an import wait, so that
+ * a second import arrives while the first one holds the only permit.
+ */
+public class ConcurrencyLimitSystemTests extends AbstractSysTest {
+    // the only OSM node that the stubbed OpenStreetMap adapter knows
+    private static final long NODE_ID = 5589879349L;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @DynamicPropertySource
+    static void limitImports(DynamicPropertyRegistry registry) {
+        registry.add("campus-coffee.concurrency-limits.retry-after", () -> "PT2S");
+        registry.add("campus-coffee.concurrency-limits.osm-import.initial-limit", () -> "1");
+        registry.add("campus-coffee.concurrency-limits.osm-import.min-limit", () -> "1");
+        registry.add("campus-coffee.concurrency-limits.osm-import.max-limit", () -> "1");
+        // one request at once, then one every two seconds
+        registry.add("campus-coffee.osm.rate-limit.burst", () -> "1");
+        registry.add("campus-coffee.osm.rate-limit.requests-per-second", () -> "0.5");
+    }
+
+    @Test
+    void requestsBeyondLimitAreRejectedWithRetryAfter() throws Exception {
+        // takes the only token of the OSM rate limit
+        TestUtils.importPos(NODE_ID);
+
+        // waits for the next token while holding the only permit
+        CompletableFuture<PosDto> waitingImport = CompletableFuture.supplyAsync(() -> TestUtils.importPos(NODE_ID));
+        awaitImportsInFlight(1);
+        double rejectedBefore = rejectedImports();
+
+        given()
+                .when()
+                .post("/api/pos/import/osm/{nodeId}", NODE_ID)
+                .then()
+                .statusCode(503)
+                .header("Retry-After", "2")
+                .body("message", equalTo("The service is overloaded, please retry later."));
+        assertThat(rejectedImports()).isEqualTo(rejectedBefore + 1);
+
+        // the waiting import is not affected and releases its permit
+        assertThat(waitingImport.get(10, TimeUnit.SECONDS).id()).isNotNull();
+        awaitImportsInFlight(0);
+    }
+
+    private void awaitImportsInFlight(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (importsInFlight() != expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(importsInFlight()).isEqualTo(expected);
+    }
+
+    private double importsInFlight() {
+        return meterRegistry.get("campuscoffee.limiter.in.flight").tag("group", "import").gauge().value();
+    }
+
+    private double rejectedImports() {
+        return meterRegistry.get("campuscoffee.limiter.rejected").tag("group", "import").counter().count();
+    }
+}
@@ -0,0 +1,122 @@
+package de.seuhd.campuscoffee.systest;
+
+import de.seuhd.campuscoffee.TestUtils;
+import de.seuhd.campuscoffee.api.dtos.RecordingDto;
+import de.seuhd.campuscoffee.api.dtos.RecordingSummaryDto;
+import de.seuhd.campuscoffee.domain.tests.TestFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.startsWith;
+
+/**
+ * System tests for on-demand flight recordings.
+ * A single recording can run at a time, so these tests run in their own context with a recording directory of their
+ * own.
+ */
+public class FlightRecordingSystemTests extends AbstractSysTest {
+    // every JFR file starts with this magic
+    private static final byte[] JFR_MAGIC = "FLR\0".getBytes(StandardCharsets.US_ASCII);
+
+    private static final Path DIRECTORY =
+            Path.of(System.getProperty("java.io.tmpdir"), "campus-coffee-jfr-" + UUID.randomUUID());
+
+    @DynamicPropertySource
+    static void configureRecordingDirectory(DynamicPropertyRegistry registry) {
+        registry.add("campus-coffee.jfr.directory", DIRECTORY::toString);
+    }
+
+    @Test
+    void startDumpAndStopRecording() throws IOException {
+        RecordingDto started = given()
+                .when()
+                .post("/api/admin/jfr/start")
+                .then()
+                .statusCode(200)
+                .extract().as(RecordingDto.class);
+        assertThat(started.state()).isEqualTo("RUNNING");
+        assertThat(started.settings()).isEqualTo("default");
+
+        // some requests to record
+        Long id = TestFixtures.createPosFixtures(posService).getFirst().id();
+        TestUtils.retrievePosById(id);
+        TestUtils.retrievePos();
+
+        // dumps of the running recording replace each other, and summaries leave no files behind
+        String dumpFileName = started.name() + "-dump.jfr";
+        assertRecordingFile(retrieveDump(dumpFileName));
+        RecordingSummaryDto summary = given()
+                .queryParam("top", 2)
+                .when()
+                .get("/api/admin/jfr/summary")
+                .then()
+                .statusCode(200)
+                .extract().as(RecordingSummaryDto.class);
+        assertThat(summary.slowest()).hasSizeLessThanOrEqualTo(2);
+        assertThat(summary.operations()).allSatisfy(operation -> {
+            assertThat(operation.count()).isPositive();
+            assertThat(operation.p95()).isLessThanOrEqualTo(operation.max());
+        });
+        assertRecordingFile(retrieveDump(dumpFileName));
+        try (Stream<Path> files = Files.list(DIRECTORY)) {
+            assertThat(files).map(file -> file.getFileName().toString()).containsExactly(dumpFileName);
+        }
+
+        RecordingDto stopped = given()
+                .when()
+                .post("/api/admin/jfr/stop")
+                .then()
+                .statusCode(200)
+                .extract().as(RecordingDto.class);
+        assertThat(stopped.name()).isEqualTo(started.name());
+        assertThat(stopped.state()).isEqualTo("STOPPED");
+        assertThat(Path.of(stopped.destination())).isRegularFile();
+
+        // the stopped recording itself
+        byte[] recording = retrieveDump(started.name() + ".jfr");
+        assertRecordingFile(recording);
+        assertThat(recording).isEqualTo(Files.readAllBytes(Path.of(stopped.destination())));
+    }
+
+    @Test
+    void summaryRejectsTooManySlowestEvents() {
+        given()
+                .queryParam("top", 1001)
+                .when()
+                .get("/api/admin/jfr/summary")
+                .then()
+                .statusCode(400);
+    }
+
+    private static byte[] retrieveDump(String fileName) {
+        return given()
+                .when()
+                .post("/api/admin/jfr/dump")
+                .then()
+                .statusCode(200)
+                .contentType(MediaType.APPLICATION_OCTET_STREAM_VALUE)
+                .header("Content-Disposition", allOf(startsWith("attachment"), containsString(fileName),
+                        endsWith(".jfr\"")))
+                .extract().asByteArray();
+    }
+
+    private static void assertRecordingFile(byte[] file) {
+        assertThat(file).hasSizeGreaterThan(JFR_MAGIC.length);
+        assertThat(Arrays.copyOf(file, JFR_MAGIC.length)).isEqualTo(JFR_MAGIC);
+    }
+}
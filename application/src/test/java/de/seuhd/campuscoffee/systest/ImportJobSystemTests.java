@@ -0,0 +1,77 @@
+package de.seuhd.campuscoffee.systest;
+
+import de.seuhd.campuscoffee.TestUtils;
+import de.seuhd.campuscoffee.api.dtos.ImportJobDto;
+import de.seuhd.campuscoffee.api.dtos.ImportJobItemDto;
+import de.seuhd.campuscoffee.domain.model.ImportStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * System tests for asynchronous OSM imports.
+ * The import job worker polls the job queue in the background, so these tests run in their own context with the
+ * worker enabled and do not assert SQL budgets.
+ */
+public class ImportJobSystemTests extends AbstractSysTest {
+    // the only OSM node that the stubbed OpenStreetMap adapter knows
+    private static final long KNOWN_NODE_ID = 5589879349L;
+    private static final long UNKNOWN_NODE_ID = 1L;
+    private static final Set<ImportStatus> DONE = Set.of(ImportStatus.SUCCEEDED, ImportStatus.FAILED);
+
+    @DynamicPropertySource
+    static void enableWorker(DynamicPropertyRegistry registry) {
+        registry.add("campus-coffee.import-jobs.worker.enabled", () -> "true");
+        registry.add("campus-coffee.import-jobs.worker.poll-interval", () -> "PT0.1S");
+    }
+
+    @Test
+    void importPosAsynchronously() throws InterruptedException {
+        ImportJobDto submitted = TestUtils.submitOsmImport(KNOWN_NODE_ID);
+        assertThat(submitted.status()).isEqualTo(ImportStatus.PENDING);
+
+        ImportJobDto job = awaitCompletion(submitted.id());
+
+        assertThat(job.status()).isEqualTo(ImportStatus.SUCCEEDED);
+        ImportJobItemDto item = job.items().getFirst();
+        assertThat(item.nodeId()).isEqualTo(KNOWN_NODE_ID);
+        assertThat(item.attempts()).isEqualTo(1);
+        assertThat(TestUtils.retrievePosById(Objects.requireNonNull(item.posId())).name())
+                .isEqualTo("Rada Coffee & Rösterei");
+    }
+
+    @Test
+    void importJobFailsForUnknownNodeWithoutRetry() throws InterruptedException {
+        ImportJobDto submitted = TestUtils.submitImportJob(List.of(KNOWN_NODE_ID, UNKNOWN_NODE_ID));
+        assertThat(submitted.items()).hasSize(2);
+
+        ImportJobDto job = awaitCompletion(submitted.id());
+
+        assertThat(job.status()).isEqualTo(ImportStatus.FAILED);
+        assertThat(job.items())
+                .extracting(ImportJobItemDto::nodeId, ImportJobItemDto::status, ImportJobItemDto::attempts)
+                .containsExactly(
+                        tuple(KNOWN_NODE_ID, ImportStatus.SUCCEEDED, 1),
+                        tuple(UNKNOWN_NODE_ID, ImportStatus.FAILED, 1));
+        assertThat(job.items().get(1).error()).isNotBlank();
+    }
+
+    private static ImportJobDto awaitCompletion(Long jobId) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        ImportJobDto job = TestUtils.retrieveImportJob(jobId);
+        while (!DONE.contains(job.status()) && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+            job = TestUtils.retrieveImportJob(jobId);
+        }
+        assertThat(job.status()).isIn(DONE);
+        return job;
+    }
+}
@@ -0,0 +1,89 @@
+package de.seuhd.campuscoffee.systest;
+
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import de.seuhd.campuscoffee.TestUtils;
+import de.seuhd.campuscoffee.api.dtos.PosDto;
+import de.seuhd.campuscoffee.domain.impl.PosServiceImpl;
+import de.seuhd.campuscoffee.domain.model.Pos;
+import de.seuhd.campuscoffee.domain.tests.TestFixtures;
+import de.seuhd.campuscoffee.logging.SamplingTurboFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * System tests for the sampling of the upsert logs ({@code campus-coffee.logging.sampling.upserts}).
+ * Logback is configured once per JVM, not per test context, so the tests set the rate of the configured
+ * {@link SamplingTurboFilter} directly and restore the configured rate afterward.
+ */
+public class LogSamplingSystemTests extends AbstractSysTest {
+    private static final String UPSERT_LOGGER = PosServiceImpl.class.getName() + ".upserts";
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${campus-coffee.logging.sampling.upserts}")
+    private double configuredRate;
+
+    private final LoggerContext loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
+    private final ListAppender<ILoggingEvent> upsertLogs = new ListAppender<>();
+
+    @BeforeEach
+    void attachAppender() {
+        upsertLogs.setContext(loggerContext);
+        upsertLogs.start();
+        loggerContext.getLogger(UPSERT_LOGGER).addAppender(upsertLogs);
+    }
+
+    @AfterEach
+    void detachAppender() {
+        loggerContext.getLogger(UPSERT_LOGGER).detachAppender(upsertLogs);
+        upsertLogs.stop();
+        setUpsertSampleRate(configuredRate);
+    }
+
+    @Test
+    void sampleRateZeroSuppressesUpsertLogs() {
+        List<Pos> posList = TestFixtures.getPosFixturesForInsertion();
+
+        setUpsertSampleRate(1.0);
+        PosDto logged = createPos(posList.getFirst());
+        assertThat(upsertLogs.list)
+                .extracting(ILoggingEvent::getFormattedMessage)
+                .containsExactly("Successfully upserted POS with ID: " + logged.id());
+
+        setUpsertSampleRate(0.0);
+        double sampled = droppedBySampling();
+        createPos(posList.get(1));
+        assertThat(upsertLogs.list).hasSize(1);
+        assertThat(droppedBySampling()).isEqualTo(sampled + 1);
+    }
+
+    private PosDto createPos(Pos pos) {
+        return TestUtils.createPos(List.of(posDtoMapper.fromDomain(pos))).getFirst();
+    }
+
+    private void setUpsertSampleRate(double rate) {
+        List<SamplingTurboFilter> filters = loggerContext.getTurboFilterList().stream()
+                .filter(SamplingTurboFilter.class::isInstance)
+                .map(SamplingTurboFilter.class::cast)
+                .toList();
+        // the only sampling filter of logback-spring.xml
+        assertThat(filters).hasSize(1);
+        filters.getFirst().setRate(rate);
+    }
+
+    private double droppedBySampling() {
+        return meterRegistry.get("campuscoffee.logging.dropped").tag("reason", "sampled").functionCounter().count();
+    }
+}
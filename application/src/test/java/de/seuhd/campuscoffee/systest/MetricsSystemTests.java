@@ -0,0 +1,68 @@
+package de.seuhd.campuscoffee.systest;
+
+import de.seuhd.campuscoffee.TestUtils;
+import de.seuhd.campuscoffee.domain.tests.TestFixtures;
+import org.junit.jupiter.api.Test;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * System tests for the application metrics, as scraped by Prometheus from {@code /actuator/prometheus}.
+ */
+public class MetricsSystemTests extends AbstractSysTest {
+    @Test
+    void notFoundIsCountedAsException() {
+        String series = "campuscoffee_exceptions_total";
+        String labels = "type=\"PosNotFoundException\"";
+        double before = scrape(series, labels);
+
+        given()
+                .when()
+                .get("/api/pos/{id}", Long.MAX_VALUE)
+                .then()
+                .statusCode(404);
+
+        assertThat(scrape(series, labels)).isEqualTo(before + 1);
+    }
+
+    @Test
+    void catalogSizeFollowsCreatedPos() {
+        assertThat(scrape("campuscoffee_catalog_size", "")).isZero();
+
+        TestUtils.createPos(TestFixtures.getPosFixturesForInsertion().stream()
+                .map(posDtoMapper::fromDomain)
+                .toList());
+
+        // a change of the catalog invalidates the cached counts before the next scrape
+        assertThat(scrape("campuscoffee_catalog_size", ""))
+                .isEqualTo(TestFixtures.getPosFixturesForInsertion().size());
+    }
+
+    /**
+     * Scrapes the application and returns the value of the sample of a series with the given label.
+     *
+     * @param series the name of the series in the Prometheus format
+     * @param label  a label of the sample, e.g., {@code type="PosNotFoundException"}; empty to match any sample
+     * @return the value of the first matching sample; 0 if there is none (counters are created on first use)
+     */
+    private static double scrape(String series, String label) {
+        String body = given()
+                .when()
+                .get("/actuator/prometheus")
+                .then()
+                .statusCode(200)
+                .extract().asString();
+        Matcher matcher = Pattern.compile("^" + Pattern.quote(series) + "(\\{[^}]*})? (\\S+)$", Pattern.MULTILINE)
+                .matcher(body);
+        while (matcher.find()) {
+            if (matcher.group(1) == null ? label.isEmpty() : matcher.group(1).contains(label)) {
+                return Double.parseDouble(matcher.group(2));
+            }
+        }
+        return 0;
+    }
+}
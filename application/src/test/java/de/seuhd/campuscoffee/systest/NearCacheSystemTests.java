@@ -0,0 +1,46 @@
+package de.seuhd.campuscoffee.systest;
+
+import de.seuhd.campuscoffee.TestUtils;
+import de.seuhd.campuscoffee.domain.tests.TestFixtures;
+import de.seuhd.campuscoffee.systest.SqlStatementRecorder.SqlBudget;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * System tests for the near-cache of POS reads, which the instances keep coherent by notifications of PostgreSQL.
+ */
+public class NearCacheSystemTests extends AbstractSysTest {
+    @Test
+    void getPosByIdSeesChangesOfOtherInstances() throws Exception {
+        Long id = TestFixtures.createPosFixtures(posService).getFirst().id();
+
+        // served from the near-cache once loaded
+        TestUtils.retrievePosById(id);
+        assertSqlBudget(SqlBudget.none(), () -> TestUtils.retrievePosById(id));
+
+        // another instance, i.e., a connection with a different application name, changes the POS
+        try (Connection connection = DriverManager.getConnection(postgresContainer.getJdbcUrl(),
+                postgresContainer.getUsername(), postgresContainer.getPassword());
+             PreparedStatement statement = connection.prepareStatement(
+                     "UPDATE pos SET description = ?, updated_at = now() AT TIME ZONE 'UTC' WHERE id = ?")) {
+            statement.setString(1, "Changed by another instance");
+            statement.setLong(2, id);
+            assertThat(statement.executeUpdate()).isEqualTo(1);
+        }
+
+        // the notification arrives asynchronously
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        String description = TestUtils.retrievePosById(id).description();
+        while (!description.equals("Changed by another instance") && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            description = TestUtils.retrievePosById(id).description();
+        }
+        assertThat(description).isEqualTo("Changed by another instance");
+    }
+}
@@ -0,0 +1,39 @@
+package de.seuhd.campuscoffee.systest;
+
+import de.seuhd.campuscoffee.TestUtils;
+import de.seuhd.campuscoffee.api.dtos.PosDto;
+import de.seuhd.campuscoffee.domain.model.Pos;
+import de.seuhd.campuscoffee.domain.tests.TestFixtures;
+import de.seuhd.campuscoffee.systest.SqlStatementRecorder.SqlBudget;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * System tests for the query of POS that are open at a given time, answered from weekly opening hour bitmaps.
+ */
+public class OpenPosSystemTests extends AbstractSysTest {
+    private static final SqlBudget READ_BUDGET = SqlBudget.none().withSelects(1);
+
+    @Test
+    void getOpenPos() {
+        List<Pos> createdPosList = TestFixtures.createPosFixtures(posService);
+
+        // Wednesday evening: the café and the bakery are open, the cafeteria is closed, the vending machine has no hours
+        List<String> open = assertSqlBudget(READ_BUDGET, () -> TestUtils.retrieveOpenPos("2025-10-29T17:30", null))
+                .stream()
+                .map(PosDto::name)
+                .toList();
+        assertThat(open).containsExactlyInAnyOrder(createdPosList.get(0).name(), createdPosList.get(1).name());
+
+        // answered from the index built by the previous query
+        List<String> openOnCampus = assertSqlBudget(SqlBudget.none(), () ->
+                TestUtils.retrieveOpenPos("2025-10-29T17:30", "INF"))
+                .stream()
+                .map(PosDto::name)
+                .toList();
+        assertThat(openOnCampus).containsExactly(createdPosList.get(1).name());
+    }
+}
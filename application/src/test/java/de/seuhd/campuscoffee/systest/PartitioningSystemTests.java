@@ -0,0 +1,43 @@
+package de.seuhd.campuscoffee.systest;
+
+import de.seuhd.campuscoffee.TestUtils;
+import de.seuhd.campuscoffee.domain.model.Pos;
+import de.seuhd.campuscoffee.domain.tests.TestFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * System tests for the partitioning of the {@code pos} table by city.
+ * Partitions outlive the tests, so every test uses cities of its own.
+ */
+public class PartitioningSystemTests extends AbstractSysTest {
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void citiesWithTheSameSlugGetPartitionsOfTheirOwn() {
+        // both cities map to the slug k_ln, which used to be the name of both partitions
+        String first = createPartition("Köln");
+        String second = createPartition("Kéln");
+
+        assertThat(first).startsWith("pos_k_ln_");
+        assertThat(second).startsWith("pos_k_ln_").isNotEqualTo(first);
+
+        Pos posToCreate = TestFixtures.getPosFixturesForInsertion().getFirst().toBuilder()
+                .postalCode(50667)
+                .city("Kéln")
+                .build();
+        Long id = TestUtils.createPos(List.of(posDtoMapper.fromDomain(posToCreate))).getFirst().id();
+        assertThat(jdbcTemplate.queryForObject("SELECT tableoid::regclass::text FROM pos WHERE id = ?",
+                String.class, id)).isEqualTo(second);
+    }
+
+    private String createPartition(String city) {
+        return jdbcTemplate.queryForObject("SELECT create_pos_city_partition(?)", String.class, city);
+    }
+}
@@ -0,0 +1,75 @@
+package de.seuhd.campuscoffee.systest;
+
+import de.seuhd.campuscoffee.TestUtils;
+import de.seuhd.campuscoffee.api.dtos.PopularityReportDto;
+import de.seuhd.campuscoffee.api.dtos.PopularityReportDto.TrendingPosDto;
+import de.seuhd.campuscoffee.domain.model.Pos;
+import de.seuhd.campuscoffee.domain.model.PosListing;
+import de.seuhd.campuscoffee.domain.tests.TestFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * System tests for the popularity analytics.
+ * The sketches count the reads of all tests in a context and are restored from a checkpoint on startup, so these
+ * tests run in their own context with a checkpoint file of their own.
+ */
+public class PopularitySystemTests extends AbstractSysTest {
+    // two buckets of the default duration: views recorded across a bucket boundary are still within the window
+    private static final String WINDOW = "PT10M";
+
+    @DynamicPropertySource
+    static void configureCheckpointPath(DynamicPropertyRegistry registry) {
+        Path checkpoint = Path.of(System.getProperty("java.io.tmpdir"), "campus-coffee-" + UUID.randomUUID());
+        registry.add("campus-coffee.analytics.checkpoint-path", checkpoint::toString);
+    }
+
+    @Test
+    void trendingReportsMostViewedPos() throws InterruptedException {
+        List<Pos> posList = TestFixtures.createPosFixtures(posService);
+        Long popular = posList.getFirst().id();
+        Long other = posList.get(1).id();
+        for (int i = 0; i < 3; i++) {
+            TestUtils.retrievePosById(popular);
+        }
+        TestUtils.retrievePosById(other);
+        TestUtils.retrievePos();
+
+        // views are aggregated in the background
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        PopularityReportDto report = TestUtils.retrievePopularityReport(WINDOW, 2);
+        while (report.views() < 4 && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+            report = TestUtils.retrievePopularityReport(WINDOW, 2);
+        }
+
+        assertThat(report.views()).isEqualTo(4);
+        assertThat(report.distinctClients()).isEqualTo(1);
+        assertThat(report.listings()).containsEntry(PosListing.ALL, 1L);
+        assertThat(report.trending())
+                .extracting(TrendingPosDto::posId, TrendingPosDto::views, TrendingPosDto::distinctClients)
+                .containsExactly(
+                        tuple(popular, 3L, 1L),
+                        tuple(other, 1L, 1L));
+    }
+
+    @Test
+    void trendingRejectsWindowBeyondRetainedHistory() {
+        given()
+                .queryParam("window", "PT3H")
+                .when()
+                .get("/api/admin/analytics/trending")
+                .then()
+                .statusCode(400);
+    }
+}
@@ -0,0 +1,59 @@
+package de.seuhd.campuscoffee.systest;
+
+import de.seuhd.campuscoffee.domain.exceptions.PossibleDuplicatePosException;
+import de.seuhd.campuscoffee.domain.model.Pos;
+import de.seuhd.campuscoffee.domain.tests.TestFixtures;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * System tests for the detection of likely duplicate POS.
+ */
+public class PosDuplicateSystemTests extends AbstractSysTest {
+    @Test
+    void createPosRejectsLikelyDuplicate() {
+        Pos existingPos = TestFixtures.createPosFixtures(posService).stream()
+                .filter(pos -> pos.name().equals("Bäcker Görtz "))
+                .findFirst().orElseThrow();
+        // same address, name spelled differently
+        Pos duplicatePos = existingPos.toBuilder()
+                .id(null)
+                .name("Baecker Goertz")
+                .street("Berliner Straße")
+                .build();
+
+        assertThatThrownBy(() -> posService.upsert(duplicatePos))
+                .isInstanceOfSatisfying(PossibleDuplicatePosException.class,
+                        e -> assertThat(e.getMatch().posId()).isEqualTo(existingPos.id()));
+    }
+
+    @Test
+    void createPosRejectsDuplicateAtSameAddressBehindMoreSimilarNamesElsewhere() {
+        Pos template = TestFixtures.getPosFixturesForInsertion().getFirst();
+        // 16 of 18 trigrams shared with "Kaffeehaus Nord" (0.89): below the threshold for other addresses
+        for (int i = 1; i <= 5; i++) {
+            posService.upsert(template.toBuilder()
+                    .name("Kaffeehaus Nord " + i)
+                    .street("Hauptstraße")
+                    .houseNumber(String.valueOf(i))
+                    .build());
+        }
+        // 11 of 16 trigrams shared (0.69): above the threshold for the same address, but the least similar candidate
+        Pos existingPos = posService.upsert(template.toBuilder()
+                .name("Kaffeehaus")
+                .street("Plöck")
+                .houseNumber("42")
+                .build());
+
+        Pos duplicatePos = existingPos.toBuilder()
+                .id(null)
+                .name("Kaffeehaus Nord")
+                .build();
+
+        assertThatThrownBy(() -> posService.upsert(duplicatePos))
+                .isInstanceOfSatisfying(PossibleDuplicatePosException.class,
+                        e -> assertThat(e.getMatch().posId()).isEqualTo(existingPos.id()));
+    }
+}
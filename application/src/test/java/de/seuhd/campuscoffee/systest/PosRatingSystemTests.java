@@ -0,0 +1,45 @@
+package de.seuhd.campuscoffee.systest;
+
+import de.seuhd.campuscoffee.TestUtils;
+import de.seuhd.campuscoffee.api.dtos.PosRatingDto;
+import de.seuhd.campuscoffee.domain.model.Pos;
+import de.seuhd.campuscoffee.domain.tests.TestFixtures;
+import de.seuhd.campuscoffee.systest.SqlStatementRecorder.SqlBudget;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * System tests for the ratings of POS and the leaderboard.
+ */
+public class PosRatingSystemTests extends AbstractSysTest {
+    private static final SqlBudget READ_BUDGET = SqlBudget.none().withSelects(1);
+
+    @Test
+    void ratePos() {
+        List<Pos> createdPosList = TestFixtures.createPosFixtures(posService);
+        Long first = createdPosList.get(0).id();
+        Long second = createdPosList.get(1).id();
+
+        TestUtils.ratePos(first, 5);
+        TestUtils.ratePos(second, 4);
+        PosRatingDto rating = TestUtils.ratePos(second, 5);
+        assertThat(rating.ratingCount()).isEqualTo(2);
+        assertThat(rating.averageRating()).isEqualTo(4.5);
+
+        // the Bayesian average favors two good ratings over a single perfect one
+        List<Long> leaderboard = assertSqlBudget(READ_BUDGET, TestUtils::retrieveLeaderboard).stream()
+                .map(PosRatingDto::posId)
+                .toList();
+        assertThat(leaderboard).containsExactly(second, first);
+
+        // updated incrementally by the rating instead of being rebuilt
+        TestUtils.ratePos(first, 5);
+        List<Long> updatedLeaderboard = assertSqlBudget(SqlBudget.none(), TestUtils::retrieveLeaderboard).stream()
+                .map(PosRatingDto::posId)
+                .toList();
+        assertThat(updatedLeaderboard).containsExactly(first, second);
+    }
+}
@@ -0,0 +1,81 @@
+package de.seuhd.campuscoffee.systest;
+
+import de.seuhd.campuscoffee.TestUtils;
+import de.seuhd.campuscoffee.api.dtos.PosDto;
+import de.seuhd.campuscoffee.api.dtos.PosStatusDto;
+import de.seuhd.campuscoffee.domain.model.PosAvailability;
+import de.seuhd.campuscoffee.domain.tests.TestFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * System tests for the live status of POS reported to other instances.
+ * Statuses are flushed and reloaded in the background, so these tests run in their own context with a short flush
+ * interval and do not assert SQL budgets (see {@link PosStatusSystemTests} for the budgets of status reports).
+ */
+public class PosStatusReloadSystemTests extends AbstractSysTest {
+    private static final Duration FLUSH_INTERVAL = Duration.ofMillis(200);
+
+    @DynamicPropertySource
+    static void configureFlushInterval(DynamicPropertyRegistry registry) {
+        registry.add("campus-coffee.live-status.flush-interval", FLUSH_INTERVAL::toString);
+    }
+
+    @Test
+    void statusReportedToOtherInstanceBecomesVisible() throws Exception {
+        Long id = TestFixtures.createPosFixtures(posService).getFirst().id();
+        assertThat(TestUtils.retrievePosById(id).status()).isNull();
+
+        // another instance flushes a status that was reported to it
+        try (Connection connection = DriverManager.getConnection(postgresContainer.getJdbcUrl(),
+                postgresContainer.getUsername(), postgresContainer.getPassword());
+             PreparedStatement statement = connection.prepareStatement("""
+                     INSERT INTO pos_status (pos_id, availability, queue_length, reported_at, report_count,
+                                             queue_length_sum)
+                     VALUES (?, 'OUT_OF_ORDER', 0, ?, 1, 0)""")) {
+            statement.setLong(1, id);
+            statement.setTimestamp(2, Timestamp.valueOf(LocalDateTime.now(ZoneOffset.UTC)));
+            assertThat(statement.executeUpdate()).isEqualTo(1);
+        }
+
+        // visible after the next reload, i.e., within two flush intervals plus the duration of a flush
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        PosStatusDto status = TestUtils.retrievePosById(id).status();
+        while (status == null && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            status = TestUtils.retrievePosById(id).status();
+        }
+        assertThat(status).isNotNull();
+        assertThat(status.availability()).isEqualTo(PosAvailability.OUT_OF_ORDER);
+        assertThat(TestUtils.retrievePos())
+                .filteredOn(pos -> id.equals(pos.id()))
+                .singleElement()
+                .extracting(PosDto::status)
+                .isEqualTo(status);
+    }
+
+    @Test
+    void ownReportIsNotReplacedByOlderStoredStatus() throws Exception {
+        Long id = TestFixtures.createPosFixtures(posService).getFirst().id();
+        TestUtils.reportPosStatus(id, "AVAILABLE", 4);
+
+        // several flushes and reloads
+        Thread.sleep(FLUSH_INTERVAL.multipliedBy(5).toMillis());
+
+        PosStatusDto status = TestUtils.retrievePosById(id).status();
+        assertThat(status).isNotNull();
+        assertThat(status.availability()).isEqualTo(PosAvailability.AVAILABLE);
+        assertThat(status.queueLength()).isEqualTo(4);
+    }
+}
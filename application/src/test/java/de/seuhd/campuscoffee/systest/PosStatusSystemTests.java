@@ -0,0 +1,61 @@
+package de.seuhd.campuscoffee.systest;
+
+import de.seuhd.campuscoffee.TestUtils;
+import de.seuhd.campuscoffee.api.dtos.PosStatusDto;
+import de.seuhd.campuscoffee.domain.model.Pos;
+import de.seuhd.campuscoffee.domain.model.PosAvailability;
+import de.seuhd.campuscoffee.domain.tests.TestFixtures;
+import de.seuhd.campuscoffee.systest.SqlStatementRecorder.SqlBudget;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * System tests for reporting the live status of POS.
+ * Statuses are only flushed once per hour in this context, so that the flushes do not count against the SQL budgets
+ * (see {@link PosStatusReloadSystemTests} for flushes and reloads).
+ */
+public class PosStatusSystemTests extends AbstractSysTest {
+    private static final SqlBudget READ_BUDGET = SqlBudget.none().withSelects(1);
+
+    @Test
+    void reportPosStatus() {
+        List<Pos> createdPosList = TestFixtures.createPosFixtures(posService);
+        Long id = createdPosList.getFirst().id();
+
+        // only the first report of a POS checks that it exists; reports are written to the database in batches
+        assertSqlBudget(READ_BUDGET, () -> {
+            TestUtils.reportPosStatus(id, "OUT_OF_STOCK", 2);
+            return null;
+        });
+        assertSqlBudget(SqlBudget.none(), () -> {
+            TestUtils.reportPosStatus(id, "AVAILABLE", 5);
+            return null;
+        });
+
+        PosStatusDto status = Objects.requireNonNull(TestUtils.retrievePosById(id).status());
+        assertThat(status.availability()).isEqualTo(PosAvailability.AVAILABLE);
+        assertThat(status.queueLength()).isEqualTo(5);
+    }
+
+    @Test
+    void getAllPosIncludesLatestStatus() {
+        Long id = TestFixtures.createPosFixtures(posService).getFirst().id();
+
+        // the encoded list is cached, but must not hide a status reported afterwards
+        assertThat(TestUtils.retrievePos()).allMatch(pos -> pos.status() == null);
+        TestUtils.reportPosStatus(id, "OUT_OF_STOCK", 3);
+
+        PosStatusDto status = TestUtils.retrievePos().stream()
+                .filter(pos -> id.equals(pos.id()))
+                .findFirst()
+                .orElseThrow()
+                .status();
+        assertThat(status).isNotNull();
+        assertThat(status.availability()).isEqualTo(PosAvailability.OUT_OF_STOCK);
+        assertThat(status.queueLength()).isEqualTo(3);
+    }
+}
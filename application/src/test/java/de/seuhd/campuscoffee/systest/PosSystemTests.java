@@ -1,22 +1,45 @@
 package de.seuhd.campuscoffee.systest;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.seuhd.campuscoffee.api.configuration.ResponseEncoders;
+import de.seuhd.campuscoffee.api.dtos.PosDto;
 import de.seuhd.campuscoffee.domain.model.Pos;
 import de.seuhd.campuscoffee.domain.tests.TestFixtures;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 
 import de.seuhd.campuscoffee.TestUtils;
+import de.seuhd.campuscoffee.systest.SqlStatementRecorder.SqlBudget;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
 
 /**
  * System tests for the operations related to POS (Point of Sale).
+ * Every API call is checked against a budget of SQL statements to catch N+1 and redundant queries.
  */
 public class PosSystemTests extends AbstractSysTest {
+    // creating a POS looks up duplicate candidates, fetches the next ID from the sequence, and inserts the POS
+    private static final SqlBudget CREATE_BUDGET = SqlBudget.none().withSelects(2).withInserts(1);
+    private static final SqlBudget READ_BUDGET = SqlBudget.none().withSelects(1);
+    private static final SqlBudget UPDATE_BUDGET = SqlBudget.none().withSelects(1).withUpdates(1);
+
+    @Autowired
+    private ResponseEncoders responseEncoders;
 
     @Test
     void createPos() {
         Pos posToCreate = TestFixtures.getPosFixturesForInsertion().getFirst();
-        Pos createdPos = posDtoMapper.toDomain(TestUtils.createPos(List.of(posDtoMapper.fromDomain(posToCreate))).getFirst());
+        Pos createdPos = posDtoMapper.toDomain(assertSqlBudget(CREATE_BUDGET, () ->
+                TestUtils.createPos(List.of(posDtoMapper.fromDomain(posToCreate))).getFirst()));
 
         assertThat(createdPos)
                 .usingRecursiveComparison()
@@ -24,11 +47,96 @@ public class PosSystemTests extends AbstractSysTest {
                 .isEqualTo(posToCreate);
     }
 
+    @ParameterizedTest
+    @ValueSource(strings = {"application/cbor", "application/x-jackson-smile"})
+    void createAndGetPosInBinaryFormat(String mediaType) throws IOException {
+        ObjectMapper objectMapper = responseEncoders.get(MediaType.parseMediaType(mediaType));
+        PosDto posToCreate = posDtoMapper.fromDomain(TestFixtures.getPosFixturesForInsertion().getFirst());
+
+        PosDto createdPos = objectMapper.readValue(
+                TestUtils.createPos(objectMapper.writeValueAsBytes(posToCreate), mediaType), PosDto.class);
+        assertThat(createdPos)
+                .usingRecursiveComparison()
+                .ignoringFields("id", "createdAt", "updatedAt")
+                .isEqualTo(posToCreate);
+
+        byte[] encoded = assertSqlBudget(READ_BUDGET, () -> TestUtils.retrievePosById(createdPos.id(), mediaType));
+
+        // enums are encoded by their index, timestamps as numeric arrays
+        JsonNode tree = objectMapper.readTree(encoded);
+        assertThat(tree.get("type").isInt()).isTrue();
+        assertThat(tree.get("type").intValue()).isEqualTo(posToCreate.type().ordinal());
+        assertThat(tree.get("campus").intValue()).isEqualTo(posToCreate.campus().ordinal());
+        assertThat(tree.get("createdAt").isArray()).isTrue();
+        assertThat(tree.get("updatedAt").isArray()).isTrue();
+
+        PosDto retrievedPos = objectMapper.readValue(encoded, PosDto.class);
+        assertThat(retrievedPos)
+                .usingRecursiveComparison()
+                .ignoringFields("createdAt", "updatedAt") // the database stores microseconds
+                .isEqualTo(createdPos);
+        assertThat(retrievedPos.createdAt()).isCloseTo(createdPos.createdAt(), within(1, ChronoUnit.MILLIS));
+        assertThat(retrievedPos.updatedAt()).isCloseTo(createdPos.updatedAt(), within(1, ChronoUnit.MILLIS));
+    }
+
+    @Test
+    void createPosWithHouseNumberRange() {
+        Pos posToCreate = TestFixtures.getPosFixturesForInsertion().getFirst().toBuilder()
+                .houseNumber("21a-23")
+                .build();
+        Pos createdPos = posDtoMapper.toDomain(assertSqlBudget(CREATE_BUDGET, () ->
+                TestUtils.createPos(List.of(posDtoMapper.fromDomain(posToCreate))).getFirst()));
+
+        assertThat(createdPos)
+                .usingRecursiveComparison()
+                .ignoringFields("id", "createdAt", "updatedAt")
+                .isEqualTo(posToCreate);
+    }
+
+    @Test
+    void createPosWithSameNameInOtherCity() {
+        Pos existingPos = TestFixtures.createPosFixtures(posService).getFirst();
+        // names are unique per city; the fixture is located in Heidelberg, and each city has its own partition
+        Pos posToCreate = TestFixtures.getPosFixturesForInsertion().getFirst().toBuilder()
+                .postalCode(68161)
+                .city("Mannheim")
+                .build();
+        Pos createdPos = posDtoMapper.toDomain(assertSqlBudget(CREATE_BUDGET, () ->
+                TestUtils.createPos(List.of(posDtoMapper.fromDomain(posToCreate))).getFirst()));
+
+        assertThat(createdPos)
+                .usingRecursiveComparison()
+                .ignoringFields("id", "createdAt", "updatedAt")
+                .isEqualTo(posToCreate);
+        assertThat(posDtoMapper.toDomain(TestUtils.retrievePosById(existingPos.id())).name())
+                .isEqualTo(existingPos.name());
+    }
+
+    @Test
+    void updatePosMovesItToOtherCity() {
+        Pos existingPos = TestFixtures.createPosFixtures(posService).getFirst();
+        // the update names the city of the stored POS, and the row moves to the partition of the new city
+        Pos posToUpdate = existingPos.toBuilder()
+                .postalCode(68161)
+                .city("Mannheim")
+                .build();
+        Pos updatedPos = posDtoMapper.toDomain(assertSqlBudget(UPDATE_BUDGET, () ->
+                TestUtils.updatePos(List.of(posDtoMapper.fromDomain(posToUpdate))).getFirst()));
+
+        assertThat(updatedPos)
+                .usingRecursiveComparison()
+                .ignoringFields("createdAt", "updatedAt")
+                .isEqualTo(posToUpdate);
+        // the database stores microseconds
+        assertThat(updatedPos.createdAt()).isCloseTo(existingPos.createdAt(), within(1, ChronoUnit.MILLIS));
+        assertThat(posDtoMapper.toDomain(TestUtils.retrievePosById(existingPos.id())).city()).isEqualTo("Mannheim");
+    }
+
     @Test
     void getAllCreatedPos() {
         List<Pos> createdPosList = TestFixtures.createPosFixtures(posService);
 
-        List<Pos> retrievedPos = TestUtils.retrievePos()
+        List<Pos> retrievedPos = assertSqlBudget(READ_BUDGET, TestUtils::retrievePos)
                 .stream()
                 .map(posDtoMapper::toDomain)
                 .toList();
@@ -44,7 +152,7 @@ public class PosSystemTests extends AbstractSysTest {
         Pos createdPos = createdPosList.getFirst();
 
         Pos retrievedPos = posDtoMapper.toDomain(
-                TestUtils.retrievePosById(createdPos.id())
+                assertSqlBudget(READ_BUDGET, () -> TestUtils.retrievePosById(createdPos.id()))
         );
 
         assertThat(retrievedPos)
@@ -64,7 +172,9 @@ public class PosSystemTests extends AbstractSysTest {
                 .description("Updated description")
                 .build();
 
-        Pos updatedPos = posDtoMapper.toDomain(TestUtils.updatePos(List.of(posDtoMapper.fromDomain(posToUpdate))).getFirst());
+        PosDto posDtoToUpdate = posDtoMapper.fromDomain(posToUpdate);
+        Pos updatedPos = posDtoMapper.toDomain(assertSqlBudget(UPDATE_BUDGET, () ->
+                TestUtils.updatePos(List.of(posDtoToUpdate)).getFirst()));
 
         assertThat(updatedPos)
                 .usingRecursiveComparison()
@@ -72,7 +182,8 @@ public class PosSystemTests extends AbstractSysTest {
                 .isEqualTo(posToUpdate);
 
         // Verify changes persist
-        Pos retrievedPos = posDtoMapper.toDomain(TestUtils.retrievePosById(posToUpdate.id()));
+        Long id = posToUpdate.id();
+        Pos retrievedPos = posDtoMapper.toDomain(assertSqlBudget(READ_BUDGET, () -> TestUtils.retrievePosById(id)));
 
         assertThat(retrievedPos)
                 .usingRecursiveComparison()
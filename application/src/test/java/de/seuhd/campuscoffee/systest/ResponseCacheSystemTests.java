@@ -0,0 +1,61 @@
+package de.seuhd.campuscoffee.systest;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.seuhd.campuscoffee.TestUtils;
+import de.seuhd.campuscoffee.api.configuration.ResponseEncoders;
+import de.seuhd.campuscoffee.api.dtos.PosDto;
+import de.seuhd.campuscoffee.domain.model.Pos;
+import de.seuhd.campuscoffee.domain.tests.TestFixtures;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * System tests for the cache of encoded POS responses (per ID and update time, and per media type).
+ */
+public class ResponseCacheSystemTests extends AbstractSysTest {
+    @Autowired
+    private ResponseEncoders responseEncoders;
+
+    @ParameterizedTest
+    @ValueSource(strings = {"application/json", "application/cbor", "application/x-jackson-smile"})
+    void cachedResponsesReflectChanges(String mediaType) throws IOException {
+        ObjectMapper objectMapper = responseEncoders.get(MediaType.parseMediaType(mediaType));
+        TypeReference<List<PosDto>> listType = new TypeReference<>() {};
+        Pos pos = TestFixtures.createPosFixtures(posService).getFirst();
+
+        // encoded and cached per media type; the second reads are served from the cache
+        TestUtils.retrievePosById(pos.id(), mediaType);
+        TestUtils.retrievePos(mediaType);
+        assertThat(objectMapper.readValue(TestUtils.retrievePosById(pos.id(), mediaType), PosDto.class).description())
+                .isEqualTo(pos.description());
+        assertThat(objectMapper.readValue(TestUtils.retrievePos(mediaType), listType))
+                .hasSize(TestFixtures.getPosList().size());
+
+        PosDto posToUpdate = posDtoMapper.fromDomain(pos.toBuilder().description("Updated description").build());
+        TestUtils.updatePos(List.of(posToUpdate));
+        assertThat(objectMapper.readValue(TestUtils.retrievePosById(pos.id(), mediaType), PosDto.class).description())
+                .isEqualTo("Updated description");
+        assertThat(objectMapper.readValue(TestUtils.retrievePos(mediaType), listType))
+                .filteredOn(posDto -> pos.id().equals(posDto.id()))
+                .singleElement()
+                .extracting(PosDto::description)
+                .isEqualTo("Updated description");
+
+        // the only OSM node that the stubbed OpenStreetMap adapter knows
+        PosDto importedPos = TestUtils.importPos(5589879349L);
+        assertThat(objectMapper.readValue(TestUtils.retrievePos(mediaType), listType))
+                .extracting(PosDto::id)
+                .hasSize(TestFixtures.getPosList().size() + 1)
+                .contains(importedPos.id());
+        assertThat(objectMapper.readValue(TestUtils.retrievePosById(importedPos.id(), mediaType), PosDto.class).name())
+                .isEqualTo(importedPos.name());
+    }
+}
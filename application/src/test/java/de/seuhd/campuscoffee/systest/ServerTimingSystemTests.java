@@ -0,0 +1,48 @@
+package de.seuhd.campuscoffee.systest;
+
+import de.seuhd.campuscoffee.api.dtos.PosDto;
+import de.seuhd.campuscoffee.domain.tests.TestFixtures;
+import de.seuhd.campuscoffee.systest.SqlStatementRecorder.SqlBudget;
+import org.junit.jupiter.api.Test;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.hamcrest.Matchers.nullValue;
+
+/**
+ * System tests for the opt-in Server-Timing breakdown of requests.
+ */
+public class ServerTimingSystemTests extends AbstractSysTest {
+    private static final SqlBudget READ_BUDGET = SqlBudget.none().withSelects(1);
+
+    @Test
+    void getPosByIdWithServerTiming() {
+        Long id = TestFixtures.createPosFixtures(posService).getFirst().id();
+
+        // only requests that opt in with the request header get the breakdown (the sample rate is 0)
+        PosDto retrievedPos = assertSqlBudget(READ_BUDGET, () -> given()
+                .header("X-Server-Timing", "1")
+                .when()
+                .get("/api/pos/{id}", id)
+                .then()
+                .statusCode(200)
+                .header("X-Query-Count", "1")
+                .header("Server-Timing", allOf(
+                        containsString("sql;dur="),
+                        containsString("desc=\"SQL (1 statements)\""),
+                        matchesPattern(".*total;dur=\\d+\\.\\d{3}$")))
+                .extract().as(PosDto.class));
+        assertThat(retrievedPos.id()).isEqualTo(id);
+
+        given()
+                .when()
+                .get("/api/pos/{id}", id)
+                .then()
+                .statusCode(200)
+                .header("Server-Timing", nullValue())
+                .header("X-Query-Count", nullValue());
+    }
+}
@@ -0,0 +1,95 @@
+package de.seuhd.campuscoffee.systest;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.QueryType;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryUtils;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Records the SQL statements sent through the data source (on any thread), so that system tests can assert the
+ * number of statements an API call issues (see {@link AbstractSysTest#assertSqlBudget}).
+ * Registered as a bean, so that the data source proxy of the data layer reports to it. Statements are only recorded
+ * between {@link #start()} and {@link #assertBudget(SqlBudget)}, so that long-running tests do not accumulate them.
+ */
+public class SqlStatementRecorder implements QueryExecutionListener {
+    // lock-free, so that recording does not pin virtual threads (see the virtual-threads profile)
+    private final Queue<String> statements = new ConcurrentLinkedQueue<>();
+    private volatile boolean recording;
+
+    @Override
+    public void beforeQuery(ExecutionInfo executionInfo, List<QueryInfo> queryInfoList) {}
+
+    @Override
+    public void afterQuery(ExecutionInfo executionInfo, List<QueryInfo> queryInfoList) {
+        if (!recording) {
+            return;
+        }
+        queryInfoList.forEach(queryInfo -> statements.add(queryInfo.getQuery()));
+    }
+
+    /**
+     * Discards the statements recorded so far and starts recording.
+     */
+    public void start() {
+        statements.clear();
+        recording = true;
+    }
+
+    /**
+     * Stops recording and asserts that exactly the budgeted number of statements per type was recorded.
+     *
+     * @param budget the expected number of statements per type
+     */
+    public void assertBudget(SqlBudget budget) {
+        recording = false;
+        List<String> recorded = List.copyOf(statements);
+        String description = "SQL statements:\n" + String.join("\n", recorded);
+        assertThat(count(recorded, QueryType.SELECT)).as("number of SELECT statements; " + description)
+                .isEqualTo(budget.selects());
+        assertThat(count(recorded, QueryType.INSERT)).as("number of INSERT statements; " + description)
+                .isEqualTo(budget.inserts());
+        assertThat(count(recorded, QueryType.UPDATE)).as("number of UPDATE statements; " + description)
+                .isEqualTo(budget.updates());
+        assertThat(count(recorded, QueryType.DELETE)).as("number of DELETE statements; " + description)
+                .isEqualTo(budget.deletes());
+    }
+
+    private static int count(List<String> statements, QueryType type) {
+        return (int) statements.stream()
+                .map(QueryUtils::getQueryType)
+                .filter(type::equals)
+                .count();
+    }
+
+    /**
+     * The exact number of statements per type an API call may issue.
+     */
+    public record SqlBudget(int selects, int inserts, int updates, int deletes) {
+        public static SqlBudget none() {
+            return new SqlBudget(0, 0, 0, 0);
+        }
+
+        public SqlBudget withSelects(int selects) {
+            return new SqlBudget(selects, inserts, updates, deletes);
+        }
+
+        public SqlBudget withInserts(int inserts) {
+            return new SqlBudget(selects, inserts, updates, deletes);
+        }
+
+        public SqlBudget withUpdates(int updates) {
+            return new SqlBudget(selects, inserts, updates, deletes);
+        }
+
+        public SqlBudget withDeletes(int deletes) {
+            return new SqlBudget(selects, inserts, updates, deletes);
+        }
+    }
+}
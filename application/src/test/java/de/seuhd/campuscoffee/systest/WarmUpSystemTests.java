@@ -0,0 +1,17 @@
+package de.seuhd.campuscoffee.systest;
+
+import de.seuhd.campuscoffee.TestUtils;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * System tests for the JIT warm-up before the application reports readiness.
+ */
+public class WarmUpSystemTests extends AbstractSysTest {
+    @Test
+    void reportsReadinessAfterWarmUp() {
+        // the test context has completed the warm-up (see WarmUpRunner) before the first test runs
+        assertThat(TestUtils.retrieveReadiness()).isEqualTo("UP");
+    }
+}
@@ -0,0 +1,35 @@
+package de.seuhd.campuscoffee.benchmarks;
+
+import de.seuhd.campuscoffee.domain.model.Pos;
+import de.seuhd.campuscoffee.domain.tests.SyntheticPosGenerator;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Input data for the benchmarks.
+ */
+final class BenchmarkData {
+    private static final long SEED = 42L;
+    private static final LocalDateTime TIMESTAMP = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    private BenchmarkData() {}
+
+    /**
+     * Creates a deterministic list of persisted POS (with ID and timestamps) from the synthetic catalog generator.
+     *
+     * @param size the number of POS to create
+     * @return the POS list
+     */
+    static List<Pos> posList(int size) {
+        SyntheticPosGenerator generator = new SyntheticPosGenerator(SEED);
+        return IntStream.range(0, size)
+                .mapToObj(i -> generator.generate(i).toBuilder()
+                        .id((long) i + 1)
+                        .createdAt(TIMESTAMP)
+                        .updatedAt(TIMESTAMP)
+                        .build())
+                .toList();
+    }
+}
@@ -0,0 +1,63 @@
+package de.seuhd.campuscoffee.benchmarks;
+
+import de.seuhd.campuscoffee.data.common.HouseNumberCodec;
+import de.seuhd.campuscoffee.data.persistence.AddressEntity;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link HouseNumberCodec} with the previous regex-based house number handling of {@code PosEntityMapper},
+ * which is kept here as a baseline.
+ * <p>
+ * Run with: {@code java -jar benchmarks/target/benchmarks.jar HouseNumberCodecBenchmark -prof gc}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class HouseNumberCodecBenchmark {
+    @Param({"90", "99a", "21-23"})
+    public String houseNumber;
+
+    private AddressEntity address;
+
+    @Setup
+    public void setUp() {
+        address = new AddressEntity();
+        HouseNumberCodec.parse(houseNumber, address);
+    }
+
+    @Benchmark
+    public AddressEntity parse() {
+        HouseNumberCodec.parse(houseNumber, address);
+        return address;
+    }
+
+    @Benchmark
+    public String format() {
+        return HouseNumberCodec.format(address);
+    }
+
+    @Benchmark
+    public AddressEntity legacyParse() {
+        // previous implementation; note that it turns "21-23" into 2123
+        String numericPart = houseNumber.replaceAll("[^0-9]", "");
+        String suffixPart = houseNumber.replaceAll("[0-9]", "");
+        address.setHouseNumber(numericPart.isEmpty() ? null : Integer.parseInt(numericPart));
+        address.setHouseNumberSuffix(suffixPart.isEmpty() ? null : suffixPart.charAt(0));
+        return address;
+    }
+
+    @Benchmark
+    public String legacyFormat() {
+        // previous implementation (string concatenation per read)
+        String houseNumberWithSuffix = address.getHouseNumber().toString();
+        if (address.getHouseNumberSuffix() != null) {
+            houseNumberWithSuffix += address.getHouseNumberSuffix();
+        }
+        return houseNumberWithSuffix;
+    }
+}
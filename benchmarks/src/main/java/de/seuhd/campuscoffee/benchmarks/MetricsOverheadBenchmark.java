@@ -0,0 +1,77 @@
+package de.seuhd.campuscoffee.benchmarks;
+
+import de.seuhd.campuscoffee.domain.model.Pos;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the per-call overhead of the metrics recorded on the hot path: a {@link Timer} with histogram buckets
+ * (as configured for {@code campuscoffee.pos.*} and {@code http.server.requests}) and a {@link Counter}, measured
+ * around a trivial operation and compared with the uninstrumented call. Runs with four threads to include
+ * contention on the shared meters.
+ * <p>
+ * Run with: {@code java -jar benchmarks/target/benchmarks.jar MetricsOverheadBenchmark -prof gc}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class MetricsOverheadBenchmark {
+    private List<Pos> posList;
+    private Timer timer;
+    private Counter counter;
+
+    @Setup
+    public void setUp() {
+        posList = BenchmarkData.posList(100);
+        PrometheusMeterRegistry registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        timer = Timer.builder("campuscoffee.pos.service")
+                .tags("class", "PosServiceImpl", "method", "getById", "exception", "none")
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofNanos(100_000))
+                .maximumExpectedValue(Duration.ofSeconds(5))
+                .register(registry);
+        counter = registry.counter("campuscoffee.exceptions", "type", "PosNotFoundException", "status", "404");
+    }
+
+    @Benchmark
+    public Pos baseline() {
+        return lookup();
+    }
+
+    @Benchmark
+    public Pos timerRecord() {
+        return timer.record(this::lookup);
+    }
+
+    @Benchmark
+    public Pos timerSample() {
+        // the pattern used by the TimedAspect
+        Timer.Sample sample = Timer.start();
+        try {
+            return lookup();
+        } finally {
+            sample.stop(timer);
+        }
+    }
+
+    @Benchmark
+    public Pos counterIncrement() {
+        counter.increment();
+        return lookup();
+    }
+
+    private Pos lookup() {
+        return posList.get((int) (Thread.currentThread().threadId() % posList.size()));
+    }
+}
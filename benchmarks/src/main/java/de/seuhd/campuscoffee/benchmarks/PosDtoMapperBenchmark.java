@@ -0,0 +1,59 @@
+package de.seuhd.campuscoffee.benchmarks;
+
+import de.seuhd.campuscoffee.api.dtos.PosDto;
+import de.seuhd.campuscoffee.api.mapper.PosDtoMapper;
+import de.seuhd.campuscoffee.domain.model.Pos;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the conversions between the domain model and DTOs in the API layer.
+ * <p>
+ * Run with: {@code java -jar benchmarks/target/benchmarks.jar PosDtoMapperBenchmark -prof gc}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class PosDtoMapperBenchmark {
+    private PosDtoMapper posDtoMapper;
+    private Pos pos;
+    private PosDto posDto;
+    private List<Pos> posList;
+
+    @Setup
+    public void setUp() {
+        posDtoMapper = Mappers.getMapper(PosDtoMapper.class);
+        pos = BenchmarkData.posList(1).getFirst();
+        posDto = posDtoMapper.fromDomain(pos);
+        posList = BenchmarkData.posList(1000);
+    }
+
+    @Benchmark
+    public PosDto fromDomain() {
+        return posDtoMapper.fromDomain(pos);
+    }
+
+    @Benchmark
+    public Pos toDomain() {
+        return posDtoMapper.toDomain(posDto);
+    }
+
+    @Benchmark
+    public Pos roundTrip() {
+        return posDtoMapper.toDomain(posDtoMapper.fromDomain(pos));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(1000)
+    public List<PosDto> fromDomainList() {
+        return posList.stream()
+                .map(posDtoMapper::fromDomain)
+                .toList();
+    }
+}
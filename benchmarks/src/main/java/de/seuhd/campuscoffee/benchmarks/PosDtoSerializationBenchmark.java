@@ -0,0 +1,106 @@
+package de.seuhd.campuscoffee.benchmarks;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import de.seuhd.campuscoffee.api.configuration.BinaryFormats;
+import de.seuhd.campuscoffee.api.dtos.PosDto;
+import de.seuhd.campuscoffee.api.mapper.PosDtoMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compares the encoding of {@code GET /api/pos} responses in JSON and the binary formats from {@link BinaryFormats}.
+ * The encoded size per format and list size is reported by {@link #encodedSize} as the secondary results
+ * {@code encodedSize:bytes} and {@code encodedSize:gzipBytes} (plain and gzip-compressed).
+ * <p>
+ * Run with: {@code java -jar benchmarks/target/benchmarks.jar PosDtoSerializationBenchmark -prof gc}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PosDtoSerializationBenchmark {
+    @Param({"json", "cbor", "smile"})
+    public String format;
+
+    @Param({"1", "100", "10000"})
+    public int size;
+
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private List<PosDto> posDtoList;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = switch (format) {
+            // mirror the Spring Boot defaults for the JSON mapper
+            case "json" -> Jackson2ObjectMapperBuilder.json()
+                    .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                    .build();
+            case "cbor" -> BinaryFormats.cborMapper(new Jackson2ObjectMapperBuilder());
+            case "smile" -> BinaryFormats.smileMapper(new Jackson2ObjectMapperBuilder());
+            default -> throw new IllegalArgumentException("Unknown format: " + format);
+        };
+        TypeReference<List<PosDto>> listType = new TypeReference<>() {};
+        writer = objectMapper.writerFor(listType);
+        reader = objectMapper.readerFor(listType);
+
+        PosDtoMapper posDtoMapper = Mappers.getMapper(PosDtoMapper.class);
+        posDtoList = BenchmarkData.posList(size).stream()
+                .map(posDtoMapper::fromDomain)
+                .toList();
+        encoded = writer.writeValueAsBytes(posDtoList);
+    }
+
+    /**
+     * Reports the encoded size. The counters are assigned rather than accumulated, and measured in a single
+     * iteration, so that the reported values are the sizes in bytes (with the default of one fork).
+     */
+    @Benchmark
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1, time = 1)
+    public byte[] encodedSize(EncodedSize encodedSize) throws IOException {
+        byte[] bytes = writer.writeValueAsBytes(posDtoList);
+        encodedSize.bytes = bytes.length;
+        encodedSize.gzipBytes = gzipSize(bytes);
+        return bytes;
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return writer.writeValueAsBytes(posDtoList);
+    }
+
+    @Benchmark
+    public List<PosDto> deserialize() throws IOException {
+        return reader.readValue(encoded);
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class EncodedSize {
+        public long bytes;
+        public long gzipBytes;
+    }
+
+    private static int gzipSize(byte[] bytes) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(bytes);
+        }
+        return compressed.size();
+    }
+}
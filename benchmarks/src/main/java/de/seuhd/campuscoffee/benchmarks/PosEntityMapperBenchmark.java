@@ -0,0 +1,58 @@
+package de.seuhd.campuscoffee.benchmarks;
+
+import de.seuhd.campuscoffee.data.mapper.PosEntityMapper;
+import de.seuhd.campuscoffee.data.persistence.PosEntity;
+import de.seuhd.campuscoffee.domain.model.Pos;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the conversions between the domain model and JPA entities that run on every read and write.
+ * <p>
+ * Run with: {@code java -jar benchmarks/target/benchmarks.jar PosEntityMapperBenchmark -prof gc}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class PosEntityMapperBenchmark {
+    // a plain house number and one with a suffix, which the mapper splits and merges
+    @Param({"90", "99a"})
+    public String houseNumber;
+
+    private PosEntityMapper posEntityMapper;
+    private Pos pos;
+    private PosEntity posEntity;
+
+    @Setup
+    public void setUp() {
+        posEntityMapper = Mappers.getMapper(PosEntityMapper.class);
+        pos = BenchmarkData.posList(1).getFirst().toBuilder()
+                .houseNumber(houseNumber)
+                .build();
+        posEntity = posEntityMapper.toEntity(pos);
+        posEntity.setId(pos.id());
+        posEntity.setCreatedAt(pos.createdAt());
+        posEntity.setUpdatedAt(pos.updatedAt());
+    }
+
+    @Benchmark
+    public Pos fromEntity() {
+        return posEntityMapper.fromEntity(posEntity);
+    }
+
+    @Benchmark
+    public PosEntity toEntity() {
+        return posEntityMapper.toEntity(pos);
+    }
+
+    @Benchmark
+    public PosEntity updateEntity() {
+        posEntityMapper.updateEntity(pos, posEntity);
+        return posEntity;
+    }
+}
@@ -0,0 +1,126 @@
+package de.seuhd.campuscoffee.data.common;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Converts between the house number string of the domain model and its structured representation in
+ * the database (number, optional suffix letter, optional range end, see {@link HouseNumberFields}).
+ * <p>
+ * Supported formats (without whitespace; ranges are separated by a hyphen and ascend):
+ * <ul>
+ *   <li>{@code "21"} → number=21</li>
+ *   <li>{@code "21a"} → number=21, suffix='a'</li>
+ *   <li>{@code "21-23"} → number=21, numberTo=23</li>
+ *   <li>{@code "21a-23"} → number=21, suffix='a', numberTo=23</li>
+ * </ul>
+ * Both directions run in a single pass over the characters without regular expressions or intermediate strings:
+ * parsing allocates nothing besides the boxed integers stored in the target, formatting allocates only the
+ * resulting string. The previous implementation ran two regex {@code replaceAll} calls per parse and silently
+ * turned ranges such as {@code "21-23"} into {@code 2123}.
+ */
+public final class HouseNumberCodec {
+    private HouseNumberCodec() {}
+
+    /**
+     * Parses a house number string into the given house number fields.
+     *
+     * @param houseNumber the house number string
+     * @param address     the target whose house number fields are set (e.g., an address entity)
+     * @throws IllegalArgumentException if the string is not a valid house number
+     */
+    public static void parse(@NonNull String houseNumber, @NonNull HouseNumberFields address) {
+        int length = houseNumber.length();
+        int i = 0;
+        int number = 0;
+        while (i < length && isDigit(houseNumber.charAt(i))) {
+            number = accumulate(number, houseNumber.charAt(i), houseNumber);
+            i++;
+        }
+        if (i == 0) {
+            throw invalid(houseNumber);
+        }
+
+        Character suffix = null;
+        if (i < length && Character.isLetter(houseNumber.charAt(i))) {
+            suffix = houseNumber.charAt(i);
+            i++;
+        }
+
+        Integer numberTo = null;
+        if (i < length && houseNumber.charAt(i) == '-') {
+            i++;
+            int start = i;
+            int to = 0;
+            while (i < length && isDigit(houseNumber.charAt(i))) {
+                to = accumulate(to, houseNumber.charAt(i), houseNumber);
+                i++;
+            }
+            if (i == start || to <= number) {
+                throw invalid(houseNumber);
+            }
+            numberTo = to;
+        }
+
+        if (i != length) {
+            throw invalid(houseNumber);
+        }
+        address.setHouseNumber(number);
+        address.setHouseNumberSuffix(suffix);
+        address.setHouseNumberTo(numberTo);
+    }
+
+    /**
+     * Formats the house number fields of an address as a string.
+     * This is the inverse operation of {@link #parse(String, HouseNumberFields)}.
+     *
+     * @param address the house number fields; may be null
+     * @return the formatted house number, or null if the address has no house number
+     */
+    public static @Nullable String format(@Nullable HouseNumberFields address) {
+        if (address == null) {
+            return null;
+        }
+        return format(address.getHouseNumber(), address.getHouseNumberSuffix(), address.getHouseNumberTo());
+    }
+
+    /**
+     * Formats the house number columns of a database row as a string, without an intermediate object.
+     *
+     * @param number   the house number; may be null
+     * @param suffix   the optional suffix letter
+     * @param numberTo the optional end of the house number range
+     * @return the formatted house number, or null if the number is null
+     */
+    public static @Nullable String format(@Nullable Integer number, @Nullable Character suffix, @Nullable Integer numberTo) {
+        if (number == null) {
+            return null;
+        }
+        if (suffix == null && numberTo == null) {
+            return Integer.toString(number);
+        }
+        StringBuilder builder = new StringBuilder(12).append(number.intValue());
+        if (suffix != null) {
+            builder.append(suffix.charValue());
+        }
+        if (numberTo != null) {
+            builder.append('-').append(numberTo.intValue());
+        }
+        return builder.toString();
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static int accumulate(int value, char digit, String houseNumber) {
+        if (value > (Integer.MAX_VALUE - 9) / 10) {
+            throw invalid(houseNumber);
+        }
+        return value * 10 + (digit - '0');
+    }
+
+    private static IllegalArgumentException invalid(String houseNumber) {
+        return new IllegalArgumentException("Invalid house number: '" + houseNumber + "'.");
+    }
+}
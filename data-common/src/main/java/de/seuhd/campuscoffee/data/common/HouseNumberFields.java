@@ -0,0 +1,21 @@
+package de.seuhd.campuscoffee.data.common;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The structured house number columns of the {@code pos} table, as read and written by {@link HouseNumberCodec}.
+ * Implemented by the persistence classes of the data adapters (e.g., the JPA address entity).
+ */
+public interface HouseNumberFields {
+    @Nullable Integer getHouseNumber();
+
+    void setHouseNumber(@Nullable Integer houseNumber);
+
+    @Nullable Character getHouseNumberSuffix();
+
+    void setHouseNumberSuffix(@Nullable Character houseNumberSuffix);
+
+    @Nullable Integer getHouseNumberTo();
+
+    void setHouseNumberTo(@Nullable Integer houseNumberTo);
+}
@@ -0,0 +1,39 @@
+package de.seuhd.campuscoffee.data.common;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.regex.Pattern;
+
+/**
+ * Names of the constraints of the {@code pos} table that the data adapters translate to domain exceptions.
+ */
+public final class PosConstraints {
+    /**
+     * Database constraint name for unique POS names per city (the {@code UNIQUE} constraint on
+     * {@code pos (city, name)}).
+     */
+    public static final String NAME_KEY = "pos_name_key";
+    // the pos table is partitioned by city, and PostgreSQL reports a violation with the name of the unique index of
+    // the partition, e.g., "pos_heidelberg_name_key" or "pos_default_city_name_key"
+    private static final Pattern NAME_KEY_PATTERN = Pattern.compile("\"pos\\w*_name_key\"");
+
+    private PosConstraints() {}
+
+    /**
+     * Checks if an exception (or one of its causes) is due to a violation of the unique POS name constraint.
+     * Works for the exceptions of both JDBC and R2DBC drivers, since the PostgreSQL error message contains the
+     * constraint name.
+     *
+     * @param exception the exception thrown by the data store; may be null
+     * @return true if the unique name constraint (of the table or one of its partitions) was violated
+     */
+    public static boolean isDuplicateNameViolation(@Nullable Throwable exception) {
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            String message = cause.getMessage();
+            if (message != null && NAME_KEY_PATTERN.matcher(message).find()) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
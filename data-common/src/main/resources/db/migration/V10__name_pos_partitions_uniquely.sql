@@ -0,0 +1,32 @@
+-- partition names were derived from the city alone, so that cities that differ in letters outside of a-z (Köln, Koln)
+-- or beyond the 40th character mapped to the same name, and the second partition could not be created; a number
+-- from a sequence now makes every name unique, and the existing partitions keep their names
+CREATE SEQUENCE pos_partition_seq START WITH 1 INCREMENT BY 1;
+
+-- the slug is cut to 30 characters so that the longest name with the suffix _name_key stays within the 63
+-- characters of an identifier, which PostgreSQL would otherwise truncate silently
+CREATE OR REPLACE FUNCTION create_pos_city_partition(partition_city varchar) RETURNS text
+LANGUAGE plpgsql AS $$
+DECLARE
+    partition_name text := 'pos_' || coalesce(nullif(left(trim(both '_' from
+        regexp_replace(lower(partition_city), '[^a-z0-9]+', '_', 'g')), 30), ''), 'city')
+        || '_' || nextval('pos_partition_seq');
+BEGIN
+    -- relations created by hand may still take a name, including those of the constraint indexes
+    IF to_regclass(format('%I', partition_name)) IS NOT NULL
+            OR to_regclass(format('%I', partition_name || '_pkey')) IS NOT NULL
+            OR to_regclass(format('%I', partition_name || '_name_key')) IS NOT NULL THEN
+        RAISE EXCEPTION 'partition name % for city % is already taken', partition_name, partition_city;
+    END IF;
+    EXECUTE format('CREATE TABLE %I (LIKE pos INCLUDING DEFAULTS INCLUDING CONSTRAINTS)', partition_name);
+    EXECUTE format('ALTER TABLE %I ADD CONSTRAINT %I PRIMARY KEY (id, city)',
+        partition_name, partition_name || '_pkey');
+    EXECUTE format('ALTER TABLE %I ADD CONSTRAINT %I UNIQUE (city, name)',
+        partition_name, partition_name || '_name_key');
+    -- moving rows between partitions directly does not fire the triggers of the pos table
+    EXECUTE format('WITH moved AS (DELETE FROM pos_default WHERE city = %L RETURNING *) '
+        'INSERT INTO %I SELECT * FROM moved', partition_city, partition_name);
+    -- attaches the existing indexes as partitions of the indexes of the pos table
+    EXECUTE format('ALTER TABLE pos ATTACH PARTITION %I FOR VALUES IN (%L)', partition_name, partition_city);
+    RETURN partition_name;
+END $$;
@@ -0,0 +1,30 @@
+-- duplicate candidates of a POS: the POS of its city whose normalized name is at least min_similarity similar if
+-- they share its address, and at least min_similarity_elsewhere similar otherwise, most similar first
+--
+-- the % operator is answered by the trigram index pos_name_trgm_idx, but matches names at least as similar as
+-- pg_trgm.similarity_threshold (0.3 by default) only, which would silently raise thresholds below it; the function
+-- sets the threshold to the lower of both thresholds for the current transaction, so that the index also discards
+-- all names below it, and applies the threshold of each candidate before the limit
+CREATE FUNCTION pos_find_similar(similar_to text, pos_city varchar, pos_id bigint, pos_postal_code int,
+                                 pos_house_number int, pos_street text, min_similarity double precision,
+                                 min_similarity_elsewhere double precision, max_matches int)
+RETURNS TABLE (id bigint, name text, name_similarity real, same_address boolean)
+LANGUAGE plpgsql AS $$
+BEGIN
+    PERFORM set_config('pg_trgm.similarity_threshold', least(min_similarity, min_similarity_elsewhere)::text, true);
+    RETURN QUERY
+        SELECT c.id, c.name::text, c.name_similarity, c.same_address
+        FROM (
+            SELECT p.id, p.name,
+                   similarity(pos_normalize_name(p.name), pos_normalize_name(similar_to)) AS name_similarity,
+                   p.postal_code = pos_postal_code AND p.house_number = pos_house_number
+                       AND pos_normalize_name(p.street) = pos_normalize_name(pos_street) AS same_address
+            FROM pos p
+            -- the city restricts the lookup to one partition
+            WHERE p.city = pos_city AND pos_normalize_name(p.name) % pos_normalize_name(similar_to)
+              AND p.id IS DISTINCT FROM pos_id
+        ) c
+        WHERE c.name_similarity >= CASE WHEN c.same_address THEN min_similarity ELSE min_similarity_elsewhere END
+        ORDER BY c.name_similarity DESC, c.id
+        LIMIT max_matches;
+END $$;
@@ -0,0 +1 @@
+ALTER TABLE pos ADD COLUMN house_number_to int CHECK (house_number_to > house_number);
@@ -0,0 +1,26 @@
+CREATE SEQUENCE import_job_seq START WITH 1 INCREMENT BY 1;
+CREATE SEQUENCE import_job_item_seq START WITH 1 INCREMENT BY 1;
+
+CREATE TABLE import_job (
+    id bigint NOT NULL PRIMARY KEY,
+    created_at timestamp NOT NULL
+);
+
+CREATE TABLE import_job_item (
+    id bigint NOT NULL PRIMARY KEY,
+    job_id bigint NOT NULL REFERENCES import_job (id) ON DELETE CASCADE,
+    node_id bigint NOT NULL,
+    status varchar(255) NOT NULL,
+    attempts int NOT NULL DEFAULT 0,
+    next_attempt_at timestamp NOT NULL,
+    locked_until timestamp,
+    pos_id bigint,
+    error text,
+    updated_at timestamp NOT NULL
+);
+
+CREATE INDEX import_job_item_job_id_idx ON import_job_item (job_id);
+-- the claim query only looks at items that are waiting for a worker or whose worker may have died,
+-- so the indexes stay small however many finished items accumulate
+CREATE INDEX import_job_item_pending_idx ON import_job_item (next_attempt_at) WHERE status = 'PENDING';
+CREATE INDEX import_job_item_running_idx ON import_job_item (locked_until) WHERE status = 'RUNNING';
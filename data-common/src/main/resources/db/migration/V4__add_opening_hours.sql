@@ -0,0 +1,6 @@
+-- the expression in OpenStreetMap syntax and the minutes of the week it covers (start/end pairs),
+-- so that loading a POS never parses the expression
+ALTER TABLE pos ADD COLUMN opening_hours text CHECK (opening_hours <> '');
+ALTER TABLE pos ADD COLUMN opening_hours_intervals int[];
+ALTER TABLE pos ADD CONSTRAINT pos_opening_hours_check
+    CHECK ((opening_hours IS NULL) = (opening_hours_intervals IS NULL));
@@ -0,0 +1,11 @@
+-- live status reported by the POS, written in batches by the instance that received the reports;
+-- the pos table is never touched by status reports
+CREATE TABLE pos_status (
+    pos_id bigint NOT NULL PRIMARY KEY REFERENCES pos (id) ON DELETE CASCADE,
+    availability varchar(255) NOT NULL,
+    queue_length int NOT NULL CHECK (queue_length >= 0),
+    reported_at timestamp NOT NULL,
+    -- totals since the first report, e.g., for the average queue length
+    report_count bigint NOT NULL,
+    queue_length_sum bigint NOT NULL
+);
@@ -0,0 +1,18 @@
+CREATE SEQUENCE rating_seq START WITH 1 INCREMENT BY 1;
+
+CREATE TABLE rating (
+    id bigint NOT NULL PRIMARY KEY,
+    pos_id bigint NOT NULL REFERENCES pos (id) ON DELETE CASCADE,
+    stars smallint NOT NULL CHECK (stars BETWEEN 1 AND 5),
+    created_at timestamp NOT NULL
+);
+
+CREATE INDEX rating_pos_id_idx ON rating (pos_id);
+
+-- aggregates maintained with every rating, so that averages are never computed over all ratings
+CREATE TABLE pos_rating (
+    pos_id bigint NOT NULL PRIMARY KEY REFERENCES pos (id) ON DELETE CASCADE,
+    rating_count bigint NOT NULL CHECK (rating_count > 0),
+    rating_sum bigint NOT NULL,
+    bayesian_average double precision NOT NULL
+);
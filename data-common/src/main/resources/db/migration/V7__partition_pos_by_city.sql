@@ -0,0 +1,98 @@
+-- partitions the pos table by city (requires PostgreSQL 15 or later), so that queries of a city, vacuum, and index
+-- maintenance scale with the size of a city instead of the whole catalog; POS names are unique per city
+ALTER TABLE pos RENAME TO pos_unpartitioned;
+ALTER TABLE pos_unpartitioned RENAME CONSTRAINT pos_pkey TO pos_unpartitioned_pkey;
+ALTER TABLE pos_unpartitioned RENAME CONSTRAINT pos_name_key TO pos_unpartitioned_name_key;
+
+-- same columns (in the same order) and check constraints; unique constraints must contain the partition key
+CREATE TABLE pos (LIKE pos_unpartitioned INCLUDING DEFAULTS INCLUDING CONSTRAINTS) PARTITION BY LIST (city);
+ALTER TABLE pos ADD CONSTRAINT pos_pkey PRIMARY KEY (id, city);
+ALTER TABLE pos ADD CONSTRAINT pos_name_key UNIQUE (city, name);
+
+-- POS of cities without a partition of their own
+CREATE TABLE pos_default PARTITION OF pos DEFAULT;
+
+-- the city (and thereby the partition) of each POS, because IDs are global: lookups by ID join it to prune all
+-- other partitions, and it is the target of the foreign keys that the partitioned table cannot provide for id alone
+CREATE TABLE pos_locator (
+    id bigint NOT NULL PRIMARY KEY,
+    city varchar(255) NOT NULL
+);
+
+-- creates the partition of a city and moves its POS out of the default partition; the name of the partition and
+-- its unique name constraint are derived from the city, e.g., pos_frankfurt_am_main(_name_key)
+CREATE FUNCTION create_pos_city_partition(partition_city varchar) RETURNS text
+LANGUAGE plpgsql AS $$
+DECLARE
+    partition_name text := 'pos_' || left(trim(both '_' from
+        regexp_replace(lower(partition_city), '[^a-z0-9]+', '_', 'g')), 40);
+BEGIN
+    EXECUTE format('CREATE TABLE %I (LIKE pos INCLUDING DEFAULTS INCLUDING CONSTRAINTS)', partition_name);
+    EXECUTE format('ALTER TABLE %I ADD CONSTRAINT %I PRIMARY KEY (id, city)',
+        partition_name, partition_name || '_pkey');
+    EXECUTE format('ALTER TABLE %I ADD CONSTRAINT %I UNIQUE (city, name)',
+        partition_name, partition_name || '_name_key');
+    -- moving rows between partitions directly does not fire the triggers of the pos table below
+    EXECUTE format('WITH moved AS (DELETE FROM pos_default WHERE city = %L RETURNING *) '
+        'INSERT INTO %I SELECT * FROM moved', partition_city, partition_name);
+    -- attaches the existing indexes as partitions of the indexes of the pos table
+    EXECUTE format('ALTER TABLE pos ATTACH PARTITION %I FOR VALUES IN (%L)', partition_name, partition_city);
+    RETURN partition_name;
+END $$;
+
+SELECT create_pos_city_partition(city) FROM (VALUES
+    ('Heidelberg'),
+    ('Mannheim'),
+    ('Karlsruhe'),
+    ('Stuttgart'),
+    ('Frankfurt am Main'),
+    ('Freiburg im Breisgau')
+) AS cities (city);
+
+INSERT INTO pos SELECT * FROM pos_unpartitioned;
+INSERT INTO pos_locator (id, city) SELECT id, city FROM pos_unpartitioned;
+
+ALTER TABLE pos_status DROP CONSTRAINT pos_status_pos_id_fkey;
+ALTER TABLE pos_status ADD CONSTRAINT pos_status_pos_id_fkey
+    FOREIGN KEY (pos_id) REFERENCES pos_locator (id) ON DELETE CASCADE;
+ALTER TABLE rating DROP CONSTRAINT rating_pos_id_fkey;
+ALTER TABLE rating ADD CONSTRAINT rating_pos_id_fkey
+    FOREIGN KEY (pos_id) REFERENCES pos_locator (id) ON DELETE CASCADE;
+ALTER TABLE pos_rating DROP CONSTRAINT pos_rating_pos_id_fkey;
+ALTER TABLE pos_rating ADD CONSTRAINT pos_rating_pos_id_fkey
+    FOREIGN KEY (pos_id) REFERENCES pos_locator (id) ON DELETE CASCADE;
+
+DROP TABLE pos_unpartitioned;
+
+-- keep pos_locator in sync with every write to pos, whichever adapter issues it; statement-level triggers with
+-- transition tables cost one statement per write statement, also for bulk inserts of thousands of rows
+CREATE FUNCTION pos_locator_insert() RETURNS trigger
+LANGUAGE plpgsql AS $$
+BEGIN
+    INSERT INTO pos_locator (id, city) SELECT id, city FROM new_rows;
+    RETURN NULL;
+END $$;
+
+-- an update that changes the city moves the row to another partition, but it remains an update: the delete
+-- trigger does not fire, so ratings and statuses are kept
+CREATE FUNCTION pos_locator_update() RETURNS trigger
+LANGUAGE plpgsql AS $$
+BEGIN
+    UPDATE pos_locator l SET city = n.city FROM new_rows n WHERE l.id = n.id AND l.city <> n.city;
+    RETURN NULL;
+END $$;
+
+-- deleting the locator cascades to statuses and ratings
+CREATE FUNCTION pos_locator_delete() RETURNS trigger
+LANGUAGE plpgsql AS $$
+BEGIN
+    DELETE FROM pos_locator l USING old_rows o WHERE l.id = o.id;
+    RETURN NULL;
+END $$;
+
+CREATE TRIGGER pos_locator_insert AFTER INSERT ON pos
+    REFERENCING NEW TABLE AS new_rows FOR EACH STATEMENT EXECUTE FUNCTION pos_locator_insert();
+CREATE TRIGGER pos_locator_update AFTER UPDATE ON pos
+    REFERENCING NEW TABLE AS new_rows FOR EACH STATEMENT EXECUTE FUNCTION pos_locator_update();
+CREATE TRIGGER pos_locator_delete AFTER DELETE ON pos
+    REFERENCING OLD TABLE AS old_rows FOR EACH STATEMENT EXECUTE FUNCTION pos_locator_delete();
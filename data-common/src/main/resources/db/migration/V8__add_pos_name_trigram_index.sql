@@ -0,0 +1,17 @@
+-- fuzzy duplicate detection: POS names (and streets) are compared by trigram similarity after normalization
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- folds case, German umlauts, common accents, punctuation, and whitespace, and abbreviates "strasse" to "str", so
+-- that, e.g., 'Bäcker Görtz ' and 'Baecker Goertz' as well as 'Hauptstraße' and 'Hauptstr.' compare as equal;
+-- immutable, so that it can be indexed
+CREATE FUNCTION pos_normalize_name(name text) RETURNS text
+LANGUAGE sql IMMUTABLE PARALLEL SAFE STRICT
+RETURN trim(regexp_replace(regexp_replace(
+    translate(
+        replace(replace(replace(replace(lower(name), 'ä', 'ae'), 'ö', 'oe'), 'ü', 'ue'), 'ß', 'ss'),
+        'àáâãåèéêëìíîïòóôõùúûýÿçñ', 'aaaaaeeeeiiiiooooouuuyycn'),
+    '[^a-z0-9]+', ' ', 'g'), 'strasse\M', 'str', 'g'));
+
+-- created on every partition, including partitions attached later by create_pos_city_partition; duplicate candidates
+-- are looked up within the city of a POS, so the lookup also touches a single partition
+CREATE INDEX pos_name_trgm_idx ON pos USING gin (pos_normalize_name(name) gin_trgm_ops);
@@ -0,0 +1,32 @@
+-- notifies the application instances of every committed write to pos, so that they can invalidate their caches;
+-- NOTIFY is transactional: listeners receive the notification on commit, and never for rolled back writes
+
+-- the catalog version: advanced by every write statement; an instance that reconnects compares it with the version
+-- of the last notification it received to find out whether it missed any
+CREATE SEQUENCE pos_version_seq START WITH 1 INCREMENT BY 1;
+
+-- payload: <version>|<IDs, comma-separated, or * for more than 100>|<application_name of the writer>, so that an
+-- instance can skip the notifications of its own writes; far below the payload limit of 8000 bytes
+CREATE FUNCTION pos_notify_change() RETURNS trigger
+LANGUAGE plpgsql AS $$
+DECLARE
+    ids text;
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        SELECT CASE WHEN count(*) > 100 THEN '*' ELSE string_agg(id::text, ',') END INTO ids FROM old_rows;
+    ELSE
+        SELECT CASE WHEN count(*) > 100 THEN '*' ELSE string_agg(id::text, ',') END INTO ids FROM new_rows;
+    END IF;
+    IF ids IS NOT NULL THEN
+        PERFORM pg_notify('pos_changed',
+            nextval('pos_version_seq') || '|' || ids || '|' || current_setting('application_name'));
+    END IF;
+    RETURN NULL;
+END $$;
+
+CREATE TRIGGER pos_notify_insert AFTER INSERT ON pos
+    REFERENCING NEW TABLE AS new_rows FOR EACH STATEMENT EXECUTE FUNCTION pos_notify_change();
+CREATE TRIGGER pos_notify_update AFTER UPDATE ON pos
+    REFERENCING NEW TABLE AS new_rows FOR EACH STATEMENT EXECUTE FUNCTION pos_notify_change();
+CREATE TRIGGER pos_notify_delete AFTER DELETE ON pos
+    REFERENCING OLD TABLE AS old_rows FOR EACH STATEMENT EXECUTE FUNCTION pos_notify_change();
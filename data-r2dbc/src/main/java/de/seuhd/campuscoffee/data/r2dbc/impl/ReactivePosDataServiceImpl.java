@@ -0,0 +1,186 @@
+package de.seuhd.campuscoffee.data.r2dbc.impl;
+
+import de.seuhd.campuscoffee.data.common.HouseNumberCodec;
+import de.seuhd.campuscoffee.data.common.HouseNumberFields;
+import de.seuhd.campuscoffee.data.common.PosConstraints;
+import de.seuhd.campuscoffee.domain.exceptions.DuplicatePosNameException;
+import de.seuhd.campuscoffee.domain.exceptions.PosNotFoundException;
+import de.seuhd.campuscoffee.domain.model.CampusType;
+import de.seuhd.campuscoffee.domain.model.OpeningHours;
+import de.seuhd.campuscoffee.domain.model.Pos;
+import de.seuhd.campuscoffee.domain.model.PosType;
+import de.seuhd.campuscoffee.domain.ports.ReactivePosDataService;
+import io.r2dbc.spi.Readable;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+
+/**
+ * Implementation of the reactive POS data service on R2DBC, the non-blocking alternative to the JPA adapter.
+ * Works on the same schema (see the Flyway migrations in the data-common module) with plain SQL: there is no
+ * persistence context, and inserts and updates return the written row in the same round trip.
+ */
+@Service
+@RequiredArgsConstructor
+class ReactivePosDataServiceImpl implements ReactivePosDataService {
+    // rows fetched per round trip while streaming all POS, so that slow subscribers hold back the database cursor
+    private static final int FETCH_SIZE = 256;
+    private static final String COLUMNS = """
+            id, created_at, updated_at, name, description, type, campus,
+            street, house_number, house_number_suffix, house_number_to, postal_code, city,
+            opening_hours, opening_hours_intervals""";
+    private static final String SELECT_ALL_SQL = "SELECT " + COLUMNS + " FROM pos ORDER BY id";
+    // the city of the POS (see pos_locator) restricts lookups and updates by ID to its partition
+    private static final String SELECT_BY_ID_SQL = "SELECT " + COLUMNS
+            + " FROM pos WHERE id = :id AND city = (SELECT city FROM pos_locator WHERE id = :id)";
+    private static final String INSERT_SQL = """
+            INSERT INTO pos (id, created_at, updated_at, name, description, type, campus,
+                             street, house_number, house_number_suffix, house_number_to, postal_code, city,
+                             opening_hours, opening_hours_intervals)
+            VALUES (nextval('pos_seq'), :createdAt, :updatedAt, :name, :description, :type, :campus,
+                    :street, :houseNumber, :houseNumberSuffix, :houseNumberTo, :postalCode, :city,
+                    :openingHours, :openingHoursIntervals)
+            RETURNING\s""" + COLUMNS;
+    private static final String UPDATE_SQL = """
+            UPDATE pos SET updated_at = :updatedAt, name = :name, description = :description, type = :type,
+                           campus = :campus, street = :street, house_number = :houseNumber,
+                           house_number_suffix = :houseNumberSuffix, house_number_to = :houseNumberTo,
+                           postal_code = :postalCode, city = :city, opening_hours = :openingHours,
+                           opening_hours_intervals = :openingHoursIntervals
+            WHERE id = :id AND city = (SELECT city FROM pos_locator WHERE id = :id)
+            RETURNING\s""" + COLUMNS;
+
+    private final DatabaseClient databaseClient;
+
+    @Override
+    public @NonNull Mono<Void> clear() {
+        return databaseClient.sql("DELETE FROM pos").then()
+                .then(databaseClient.sql("ALTER SEQUENCE pos_seq RESTART WITH 1").then());
+    }
+
+    @Override
+    public @NonNull Flux<Pos> getAll() {
+        return databaseClient.sql(SELECT_ALL_SQL)
+                .filter(statement -> statement.fetchSize(FETCH_SIZE))
+                .map(ReactivePosDataServiceImpl::fromRow)
+                .all();
+    }
+
+    @Override
+    public @NonNull Mono<Pos> getById(@NonNull Long id) {
+        return databaseClient.sql(SELECT_BY_ID_SQL)
+                .bind("id", id)
+                .map(ReactivePosDataServiceImpl::fromRow)
+                .one()
+                .switchIfEmpty(Mono.error(() -> new PosNotFoundException(id)));
+    }
+
+    @Override
+    public @NonNull Mono<Pos> upsert(@NonNull Pos pos) {
+        // defer, so that invalid house numbers are signaled as errors instead of thrown on assembly
+        return Mono.defer(() -> pos.id() == null ? insert(pos) : update(pos))
+                // translate database constraint violations to domain exceptions, like the JPA adapter
+                .onErrorMap(
+                        e -> e instanceof DataIntegrityViolationException && PosConstraints.isDuplicateNameViolation(e),
+                        e -> new DuplicatePosNameException(pos.name())
+                );
+    }
+
+    private Mono<Pos> insert(Pos pos) {
+        LocalDateTime now = LocalDateTime.now(ZoneId.of("UTC"));
+        return bindColumns(databaseClient.sql(INSERT_SQL), pos)
+                .bind("createdAt", now)
+                .bind("updatedAt", now)
+                .map(ReactivePosDataServiceImpl::fromRow)
+                .one();
+    }
+
+    private Mono<Pos> update(Pos pos) {
+        Long id = pos.id();
+        return bindColumns(databaseClient.sql(UPDATE_SQL), pos)
+                .bind("id", id)
+                .bind("updatedAt", LocalDateTime.now(ZoneId.of("UTC")))
+                .map(ReactivePosDataServiceImpl::fromRow)
+                .one()
+                .switchIfEmpty(Mono.error(() -> new PosNotFoundException(id)));
+    }
+
+    /**
+     * Binds the columns that inserts and updates have in common.
+     *
+     * @throws IllegalArgumentException if the house number is invalid
+     */
+    private static DatabaseClient.GenericExecuteSpec bindColumns(DatabaseClient.GenericExecuteSpec spec, Pos pos) {
+        HouseNumber houseNumber = new HouseNumber();
+        HouseNumberCodec.parse(pos.houseNumber(), houseNumber);
+        spec = spec
+                .bind("name", pos.name())
+                .bind("description", pos.description())
+                .bind("type", pos.type().name())
+                .bind("campus", pos.campus().name())
+                .bind("street", pos.street())
+                .bind("houseNumber", houseNumber.getHouseNumber())
+                .bind("postalCode", pos.postalCode())
+                .bind("city", pos.city());
+        spec = bindNullable(spec, "houseNumberSuffix",
+                houseNumber.getHouseNumberSuffix() == null ? null : houseNumber.getHouseNumberSuffix().toString(),
+                String.class);
+        spec = bindNullable(spec, "houseNumberTo", houseNumber.getHouseNumberTo(), Integer.class);
+        OpeningHours openingHours = pos.openingHours();
+        spec = bindNullable(spec, "openingHours", openingHours == null ? null : openingHours.expression(), String.class);
+        return bindNullable(spec, "openingHoursIntervals",
+                openingHours == null ? null : Arrays.stream(openingHours.intervals()).boxed().toArray(Integer[]::new),
+                Integer[].class);
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bindNullable(
+            DatabaseClient.GenericExecuteSpec spec, String name, @Nullable Object value, Class<?> type) {
+        return value == null ? spec.bindNull(name, type) : spec.bind(name, value);
+    }
+
+    private static Pos fromRow(Readable row) {
+        String suffix = row.get("house_number_suffix", String.class);
+        String openingHours = row.get("opening_hours", String.class);
+        Integer[] openingHoursIntervals = row.get("opening_hours_intervals", Integer[].class);
+        return Pos.builder()
+                .id(row.get("id", Long.class))
+                .createdAt(row.get("created_at", LocalDateTime.class))
+                .updatedAt(row.get("updated_at", LocalDateTime.class))
+                .name(row.get("name", String.class))
+                .description(row.get("description", String.class))
+                .type(PosType.valueOf(row.get("type", String.class)))
+                .campus(CampusType.valueOf(row.get("campus", String.class)))
+                .street(row.get("street", String.class))
+                .houseNumber(HouseNumberCodec.format(
+                        row.get("house_number", Integer.class),
+                        suffix == null || suffix.isEmpty() ? null : suffix.charAt(0),
+                        row.get("house_number_to", Integer.class)))
+                .postalCode(row.get("postal_code", Integer.class))
+                .city(row.get("city", String.class))
+                .openingHours(openingHours == null || openingHoursIntervals == null ? null : OpeningHours.of(
+                        openingHours, Arrays.stream(openingHoursIntervals).mapToInt(Integer::intValue).toArray()))
+                .build();
+    }
+
+    /**
+     * The structured house number of a POS while it is bound to a statement.
+     */
+    @Getter
+    @Setter
+    private static final class HouseNumber implements HouseNumberFields {
+        private Integer houseNumber;
+        private Character houseNumberSuffix;
+        private Integer houseNumberTo;
+    }
+}
@@ -0,0 +1,48 @@
+package de.seuhd.campuscoffee.data.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.NonNull;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * Bounds the database concurrency to the size of the Hikari pool when requests run on virtual threads
+ * ({@code spring.threads.virtual.enabled=true}, see {@link BoundedDataSource}).
+ */
+@Slf4j
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+class BoundedDataSourceConfiguration {
+    @Bean
+    static BeanPostProcessor boundedDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public @NonNull Object postProcessAfterInitialization(@NonNull Object bean, @NonNull String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof BoundedDataSource) {
+                    return bean;
+                }
+                try {
+                    // the data source may already be wrapped, e.g., by the data source proxy
+                    if (!dataSource.isWrapperFor(HikariDataSource.class)) {
+                        return bean;
+                    }
+                    HikariDataSource hikari = dataSource.unwrap(HikariDataSource.class);
+                    log.info("Bounding database concurrency of '{}' to {} connections", beanName,
+                            hikari.getMaximumPoolSize());
+                    return new BoundedDataSource(dataSource, hikari.getMaximumPoolSize(),
+                            Duration.ofMillis(hikari.getConnectionTimeout()));
+                } catch (SQLException e) {
+                    throw new IllegalStateException("Unable to unwrap data source '" + beanName + "'", e);
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,85 @@
+package de.seuhd.campuscoffee.data.impl;
+
+import de.seuhd.campuscoffee.domain.exceptions.OsmRateLimitExceededException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Token bucket rate limiter with one bucket per remote host, so that concurrent imports (e.g., the workers of
+ * asynchronous import jobs) stay within the usage policy of OpenStreetMap.
+ * <p>
+ * Each host allows {@code campus-coffee.osm.rate-limit.burst} requests at once and is refilled with
+ * {@code campus-coffee.osm.rate-limit.requests-per-second}. Callers that exceed the limit reserve the next free
+ * slot and wait for it, unless the wait would be longer than {@code campus-coffee.osm.rate-limit.max-wait}; then
+ * they fail without a reservation. The limit applies per instance.
+ */
+@Component
+@RequiredArgsConstructor
+class HostRateLimiter {
+    @Value("${campus-coffee.osm.rate-limit.requests-per-second:1.0}")
+    private final double requestsPerSecond;
+
+    @Value("${campus-coffee.osm.rate-limit.burst:5}")
+    private final int burst;
+
+    @Value("${campus-coffee.osm.rate-limit.max-wait:PT5S}")
+    private final Duration maxWait;
+
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+    /**
+     * Waits until a request to the given host is allowed.
+     *
+     * @param host the host the request is sent to
+     * @throws OsmRateLimitExceededException if the request would have to wait longer than the maximum wait
+     */
+    void acquire(String host) throws OsmRateLimitExceededException {
+        long waitNanos = buckets.computeIfAbsent(host, ignored -> new Bucket()).reserve(host);
+        if (waitNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new OsmRateLimitExceededException(host, Duration.ofNanos(waitNanos));
+            }
+        }
+    }
+
+    /**
+     * The tokens of one host. Negative tokens are slots reserved by waiting callers.
+     */
+    private final class Bucket {
+        private final ReentrantLock lock = new ReentrantLock();
+        private double tokens = burst;
+        private long refilledAt = System.nanoTime();
+
+        /**
+         * Takes a token, reserving a future one if none is left.
+         *
+         * @return the time to wait for the reserved token in nanoseconds; 0 if a token was available
+         */
+        long reserve(String host) {
+            lock.lock();
+            try {
+                long now = System.nanoTime();
+                tokens = Math.min(burst, tokens + (now - refilledAt) / 1e9 * requestsPerSecond);
+                refilledAt = now;
+                long waitNanos = tokens >= 1 ? 0 : (long) Math.ceil((1 - tokens) / requestsPerSecond * 1e9);
+                if (waitNanos > maxWait.toNanos()) {
+                    throw new OsmRateLimitExceededException(host, Duration.ofNanos(waitNanos));
+                }
+                tokens -= 1;
+                return waitNanos;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
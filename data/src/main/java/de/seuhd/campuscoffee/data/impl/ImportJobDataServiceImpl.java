@@ -0,0 +1,177 @@
+package de.seuhd.campuscoffee.data.impl;
+
+import de.seuhd.campuscoffee.domain.exceptions.ImportJobNotFoundException;
+import de.seuhd.campuscoffee.domain.model.ImportJob;
+import de.seuhd.campuscoffee.domain.model.ImportJobItem;
+import de.seuhd.campuscoffee.domain.model.ImportStatus;
+import de.seuhd.campuscoffee.domain.model.ImportTask;
+import de.seuhd.campuscoffee.domain.ports.ImportJobDataService;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.NonNull;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Implementation of the import job queue on plain JDBC (see the {@code import_job} tables in the Flyway migrations).
+ * <p>
+ * Workers claim items with {@code SELECT ... FOR UPDATE SKIP LOCKED}: concurrent claims from multiple instances never
+ * block each other and never return the same item, and claiming, locking, and counting the attempt is a single
+ * statement. All timestamps are taken from the database clock, so that instances with skewed clocks agree on which
+ * items are due and which leases expired.
+ */
+@Service
+@RequiredArgsConstructor
+@Timed("campuscoffee.import.data")
+class ImportJobDataServiceImpl implements ImportJobDataService {
+    private static final String NOW = "(now() AT TIME ZONE 'UTC')";
+    private static final String INSERT_JOB_SQL =
+            "INSERT INTO import_job (id, created_at) VALUES (nextval('import_job_seq'), " + NOW + ") "
+                    + "RETURNING id, created_at";
+    private static final String INSERT_ITEM_SQL =
+            "INSERT INTO import_job_item (id, job_id, node_id, status, next_attempt_at, updated_at) "
+                    + "VALUES (nextval('import_job_item_seq'), ?, ?, 'PENDING', ?, ?)";
+    private static final String SELECT_JOB_SQL = "SELECT created_at FROM import_job WHERE id = ?";
+    private static final String SELECT_ITEMS_SQL = """
+            SELECT node_id, status, attempts, next_attempt_at, pos_id, error, updated_at
+            FROM import_job_item WHERE job_id = ? ORDER BY id""";
+    private static final String CLAIM_SQL = """
+            UPDATE import_job_item
+            SET status = 'RUNNING', attempts = attempts + 1,
+                locked_until = %1$s + ? * interval '1 millisecond', updated_at = %1$s
+            WHERE id IN (
+                SELECT id FROM import_job_item
+                WHERE (status = 'PENDING' AND next_attempt_at <= %1$s)
+                   OR (status = 'RUNNING' AND locked_until < %1$s)
+                ORDER BY next_attempt_at
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED)
+            RETURNING id, job_id, node_id, attempts""".formatted(NOW);
+    // only running items are updated: if the lease expired and another worker claimed the item again, the
+    // outcome of the slower worker is still recorded, but an item that is already done is never reopened
+    private static final String COMPLETE_SQL = """
+            UPDATE import_job_item
+            SET status = 'SUCCEEDED', pos_id = ?, error = NULL, locked_until = NULL, updated_at = %1$s
+            WHERE id = ? AND status = 'RUNNING'""".formatted(NOW);
+    private static final String RETRY_SQL = """
+            UPDATE import_job_item
+            SET status = 'PENDING', next_attempt_at = %1$s + ? * interval '1 millisecond', error = ?,
+                locked_until = NULL, updated_at = %1$s
+            WHERE id = ? AND status = 'RUNNING'""".formatted(NOW);
+    private static final String FAIL_SQL = """
+            UPDATE import_job_item
+            SET status = 'FAILED', error = ?, locked_until = NULL, updated_at = %1$s
+            WHERE id = ? AND status = 'RUNNING'""".formatted(NOW);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public @NonNull ImportJob create(@NonNull List<Long> nodeIds) {
+        return Objects.requireNonNull(transactionTemplate.execute(status -> {
+            ImportJob job = Objects.requireNonNull(jdbcTemplate.queryForObject(INSERT_JOB_SQL, (rs, rowNum) ->
+                    ImportJob.builder()
+                            .id(rs.getLong("id"))
+                            .createdAt(rs.getTimestamp("created_at").toLocalDateTime())
+                            .updatedAt(rs.getTimestamp("created_at").toLocalDateTime())
+                            .status(ImportStatus.PENDING)
+                            .items(List.of())
+                            .build()));
+            Timestamp createdAt = Timestamp.valueOf(job.createdAt());
+            jdbcTemplate.batchUpdate(INSERT_ITEM_SQL, nodeIds, nodeIds.size(), (statement, nodeId) -> {
+                statement.setLong(1, job.id());
+                statement.setLong(2, nodeId);
+                statement.setTimestamp(3, createdAt);
+                statement.setTimestamp(4, createdAt);
+            });
+            List<ImportJobItem> items = new ArrayList<>(nodeIds.size());
+            for (Long nodeId : nodeIds) {
+                items.add(ImportJobItem.builder()
+                        .nodeId(nodeId)
+                        .status(ImportStatus.PENDING)
+                        .attempts(0)
+                        .nextAttemptAt(job.createdAt())
+                        .build());
+            }
+            return job.toBuilder().items(items).build();
+        }));
+    }
+
+    @Override
+    public @NonNull ImportJob getById(@NonNull Long id) throws ImportJobNotFoundException {
+        // read job and items from the same snapshot, so that the derived job status is consistent
+        return Objects.requireNonNull(transactionTemplate.execute(status -> {
+            List<LocalDateTime> createdAt = jdbcTemplate.query(SELECT_JOB_SQL,
+                    (rs, rowNum) -> rs.getTimestamp("created_at").toLocalDateTime(), id);
+            if (createdAt.isEmpty()) {
+                throw new ImportJobNotFoundException(id);
+            }
+            List<ItemRow> rows = jdbcTemplate.query(SELECT_ITEMS_SQL, ImportJobDataServiceImpl::itemRow, id);
+            List<ImportJobItem> items = rows.stream().map(ItemRow::item).toList();
+            return ImportJob.builder()
+                    .id(id)
+                    .createdAt(createdAt.getFirst())
+                    .updatedAt(rows.stream()
+                            .map(ItemRow::updatedAt)
+                            .max(Comparator.naturalOrder())
+                            .orElse(createdAt.getFirst()))
+                    .status(ImportStatus.ofJob(items.stream().map(ImportJobItem::status).toList()))
+                    .items(items)
+                    .build();
+        }));
+    }
+
+    @Override
+    public @NonNull List<ImportTask> claim(int limit, @NonNull Duration lease) {
+        return Objects.requireNonNull(transactionTemplate.execute(status ->
+                jdbcTemplate.query(CLAIM_SQL, (rs, rowNum) -> ImportTask.builder()
+                        .itemId(rs.getLong("id"))
+                        .jobId(rs.getLong("job_id"))
+                        .nodeId(rs.getLong("node_id"))
+                        .attempts(rs.getInt("attempts"))
+                        .build(), lease.toMillis(), limit)));
+    }
+
+    @Override
+    public void complete(long itemId, long posId) {
+        jdbcTemplate.update(COMPLETE_SQL, posId, itemId);
+    }
+
+    @Override
+    public void retry(long itemId, @NonNull Duration delay, @NonNull String error) {
+        jdbcTemplate.update(RETRY_SQL, delay.toMillis(), error, itemId);
+    }
+
+    @Override
+    public void fail(long itemId, @NonNull String error) {
+        jdbcTemplate.update(FAIL_SQL, error, itemId);
+    }
+
+    private static ItemRow itemRow(ResultSet rs, int rowNum) throws SQLException {
+        ImportJobItem item = ImportJobItem.builder()
+                .nodeId(rs.getLong("node_id"))
+                .status(ImportStatus.valueOf(rs.getString("status")))
+                .attempts(rs.getInt("attempts"))
+                .nextAttemptAt(rs.getTimestamp("next_attempt_at").toLocalDateTime())
+                .posId(rs.getObject("pos_id", Long.class))
+                .error(rs.getString("error"))
+                .build();
+        return new ItemRow(item, rs.getTimestamp("updated_at").toLocalDateTime());
+    }
+
+    /**
+     * An item together with the time of its latest status change, from which the job's update time is derived.
+     */
+    private record ItemRow(ImportJobItem item, LocalDateTime updatedAt) {}
+}
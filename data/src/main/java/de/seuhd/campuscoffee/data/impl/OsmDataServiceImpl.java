@@ -3,26 +3,39 @@ package de.seuhd.campuscoffee.data.impl;
 import de.seuhd.campuscoffee.domain.exceptions.OsmNodeNotFoundException;
 import de.seuhd.campuscoffee.domain.model.OsmNode;
 import de.seuhd.campuscoffee.domain.ports.OsmDataService;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jspecify.annotations.NonNull;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.net.URI;
+
 /**
- * OSM import service.
+ * OSM import service. Requests to the OSM API are rate limited per host (see {@link HostRateLimiter}).
  */
 @Service
 @Slf4j
+@RequiredArgsConstructor
+@Timed("campuscoffee.osm.data")
 class OsmDataServiceImpl implements OsmDataService {
+    private final HostRateLimiter hostRateLimiter;
+
+    @Value("${campus-coffee.osm.base-url:https://www.openstreetmap.org/api/0.6}")
+    private final URI baseUrl;
 
     @Override
     public @NonNull OsmNode fetchNode(@NonNull Long nodeId) throws OsmNodeNotFoundException {
+        hostRateLimiter.acquire(baseUrl.getHost());
         log.warn("Using stub OSM import service - returning hardcoded data for node {}", nodeId);
 
         // TODO: This returns hardcoded data and should be replaced with a real HTTP client implementation that calls
-        //  the OpenStreetMap API: https://www.openstreetmap.org/api/0.6/node/{id}
+        //  the OpenStreetMap API: {baseUrl}/node/{id}
         if (nodeId.equals(5589879349L)) {
             return OsmNode.builder()
                     .nodeId(nodeId)
+                    .openingHours("Mo-Fr 08:00-18:00; Sa 09:00-18:00; Su 10:00-17:00")
                     .build();
         } else {
             // For any other node ID, throw not found exception
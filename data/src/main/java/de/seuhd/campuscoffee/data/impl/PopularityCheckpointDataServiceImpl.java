@@ -0,0 +1,61 @@
+package de.seuhd.campuscoffee.data.impl;
+
+import de.seuhd.campuscoffee.domain.ports.PopularityCheckpointDataService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.NonNull;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+
+/**
+ * Stores the popularity checkpoint in a local file. Every instance keeps its own checkpoint, since its sketches
+ * only summarize the requests it handled.
+ * <p>
+ * The checkpoint is first written to a temporary file that then atomically replaces the previous one, so that a crash
+ * during a checkpoint never leaves a truncated file behind.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+class PopularityCheckpointDataServiceImpl implements PopularityCheckpointDataService {
+    @Value("${campus-coffee.analytics.checkpoint-path:campus-coffee.analytics}")
+    private final Path path;
+
+    @Override
+    public void save(byte @NonNull [] checkpoint) {
+        try {
+            Path parent = path.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path temporary = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+            try {
+                Files.write(temporary, checkpoint);
+            } catch (IOException e) {
+                Files.deleteIfExists(temporary);
+                throw e;
+            }
+            Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to write popularity checkpoint to " + path, e);
+        }
+    }
+
+    @Override
+    public @NonNull Optional<byte[]> load() {
+        if (!Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Files.readAllBytes(path));
+        } catch (IOException e) {
+            log.warn("Ignoring unreadable popularity checkpoint {}: {}", path, e.getMessage());
+            return Optional.empty();
+        }
+    }
+}
@@ -1,18 +1,39 @@
 package de.seuhd.campuscoffee.data.impl;
 
+import de.seuhd.campuscoffee.data.common.HouseNumberCodec;
+import de.seuhd.campuscoffee.data.common.PosConstraints;
 import de.seuhd.campuscoffee.data.mapper.PosEntityMapper;
+import de.seuhd.campuscoffee.data.persistence.AddressEntity;
 import de.seuhd.campuscoffee.data.persistence.PosEntity;
 import de.seuhd.campuscoffee.data.persistence.PosRepository;
+import de.seuhd.campuscoffee.domain.model.CampusType;
+import de.seuhd.campuscoffee.domain.model.OpeningHours;
 import de.seuhd.campuscoffee.domain.model.Pos;
+import de.seuhd.campuscoffee.domain.model.PosMatch;
 import de.seuhd.campuscoffee.domain.exceptions.DuplicatePosNameException;
 import de.seuhd.campuscoffee.domain.exceptions.PosNotFoundException;
 import de.seuhd.campuscoffee.domain.ports.PosDataService;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.jspecify.annotations.NonNull;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 /**
  * Implementation of the POS data service that the domain layer provides as a port.
@@ -21,9 +42,36 @@ import java.util.List;
  */
 @Service
 @RequiredArgsConstructor
+@Timed("campuscoffee.pos.data")
 class PosDataServiceImpl implements PosDataService {
+    private static final int BULK_INSERT_BATCH_SIZE = 1_000;
+    private static final String BULK_INSERT_SQL = """
+            INSERT INTO pos (id, created_at, updated_at, name, description, type, campus,
+                             street, house_number, house_number_suffix, house_number_to, postal_code, city,
+                             opening_hours, opening_hours_intervals)
+            VALUES (nextval('pos_seq'), ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+    // see V11__add_pos_find_similar.sql: the trigram index answers the lookup within the partition of the city
+    private static final String FIND_SIMILAR_SQL =
+            "SELECT id, name, name_similarity, same_address FROM pos_find_similar(?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    // the pos table is partitioned by city: the lookup gets the city from pos_locator, and the update names it, so that
+    // both touch a single partition (an update that changes the city moves the row to the partition of the new city)
+    private static final String SELECT_FOR_UPDATE_SQL = """
+            SELECT created_at, city FROM pos
+            WHERE id = ? AND city = (SELECT city FROM pos_locator WHERE id = ?)""";
+    private static final String UPDATE_SQL = """
+            UPDATE pos SET updated_at = ?, name = ?, description = ?, type = ?, campus = ?,
+                           street = ?, house_number = ?, house_number_suffix = ?, house_number_to = ?,
+                           postal_code = ?, city = ?, opening_hours = ?, opening_hours_intervals = ?
+            WHERE id = ? AND city = ?""";
+    // pos_version_seq is advanced by the write statements on pos (see V9__notify_pos_changes.sql)
+    private static final String CATALOG_VERSION_SQL =
+            "SELECT CASE WHEN is_called THEN last_value ELSE 0 END FROM pos_version_seq";
+
     private final PosRepository posRepository;
     private final PosEntityMapper posEntityMapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
 
     @Override
     public void clear() {
@@ -39,13 +87,43 @@ class PosDataServiceImpl implements PosDataService {
                 .toList();
     }
 
+    @Override
+    public @NonNull Map<CampusType, Long> countByCampus() {
+        Map<CampusType, Long> counts = new EnumMap<>(CampusType.class);
+        for (PosRepository.CampusCount campusCount : posRepository.countByCampus()) {
+            counts.put(campusCount.getCampus(), campusCount.getCount());
+        }
+        return counts;
+    }
+
+    @Override
+    public long getCatalogVersion() {
+        Long version = jdbcTemplate.queryForObject(CATALOG_VERSION_SQL, Long.class);
+        return version == null ? 0 : version;
+    }
+
     @Override
     public @NonNull Pos getById(@NonNull Long id) throws PosNotFoundException {
-        return posRepository.findById(id)
+        return posRepository.findInPartitionById(id)
                 .map(posEntityMapper::fromEntity)
                 .orElseThrow(() -> new PosNotFoundException(id));
     }
 
+    @Override
+    public @NonNull List<PosMatch> findSimilar(@NonNull Pos pos, double minSimilarity, double minSimilarityElsewhere,
+                                               int limit) {
+        AddressEntity address = new AddressEntity();
+        HouseNumberCodec.parse(pos.houseNumber(), address);
+        return jdbcTemplate.query(FIND_SIMILAR_SQL, (rs, rowNum) -> PosMatch.builder()
+                        .posId(rs.getLong("id"))
+                        .name(rs.getString("name"))
+                        .nameSimilarity(rs.getDouble("name_similarity"))
+                        .sameAddress(rs.getBoolean("same_address"))
+                        .build(),
+                pos.name(), pos.city(), pos.id(), pos.postalCode(), address.getHouseNumber(), pos.street(),
+                minSimilarity, minSimilarityElsewhere, limit);
+    }
+
     @Override
     public @NonNull Pos upsert(@NonNull Pos pos) {
         // Map POS domain object to entity and save
@@ -57,19 +135,13 @@ class PosDataServiceImpl implements PosDataService {
                 );
             }
 
-            // Update existing POS
-            PosEntity posEntity = posRepository.findById(pos.id())
-                    .orElseThrow(() -> new PosNotFoundException(pos.id()));
-
-            // Use mapper to update entity fields automatically
-            // Note: timestamps are managed by JPA lifecycle callbacks (@PreUpdate)
-            posEntityMapper.updateEntity(pos, posEntity);
-
-            return posEntityMapper.fromEntity(posRepository.saveAndFlush(posEntity));
+            // Update existing POS with plain JDBC: the UPDATE that JPA issues is restricted by the ID only and would
+            // probe every partition
+            return update(pos);
         } catch (DataIntegrityViolationException e) {
             // Translate database constraint violations to domain exceptions
             // This is the adapter's responsibility in hexagonal architecture
-            if (isDuplicateNameConstraintViolation(e)) {
+            if (PosConstraints.isDuplicateNameViolation(e)) {
                 throw new DuplicatePosNameException(pos.name());
             }
             // Re-throw if it's a different constraint violation
@@ -77,26 +149,92 @@ class PosDataServiceImpl implements PosDataService {
         }
     }
 
-    /**
-     * Checks if the exception is due to duplicate POS name constraint violation.
-     */
-    private static boolean isDuplicateNameConstraintViolation(DataIntegrityViolationException e) {
-        // Database constraint name for unique pos name
-        final String POS_NAME_CONSTRAINT = "pos_name_key";
-
-        // Check the exception message and root cause for the constraint name
-        String message = e.getMessage();
-        if (message != null && message.contains(POS_NAME_CONSTRAINT)) {
-            return true;
+    private Pos update(Pos pos) {
+        Long id = pos.id();
+        StoredPos stored = jdbcTemplate.query(SELECT_FOR_UPDATE_SQL,
+                        (rs, rowNum) -> new StoredPos(rs.getTimestamp("created_at").toLocalDateTime(),
+                                rs.getString("city")),
+                        id, id)
+                .stream()
+                .findFirst()
+                .orElseThrow(() -> new PosNotFoundException(id));
+
+        PosEntity posEntity = posEntityMapper.toEntity(pos);
+        posEntity.setCreatedAt(stored.createdAt());
+        posEntity.setUpdatedAt(LocalDateTime.now(ZoneId.of("UTC")));
+        int updated = jdbcTemplate.update(UPDATE_SQL, statement -> {
+            statement.setTimestamp(1, Timestamp.valueOf(posEntity.getUpdatedAt()));
+            bindColumns(statement, 2, pos, posEntity.getAddress());
+            statement.setLong(14, id);
+            statement.setString(15, stored.city());
+        });
+        if (updated == 0) {
+            // deleted (or moved to another city) since the lookup
+            throw new PosNotFoundException(id);
         }
+        return posEntityMapper.fromEntity(posEntity);
+    }
 
-        // Also check root cause for constraint violations
-        Throwable cause = e.getRootCause();
-        if (cause != null) {
-            String causeMessage = cause.getMessage();
-            return causeMessage != null && causeMessage.contains(POS_NAME_CONSTRAINT);
+    @Override
+    public long bulkInsert(@NonNull Stream<Pos> posStream) {
+        // plain JDBC batches instead of JPA: no persistence context, no per-entity flush, one round trip per batch
+        long count = 0;
+        List<Pos> batch = new ArrayList<>(BULK_INSERT_BATCH_SIZE);
+        Iterator<Pos> iterator = posStream.iterator();
+        while (iterator.hasNext()) {
+            batch.add(iterator.next());
+            if (batch.size() == BULK_INSERT_BATCH_SIZE || !iterator.hasNext()) {
+                insertBatch(batch);
+                count += batch.size();
+                batch.clear();
+            }
         }
+        return count;
+    }
 
-        return false;
+    /**
+     * Inserts one batch of POS in its own transaction.
+     */
+    private void insertBatch(List<Pos> batch) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now(ZoneId.of("UTC")));
+        AddressEntity address = new AddressEntity();
+        transactionTemplate.executeWithoutResult(status ->
+                jdbcTemplate.batchUpdate(BULK_INSERT_SQL, batch, batch.size(), (statement, pos) -> {
+                    HouseNumberCodec.parse(pos.houseNumber(), address);
+                    statement.setTimestamp(1, now);
+                    statement.setTimestamp(2, now);
+                    bindColumns(statement, 3, pos, address);
+                })
+        );
     }
+
+    /**
+     * Binds the columns from {@code name} to {@code opening_hours_intervals}, in the order of the {@code pos} table.
+     *
+     * @param index   the index of the {@code name} parameter
+     * @param address the address of the POS with the parsed house number
+     */
+    private static void bindColumns(PreparedStatement statement, int index, Pos pos, AddressEntity address)
+            throws SQLException {
+        statement.setString(index, pos.name());
+        statement.setString(index + 1, pos.description());
+        statement.setString(index + 2, pos.type().name());
+        statement.setString(index + 3, pos.campus().name());
+        statement.setString(index + 4, pos.street());
+        statement.setInt(index + 5, address.getHouseNumber());
+        statement.setObject(index + 6, address.getHouseNumberSuffix() == null
+                ? null : address.getHouseNumberSuffix().toString(), Types.VARCHAR);
+        statement.setObject(index + 7, address.getHouseNumberTo(), Types.INTEGER);
+        statement.setInt(index + 8, pos.postalCode());
+        statement.setString(index + 9, pos.city());
+        OpeningHours openingHours = pos.openingHours();
+        statement.setString(index + 10, openingHours == null ? null : openingHours.expression());
+        statement.setArray(index + 11, openingHours == null ? null : statement.getConnection()
+                .createArrayOf("integer", Arrays.stream(openingHours.intervals()).boxed().toArray()));
+    }
+
+    /**
+     * The stored columns of a POS that an update keeps or needs to find its partition.
+     */
+    private record StoredPos(LocalDateTime createdAt, String city) {}
 }
@@ -0,0 +1,76 @@
+package de.seuhd.campuscoffee.data.impl;
+
+import de.seuhd.campuscoffee.domain.model.PosAvailability;
+import de.seuhd.campuscoffee.domain.model.PosStatus;
+import de.seuhd.campuscoffee.domain.model.PosStatusAggregate;
+import de.seuhd.campuscoffee.domain.ports.PosStatusDataService;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.NonNull;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * Implementation of the POS status persistence on plain JDBC (see the {@code pos_status} table in the Flyway
+ * migrations).
+ * <p>
+ * A batch is a single transaction of upserts, so that a failed batch can be retried without counting reports twice.
+ * Statuses of POS that were deleted in the meantime are skipped instead of failing the batch.
+ */
+@Service
+@RequiredArgsConstructor
+@Timed("campuscoffee.status.data")
+class PosStatusDataServiceImpl implements PosStatusDataService {
+    private static final int BATCH_SIZE = 500;
+    // the latest status only replaces a more recent one if it was reported later, e.g., if the batch of another
+    // instance that received older reports arrives late
+    private static final String UPSERT_SQL = """
+            INSERT INTO pos_status (pos_id, availability, queue_length, reported_at, report_count, queue_length_sum)
+            SELECT ?, ?, ?, ?, ?, ? WHERE EXISTS (SELECT 1 FROM pos_locator WHERE id = ?)
+            ON CONFLICT (pos_id) DO UPDATE SET
+                availability = CASE WHEN excluded.reported_at >= pos_status.reported_at
+                    THEN excluded.availability ELSE pos_status.availability END,
+                queue_length = CASE WHEN excluded.reported_at >= pos_status.reported_at
+                    THEN excluded.queue_length ELSE pos_status.queue_length END,
+                reported_at = greatest(excluded.reported_at, pos_status.reported_at),
+                report_count = pos_status.report_count + excluded.report_count,
+                queue_length_sum = pos_status.queue_length_sum + excluded.queue_length_sum""";
+    private static final String SELECT_ALL_SQL =
+            "SELECT pos_id, availability, queue_length, reported_at FROM pos_status";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public void upsertAll(@NonNull List<PosStatusAggregate> aggregates) {
+        if (aggregates.isEmpty()) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status ->
+                jdbcTemplate.batchUpdate(UPSERT_SQL, aggregates, BATCH_SIZE, (statement, aggregate) -> {
+                    PosStatus latest = aggregate.latest();
+                    statement.setLong(1, latest.posId());
+                    statement.setString(2, latest.availability().name());
+                    statement.setInt(3, latest.queueLength());
+                    statement.setTimestamp(4, Timestamp.valueOf(latest.reportedAt()));
+                    statement.setLong(5, aggregate.reports());
+                    statement.setLong(6, aggregate.queueLengthSum());
+                    statement.setLong(7, latest.posId());
+                }));
+    }
+
+    @Override
+    public @NonNull List<PosStatus> getAll() {
+        return jdbcTemplate.query(SELECT_ALL_SQL, (rs, rowNum) -> PosStatus.builder()
+                .posId(rs.getLong("pos_id"))
+                .availability(PosAvailability.valueOf(rs.getString("availability")))
+                .queueLength(rs.getInt("queue_length"))
+                .reportedAt(rs.getTimestamp("reported_at").toLocalDateTime())
+                .version(0)
+                .build());
+    }
+}
@@ -0,0 +1,83 @@
+package de.seuhd.campuscoffee.data.impl;
+
+import de.seuhd.campuscoffee.domain.exceptions.PosNotFoundException;
+import de.seuhd.campuscoffee.domain.model.CampusType;
+import de.seuhd.campuscoffee.domain.model.PosRating;
+import de.seuhd.campuscoffee.domain.model.PosType;
+import de.seuhd.campuscoffee.domain.ports.RatingDataService;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.NonNull;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Implementation of the rating persistence on plain JDBC (see the {@code rating} tables in the Flyway migrations).
+ * <p>
+ * A rating is a single statement: it inserts the rating and upserts the aggregates of the POS, whose row lock
+ * serializes concurrent ratings of the same POS, so no update is lost and the statement is atomic without an explicit
+ * transaction.
+ */
+@Service
+@RequiredArgsConstructor
+@Timed("campuscoffee.rating.data")
+class RatingDataServiceImpl implements RatingDataService {
+    private static final String RATE_SQL = """
+            WITH target AS (
+                SELECT id, name, campus, type FROM pos
+                WHERE id = ? AND city = (SELECT city FROM pos_locator WHERE id = ?)
+            ), inserted AS (
+                INSERT INTO rating (id, pos_id, stars, created_at)
+                SELECT nextval('rating_seq'), id, ?, (now() AT TIME ZONE 'UTC') FROM target
+                RETURNING pos_id, stars
+            ), aggregate AS (
+                INSERT INTO pos_rating (pos_id, rating_count, rating_sum, bayesian_average)
+                SELECT pos_id, 1, stars, (? + stars) / (? + 1) FROM inserted
+                ON CONFLICT (pos_id) DO UPDATE SET
+                    rating_count = pos_rating.rating_count + 1,
+                    rating_sum = pos_rating.rating_sum + excluded.rating_sum,
+                    bayesian_average = (? + pos_rating.rating_sum + excluded.rating_sum)
+                        / (? + pos_rating.rating_count + 1)
+                RETURNING pos_id, rating_count, rating_sum, bayesian_average
+            )
+            SELECT a.pos_id, t.name, t.campus, t.type, a.rating_count, a.rating_sum, a.bayesian_average
+            FROM aggregate a JOIN target t ON t.id = a.pos_id""";
+    private static final String SELECT_ALL_SQL = """
+            SELECT r.pos_id, p.name, p.campus, p.type, r.rating_count, r.rating_sum, r.bayesian_average
+            FROM pos_rating r JOIN pos p ON p.id = r.pos_id""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public @NonNull PosRating rate(@NonNull Long posId, int stars, double priorMean, double priorWeight)
+            throws PosNotFoundException {
+        double priorSum = priorMean * priorWeight;
+        List<PosRating> rating = jdbcTemplate.query(RATE_SQL, RatingDataServiceImpl::posRating,
+                posId, posId, stars, priorSum, priorWeight, priorSum, priorWeight);
+        if (rating.isEmpty()) {
+            throw new PosNotFoundException(posId);
+        }
+        return rating.getFirst();
+    }
+
+    @Override
+    public @NonNull List<PosRating> getAll() {
+        return jdbcTemplate.query(SELECT_ALL_SQL, RatingDataServiceImpl::posRating);
+    }
+
+    private static PosRating posRating(ResultSet rs, int rowNum) throws SQLException {
+        return PosRating.builder()
+                .posId(rs.getLong("pos_id"))
+                .name(rs.getString("name"))
+                .campus(CampusType.valueOf(rs.getString("campus")))
+                .type(PosType.valueOf(rs.getString("type")))
+                .ratingCount(rs.getLong("rating_count"))
+                .ratingSum(rs.getLong("rating_sum"))
+                .bayesianAverage(rs.getDouble("bayesian_average"))
+                .build();
+    }
+}
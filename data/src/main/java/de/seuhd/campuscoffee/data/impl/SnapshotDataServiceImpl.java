@@ -0,0 +1,65 @@
+package de.seuhd.campuscoffee.data.impl;
+
+import de.seuhd.campuscoffee.data.snapshot.CatalogSnapshotFormat;
+import de.seuhd.campuscoffee.data.snapshot.MappedCatalogSnapshot;
+import de.seuhd.campuscoffee.domain.model.Pos;
+import de.seuhd.campuscoffee.domain.model.SnapshotInfo;
+import de.seuhd.campuscoffee.domain.ports.CatalogSnapshot;
+import de.seuhd.campuscoffee.domain.ports.SnapshotDataService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.NonNull;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Implementation of the snapshot data service that stores the catalog in a memory-mappable binary file
+ * (see {@link CatalogSnapshotFormat}).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+class SnapshotDataServiceImpl implements SnapshotDataService {
+    @Value("${campus-coffee.snapshot.path:campus-coffee.snapshot}")
+    private final Path path;
+
+    @Override
+    public @NonNull SnapshotInfo write(@NonNull List<Pos> posList, long catalogVersion) {
+        LocalDateTime createdAt = LocalDateTime.now(ZoneId.of("UTC"));
+        try {
+            long sizeBytes = CatalogSnapshotFormat.write(posList, path, createdAt, catalogVersion);
+            return SnapshotInfo.builder()
+                    .location(path.toAbsolutePath().toString())
+                    .createdAt(createdAt)
+                    .posCount(posList.size())
+                    .catalogVersion(catalogVersion)
+                    .sizeBytes(sizeBytes)
+                    .serving(false)
+                    .build();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to write catalog snapshot to " + path, e);
+        }
+    }
+
+    @Override
+    public @NonNull Optional<CatalogSnapshot> open() {
+        if (!Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(MappedCatalogSnapshot.map(path));
+        } catch (IOException e) {
+            log.warn("Ignoring unreadable catalog snapshot {}: {}", path, e.getMessage());
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package de.seuhd.campuscoffee.data.instrumentation;
+
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.jspecify.annotations.NonNull;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * Wraps the data source in a proxy that reports every executed SQL statement to the {@link QueryExecutionListener}
+ * beans, e.g., the per-request timings (see {@link SqlTimingListener}) or the statement recorder of the system tests.
+ * Without listener beans, the data source is not wrapped.
+ * The proxy implements {@link java.sql.Wrapper}, so that the pool metrics can still unwrap the Hikari data source.
+ */
+@Configuration
+class DataSourceProxyConfiguration {
+    @Bean
+    static BeanPostProcessor dataSourceProxyPostProcessor(ObjectProvider<QueryExecutionListener> listeners) {
+        return new BeanPostProcessor() {
+            @Override
+            public @NonNull Object postProcessAfterInitialization(@NonNull Object bean, @NonNull String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) {
+                    return bean;
+                }
+                List<QueryExecutionListener> queryListeners = listeners.orderedStream().toList();
+                if (queryListeners.isEmpty()) {
+                    return bean;
+                }
+                ProxyDataSourceBuilder builder = ProxyDataSourceBuilder.create(dataSource).name(beanName);
+                queryListeners.forEach(builder::listener);
+                return builder.build();
+            }
+        };
+    }
+}
@@ -0,0 +1,35 @@
+package de.seuhd.campuscoffee.data.instrumentation;
+
+import de.seuhd.campuscoffee.domain.instrumentation.RequestTimings;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBooleanProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Adds the execution of every JDBC statement (including batches, counted once) to the {@link RequestTimings} of the
+ * current request, if the request is instrumented.
+ * Covers all statements sent through the data source, i.e., by Hibernate, Spring Data, and JDBC templates.
+ */
+@Component
+@ConditionalOnBooleanProperty("campus-coffee.server-timing.enabled")
+class SqlTimingListener implements QueryExecutionListener {
+    @Override
+    public void beforeQuery(ExecutionInfo executionInfo, List<QueryInfo> queryInfoList) {
+        RequestTimings timings = RequestTimings.current();
+        if (timings != null) {
+            timings.enter(RequestTimings.SQL);
+        }
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo executionInfo, List<QueryInfo> queryInfoList) {
+        RequestTimings timings = RequestTimings.current();
+        if (timings != null) {
+            timings.exit(RequestTimings.SQL);
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package de.seuhd.campuscoffee.data.mapper;
 
+import de.seuhd.campuscoffee.data.common.HouseNumberCodec;
 import de.seuhd.campuscoffee.data.persistence.AddressEntity;
 import de.seuhd.campuscoffee.data.persistence.PosEntity;
+import de.seuhd.campuscoffee.domain.model.OpeningHours;
 import de.seuhd.campuscoffee.domain.model.Pos;
 import org.mapstruct.*;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -14,7 +16,10 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean
  * Responsibilities:
  * <ul>
  *   <li>Maps flat address fields from domain to embedded AddressEntity in JPA entity</li>
- *   <li>Handles house number parsing: splits "21a" into numeric (21) and suffix ('a') parts</li>
+ *   <li>Handles house number parsing: splits "21a" into numeric (21) and suffix ('a') parts and "21-23" into
+ *   numeric (21) and range end (23) parts (see {@link HouseNumberCodec})</li>
+ *   <li>Stores opening hours as their expression and their precomputed intervals, so that loading does not parse
+ *   the expression (see {@link OpeningHours#of(String, int[])})</li>
  *   <li>Provides update functionality that preserves JPA-managed fields (id, timestamps)</li>
  * </ul>
  * <p>
@@ -39,6 +44,7 @@ public interface PosEntityMapper {
     @Mapping(source = "address.postalCode", target = "postalCode")
     @Mapping(source = "address.city", target = "city")
     @Mapping(target = "houseNumber", expression = "java(mergeHouseNumber(source))")
+    @Mapping(target = "openingHours", expression = "java(toOpeningHours(source))")
     Pos fromEntity(PosEntity source);
 
     /**
@@ -49,6 +55,8 @@ public interface PosEntityMapper {
      * @return the JPA entity, or null if source is null
      */
     @Mapping(target = "address", expression = "java(splitHouseNumber(source, new AddressEntity()))")
+    @Mapping(target = "openingHours", expression = "java(openingHoursExpression(source))")
+    @Mapping(target = "openingHoursIntervals", expression = "java(openingHoursIntervals(source))")
     PosEntity toEntity(Pos source);
 
     /**
@@ -64,32 +72,29 @@ public interface PosEntityMapper {
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
     @Mapping(target = "address", expression = "java(splitHouseNumber(source, target.getAddress()))")
+    @Mapping(target = "openingHours", expression = "java(openingHoursExpression(source))")
+    @Mapping(target = "openingHoursIntervals", expression = "java(openingHoursIntervals(source))")
     void updateEntity(Pos source, @MappingTarget PosEntity target);
 
     /**
-     * Merges the numeric house number and suffix from an entity into a single string.
+     * Merges the numeric house number, suffix, and range end from an entity into a single string.
      * This is the inverse operation of {@link #splitHouseNumber(Pos, AddressEntity)}.
      * <p>
      * Examples:
      * <ul>
      *   <li>houseNumber=21, suffix='a' → "21a"</li>
      *   <li>houseNumber=10, suffix=null → "10"</li>
+     *   <li>houseNumber=21, houseNumberTo=23 → "21-23"</li>
      *   <li>houseNumber=null → null</li>
      * </ul>
      *
      * @param source the PosEntity containing the address; may be null
      * @return the merged house number string, or null if the entity has no address or house number
+     * @see HouseNumberCodec#format(de.seuhd.campuscoffee.data.common.HouseNumberFields)
      */
     @SuppressWarnings("unused")
     default String mergeHouseNumber(PosEntity source) {
-        if (source.getAddress() == null || source.getAddress().getHouseNumber() == null) {
-            return null;
-        }
-        String houseNumberWithSuffix = source.getAddress().getHouseNumber().toString();
-        if (source.getAddress().getHouseNumberSuffix() != null) {
-            houseNumberWithSuffix += source.getAddress().getHouseNumberSuffix();
-        }
-        return houseNumberWithSuffix;
+        return HouseNumberCodec.format(source.getAddress());
     }
 
     /**
@@ -98,6 +103,8 @@ public interface PosEntityMapper {
      * @param source the domain model containing address data; must not be null
      * @param addressEntity the AddressEntity to populate; must not be null
      * @return the populated AddressEntity
+     * @throws IllegalArgumentException if the house number is invalid
+     * @see HouseNumberCodec#parse(String, de.seuhd.campuscoffee.data.common.HouseNumberFields)
      */
     @SuppressWarnings("unused")
     default AddressEntity splitHouseNumber(Pos source, AddressEntity addressEntity) {
@@ -111,24 +118,40 @@ public interface PosEntityMapper {
         addressEntity.setStreet(source.street());
         addressEntity.setCity(source.city());
         addressEntity.setPostalCode(source.postalCode());
+        HouseNumberCodec.parse(source.houseNumber(), addressEntity);
 
-        // Parse house number and suffix
-        if (source.houseNumber().isEmpty()) {
-            return addressEntity;
-        }
-        String numericPart = source.houseNumber().replaceAll("[^0-9]", "");
-        String suffixPart = source.houseNumber().replaceAll("[0-9]", "");
-        if (!numericPart.isEmpty()) {
-            addressEntity.setHouseNumber(Integer.parseInt(numericPart));
-        } else {
-            addressEntity.setHouseNumber(null);
-        }
-        if (!suffixPart.isEmpty()) {
-            addressEntity.setHouseNumberSuffix(suffixPart.charAt(0));
-        } else {
-            addressEntity.setHouseNumberSuffix(null);
+        return addressEntity;
+    }
+
+    /**
+     * Restores the opening hours of an entity from their expression and precomputed intervals.
+     *
+     * @param source the PosEntity; may be null
+     * @return the opening hours, or null if the entity has none
+     */
+    @SuppressWarnings("unused")
+    default OpeningHours toOpeningHours(PosEntity source) {
+        if (source == null || source.getOpeningHours() == null) {
+            return null;
         }
+        return OpeningHours.of(source.getOpeningHours(), source.getOpeningHoursIntervals());
+    }
 
-        return addressEntity;
+    /**
+     * @param source the domain model; must not be null
+     * @return the opening hours expression, or null if the POS has no opening hours
+     */
+    @SuppressWarnings("unused")
+    default String openingHoursExpression(Pos source) {
+        return source.openingHours() == null ? null : source.openingHours().expression();
+    }
+
+    /**
+     * @param source the domain model; must not be null
+     * @return the precomputed opening hours intervals, or null if the POS has no opening hours
+     */
+    @SuppressWarnings("unused")
+    default int[] openingHoursIntervals(Pos source) {
+        return source.openingHours() == null ? null : source.openingHours().intervals();
     }
 }
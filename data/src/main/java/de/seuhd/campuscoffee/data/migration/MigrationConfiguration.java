@@ -0,0 +1,49 @@
+package de.seuhd.campuscoffee.data.migration;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Decides what Flyway does on startup ({@code campus-coffee.migration.on-startup}).
+ * <p>
+ * By default, each instance migrates the schema before it starts. Instances that have to start fast (profile
+ * "fast-startup") skip this: the schema is migrated and validated once per deployment by a separate run (the
+ * training run of the class data archive, see the README), so that scaled-out instances neither scan the migrations
+ * nor wait for the schema history lock.
+ */
+@Slf4j
+@Configuration
+class MigrationConfiguration {
+    @Bean
+    FlywayMigrationStrategy flywayMigrationStrategy(
+            @Value("${campus-coffee.migration.on-startup:migrate}") MigrationMode mode) {
+        return flyway -> {
+            switch (mode) {
+                case MIGRATE -> flyway.migrate();
+                case VALIDATE -> flyway.validate();
+                case SKIP -> log.info("Skipping database migrations on startup");
+            }
+        };
+    }
+
+    /**
+     * What Flyway does on startup.
+     */
+    enum MigrationMode {
+        /**
+         * Applies pending migrations.
+         */
+        MIGRATE,
+        /**
+         * Fails if there are pending or modified migrations, without changing the schema.
+         */
+        VALIDATE,
+        /**
+         * Neither migrates nor validates; the schema is assumed to be up to date.
+         */
+        SKIP
+    }
+}
@@ -0,0 +1,207 @@
+package de.seuhd.campuscoffee.data.notification;
+
+import de.seuhd.campuscoffee.domain.events.PosChangeFeedEvent;
+import de.seuhd.campuscoffee.domain.events.PosChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBooleanProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Properties;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Feed of the POS changes committed by other application instances, received as PostgreSQL notifications (see the
+ * trigger function {@code pos_notify_change} in the Flyway migrations) on a dedicated connection.
+ * <p>
+ * Every notification of another instance is published as a {@link PosChangedEvent}, so that the caches and indexes
+ * of this instance drop the changed POS. Notifications of this instance's own writes are skipped, because the domain
+ * layer publishes their events right after the write; the instances are told apart by the {@code application_name}
+ * of their connections (see {@link PosChangeFeedConfiguration}).
+ * <p>
+ * The connection is not taken from the pool, because it listens for the lifetime of the application. When it
+ * fails, the feed publishes that it is disconnected (see {@link PosChangeFeedEvent}) and reconnects after
+ * {@code campus-coffee.near-cache.reconnect-interval}. After reconnecting, it compares the catalog version
+ * ({@code pos_version_seq}) with the version of the last notification it received and publishes
+ * {@link PosChangedEvent#all()} if it missed any, before it reports that it is connected again. Idle connections are
+ * checked every {@code campus-coffee.near-cache.keep-alive-interval}, so that a silently broken connection is noticed.
+ * Received notifications are counted as {@code campuscoffee.nearcache.notifications} (tag {@code origin}: local or
+ * remote).
+ */
+@Slf4j
+@Component
+@ConditionalOnBooleanProperty(name = "campus-coffee.near-cache.enabled", matchIfMissing = true)
+@RequiredArgsConstructor
+class PosChangeFeed implements SmartLifecycle {
+    // identifies the connections of this instance; per JVM, which hosts one application context in production
+    static final String ORIGIN = "campus-coffee-" + Long.toHexString(ThreadLocalRandom.current().nextLong());
+
+    private static final String CHANNEL = "pos_changed";
+    private static final String VERSION_SQL =
+            "SELECT CASE WHEN is_called THEN last_value ELSE 0 END FROM pos_version_seq";
+
+    private final DataSourceProperties dataSourceProperties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${campus-coffee.near-cache.reconnect-interval:PT1S}")
+    private final Duration reconnectInterval;
+
+    @Value("${campus-coffee.near-cache.keep-alive-interval:PT10S}")
+    private final Duration keepAliveInterval;
+
+    private volatile boolean running;
+    private volatile @Nullable Connection connection;
+    private @Nullable Thread listener;
+    // the highest catalog version received or read on connect; -1 before the first connect; confined to the listener
+    private long version = -1;
+
+    @Override
+    public void start() {
+        running = true;
+        listener = Thread.ofPlatform().name("pos-change-feed").daemon().start(this::listen);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (listener != null) {
+            listener.interrupt();
+        }
+        Connection current = connection;
+        if (current != null) {
+            // unblocks the listener thread waiting for notifications
+            try {
+                current.close();
+            } catch (SQLException e) {
+                log.debug("Unable to close the POS change feed connection: {}", e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void listen() {
+        while (running) {
+            boolean connected = false;
+            try (Connection current = connect()) {
+                connection = current;
+                try (Statement statement = current.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                catchUp(current);
+                eventPublisher.publishEvent(new PosChangeFeedEvent(true));
+                connected = true;
+                log.info("Listening for POS changes of other instances");
+                receive(current);
+            } catch (SQLException | RuntimeException e) {
+                if (running) {
+                    log.warn("POS change feed failed, reconnecting in {}: {}", reconnectInterval, e.getMessage());
+                }
+            } finally {
+                connection = null;
+                if (connected) {
+                    eventPublisher.publishEvent(new PosChangeFeedEvent(false));
+                }
+            }
+            if (running) {
+                try {
+                    Thread.sleep(reconnectInterval);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private Connection connect() throws SQLException {
+        Properties properties = new Properties();
+        if (dataSourceProperties.determineUsername() != null) {
+            properties.setProperty("user", dataSourceProperties.determineUsername());
+        }
+        if (dataSourceProperties.determinePassword() != null) {
+            properties.setProperty("password", dataSourceProperties.determinePassword());
+        }
+        // the feed never writes, so its notifications cannot be confused with those of the pooled connections
+        properties.setProperty("ApplicationName", ORIGIN + "-feed");
+        return DriverManager.getConnection(dataSourceProperties.determineUrl(), properties);
+    }
+
+    /**
+     * Invalidates everything if changes were committed while the feed was not listening. Notifications of changes
+     * that are already counted in the version may still arrive; they are handled as usual.
+     */
+    private void catchUp(Connection current) throws SQLException {
+        long currentVersion;
+        try (Statement statement = current.createStatement(); ResultSet rs = statement.executeQuery(VERSION_SQL)) {
+            rs.next();
+            currentVersion = rs.getLong(1);
+        }
+        if (currentVersion != version) {
+            log.info("POS catalog version is {} instead of {}, invalidating all POS", currentVersion, version);
+            eventPublisher.publishEvent(PosChangedEvent.all());
+        }
+        version = Math.max(version, currentVersion);
+    }
+
+    private void receive(Connection current) throws SQLException {
+        PGConnection pgConnection = current.unwrap(PGConnection.class);
+        int timeoutMillis = (int) keepAliveInterval.toMillis();
+        while (running) {
+            PGNotification[] notifications = pgConnection.getNotifications(timeoutMillis);
+            if (notifications == null || notifications.length == 0) {
+                if (!current.isValid(Math.max(1, (int) keepAliveInterval.toSeconds()))) {
+                    throw new SQLException("Connection is no longer valid");
+                }
+                continue;
+            }
+            for (PGNotification notification : notifications) {
+                handle(notification.getParameter());
+            }
+        }
+    }
+
+    /**
+     * Handles the payload {@code <version>|<comma-separated IDs or *>|<application_name of the writer>}.
+     */
+    private void handle(String payload) {
+        String[] parts = payload.split("\\|", 3);
+        try {
+            version = Math.max(version, Long.parseLong(parts[0]));
+            boolean local = parts.length == 3 && parts[2].equals(ORIGIN);
+            meterRegistry.counter("campuscoffee.nearcache.notifications", "origin", local ? "local" : "remote")
+                    .increment();
+            if (local) {
+                return;
+            }
+            if (parts.length < 2 || parts[1].equals("*")) {
+                eventPublisher.publishEvent(PosChangedEvent.all());
+                return;
+            }
+            for (String id : parts[1].split(",")) {
+                eventPublisher.publishEvent(new PosChangedEvent(Long.parseLong(id)));
+            }
+        } catch (NumberFormatException e) {
+            log.warn("Invalidating all POS after a malformed notification '{}'", payload);
+            eventPublisher.publishEvent(PosChangedEvent.all());
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package de.seuhd.campuscoffee.data.notification;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.jspecify.annotations.NonNull;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBooleanProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Names the pooled connections of this instance after {@link PosChangeFeed#ORIGIN} (the PostgreSQL
+ * {@code application_name}, which the notifications of POS changes carry), so that the feed can skip the
+ * notifications of this instance's own writes.
+ */
+@Configuration
+@ConditionalOnBooleanProperty(name = "campus-coffee.near-cache.enabled", matchIfMissing = true)
+class PosChangeFeedConfiguration {
+    @Bean
+    static BeanPostProcessor applicationNamePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public @NonNull Object postProcessBeforeInitialization(@NonNull Object bean, @NonNull String beanName) {
+                // before the pool is started on first use
+                if (bean instanceof HikariDataSource hikari) {
+                    hikari.addDataSourceProperty("ApplicationName", PosChangeFeed.ORIGIN);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -1,5 +1,6 @@
 package de.seuhd.campuscoffee.data.persistence;
 
+import de.seuhd.campuscoffee.data.common.HouseNumberFields;
 import jakarta.persistence.*;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -9,12 +10,14 @@ import lombok.Setter;
 @Getter
 @Setter
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
-public class AddressEntity {
+public class AddressEntity implements HouseNumberFields {
     private String street;
     @Column(name = "house_number")
     private Integer houseNumber;
     @Column(name = "house_number_suffix")
     private Character houseNumberSuffix;
+    @Column(name = "house_number_to")
+    private Integer houseNumberTo; // end of a house number range such as "21-23"
     @Column(name = "postal_code")
     private Integer postalCode;
     private String city;
@@ -16,7 +16,8 @@ import java.time.ZoneId;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "pos")
+// partitioned by city (see the Flyway migrations), so names are unique per city
+@Table(name = "pos", uniqueConstraints = @UniqueConstraint(name = "pos_name_key", columnNames = {"city", "name"}))
 public class PosEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "pos_sequence_generator")
@@ -29,7 +30,6 @@ public class PosEntity {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
-    @Column(unique = true)
     private String name;
 
     private String description;
@@ -43,6 +43,13 @@ public class PosEntity {
     @Embedded
     private AddressEntity address;
 
+    @Column(name = "opening_hours")
+    private String openingHours;
+
+    // minutes of the week covered by the opening hours (see OpeningHours#intervals())
+    @Column(name = "opening_hours_intervals")
+    private int[] openingHoursIntervals;
+
     /**
      * JPA lifecycle callback: set timestamps before persisting a new entity.
      * This ensures timestamps reflect actual database operation time.
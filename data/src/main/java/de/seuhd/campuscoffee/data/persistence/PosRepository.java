@@ -1,9 +1,14 @@
 package de.seuhd.campuscoffee.data.persistence;
 
+import de.seuhd.campuscoffee.domain.model.CampusType;
 import jakarta.transaction.Transactional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository for persisting point-of-sale (POS) entities.
@@ -13,4 +18,28 @@ public interface PosRepository extends JpaRepository<PosEntity, Long> {
     @Transactional
     @Query(value = "ALTER SEQUENCE pos_seq RESTART WITH 1", nativeQuery = true)
     void resetSequence();
+
+    /**
+     * Finds a POS by ID within its partition. The {@code pos} table is partitioned by city, which an ID does not
+     * determine, so {@link #findById} probes the primary key index of every partition. The city from
+     * {@code pos_locator} is known at execution time, and PostgreSQL skips all other partitions.
+     *
+     * @param id the ID of the POS
+     * @return the POS, if it exists
+     */
+    @Query(value = """
+            SELECT * FROM pos
+            WHERE id = :id AND city = (SELECT city FROM pos_locator WHERE id = :id)""", nativeQuery = true)
+    Optional<PosEntity> findInPartitionById(@Param("id") Long id);
+
+    @Query("SELECT p.campus AS campus, COUNT(p) AS count FROM PosEntity p GROUP BY p.campus")
+    List<CampusCount> countByCampus();
+
+    /**
+     * Projection for {@link #countByCampus()}.
+     */
+    interface CampusCount {
+        CampusType getCampus();
+        long getCount();
+    }
 }
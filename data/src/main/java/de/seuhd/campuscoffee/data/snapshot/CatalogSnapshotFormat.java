@@ -0,0 +1,168 @@
+package de.seuhd.campuscoffee.data.snapshot;
+
+import de.seuhd.campuscoffee.domain.model.Pos;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Binary layout of a catalog snapshot file.
+ * <p>
+ * A snapshot consists of three sections (all numbers are big-endian):
+ * <ol>
+ *   <li>a fixed-size header with magic number, format version, record count, string count, creation timestamp,
+ *       the offset of the string pool, and the catalog version the snapshot was taken at,</li>
+ *   <li>an array of fixed-size records sorted by POS ID, which allows a binary search on the mapped file,</li>
+ *   <li>a dictionary-encoded string pool: an offset table followed by the UTF-8 bytes of each distinct string.</li>
+ * </ol>
+ * Records reference strings by their index in the pool. Repeated values such as city, street, {@code PosType},
+ * and {@code CampusType} are therefore stored only once. Enums are stored by name rather than by ordinal so that
+ * snapshots remain readable if the enum constants are reordered. Opening hours are stored as their expression
+ * (or {@link #NULL_STRING}); since most POS share a few expressions, readers parse each distinct one only once.
+ */
+public final class CatalogSnapshotFormat {
+    static final int MAGIC = 0x43435350; // "CCSP"
+    static final short VERSION = 3; // version 2 added the opening hours, version 3 the catalog version
+    static final int HEADER_SIZE = 40;
+    static final int RECORD_SIZE = 60;
+    static final long NULL_TIMESTAMP = Long.MIN_VALUE;
+    static final int NULL_STRING = -1;
+
+    // record layout (offsets relative to record start)
+    static final int ID = 0;
+    static final int CREATED_AT = 8;
+    static final int UPDATED_AT = 16;
+    static final int NAME = 24;
+    static final int DESCRIPTION = 28;
+    static final int TYPE = 32;
+    static final int CAMPUS = 36;
+    static final int STREET = 40;
+    static final int HOUSE_NUMBER = 44;
+    static final int CITY = 48;
+    static final int POSTAL_CODE = 52;
+    static final int OPENING_HOURS = 56;
+
+    private CatalogSnapshotFormat() {}
+
+    /**
+     * Writes the given POS list to a snapshot file.
+     * The snapshot is first written to a temporary file that then atomically replaces the target file, so that
+     * instances that have mapped the previous snapshot keep reading a consistent file.
+     *
+     * @param posList   the POS to write; all POS must have an ID
+     * @param target    the snapshot file to create or replace
+     * @param createdAt the creation timestamp to store in the header
+     * @param catalogVersion the catalog version to store in the header
+     * @return the size of the written file in bytes
+     * @throws IOException if the file cannot be written
+     */
+    public static long write(@NonNull List<Pos> posList, @NonNull Path target, @NonNull LocalDateTime createdAt,
+                             long catalogVersion) throws IOException {
+        List<Pos> sorted = new ArrayList<>(posList);
+        sorted.sort(Comparator.comparing(Pos::id));
+
+        // build the string dictionary in a first pass
+        Map<String, Integer> dictionary = new HashMap<>();
+        List<byte[]> strings = new ArrayList<>();
+        int[][] references = new int[sorted.size()][];
+        int[] openingHours = new int[sorted.size()];
+        for (int i = 0; i < sorted.size(); i++) {
+            Pos pos = sorted.get(i);
+            references[i] = new int[]{
+                    intern(pos.name(), dictionary, strings),
+                    intern(pos.description(), dictionary, strings),
+                    intern(pos.type().name(), dictionary, strings),
+                    intern(pos.campus().name(), dictionary, strings),
+                    intern(pos.street(), dictionary, strings),
+                    intern(pos.houseNumber(), dictionary, strings),
+                    intern(pos.city(), dictionary, strings)
+            };
+            openingHours[i] = pos.openingHours() == null
+                    ? NULL_STRING : intern(pos.openingHours().expression(), dictionary, strings);
+        }
+
+        Path parent = target.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path temporary = Files.createTempFile(parent, target.getFileName().toString(), ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+            long stringPoolOffset = HEADER_SIZE + (long) sorted.size() * RECORD_SIZE;
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            out.writeShort(RECORD_SIZE);
+            out.writeInt(sorted.size());
+            out.writeInt(strings.size());
+            out.writeLong(toEpochMicros(createdAt));
+            out.writeLong(stringPoolOffset);
+            out.writeLong(catalogVersion);
+
+            for (int i = 0; i < sorted.size(); i++) {
+                Pos pos = sorted.get(i);
+                out.writeLong(pos.id());
+                out.writeLong(toEpochMicros(pos.createdAt()));
+                out.writeLong(toEpochMicros(pos.updatedAt()));
+                for (int reference : references[i]) {
+                    out.writeInt(reference);
+                }
+                out.writeInt(pos.postalCode());
+                out.writeInt(openingHours[i]);
+            }
+
+            // offset table (relative to the start of the string data) followed by the string data
+            int offset = 0;
+            for (byte[] string : strings) {
+                out.writeInt(offset);
+                offset += string.length;
+            }
+            out.writeInt(offset);
+            for (byte[] string : strings) {
+                out.write(string);
+            }
+        } catch (IOException e) {
+            Files.deleteIfExists(temporary);
+            throw e;
+        }
+        Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return Files.size(target);
+    }
+
+    static long toEpochMicros(@Nullable LocalDateTime timestamp) {
+        if (timestamp == null) {
+            return NULL_TIMESTAMP;
+        }
+        return timestamp.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + timestamp.getNano() / 1_000;
+    }
+
+    static @Nullable LocalDateTime fromEpochMicros(long epochMicros) {
+        if (epochMicros == NULL_TIMESTAMP) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(
+                Math.floorDiv(epochMicros, 1_000_000L),
+                (int) Math.floorMod(epochMicros, 1_000_000L) * 1_000,
+                ZoneOffset.UTC
+        );
+    }
+
+    private static int intern(String value, Map<String, Integer> dictionary, List<byte[]> strings) {
+        return dictionary.computeIfAbsent(value, v -> {
+            strings.add(v.getBytes(StandardCharsets.UTF_8));
+            return strings.size() - 1;
+        });
+    }
+}
@@ -0,0 +1,169 @@
+package de.seuhd.campuscoffee.data.snapshot;
+
+import de.seuhd.campuscoffee.domain.model.CampusType;
+import de.seuhd.campuscoffee.domain.model.OpeningHours;
+import de.seuhd.campuscoffee.domain.model.Pos;
+import de.seuhd.campuscoffee.domain.model.PosType;
+import de.seuhd.campuscoffee.domain.model.SnapshotInfo;
+import de.seuhd.campuscoffee.domain.ports.CatalogSnapshot;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import static de.seuhd.campuscoffee.data.snapshot.CatalogSnapshotFormat.*;
+
+/**
+ * Catalog snapshot that is memory-mapped from a file written by {@link CatalogSnapshotFormat}.
+ * Records are decoded on access directly from the mapped file; only the (small) string dictionary is decoded
+ * into heap memory, lazily and at most once per distinct string (and opening hours expression).
+ * All buffer accesses use absolute indices, so instances can be shared between threads.
+ */
+public final class MappedCatalogSnapshot implements CatalogSnapshot {
+    private final MappedByteBuffer buffer;
+    private final SnapshotInfo info;
+    private final int recordCount;
+    private final int stringOffsetTable;
+    private final int stringData;
+    private final String[] strings;
+    private final OpeningHours[] openingHours;
+
+    private MappedCatalogSnapshot(MappedByteBuffer buffer, SnapshotInfo info, int recordCount,
+                                  int stringCount, int stringPoolOffset) {
+        this.buffer = buffer;
+        this.info = info;
+        this.recordCount = recordCount;
+        this.stringOffsetTable = stringPoolOffset;
+        this.stringData = stringPoolOffset + (stringCount + 1) * Integer.BYTES;
+        this.strings = new String[stringCount];
+        this.openingHours = new OpeningHours[stringCount];
+    }
+
+    /**
+     * Maps the given snapshot file into memory and validates its header.
+     *
+     * @param path the snapshot file
+     * @return the mapped snapshot
+     * @throws IOException if the file cannot be read or is not a valid snapshot
+     */
+    public static @NonNull MappedCatalogSnapshot map(@NonNull Path path) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            // the mapping stays valid after the channel is closed
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not a catalog snapshot: " + path);
+        }
+        if (buffer.getShort(4) != VERSION || buffer.getShort(6) != RECORD_SIZE) {
+            throw new IOException("Unsupported catalog snapshot version " + buffer.getShort(4) + ": " + path);
+        }
+        int recordCount = buffer.getInt(8);
+        int stringCount = buffer.getInt(12);
+        long stringPoolOffset = buffer.getLong(24);
+        if (stringPoolOffset != HEADER_SIZE + (long) recordCount * RECORD_SIZE || stringPoolOffset > buffer.capacity()) {
+            throw new IOException("Corrupt catalog snapshot: " + path);
+        }
+        SnapshotInfo info = SnapshotInfo.builder()
+                .location(path.toAbsolutePath().toString())
+                .createdAt(Objects.requireNonNull(fromEpochMicros(buffer.getLong(16))))
+                .posCount(recordCount)
+                .catalogVersion(buffer.getLong(32))
+                .sizeBytes(buffer.capacity())
+                .serving(false)
+                .build();
+        return new MappedCatalogSnapshot(buffer, info, recordCount, stringCount, (int) stringPoolOffset);
+    }
+
+    @Override
+    public @NonNull SnapshotInfo info() {
+        return info;
+    }
+
+    @Override
+    public @NonNull List<Pos> getAll() {
+        List<Pos> posList = new ArrayList<>(recordCount);
+        for (int i = 0; i < recordCount; i++) {
+            posList.add(decode(i));
+        }
+        return Collections.unmodifiableList(posList);
+    }
+
+    @Override
+    public @NonNull Optional<Pos> findById(@NonNull Long id) {
+        // records are sorted by ID
+        int low = 0;
+        int high = recordCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long midId = buffer.getLong(recordOffset(mid) + ID);
+            if (midId < id) {
+                low = mid + 1;
+            } else if (midId > id) {
+                high = mid - 1;
+            } else {
+                return Optional.of(decode(mid));
+            }
+        }
+        return Optional.empty();
+    }
+
+    private int recordOffset(int index) {
+        return HEADER_SIZE + index * RECORD_SIZE;
+    }
+
+    private Pos decode(int index) {
+        int offset = recordOffset(index);
+        return Pos.builder()
+                .id(buffer.getLong(offset + ID))
+                .createdAt(fromEpochMicros(buffer.getLong(offset + CREATED_AT)))
+                .updatedAt(fromEpochMicros(buffer.getLong(offset + UPDATED_AT)))
+                .name(string(buffer.getInt(offset + NAME)))
+                .description(string(buffer.getInt(offset + DESCRIPTION)))
+                .type(PosType.valueOf(string(buffer.getInt(offset + TYPE))))
+                .campus(CampusType.valueOf(string(buffer.getInt(offset + CAMPUS))))
+                .street(string(buffer.getInt(offset + STREET)))
+                .houseNumber(string(buffer.getInt(offset + HOUSE_NUMBER)))
+                .postalCode(buffer.getInt(offset + POSTAL_CODE))
+                .city(string(buffer.getInt(offset + CITY)))
+                .openingHours(openingHours(buffer.getInt(offset + OPENING_HOURS)))
+                .build();
+    }
+
+    private @Nullable OpeningHours openingHours(int reference) {
+        if (reference == NULL_STRING) {
+            return null;
+        }
+        OpeningHours value = openingHours[reference];
+        if (value == null) {
+            // same benign race as for strings
+            value = OpeningHours.parse(string(reference));
+            openingHours[reference] = value;
+        }
+        return value;
+    }
+
+    private String string(int reference) {
+        String value = strings[reference];
+        if (value == null) {
+            // benign race: concurrent readers may decode the same string twice, strings are immutable
+            int start = buffer.getInt(stringOffsetTable + reference * Integer.BYTES);
+            int end = buffer.getInt(stringOffsetTable + (reference + 1) * Integer.BYTES);
+            byte[] bytes = new byte[end - start];
+            buffer.get(stringData + start, bytes);
+            value = new String(bytes, StandardCharsets.UTF_8);
+            strings[reference] = value;
+        }
+        return value;
+    }
+}
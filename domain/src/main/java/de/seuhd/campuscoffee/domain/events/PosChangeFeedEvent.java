@@ -0,0 +1,11 @@
+package de.seuhd.campuscoffee.domain.events;
+
+/**
+ * Application event published by the data layer when the feed of POS changes made by other instances connects or
+ * disconnects. While connected, every change committed by another instance is published as a {@link PosChangedEvent}
+ * on this instance; changes missed while disconnected are published as {@link PosChangedEvent#all()} before the feed
+ * reports that it is connected again.
+ *
+ * @param connected whether changes of other instances are currently received
+ */
+public record PosChangeFeedEvent(boolean connected) {}
@@ -0,0 +1,29 @@
+package de.seuhd.campuscoffee.domain.events;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Application event published by the domain layer after the POS catalog has been modified.
+ * Components that keep derived state of POS (e.g., caches or indexes) listen to this event to invalidate it.
+ *
+ * @param posId the ID of the created or updated POS; null if the whole catalog may have changed (e.g., clear)
+ */
+public record PosChangedEvent(@Nullable Long posId) {
+    /**
+     * Creates an event signaling that the whole catalog may have changed.
+     *
+     * @return the event
+     */
+    public static PosChangedEvent all() {
+        return new PosChangedEvent(null);
+    }
+
+    /**
+     * Whether this event affects the whole catalog rather than a single POS.
+     *
+     * @return true if all POS may have changed
+     */
+    public boolean affectsAll() {
+        return posId == null;
+    }
+}
@@ -1,8 +1,8 @@
 package de.seuhd.campuscoffee.domain.exceptions;
 
 /**
- * Exception thrown when attempting to create or update a POS with a name that already exists.
- * This represents a business rule violation: POS names must be unique.
+ * Exception thrown when attempting to create or update a POS with a name that already exists in its city.
+ * This represents a business rule violation: POS names must be unique within a city.
  */
 public class DuplicatePosNameException extends RuntimeException {
     public DuplicatePosNameException(String posName) {
@@ -0,0 +1,10 @@
+package de.seuhd.campuscoffee.domain.exceptions;
+
+/**
+ * Exception thrown when an import job with a given ID does not exist.
+ */
+public class ImportJobNotFoundException extends RuntimeException {
+    public ImportJobNotFoundException(Long jobId) {
+        super("Import job with ID " + jobId + " does not exist.");
+    }
+}
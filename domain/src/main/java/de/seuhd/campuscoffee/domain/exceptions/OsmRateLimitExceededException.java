@@ -0,0 +1,19 @@
+package de.seuhd.campuscoffee.domain.exceptions;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Exception thrown when a request to OpenStreetMap would have to wait longer than allowed for the per-host rate
+ * limit. This is a transient condition: asynchronous imports retry later, synchronous imports fail with HTTP 503.
+ */
+@Getter
+public class OsmRateLimitExceededException extends RuntimeException {
+    private final Duration retryAfter;
+
+    public OsmRateLimitExceededException(String host, Duration retryAfter) {
+        super("Rate limit for OpenStreetMap host '" + host + "' exceeded, retry after " + retryAfter + ".");
+        this.retryAfter = retryAfter;
+    }
+}
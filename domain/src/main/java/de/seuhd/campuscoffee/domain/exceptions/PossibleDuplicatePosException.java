@@ -0,0 +1,21 @@
+package de.seuhd.campuscoffee.domain.exceptions;
+
+import de.seuhd.campuscoffee.domain.model.PosMatch;
+import lombok.Getter;
+
+import java.util.Locale;
+
+/**
+ * Exception thrown when a POS to be created is likely a duplicate of an existing POS, e.g., because it is located at
+ * the same address and its name differs only in spelling (see {@code campus-coffee.duplicates}).
+ */
+@Getter
+public class PossibleDuplicatePosException extends RuntimeException {
+    private final PosMatch match;
+
+    public PossibleDuplicatePosException(String posName, PosMatch match) {
+        super(String.format(Locale.ROOT, "POS '%s' is a possible duplicate of POS %d '%s' (name similarity %.2f).",
+                posName, match.posId(), match.name(), match.nameSimilarity()));
+        this.match = match;
+    }
+}
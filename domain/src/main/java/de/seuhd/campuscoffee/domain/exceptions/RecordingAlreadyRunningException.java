@@ -0,0 +1,10 @@
+package de.seuhd.campuscoffee.domain.exceptions;
+
+/**
+ * Exception thrown when attempting to start a flight recording while another one is running.
+ */
+public class RecordingAlreadyRunningException extends RuntimeException {
+    public RecordingAlreadyRunningException(String recordingName) {
+        super("Flight recording '" + recordingName + "' is already running.");
+    }
+}
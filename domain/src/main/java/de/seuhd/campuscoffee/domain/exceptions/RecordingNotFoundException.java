@@ -0,0 +1,10 @@
+package de.seuhd.campuscoffee.domain.exceptions;
+
+/**
+ * Exception thrown when a flight recording operation requires a recording, but none has been started.
+ */
+public class RecordingNotFoundException extends RuntimeException {
+    public RecordingNotFoundException() {
+        super("No flight recording has been started.");
+    }
+}
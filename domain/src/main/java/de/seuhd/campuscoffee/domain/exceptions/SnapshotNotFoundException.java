@@ -0,0 +1,10 @@
+package de.seuhd.campuscoffee.domain.exceptions;
+
+/**
+ * Exception thrown when no catalog snapshot has been created yet.
+ */
+public class SnapshotNotFoundException extends RuntimeException {
+    public SnapshotNotFoundException() {
+        super("No catalog snapshot exists.");
+    }
+}
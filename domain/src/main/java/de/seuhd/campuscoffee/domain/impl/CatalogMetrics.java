@@ -0,0 +1,82 @@
+package de.seuhd.campuscoffee.domain.impl;
+
+import de.seuhd.campuscoffee.domain.events.PosChangedEvent;
+import de.seuhd.campuscoffee.domain.model.CampusType;
+import de.seuhd.campuscoffee.domain.ports.PosDataService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.jspecify.annotations.NonNull;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Exposes the catalog size as gauges: {@code campuscoffee.catalog.size} (total) and
+ * {@code campuscoffee.catalog.size.campus} (tag {@code campus}).
+ * <p>
+ * The counts are queried lazily when the gauges are read (i.e., on scrape), and only if the catalog changed or the
+ * last query is older than {@code campus-coffee.metrics.catalog-size-max-age} (to pick up changes made by other
+ * instances). Scrapes therefore do not add a database query per gauge.
+ */
+@Component
+class CatalogMetrics {
+    private final PosDataService posDataService;
+    private final Duration maxAge;
+    private final Clock clock = Clock.systemUTC();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private volatile Map<CampusType, Long> counts = Map.of();
+    private volatile Instant countedAt = Instant.MIN;
+
+    CatalogMetrics(
+            PosDataService posDataService,
+            MeterRegistry meterRegistry,
+            @Value("${campus-coffee.metrics.catalog-size-max-age:PT30S}") Duration maxAge
+    ) {
+        this.posDataService = posDataService;
+        this.maxAge = maxAge;
+        Gauge.builder("campuscoffee.catalog.size", this, metrics -> metrics.counts().values().stream()
+                        .mapToLong(Long::longValue)
+                        .sum())
+                .description("Number of POS in the catalog")
+                .register(meterRegistry);
+        for (CampusType campus : CampusType.values()) {
+            Gauge.builder("campuscoffee.catalog.size.campus", this, metrics -> metrics.counts().getOrDefault(campus, 0L))
+                    .description("Number of POS in the catalog per campus")
+                    .tag("campus", campus.name())
+                    .register(meterRegistry);
+        }
+    }
+
+    @EventListener
+    void onPosChanged(@NonNull PosChangedEvent event) {
+        countedAt = Instant.MIN;
+    }
+
+    private Map<CampusType, Long> counts() {
+        if (isFresh()) {
+            return counts;
+        }
+        lock.lock();
+        try {
+            // the gauges are read one after the other during a scrape, only the first one queries the database
+            if (!isFresh()) {
+                counts = posDataService.countByCampus();
+                countedAt = clock.instant();
+            }
+            return counts;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean isFresh() {
+        return countedAt.plus(maxAge).isAfter(clock.instant());
+    }
+}
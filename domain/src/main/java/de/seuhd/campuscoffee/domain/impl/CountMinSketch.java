@@ -0,0 +1,83 @@
+package de.seuhd.campuscoffee.domain.impl;
+
+import org.jspecify.annotations.NonNull;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Count-Min sketch: estimates how often each key occurred in a stream in fixed memory.
+ * <p>
+ * Each of the {@code depth} rows has {@code width} counters, and every key increments one counter per row. Since
+ * other keys may hash to the same counters, the minimum over the rows never underestimates the count and
+ * overestimates it by at most {@code e / width} of the total count with probability {@code 1 - e^-depth}.
+ * Not thread-safe.
+ */
+final class CountMinSketch {
+    private final int depth;
+    private final int mask;
+    private final long[] counts;
+
+    /**
+     * @param depth the number of rows
+     * @param width the number of counters per row; must be a power of two
+     */
+    CountMinSketch(int depth, int width) {
+        if (depth < 1 || width < 1 || Integer.bitCount(width) != 1) {
+            throw new IllegalArgumentException("Invalid Count-Min sketch dimensions " + depth + "x" + width + ".");
+        }
+        this.depth = depth;
+        this.mask = width - 1;
+        this.counts = new long[depth * width];
+    }
+
+    void add(long key, long count) {
+        long hash = Hashes.mix(key);
+        for (int row = 0; row < depth; row++) {
+            counts[index(hash, row)] += count;
+        }
+    }
+
+    long estimate(long key) {
+        long hash = Hashes.mix(key);
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counts[index(hash, row)]);
+        }
+        return estimate;
+    }
+
+    int depth() {
+        return depth;
+    }
+
+    int width() {
+        return mask + 1;
+    }
+
+    void writeTo(@NonNull DataOutput out) throws IOException {
+        out.writeInt(depth);
+        out.writeInt(width());
+        for (long count : counts) {
+            out.writeLong(count);
+        }
+    }
+
+    static @NonNull CountMinSketch readFrom(@NonNull DataInput in) throws IOException {
+        CountMinSketch sketch = new CountMinSketch(in.readInt(), in.readInt());
+        for (int i = 0; i < sketch.counts.length; i++) {
+            sketch.counts[i] = in.readLong();
+        }
+        return sketch;
+    }
+
+    /**
+     * Derives the counter of a row from the two halves of the hash (Kirsch-Mitzenmacher), so that a single hash
+     * serves all rows.
+     */
+    private int index(long hash, int row) {
+        int combined = (int) hash + row * (int) (hash >>> 32);
+        return row * (mask + 1) + (combined & mask);
+    }
+}
@@ -0,0 +1,410 @@
+package de.seuhd.campuscoffee.domain.impl;
+
+import de.seuhd.campuscoffee.domain.exceptions.RecordingAlreadyRunningException;
+import de.seuhd.campuscoffee.domain.exceptions.RecordingNotFoundException;
+import de.seuhd.campuscoffee.domain.model.RecordingInfo;
+import de.seuhd.campuscoffee.domain.model.RecordingSummary;
+import de.seuhd.campuscoffee.domain.ports.FlightRecordingService;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of the flight recording service based on the {@code jdk.jfr} API.
+ * Recordings are written to {@code campus-coffee.jfr.directory} and bounded by {@code campus-coffee.jfr.max-age}
+ * and {@code campus-coffee.jfr.max-size-bytes}, so that a forgotten recording cannot fill the disk.
+ * <p>
+ * Each running recording has a single dump file ({@code <name>-dump.jfr}), which every dump replaces and which is
+ * deleted together with the recording. Summaries read a temporary dump that is deleted afterward.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FlightRecordingServiceImpl implements FlightRecordingService, DisposableBean {
+    private static final String EVENT_PREFIX = "campuscoffee.";
+    private static final Set<String> STANDARD_FIELDS = Set.of("startTime", "duration", "eventThread", "stackTrace");
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    private static final String DUMP_SUFFIX = "-dump.jfr";
+    private static final int MAX_TOP = 1000;
+
+    @Value("${campus-coffee.jfr.directory:jfr}")
+    private final Path directory;
+
+    @Value("${campus-coffee.jfr.max-age:PT1H}")
+    private final Duration maxAge;
+
+    @Value("${campus-coffee.jfr.max-size-bytes:268435456}")
+    private final long maxSizeBytes;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private @Nullable Recording recording;
+    private @Nullable String recordingSettings;
+    private @Nullable RecordingInfo lastInfo;
+
+    @Override
+    public @NonNull RecordingInfo start(@NonNull String settings, @Nullable Duration duration) {
+        Configuration configuration;
+        try {
+            configuration = Configuration.getConfiguration(settings);
+        } catch (IOException | ParseException e) {
+            throw new IllegalArgumentException("Unknown JFR settings '" + settings + "'.", e);
+        }
+
+        lock.lock();
+        try {
+            if (recording != null && recording.getState() == RecordingState.RUNNING) {
+                throw new RecordingAlreadyRunningException(recording.getName());
+            }
+            closeRecording();
+
+            String name = "campus-coffee-" + LocalDateTime.now(ZoneOffset.UTC).format(FILE_TIMESTAMP);
+            Files.createDirectories(directory);
+            Recording started = new Recording(configuration);
+            started.setName(name);
+            started.setToDisk(true);
+            started.setMaxAge(maxAge);
+            started.setMaxSize(maxSizeBytes);
+            started.setDestination(directory.resolve(name + ".jfr"));
+            if (duration != null) {
+                started.setDuration(duration);
+            }
+            started.start();
+            recording = started;
+            recordingSettings = settings;
+            log.info("Started flight recording '{}' with settings '{}'", name, settings);
+            return info(started);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to start flight recording in " + directory, e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public @NonNull RecordingInfo stop() {
+        lock.lock();
+        try {
+            Recording current = currentRecording();
+            if (current.getState() == RecordingState.RUNNING) {
+                // writes the recording to its destination
+                current.stop();
+                log.info("Stopped flight recording '{}', written to {}", current.getName(), current.getDestination());
+            }
+            return info(current);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public @NonNull RecordingInfo getInfo() {
+        lock.lock();
+        try {
+            if (recording != null) {
+                return info(recording);
+            }
+            if (lastInfo != null) {
+                return lastInfo;
+            }
+            throw new RecordingNotFoundException();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public @NonNull Path dump() {
+        lock.lock();
+        try {
+            Recording running = runningRecording();
+            if (running == null) {
+                return recordingFile();
+            }
+            // a single dump file per recording, replaced atomically, so that a download in progress keeps reading
+            // the previous dump
+            Path dump = directory.resolve(running.getName() + DUMP_SUFFIX);
+            Path temporary = dumpToTemporaryFile(running);
+            Files.move(temporary, dump, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.info("Dumped flight recording '{}' to {}", running.getName(), dump);
+            return dump;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to dump flight recording", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public @NonNull RecordingSummary summarize(int top) {
+        if (top < 0 || top > MAX_TOP) {
+            throw new IllegalArgumentException("The number of slowest events must be between 0 and " + MAX_TOP + ".");
+        }
+        Path file;
+        Path temporary = null;
+        lock.lock();
+        try {
+            Recording running = runningRecording();
+            if (running == null) {
+                file = recordingFile();
+            } else {
+                temporary = dumpToTemporaryFile(running);
+                file = temporary;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to dump flight recording", e);
+        } finally {
+            lock.unlock();
+        }
+        try {
+            return summarize(file, top);
+        } finally {
+            if (temporary != null) {
+                deleteQuietly(temporary);
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        lock.lock();
+        try {
+            closeRecording();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Recording currentRecording() {
+        if (recording == null) {
+            throw new RecordingNotFoundException();
+        }
+        return recording;
+    }
+
+    /**
+     * @return the current recording if it is running, else null
+     */
+    private @Nullable Recording runningRecording() {
+        if (recording == null && lastInfo == null) {
+            throw new RecordingNotFoundException();
+        }
+        return recording != null && recording.getState() == RecordingState.RUNNING ? recording : null;
+    }
+
+    /**
+     * @return the destination file of the current recording if it is no longer running, else of the last recording
+     */
+    private Path recordingFile() {
+        if (recording != null) {
+            return recording.getDestination();
+        }
+        return Path.of(Objects.requireNonNull(lastInfo).destination());
+    }
+
+    private Path dumpToTemporaryFile(Recording running) throws IOException {
+        Path temporary = Files.createTempFile(directory, running.getName() + "-", ".tmp");
+        try {
+            running.dump(temporary);
+        } catch (IOException | RuntimeException e) {
+            deleteQuietly(temporary);
+            throw e;
+        }
+        return temporary;
+    }
+
+    /**
+     * Streams the CampusCoffee events of a recording into per-type statistics and a bounded heap of the slowest
+     * events, so that memory does not grow with the number of events (a recording taken under load can contain
+     * millions).
+     */
+    private static RecordingSummary summarize(Path file, int top) {
+        Map<String, DurationStats> statsPerEvent = new HashMap<>();
+        // the fastest of the retained events at the head
+        PriorityQueue<RecordingSummary.SlowOperation> slowest = new PriorityQueue<>(
+                Math.max(1, top + 1), Comparator.comparing(RecordingSummary.SlowOperation::duration));
+        long eventCount = 0;
+        try (RecordingFile recordingFile = new RecordingFile(file)) {
+            while (recordingFile.hasMoreEvents()) {
+                RecordedEvent event = recordingFile.readEvent();
+                String eventName = event.getEventType().getName();
+                if (!eventName.startsWith(EVENT_PREFIX)) {
+                    continue;
+                }
+                eventCount++;
+                Duration duration = event.getDuration();
+                statsPerEvent.computeIfAbsent(eventName, ignored -> new DurationStats()).add(duration.toNanos());
+                if (top > 0 && (slowest.size() < top || duration.compareTo(slowest.peek().duration()) > 0)) {
+                    slowest.add(slowOperation(event));
+                    if (slowest.size() > top) {
+                        slowest.poll();
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read flight recording " + file, e);
+        }
+
+        List<RecordingSummary.OperationStats> operations = statsPerEvent.entrySet().stream()
+                .map(entry -> entry.getValue().toOperationStats(entry.getKey()))
+                .sorted(Comparator.comparing(RecordingSummary.OperationStats::max).reversed())
+                .toList();
+        List<RecordingSummary.SlowOperation> slowestFirst = new ArrayList<>(slowest);
+        slowestFirst.sort(Comparator.comparing(RecordingSummary.SlowOperation::duration).reversed());
+
+        return RecordingSummary.builder()
+                .source(file.toString())
+                .eventCount(eventCount)
+                .operations(operations)
+                .slowest(slowestFirst)
+                .build();
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Unable to delete {}: {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * Releases the resources of a previous recording, keeping its metadata for {@link #getInfo()}.
+     */
+    private void closeRecording() {
+        if (recording != null) {
+            lastInfo = info(recording);
+            recording.close();
+            deleteQuietly(directory.resolve(recording.getName() + DUMP_SUFFIX));
+            recording = null;
+        }
+    }
+
+    private RecordingInfo info(Recording recording) {
+        return RecordingInfo.builder()
+                .name(recording.getName())
+                .settings(recordingSettings == null ? "" : recordingSettings)
+                .state(recording.getState().name())
+                .startedAt(recording.getStartTime() == null
+                        ? null : LocalDateTime.ofInstant(recording.getStartTime(), ZoneOffset.UTC))
+                .duration(recording.getDuration())
+                .destination(String.valueOf(recording.getDestination()))
+                .sizeBytes(recording.getSize())
+                .build();
+    }
+
+    private static RecordingSummary.SlowOperation slowOperation(RecordedEvent event) {
+        Map<String, Object> details = new LinkedHashMap<>();
+        event.getFields().stream()
+                .filter(field -> !STANDARD_FIELDS.contains(field.getName()))
+                .forEach(field -> details.put(field.getName(), event.getValue(field.getName())));
+        return RecordingSummary.SlowOperation.builder()
+                .event(event.getEventType().getName())
+                .startedAt(LocalDateTime.ofInstant(event.getStartTime(), ZoneOffset.UTC))
+                .duration(event.getDuration())
+                .thread(event.getThread() == null ? "" : event.getThread().getJavaName())
+                .details(details.entrySet().stream()
+                        .map(entry -> entry.getKey() + "=" + entry.getValue())
+                        .collect(Collectors.joining(", ")))
+                .build();
+    }
+
+    /**
+     * Duration statistics of one event type in constant memory: exact count, sum, and maximum, and a log-scale
+     * histogram with 8 buckets per power of two for the 95th percentile, which is thus overestimated by at most 12.5%.
+     */
+    private static final class DurationStats {
+        private static final int SUB_BUCKET_BITS = 3;
+        private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+        private final long[] histogram = new long[Long.SIZE * SUB_BUCKETS];
+        private long count;
+        private long sumNanos;
+        private long maxNanos;
+
+        void add(long nanos) {
+            long value = Math.max(0, nanos);
+            histogram[bucket(value)]++;
+            count++;
+            sumNanos += value;
+            maxNanos = Math.max(maxNanos, value);
+        }
+
+        RecordingSummary.OperationStats toOperationStats(String event) {
+            return RecordingSummary.OperationStats.builder()
+                    .event(event)
+                    .count(count)
+                    .mean(Duration.ofNanos(sumNanos / count))
+                    .p95(Duration.ofNanos(Math.min(percentile(0.95), maxNanos)))
+                    .max(Duration.ofNanos(maxNanos))
+                    .build();
+        }
+
+        /**
+         * @return the upper bound of the bucket that contains the percentile
+         */
+        private long percentile(double fraction) {
+            long rank = (long) Math.ceil(count * fraction);
+            long seen = 0;
+            for (int bucket = 0; bucket < histogram.length; bucket++) {
+                seen += histogram[bucket];
+                if (seen >= rank) {
+                    return upperBound(bucket);
+                }
+            }
+            return maxNanos;
+        }
+
+        /**
+         * Values below {@link #SUB_BUCKETS} get a bucket each; larger values are bucketed by their exponent and the
+         * {@link #SUB_BUCKET_BITS} bits that follow the leading one.
+         */
+        private static int bucket(long value) {
+            if (value < SUB_BUCKETS) {
+                return (int) value;
+            }
+            int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+            int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+            return exponent * SUB_BUCKETS + subBucket;
+        }
+
+        private static long upperBound(int bucket) {
+            if (bucket < SUB_BUCKETS) {
+                return bucket;
+            }
+            int shift = bucket / SUB_BUCKETS - SUB_BUCKET_BITS;
+            long lowerBound = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+            return lowerBound + (1L << shift) - 1;
+        }
+    }
+}
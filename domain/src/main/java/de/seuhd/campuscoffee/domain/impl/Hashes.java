@@ -0,0 +1,44 @@
+package de.seuhd.campuscoffee.domain.impl;
+
+import org.jspecify.annotations.NonNull;
+
+/**
+ * 64-bit hash functions for the streaming sketches ({@link CountMinSketch}, {@link HyperLogLog}).
+ * The sketches rely on well-distributed bits, which {@link Object#hashCode()} does not provide.
+ */
+final class Hashes {
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private Hashes() {}
+
+    /**
+     * Scrambles all bits of a key (the finalizer of MurmurHash3).
+     *
+     * @param key the key, e.g., a POS ID
+     * @return the hash
+     */
+    static long mix(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        key *= 0xc4ceb9fe1a85ec53L;
+        key ^= key >>> 33;
+        return key;
+    }
+
+    /**
+     * Hashes a string with FNV-1a, scrambled with {@link #mix(long)}.
+     *
+     * @param value the string, e.g., a client address
+     * @return the hash
+     */
+    static long hash(@NonNull CharSequence value) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        return mix(hash);
+    }
+}
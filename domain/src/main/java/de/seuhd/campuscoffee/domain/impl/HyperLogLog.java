@@ -0,0 +1,99 @@
+package de.seuhd.campuscoffee.domain.impl;
+
+import org.jspecify.annotations.NonNull;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * HyperLogLog: estimates the number of distinct values in a stream in fixed memory.
+ * <p>
+ * The first {@code precision} bits of a value's hash select one of {@code 2^precision} registers, which keeps the
+ * maximum number of leading zeros (plus one) of the remaining bits. The standard error of the estimate is about
+ * {@code 1.04 / sqrt(2^precision)}, e.g., 1.6% for precision 12 (4 KB). Sketches of the same precision can be merged
+ * without loss. Not thread-safe.
+ */
+final class HyperLogLog {
+    private final int precision;
+    private final byte[] registers;
+
+    /**
+     * @param precision the number of index bits, from 4 to 16
+     */
+    HyperLogLog(int precision) {
+        if (precision < 4 || precision > 16) {
+            throw new IllegalArgumentException("Invalid HyperLogLog precision " + precision + ".");
+        }
+        this.precision = precision;
+        this.registers = new byte[1 << precision];
+    }
+
+    /**
+     * @param hash the 64-bit hash of the value (see {@link Hashes})
+     */
+    void add(long hash) {
+        int index = (int) (hash >>> (64 - precision));
+        // the sentinel bit bounds the rank if all remaining bits are zero
+        int rank = Long.numberOfLeadingZeros((hash << precision) | (1L << (precision - 1))) + 1;
+        if (rank > registers[index]) {
+            registers[index] = (byte) rank;
+        }
+    }
+
+    long estimate() {
+        int m = registers.length;
+        double sum = 0;
+        int zeros = 0;
+        for (byte register : registers) {
+            sum += 1.0 / (1L << register);
+            if (register == 0) {
+                zeros++;
+            }
+        }
+        double alpha = switch (m) {
+            case 16 -> 0.673;
+            case 32 -> 0.697;
+            case 64 -> 0.709;
+            default -> 0.7213 / (1 + 1.079 / m);
+        };
+        double estimate = alpha * m * m / sum;
+        if (estimate <= 2.5 * m && zeros > 0) {
+            // linear counting is more accurate for small cardinalities
+            estimate = m * Math.log((double) m / zeros);
+        }
+        return Math.round(estimate);
+    }
+
+    /**
+     * Adds all values of another sketch of the same precision.
+     */
+    void merge(@NonNull HyperLogLog other) {
+        if (other.precision != precision) {
+            throw new IllegalArgumentException("Cannot merge HyperLogLog sketches of different precision.");
+        }
+        for (int i = 0; i < registers.length; i++) {
+            registers[i] = (byte) Math.max(registers[i], other.registers[i]);
+        }
+    }
+
+    void clear() {
+        Arrays.fill(registers, (byte) 0);
+    }
+
+    int precision() {
+        return precision;
+    }
+
+    void writeTo(@NonNull DataOutput out) throws IOException {
+        out.writeByte(precision);
+        out.write(registers);
+    }
+
+    static @NonNull HyperLogLog readFrom(@NonNull DataInput in) throws IOException {
+        HyperLogLog sketch = new HyperLogLog(in.readByte());
+        in.readFully(sketch.registers);
+        return sketch;
+    }
+}
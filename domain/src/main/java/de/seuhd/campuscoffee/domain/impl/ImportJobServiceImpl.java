@@ -0,0 +1,54 @@
+package de.seuhd.campuscoffee.domain.impl;
+
+import de.seuhd.campuscoffee.domain.exceptions.ImportJobNotFoundException;
+import de.seuhd.campuscoffee.domain.model.ImportJob;
+import de.seuhd.campuscoffee.domain.ports.ImportJobDataService;
+import de.seuhd.campuscoffee.domain.ports.ImportJobService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.NonNull;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Implementation of the import job service. Jobs are stored in the job queue of the data layer and processed by the
+ * {@link ImportJobWorker}s of all instances; the worker of this instance is woken up right away.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImportJobServiceImpl implements ImportJobService {
+    private final ImportJobDataService importJobDataService;
+    private final ObjectProvider<ImportJobWorker> importJobWorker;
+
+    @Value("${campus-coffee.import-jobs.max-nodes:1000}")
+    private final int maxNodes;
+
+    @Override
+    public @NonNull ImportJob submit(@NonNull List<Long> nodeIds) {
+        List<Long> distinctNodeIds = nodeIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (distinctNodeIds.isEmpty()) {
+            throw new IllegalArgumentException("An import job requires at least one OSM node ID.");
+        }
+        if (distinctNodeIds.size() > maxNodes) {
+            throw new IllegalArgumentException(
+                    "An import job must not contain more than " + maxNodes + " OSM node IDs.");
+        }
+        ImportJob job = importJobDataService.create(distinctNodeIds);
+        log.info("Submitted import job {} for {} OSM nodes", job.id(), distinctNodeIds.size());
+        importJobWorker.ifAvailable(ImportJobWorker::wakeUp);
+        return job;
+    }
+
+    @Override
+    public @NonNull ImportJob getById(@NonNull Long id) throws ImportJobNotFoundException {
+        return importJobDataService.getById(id);
+    }
+}
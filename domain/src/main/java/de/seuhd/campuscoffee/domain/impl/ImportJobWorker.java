@@ -0,0 +1,259 @@
+package de.seuhd.campuscoffee.domain.impl;
+
+import de.seuhd.campuscoffee.domain.exceptions.DuplicatePosNameException;
+import de.seuhd.campuscoffee.domain.exceptions.OsmNodeMissingFieldsException;
+import de.seuhd.campuscoffee.domain.exceptions.OsmNodeNotFoundException;
+import de.seuhd.campuscoffee.domain.exceptions.OsmRateLimitExceededException;
+import de.seuhd.campuscoffee.domain.model.ImportTask;
+import de.seuhd.campuscoffee.domain.model.Pos;
+import de.seuhd.campuscoffee.domain.ports.ImportJobDataService;
+import de.seuhd.campuscoffee.domain.ports.PosService;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBooleanProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Processes the items of asynchronous import jobs on a bounded pool of worker threads.
+ * <p>
+ * A single poller thread claims as many due items from the shared job queue as workers are idle, so items are
+ * never queued in memory and the remaining items stay available to the workers of other instances. When the queue
+ * is drained, the poller waits for {@code campus-coffee.import-jobs.worker.poll-interval} or until a job is submitted
+ * on this instance.
+ * <p>
+ * Failed imports are retried with exponential backoff and jitter, up to {@code campus-coffee.import-jobs.max-attempts}
+ * attempts. Failures that a retry cannot fix (unknown or incomplete OSM nodes, duplicate names) fail the item
+ * immediately. If an instance dies while processing an item, the item is claimed again after its lease expired.
+ * Processed items are counted as {@code campuscoffee.import.items} (tag {@code outcome}).
+ */
+@Slf4j
+@Component
+@ConditionalOnBooleanProperty(name = "campus-coffee.import-jobs.worker.enabled", matchIfMissing = true)
+@RequiredArgsConstructor
+class ImportJobWorker implements SmartLifecycle {
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(10);
+
+    private final ImportJobDataService importJobDataService;
+    private final PosService posService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${campus-coffee.import-jobs.worker.threads:4}")
+    private final int threads;
+
+    @Value("${campus-coffee.import-jobs.worker.poll-interval:PT1S}")
+    private final Duration pollInterval;
+
+    @Value("${campus-coffee.import-jobs.worker.lease:PT2M}")
+    private final Duration lease;
+
+    @Value("${campus-coffee.import-jobs.max-attempts:5}")
+    private final int maxAttempts;
+
+    @Value("${campus-coffee.import-jobs.initial-backoff:PT2S}")
+    private final Duration initialBackoff;
+
+    @Value("${campus-coffee.import-jobs.max-backoff:PT5M}")
+    private final Duration maxBackoff;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition workSubmitted = lock.newCondition();
+    private boolean wakeUpRequested; // guarded by lock
+
+    private volatile boolean running;
+    private @Nullable Thread poller;
+    private @Nullable ExecutorService workers;
+    private @Nullable Semaphore idleWorkers;
+
+    @Override
+    public void start() {
+        idleWorkers = new Semaphore(threads);
+        workers = Executors.newFixedThreadPool(threads, Thread.ofPlatform().name("import-worker-", 1).factory());
+        running = true;
+        poller = Thread.ofPlatform().name("import-poller").daemon().start(this::poll);
+        log.info("Started import job worker with {} threads", threads);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (poller != null) {
+            poller.interrupt();
+        }
+        if (workers != null) {
+            // items that are still running after the timeout are picked up again once their lease expired
+            workers.shutdown();
+            try {
+                if (!workers.awaitTermination(SHUTDOWN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+                    workers.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                workers.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
+        log.info("Stopped import job worker");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Makes the poller check the job queue right away, e.g., after a job was submitted on this instance.
+     */
+    void wakeUp() {
+        lock.lock();
+        try {
+            wakeUpRequested = true;
+            workSubmitted.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void poll() {
+        Semaphore idle = Objects.requireNonNull(idleWorkers);
+        ExecutorService executor = Objects.requireNonNull(workers);
+        while (running) {
+            try {
+                idle.acquire();
+                int available = 1 + idle.drainPermits();
+                List<ImportTask> tasks = claim(available);
+                idle.release(available - tasks.size());
+                for (int i = 0; i < tasks.size(); i++) {
+                    ImportTask task = tasks.get(i);
+                    try {
+                        executor.execute(() -> {
+                            try {
+                                process(task);
+                            } finally {
+                                idle.release();
+                            }
+                        });
+                    } catch (RejectedExecutionException e) {
+                        // stopped after claiming: the items not handed to a worker are claimed again once their
+                        // lease expired
+                        idle.release(tasks.size() - i);
+                        log.info("Import job worker stopped, leaving {} claimed items to their lease",
+                                tasks.size() - i);
+                        return;
+                    }
+                }
+                if (tasks.size() < available) {
+                    // no more due items
+                    awaitWork();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private List<ImportTask> claim(int limit) {
+        try {
+            return importJobDataService.claim(limit, lease);
+        } catch (RuntimeException e) {
+            log.warn("Unable to claim import job items, retrying in {}: {}", pollInterval, e.getMessage());
+            return List.of();
+        }
+    }
+
+    private void awaitWork() throws InterruptedException {
+        lock.lock();
+        try {
+            if (!wakeUpRequested) {
+                workSubmitted.awaitNanos(pollInterval.toNanos());
+            }
+            wakeUpRequested = false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void process(ImportTask task) {
+        Pos pos;
+        try {
+            pos = posService.importFromOsmNode(task.nodeId());
+        } catch (OsmNodeNotFoundException | OsmNodeMissingFieldsException | DuplicatePosNameException e) {
+            // retrying cannot change the outcome
+            log.warn("Import of OSM node {} (job {}) failed: {}", task.nodeId(), task.jobId(), e.getMessage());
+            recordFailure(task, e);
+            return;
+        } catch (RuntimeException e) {
+            retryOrFail(task, e);
+            return;
+        }
+        // outside of the try: the POS is imported, so failing to record that must not lead to a retry
+        Long posId = Objects.requireNonNull(pos.id());
+        recordOutcome(() -> importJobDataService.complete(task.itemId(), posId), task);
+        count("succeeded");
+    }
+
+    private void retryOrFail(ImportTask task, RuntimeException e) {
+        if (task.attempts() >= maxAttempts) {
+            log.warn("Import of OSM node {} (job {}) failed after {} attempts: {}",
+                    task.nodeId(), task.jobId(), task.attempts(), e.getMessage());
+            recordFailure(task, e);
+            return;
+        }
+        Duration backoff = backoff(task.attempts());
+        Duration delay = e instanceof OsmRateLimitExceededException rateLimitExceeded
+                && rateLimitExceeded.getRetryAfter().compareTo(backoff) > 0
+                ? rateLimitExceeded.getRetryAfter() : backoff;
+        log.info("Import of OSM node {} (job {}) failed in attempt {}, retrying in {}: {}",
+                task.nodeId(), task.jobId(), task.attempts(), delay, e.getMessage());
+        recordOutcome(() -> importJobDataService.retry(task.itemId(), delay, message(e)), task);
+        count("retried");
+    }
+
+    private void recordFailure(ImportTask task, RuntimeException e) {
+        recordOutcome(() -> importJobDataService.fail(task.itemId(), message(e)), task);
+        count("failed");
+    }
+
+    private void recordOutcome(Runnable update, ImportTask task) {
+        try {
+            update.run();
+        } catch (RuntimeException e) {
+            log.warn("Unable to record the outcome of import job item {}, it is retried once its lease expired: {}",
+                    task.itemId(), e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the delay before the next attempt: exponential in the number of attempts, capped at the maximum
+     * backoff, and randomized in its upper half, so that items that failed together (e.g., during an outage of
+     * OpenStreetMap) are not retried together.
+     */
+    private Duration backoff(int attempts) {
+        long exponential = initialBackoff.toMillis() << Math.min(attempts - 1, 20);
+        long capped = Math.min(exponential, maxBackoff.toMillis());
+        return Duration.ofMillis(capped / 2 + ThreadLocalRandom.current().nextLong(capped / 2 + 1));
+    }
+
+    private void count(String outcome) {
+        meterRegistry.counter("campuscoffee.import.items", "outcome", outcome).increment();
+    }
+
+    private static String message(RuntimeException e) {
+        return e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+    }
+}
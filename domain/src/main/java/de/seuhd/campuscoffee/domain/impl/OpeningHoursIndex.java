@@ -0,0 +1,177 @@
+package de.seuhd.campuscoffee.domain.impl;
+
+import de.seuhd.campuscoffee.domain.events.PosChangedEvent;
+import de.seuhd.campuscoffee.domain.model.CampusType;
+import de.seuhd.campuscoffee.domain.model.OpeningHours;
+import de.seuhd.campuscoffee.domain.model.Pos;
+import de.seuhd.campuscoffee.domain.model.PosType;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * In-memory index that answers "which POS are open at time t" with bitwise operations on the whole catalog.
+ * <p>
+ * The week is divided into slots of {@value #SLOT_MINUTES} minutes. For each slot, the index holds a bitmap of the
+ * POS (by position in the catalog) that are open throughout the slot and a bitmap of those that are open during part
+ * of it; campus and type filters are bitmaps as well. A query copies the bitmap of its slot, checks only the
+ * (usually few) partly open POS against their exact intervals, and intersects the result with the filters.
+ * <p>
+ * The index is rebuilt from the catalog on the first query after a change (on this instance, or on another one as
+ * reported by the feed of its changes), or once it is older than {@code campus-coffee.opening-hours.index-max-age}
+ * (to pick up changes that the feed missed).
+ * POS without opening hours are never considered open.
+ */
+@Slf4j
+@Component
+class OpeningHoursIndex {
+    static final int SLOT_MINUTES = 15;
+    private static final int SLOTS = OpeningHours.MINUTES_PER_WEEK / SLOT_MINUTES;
+    private static final BitSet NONE = new BitSet();
+
+    private final Duration maxAge;
+    private final Clock clock = Clock.systemUTC();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final AtomicLong generation = new AtomicLong();
+    private volatile @Nullable Index index;
+
+    OpeningHoursIndex(@Value("${campus-coffee.opening-hours.index-max-age:PT30S}") Duration maxAge) {
+        this.maxAge = maxAge;
+    }
+
+    /**
+     * Finds the POS that are open at the given minute of the week.
+     *
+     * @param minuteOfWeek the minute of the week (see {@link OpeningHours#minuteOfWeek})
+     * @param campus       the campus to filter by; null for all
+     * @param type         the POS type to filter by; null for all
+     * @param catalog      loads the full catalog if the index has to be rebuilt
+     * @return the open POS in catalog order
+     */
+    @NonNull List<Pos> findOpen(int minuteOfWeek, @Nullable CampusType campus, @Nullable PosType type,
+                                @NonNull Supplier<List<Pos>> catalog) {
+        return current(catalog).findOpen(minuteOfWeek, campus, type);
+    }
+
+    @EventListener
+    void onPosChanged(@NonNull PosChangedEvent event) {
+        generation.incrementAndGet();
+    }
+
+    private Index current(Supplier<List<Pos>> catalog) {
+        Index current = index;
+        if (isFresh(current)) {
+            return current;
+        }
+        lock.lock();
+        try {
+            // concurrent queries after a change wait for a single rebuild
+            current = index;
+            if (!isFresh(current)) {
+                // read the generation first: a change during the load makes the new index stale right away
+                long builtGeneration = generation.get();
+                current = Index.build(catalog.get(), builtGeneration, clock.instant());
+                index = current;
+                log.debug("Rebuilt opening hours index for {} POS", current.catalog().length);
+            }
+            return current;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean isFresh(@Nullable Index index) {
+        return index != null
+                && index.generation() == generation.get()
+                && index.builtAt().plus(maxAge).isAfter(clock.instant());
+    }
+
+    /**
+     * An immutable index over one version of the catalog.
+     */
+    private record Index(
+            long generation,
+            Instant builtAt,
+            Pos[] catalog,
+            BitSet[] openThroughout,
+            BitSet[] openPartly,
+            Map<CampusType, BitSet> byCampus,
+            Map<PosType, BitSet> byType
+    ) {
+        static Index build(List<Pos> posList, long generation, Instant builtAt) {
+            Pos[] catalog = posList.toArray(Pos[]::new);
+            BitSet[] openThroughout = new BitSet[SLOTS];
+            BitSet[] openPartly = new BitSet[SLOTS];
+            for (int slot = 0; slot < SLOTS; slot++) {
+                openThroughout[slot] = new BitSet();
+                openPartly[slot] = new BitSet();
+            }
+            Map<CampusType, BitSet> byCampus = new EnumMap<>(CampusType.class);
+            Map<PosType, BitSet> byType = new EnumMap<>(PosType.class);
+
+            for (int i = 0; i < catalog.length; i++) {
+                Pos pos = catalog[i];
+                byCampus.computeIfAbsent(pos.campus(), ignored -> new BitSet()).set(i);
+                byType.computeIfAbsent(pos.type(), ignored -> new BitSet()).set(i);
+                if (pos.openingHours() == null) {
+                    continue;
+                }
+                int[] intervals = pos.openingHours().intervals();
+                for (int k = 0; k < intervals.length; k += 2) {
+                    int start = intervals[k];
+                    int end = intervals[k + 1];
+                    // slots from the first slot that starts within the interval to the last one that ends within it
+                    for (int slot = Math.ceilDiv(start, SLOT_MINUTES); slot < end / SLOT_MINUTES; slot++) {
+                        openThroughout[slot].set(i);
+                    }
+                    if (start % SLOT_MINUTES != 0) {
+                        openPartly[start / SLOT_MINUTES].set(i);
+                    }
+                    if (end % SLOT_MINUTES != 0) {
+                        openPartly[(end - 1) / SLOT_MINUTES].set(i);
+                    }
+                }
+            }
+            return new Index(generation, builtAt, catalog, openThroughout, openPartly, byCampus, byType);
+        }
+
+        List<Pos> findOpen(int minuteOfWeek, @Nullable CampusType campus, @Nullable PosType type) {
+            int slot = minuteOfWeek / SLOT_MINUTES;
+            BitSet open = (BitSet) openThroughout[slot].clone();
+            BitSet partly = openPartly[slot];
+            for (int i = partly.nextSetBit(0); i >= 0; i = partly.nextSetBit(i + 1)) {
+                if (Objects.requireNonNull(catalog[i].openingHours()).isOpenAt(minuteOfWeek)) {
+                    open.set(i);
+                }
+            }
+            if (campus != null) {
+                open.and(byCampus.getOrDefault(campus, NONE));
+            }
+            if (type != null) {
+                open.and(byType.getOrDefault(type, NONE));
+            }
+
+            List<Pos> result = new ArrayList<>(open.cardinality());
+            for (int i = open.nextSetBit(0); i >= 0; i = open.nextSetBit(i + 1)) {
+                result.add(catalog[i]);
+            }
+            return result;
+        }
+    }
+}
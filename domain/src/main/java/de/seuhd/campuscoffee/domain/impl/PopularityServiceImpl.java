@@ -0,0 +1,432 @@
+package de.seuhd.campuscoffee.domain.impl;
+
+import de.seuhd.campuscoffee.domain.model.PopularityReport;
+import de.seuhd.campuscoffee.domain.model.PosListing;
+import de.seuhd.campuscoffee.domain.model.TrendingPos;
+import de.seuhd.campuscoffee.domain.ports.PopularityCheckpointDataService;
+import de.seuhd.campuscoffee.domain.ports.PopularityService;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Implementation of the popularity analytics with streaming sketches in rolling time windows.
+ * <p>
+ * Request threads only hash the client and offer the view to a bounded queue; if the queue is full, the view is
+ * dropped and counted as {@code campuscoffee.analytics.dropped}. A single aggregator thread drains the queue in
+ * batches into the bucket of the current time slot ({@code campus-coffee.analytics.bucket-duration}). Each bucket
+ * holds a {@link CountMinSketch} of the views per POS, a {@link HyperLogLog} of the distinct clients, and a
+ * {@link SpaceSaving} summary of the most viewed POS with their distinct clients. The last
+ * {@code campus-coffee.analytics.buckets} buckets are kept in a ring, so memory is fixed whatever the traffic.
+ * <p>
+ * Reports merge the buckets of the requested window: the trending POS are the candidates tracked by Space-Saving in
+ * any of these buckets, ranked by their views according to the Count-Min sketches. The ring is written to a checkpoint
+ * every {@code campus-coffee.analytics.checkpoint-interval} and on shutdown, and restored on startup.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PopularityServiceImpl implements PopularityService, SmartLifecycle {
+    private static final int CHECKPOINT_MAGIC = 0x43435041; // "CCPA"
+    private static final int CHECKPOINT_VERSION = 1;
+    // about 0.13% of the views of a bucket as maximum overestimation, 64 KB per bucket
+    private static final int SKETCH_DEPTH = 4;
+    private static final int SKETCH_WIDTH = 2048;
+    private static final int CLIENT_PRECISION = 12;
+    private static final int POS_CLIENT_PRECISION = 8;
+    private static final int DRAIN_BATCH_SIZE = 1024;
+    private static final Duration POLL_TIMEOUT = Duration.ofSeconds(1);
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(5);
+
+    private final PopularityCheckpointDataService checkpointDataService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${campus-coffee.analytics.bucket-duration:PT5M}")
+    private final Duration bucketDuration;
+
+    @Value("${campus-coffee.analytics.buckets:24}")
+    private final int bucketCount;
+
+    @Value("${campus-coffee.analytics.queue-capacity:65536}")
+    private final int queueCapacity;
+
+    @Value("${campus-coffee.analytics.top-k:64}")
+    private final int topK;
+
+    @Value("${campus-coffee.analytics.checkpoint-interval:PT1M}")
+    private final Duration checkpointInterval;
+
+    private final Clock clock = Clock.systemUTC();
+    private final ReentrantLock lock = new ReentrantLock();
+    private Bucket @Nullable [] buckets; // guarded by lock; indexed by slot modulo bucket count
+
+    private volatile @Nullable BlockingQueue<View> queue;
+    private volatile boolean running;
+    private @Nullable Thread aggregator;
+
+    @Override
+    public void recordView(long posId, @NonNull String client) {
+        enqueue(new View(null, posId, Hashes.hash(client)));
+    }
+
+    @Override
+    public void recordListing(@NonNull PosListing listing, @NonNull String client) {
+        enqueue(new View(listing, 0, Hashes.hash(client)));
+    }
+
+    @Override
+    public @NonNull PopularityReport getReport(@NonNull Duration window, int limit) {
+        long bucketMillis = bucketDuration.toMillis();
+        if (window.isNegative() || window.isZero() || window.toMillis() > bucketCount * bucketMillis) {
+            throw new IllegalArgumentException(
+                    "The window must be positive and at most " + bucketDuration.multipliedBy(bucketCount) + ".");
+        }
+        if (limit < 1 || limit > topK) {
+            throw new IllegalArgumentException("The limit must be between 1 and " + topK + ".");
+        }
+        int slots = (int) Math.ceilDiv(window.toMillis(), bucketMillis);
+
+        lock.lock();
+        try {
+            long currentSlot = currentSlot();
+            List<Bucket> recent = bucketsBetween(currentSlot - slots + 1, currentSlot);
+            List<Bucket> previous = bucketsBetween(currentSlot - 2L * slots + 1, currentSlot - slots);
+
+            long views = 0;
+            HyperLogLog clients = new HyperLogLog(CLIENT_PRECISION);
+            Map<PosListing, Long> listings = new EnumMap<>(PosListing.class);
+            Map<Long, HyperLogLog> candidates = new HashMap<>();
+            for (Bucket bucket : recent) {
+                views += bucket.views;
+                clients.merge(bucket.clients);
+                for (PosListing listing : PosListing.values()) {
+                    listings.merge(listing, bucket.listings[listing.ordinal()], Long::sum);
+                }
+                for (SpaceSaving.Counter counter : bucket.top.counters()) {
+                    candidates.computeIfAbsent(counter.key(), ignored -> new HyperLogLog(POS_CLIENT_PRECISION))
+                            .merge(counter.clients());
+                }
+            }
+            List<TrendingPos> trending = candidates.entrySet().stream()
+                    .map(candidate -> new TrendingPos(
+                            candidate.getKey(),
+                            estimate(recent, candidate.getKey()),
+                            estimate(previous, candidate.getKey()),
+                            candidate.getValue().estimate()))
+                    .sorted(Comparator.comparingLong(TrendingPos::views).reversed()
+                            .thenComparing(TrendingPos::posId))
+                    .limit(limit)
+                    .toList();
+
+            return PopularityReport.builder()
+                    .since(LocalDateTime.ofInstant(
+                            Instant.ofEpochMilli((currentSlot - slots + 1) * bucketMillis), ZoneOffset.UTC))
+                    .window(bucketDuration.multipliedBy(slots))
+                    .views(views)
+                    .distinctClients(clients.estimate())
+                    .listings(listings)
+                    .trending(trending)
+                    .build();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void start() {
+        lock.lock();
+        try {
+            buckets = new Bucket[bucketCount];
+            restore();
+        } finally {
+            lock.unlock();
+        }
+        BlockingQueue<View> views = new ArrayBlockingQueue<>(queueCapacity);
+        meterRegistry.gaugeCollectionSize("campuscoffee.analytics.queue", List.of(), views);
+        queue = views;
+        running = true;
+        aggregator = Thread.ofPlatform().name("popularity-aggregator").daemon().start(() -> aggregate(views));
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        BlockingQueue<View> views = queue;
+        queue = null;
+        if (aggregator != null) {
+            aggregator.interrupt();
+            try {
+                aggregator.join(SHUTDOWN_TIMEOUT);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (views != null) {
+            // views that arrived after the aggregator stopped
+            List<View> batch = new ArrayList<>(views.size());
+            views.drainTo(batch);
+            record(batch);
+        }
+        checkpoint();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void enqueue(View view) {
+        BlockingQueue<View> views = queue;
+        if (views != null && !views.offer(view)) {
+            meterRegistry.counter("campuscoffee.analytics.dropped").increment();
+        }
+    }
+
+    private void aggregate(BlockingQueue<View> views) {
+        List<View> batch = new ArrayList<>(DRAIN_BATCH_SIZE);
+        long nextCheckpoint = System.nanoTime() + checkpointInterval.toNanos();
+        while (running) {
+            try {
+                View first = views.poll(POLL_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    views.drainTo(batch, DRAIN_BATCH_SIZE - 1);
+                    record(batch);
+                    batch.clear();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (System.nanoTime() - nextCheckpoint >= 0) {
+                checkpoint();
+                nextCheckpoint = System.nanoTime() + checkpointInterval.toNanos();
+            }
+        }
+    }
+
+    private void record(List<View> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        lock.lock();
+        try {
+            Bucket bucket = currentBucket();
+            for (View view : batch) {
+                bucket.add(view);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long currentSlot() {
+        return clock.millis() / bucketDuration.toMillis();
+    }
+
+    /**
+     * Returns the bucket of the current slot, replacing the bucket of the slot that left the ring.
+     */
+    private Bucket currentBucket() {
+        Bucket[] ring = Objects.requireNonNull(buckets);
+        long slot = currentSlot();
+        int index = (int) Math.floorMod(slot, (long) ring.length);
+        Bucket bucket = ring[index];
+        if (bucket == null || bucket.slot != slot) {
+            bucket = new Bucket(slot, topK);
+            ring[index] = bucket;
+        }
+        return bucket;
+    }
+
+    /**
+     * Returns the retained buckets of the slots from first to last (inclusive).
+     */
+    private List<Bucket> bucketsBetween(long first, long last) {
+        List<Bucket> result = new ArrayList<>();
+        if (buckets == null) {
+            // not started yet
+            return result;
+        }
+        for (Bucket bucket : buckets) {
+            if (bucket != null && bucket.slot >= first && bucket.slot <= last) {
+                result.add(bucket);
+            }
+        }
+        return result;
+    }
+
+    private static long estimate(List<Bucket> buckets, long posId) {
+        long views = 0;
+        for (Bucket bucket : buckets) {
+            views += bucket.viewsPerPos.estimate(posId);
+        }
+        return views;
+    }
+
+    private void checkpoint() {
+        byte[] checkpoint;
+        lock.lock();
+        try {
+            checkpoint = serialize();
+        } catch (IOException e) {
+            log.warn("Unable to serialize the popularity sketches: {}", e.getMessage());
+            return;
+        } finally {
+            lock.unlock();
+        }
+        try {
+            checkpointDataService.save(checkpoint);
+        } catch (RuntimeException e) {
+            log.warn("Unable to write the popularity checkpoint: {}", e.getMessage());
+        }
+    }
+
+    private byte[] serialize() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(CHECKPOINT_MAGIC);
+            out.writeInt(CHECKPOINT_VERSION);
+            out.writeLong(bucketDuration.toMillis());
+            List<Bucket> retained = bucketsBetween(Long.MIN_VALUE, Long.MAX_VALUE);
+            out.writeInt(retained.size());
+            for (Bucket bucket : retained) {
+                bucket.writeTo(out);
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Restores the buckets of a checkpoint that are still within the ring. Checkpoints written with a different bucket
+     * duration or sketch configuration are ignored.
+     */
+    private void restore() {
+        byte[] checkpoint = checkpointDataService.load().orElse(null);
+        if (checkpoint == null) {
+            return;
+        }
+        Bucket[] ring = Objects.requireNonNull(buckets);
+        long oldestSlot = currentSlot() - ring.length + 1;
+        int restored = 0;
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(checkpoint))) {
+            if (in.readInt() != CHECKPOINT_MAGIC || in.readInt() != CHECKPOINT_VERSION
+                    || in.readLong() != bucketDuration.toMillis()) {
+                log.info("Ignoring popularity checkpoint of a different format or bucket duration");
+                return;
+            }
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                Bucket bucket = Bucket.readFrom(in);
+                if (bucket.slot >= oldestSlot && bucket.top.capacity() == topK
+                        && bucket.viewsPerPos.depth() == SKETCH_DEPTH && bucket.viewsPerPos.width() == SKETCH_WIDTH) {
+                    ring[(int) Math.floorMod(bucket.slot, (long) ring.length)] = bucket;
+                    restored++;
+                }
+            }
+            log.info("Restored {} popularity buckets from checkpoint", restored);
+        } catch (IOException | IllegalArgumentException e) {
+            log.warn("Ignoring unreadable popularity checkpoint: {}", e.getMessage());
+            // do not keep the buckets of a partially read checkpoint
+            Arrays.fill(ring, null);
+        }
+    }
+
+    /**
+     * A view of a single POS ({@code listing} is null) or of a list of POS.
+     */
+    private record View(@Nullable PosListing listing, long posId, long client) {}
+
+    /**
+     * The sketches of one time slot.
+     */
+    private static final class Bucket {
+        private final long slot;
+        private final CountMinSketch viewsPerPos;
+        private final HyperLogLog clients;
+        private final SpaceSaving top;
+        private final long[] listings;
+        private long views;
+
+        private Bucket(long slot, CountMinSketch viewsPerPos, HyperLogLog clients, SpaceSaving top, long[] listings) {
+            this.slot = slot;
+            this.viewsPerPos = viewsPerPos;
+            this.clients = clients;
+            this.top = top;
+            this.listings = listings;
+        }
+
+        Bucket(long slot, int topK) {
+            this(slot, new CountMinSketch(SKETCH_DEPTH, SKETCH_WIDTH), new HyperLogLog(CLIENT_PRECISION),
+                    new SpaceSaving(topK, POS_CLIENT_PRECISION), new long[PosListing.values().length]);
+        }
+
+        void add(View view) {
+            clients.add(view.client());
+            if (view.listing() != null) {
+                listings[view.listing().ordinal()]++;
+            } else {
+                views++;
+                viewsPerPos.add(view.posId(), 1);
+                top.add(view.posId(), view.client());
+            }
+        }
+
+        void writeTo(DataOutputStream out) throws IOException {
+            out.writeLong(slot);
+            out.writeLong(views);
+            out.writeInt(listings.length);
+            for (long count : listings) {
+                out.writeLong(count);
+            }
+            viewsPerPos.writeTo(out);
+            clients.writeTo(out);
+            top.writeTo(out);
+        }
+
+        static Bucket readFrom(DataInputStream in) throws IOException {
+            long slot = in.readLong();
+            long views = in.readLong();
+            long[] listings = new long[PosListing.values().length];
+            int listingCount = in.readInt();
+            for (int i = 0; i < listingCount; i++) {
+                long count = in.readLong();
+                if (i < listings.length) {
+                    listings[i] = count;
+                }
+            }
+            Bucket bucket = new Bucket(slot, CountMinSketch.readFrom(in), HyperLogLog.readFrom(in),
+                    SpaceSaving.readFrom(in), listings);
+            bucket.views = views;
+            return bucket;
+        }
+    }
+}
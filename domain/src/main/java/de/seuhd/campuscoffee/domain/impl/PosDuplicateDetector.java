@@ -0,0 +1,63 @@
+package de.seuhd.campuscoffee.domain.impl;
+
+import de.seuhd.campuscoffee.domain.model.Pos;
+import de.seuhd.campuscoffee.domain.model.PosMatch;
+import de.seuhd.campuscoffee.domain.ports.PosDataService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.jspecify.annotations.NonNull;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * Detects POS that are likely duplicates of existing POS, such as an OSM import of a POS that was created manually
+ * with a slightly different spelling ("Bäcker Görtz " and "Baecker Goertz").
+ * <p>
+ * Names are compared by trigram similarity after normalization, and only with the POS of the same city. A POS is a
+ * duplicate if its name is at least {@code campus-coffee.duplicates.min-similarity} similar to the name of a POS at
+ * the same address, or at least {@code campus-coffee.duplicates.min-similarity-elsewhere} similar to the name of any
+ * POS of the city (different branches of a chain share a name, but not an address). The candidates are looked up
+ * with one indexed query per POS, also during imports of many OSM nodes. Detected duplicates are counted as
+ * {@code campuscoffee.pos.duplicates}.
+ */
+@Component
+class PosDuplicateDetector {
+    private final PosDataService posDataService;
+    private final boolean enabled;
+    private final double minSimilarity;
+    private final double minSimilarityElsewhere;
+    private final Counter duplicates;
+
+    PosDuplicateDetector(PosDataService posDataService, MeterRegistry meterRegistry,
+                         @Value("${campus-coffee.duplicates.enabled:true}") boolean enabled,
+                         @Value("${campus-coffee.duplicates.min-similarity:0.5}") double minSimilarity,
+                         @Value("${campus-coffee.duplicates.min-similarity-elsewhere:0.9}")
+                         double minSimilarityElsewhere) {
+        this.posDataService = posDataService;
+        this.enabled = enabled;
+        this.minSimilarity = minSimilarity;
+        this.minSimilarityElsewhere = minSimilarityElsewhere;
+        this.duplicates = meterRegistry.counter("campuscoffee.pos.duplicates");
+    }
+
+    /**
+     * Finds the existing POS that the given POS most likely duplicates.
+     *
+     * @param pos the POS about to be created
+     * @return the most similar duplicate; empty if there is none or detection is disabled
+     */
+    @NonNull Optional<PosMatch> findDuplicate(@NonNull Pos pos) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        // the thresholds are applied by the lookup, before the limit: a POS elsewhere that is just below its
+        // threshold cannot crowd out a less similar POS at the same address
+        Optional<PosMatch> duplicate = posDataService
+                .findSimilar(pos, minSimilarity, minSimilarityElsewhere, 1).stream()
+                .findFirst();
+        duplicate.ifPresent(match -> duplicates.increment());
+        return duplicate;
+    }
+}
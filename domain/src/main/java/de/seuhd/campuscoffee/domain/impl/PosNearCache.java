@@ -0,0 +1,159 @@
+package de.seuhd.campuscoffee.domain.impl;
+
+import de.seuhd.campuscoffee.domain.events.PosChangeFeedEvent;
+import de.seuhd.campuscoffee.domain.events.PosChangedEvent;
+import de.seuhd.campuscoffee.domain.model.Pos;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Near-cache of POS reads that stays coherent across application instances without a separate cache server.
+ * <p>
+ * Entries are invalidated by every {@link PosChangedEvent}: changes made on this instance publish it right after the
+ * write, changes made on other instances are published by the feed of database notifications (see
+ * {@link PosChangeFeedEvent}). The cache only serves reads while the feed is connected; on disconnect, it is
+ * cleared and reads go to the database until the feed has reconnected and caught up. Entries also expire after
+ * {@code campus-coffee.near-cache.max-age}, which bounds the staleness should a notification ever get lost without
+ * the feed noticing.
+ * <p>
+ * Metrics: {@code campuscoffee.nearcache.calls} with the tags {@code operation} and {@code result} (hit, miss, or
+ * bypass while the feed is disconnected).
+ */
+@Slf4j
+@Component
+class PosNearCache {
+    private final boolean enabled;
+    private final Duration maxAge;
+    private final Clock clock = Clock.systemUTC();
+    private final Map<Long, Entry<Pos>> byId = new ConcurrentHashMap<>();
+    private final AtomicReference<@Nullable Entry<List<Pos>>> all = new AtomicReference<>();
+    // incremented by every invalidation: a load that overlaps an invalidation may have read the old state, so it
+    // does not keep its result
+    private final AtomicLong invalidations = new AtomicLong();
+    private volatile boolean connected;
+
+    private final Calls getByIdCalls;
+    private final Calls getAllCalls;
+
+    PosNearCache(MeterRegistry meterRegistry,
+                 @Value("${campus-coffee.near-cache.enabled:true}") boolean enabled,
+                 @Value("${campus-coffee.near-cache.max-age:PT5M}") Duration maxAge) {
+        this.enabled = enabled;
+        this.maxAge = maxAge;
+        this.getByIdCalls = new Calls("getById", meterRegistry);
+        this.getAllCalls = new Calls("getAll", meterRegistry);
+    }
+
+    @NonNull Pos getById(@NonNull Long id, @NonNull Supplier<Pos> loader) {
+        if (!isActive()) {
+            getByIdCalls.bypass.increment();
+            return loader.get();
+        }
+        Entry<Pos> entry = byId.get(id);
+        if (isFresh(entry)) {
+            getByIdCalls.hit.increment();
+            return entry.value();
+        }
+        getByIdCalls.miss.increment();
+        long seenInvalidations = invalidations.get();
+        Pos pos = loader.get();
+        Entry<Pos> loaded = new Entry<>(pos, clock.instant());
+        byId.put(id, loaded);
+        // the invalidation increments the counter before it removes, so either it removes the entry put here, or
+        // this check sees the increment and does
+        if (invalidations.get() != seenInvalidations) {
+            byId.remove(id, loaded);
+        }
+        return pos;
+    }
+
+    @NonNull List<Pos> getAll(@NonNull Supplier<List<Pos>> loader) {
+        if (!isActive()) {
+            getAllCalls.bypass.increment();
+            return loader.get();
+        }
+        Entry<List<Pos>> entry = all.get();
+        if (isFresh(entry)) {
+            getAllCalls.hit.increment();
+            return entry.value();
+        }
+        getAllCalls.miss.increment();
+        long seenInvalidations = invalidations.get();
+        List<Pos> posList = loader.get();
+        Entry<List<Pos>> loaded = new Entry<>(posList, clock.instant());
+        all.set(loaded);
+        if (invalidations.get() != seenInvalidations) {
+            all.compareAndSet(loaded, null);
+        }
+        return posList;
+    }
+
+    @EventListener
+    void onPosChanged(@NonNull PosChangedEvent event) {
+        invalidations.incrementAndGet();
+        if (event.affectsAll()) {
+            byId.clear();
+        } else {
+            byId.remove(event.posId());
+        }
+        all.set(null);
+    }
+
+    @EventListener
+    void onFeedChanged(@NonNull PosChangeFeedEvent event) {
+        connected = event.connected();
+        if (!event.connected()) {
+            // changes of other instances are missed from now on, so neither serve nor keep entries
+            onPosChanged(PosChangedEvent.all());
+        }
+        log.info("POS near-cache {}", event.connected() && enabled ? "serving reads" : "bypassed");
+    }
+
+    private boolean isActive() {
+        return enabled && connected;
+    }
+
+    private boolean isFresh(@Nullable Entry<?> entry) {
+        return entry != null && entry.loadedAt().plus(maxAge).isAfter(clock.instant());
+    }
+
+    private record Entry<T>(T value, Instant loadedAt) {}
+
+    /**
+     * The counters of one operation.
+     */
+    private static final class Calls {
+        private final Counter hit;
+        private final Counter miss;
+        private final Counter bypass;
+
+        Calls(String operation, MeterRegistry meterRegistry) {
+            this.hit = counter(operation, "hit", meterRegistry);
+            this.miss = counter(operation, "miss", meterRegistry);
+            this.bypass = counter(operation, "bypass", meterRegistry);
+        }
+
+        private static Counter counter(String operation, String result, MeterRegistry meterRegistry) {
+            return Counter.builder("campuscoffee.nearcache.calls")
+                    .tag("operation", operation)
+                    .tag("result", result)
+                    .register(meterRegistry);
+        }
+    }
+}
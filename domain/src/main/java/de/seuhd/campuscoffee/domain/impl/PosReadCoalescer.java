@@ -0,0 +1,52 @@
+package de.seuhd.campuscoffee.domain.impl;
+
+import de.seuhd.campuscoffee.domain.events.PosChangedEvent;
+import de.seuhd.campuscoffee.domain.model.Pos;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.jspecify.annotations.NonNull;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent identical POS reads (see {@link SingleFlight}), so that a burst of requests for the same POS
+ * or for the full list results in a single database query.
+ * Metrics: {@code campuscoffee.singleflight.calls} with the tags {@code operation} and {@code result}.
+ */
+@Component
+class PosReadCoalescer {
+    private static final Object ALL = new Object();
+
+    private final SingleFlight<Long, Pos> getById;
+    private final SingleFlight<Object, List<Pos>> getAll;
+
+    PosReadCoalescer(MeterRegistry meterRegistry) {
+        this.getById = new SingleFlight<>("getById", meterRegistry);
+        this.getAll = new SingleFlight<>("getAll", meterRegistry);
+    }
+
+    @NonNull Pos getById(@NonNull Long id, @NonNull Supplier<Pos> loader) {
+        return getById.execute(id, loader);
+    }
+
+    @NonNull List<Pos> getAll(@NonNull Supplier<List<Pos>> loader) {
+        return getAll.execute(ALL, loader);
+    }
+
+    /**
+     * Ensures that reads starting after a write do not join a load that started before it.
+     *
+     * @param event the change event published after the write
+     */
+    @EventListener
+    void onPosChanged(@NonNull PosChangedEvent event) {
+        if (event.affectsAll()) {
+            getById.forgetAll();
+        } else {
+            getById.forget(event.posId());
+        }
+        getAll.forgetAll();
+    }
+}
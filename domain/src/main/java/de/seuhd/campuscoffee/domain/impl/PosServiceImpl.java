@@ -1,82 +1,194 @@
 package de.seuhd.campuscoffee.domain.impl;
 
+import de.seuhd.campuscoffee.domain.events.PosChangedEvent;
 import de.seuhd.campuscoffee.domain.exceptions.DuplicatePosNameException;
 import de.seuhd.campuscoffee.domain.exceptions.OsmNodeMissingFieldsException;
 import de.seuhd.campuscoffee.domain.exceptions.OsmNodeNotFoundException;
+import de.seuhd.campuscoffee.domain.exceptions.PossibleDuplicatePosException;
 import de.seuhd.campuscoffee.domain.model.CampusType;
+import de.seuhd.campuscoffee.domain.model.OpeningHours;
 import de.seuhd.campuscoffee.domain.model.OsmNode;
 import de.seuhd.campuscoffee.domain.model.Pos;
 import de.seuhd.campuscoffee.domain.exceptions.PosNotFoundException;
+import de.seuhd.campuscoffee.domain.instrumentation.OsmFetchEvent;
+import de.seuhd.campuscoffee.domain.instrumentation.OsmImportEvent;
+import de.seuhd.campuscoffee.domain.instrumentation.PosLookupEvent;
+import de.seuhd.campuscoffee.domain.instrumentation.PosUpsertEvent;
 import de.seuhd.campuscoffee.domain.model.PosType;
+import de.seuhd.campuscoffee.domain.ports.CatalogSnapshot;
 import de.seuhd.campuscoffee.domain.ports.OsmDataService;
 import de.seuhd.campuscoffee.domain.ports.PosDataService;
 import de.seuhd.campuscoffee.domain.ports.PosService;
+import de.seuhd.campuscoffee.domain.ports.PosStatusService;
+import de.seuhd.campuscoffee.domain.ports.SnapshotService;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
 import java.util.Objects;
+import java.util.stream.Stream;
 
 /**
  * Implementation of the POS service that handles business logic related to POS entities.
+ * All public methods are timed as {@code campuscoffee.pos.service} (tags {@code class}, {@code method},
+ * {@code exception}). Lookups, upserts, and OSM imports are also recorded as JFR events
+ * (see {@link de.seuhd.campuscoffee.domain.instrumentation.OperationEvent}).
+ * <p>
+ * Successful upserts and imports are logged to the separate logger {@code ...PosServiceImpl.upserts}, so that these
+ * high-volume events can be sampled or silenced without losing the other messages of this class.
+ * <p>
+ * Reads are served from the {@link PosNearCache} when possible, which stays coherent with the writes of all instances.
+ * <p>
+ * New POS are checked for likely duplicates of existing POS (see {@link PosDuplicateDetector}): creating one fails,
+ * whereas an import is merged into the existing POS.
  */
 @Slf4j
 @Service
+@Timed("campuscoffee.pos.service")
 @RequiredArgsConstructor
 public class PosServiceImpl implements PosService {
+    private static final Logger UPSERT_LOG = LoggerFactory.getLogger(PosServiceImpl.class.getName() + ".upserts");
+
     private final PosDataService posDataService;
     private final OsmDataService osmDataService;
+    private final SnapshotService snapshotService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PosReadCoalescer readCoalescer;
+    private final OpeningHoursIndex openingHoursIndex;
+    private final PosStatusService posStatusService;
+    private final PosDuplicateDetector duplicateDetector;
+    private final PosNearCache nearCache;
+
+    @Value("${campus-coffee.opening-hours.time-zone:Europe/Berlin}")
+    private final ZoneId timeZone;
 
     @Override
     public void clear() {
         log.warn("Clearing all POS data");
+        snapshotService.stopServing();
         posDataService.clear();
+        posStatusService.clear();
+        eventPublisher.publishEvent(PosChangedEvent.all());
     }
 
     @Override
     public @NonNull List<Pos> getAll() {
         log.debug("Retrieving all POS");
-        return posDataService.getAll();
+        // during the warm-start window, reads are served from the memory-mapped catalog snapshot
+        return nearCache.getAll(() -> readCoalescer.getAll(() -> snapshotService.getServingSnapshot()
+                .map(CatalogSnapshot::getAll)
+                .orElseGet(posDataService::getAll)));
     }
 
     @Override
     public @NonNull Pos getById(@NonNull Long id) throws PosNotFoundException {
         log.debug("Retrieving POS with ID: {}", id);
-        return posDataService.getById(id);
+        // POS created after the snapshot was written are not contained in it, so fall back to the database
+        return new PosLookupEvent(id).record(() -> nearCache.getById(id, () -> readCoalescer.getById(id, () ->
+                snapshotService.getServingSnapshot()
+                        .flatMap(snapshot -> snapshot.findById(id))
+                        .orElseGet(() -> posDataService.getById(id)))));
+    }
+
+    @Override
+    public @NonNull List<Pos> getOpenAt(@Nullable LocalDateTime at, @Nullable CampusType campus,
+                                        @Nullable PosType type) {
+        LocalDateTime localTime = at != null ? at : LocalDateTime.now(timeZone);
+        log.debug("Retrieving POS open at {} (campus: {}, type: {})", localTime, campus, type);
+        return openingHoursIndex.findOpen(OpeningHours.minuteOfWeek(localTime), campus, type, this::getAll);
     }
 
     @Override
     public @NonNull Pos upsert(@NonNull Pos pos) throws PosNotFoundException {
+        PosUpsertEvent event = new PosUpsertEvent(pos.id());
+        return event.record(() -> {
+            Pos upsertedPos = createOrUpdate(pos);
+            event.setPosId(Objects.requireNonNull(upsertedPos.id()));
+            return upsertedPos;
+        });
+    }
+
+    private @NonNull Pos createOrUpdate(@NonNull Pos pos) throws PosNotFoundException {
         if (pos.id() == null) {
             // Create new POS
-            log.info("Creating new POS: {}", pos.name());
+            log.debug("Creating new POS: {}", pos.name());
+            duplicateDetector.findDuplicate(pos).ifPresent(match -> {
+                throw new PossibleDuplicatePosException(pos.name(), match);
+            });
             return performUpsert(pos);
         } else {
             // Update existing POS
-            log.info("Updating POS with ID: {}", pos.id());
-            // POS ID must be set
-            Objects.requireNonNull(pos.id());
-            // POS must exist in the database before the update
-            posDataService.getById(pos.id());
+            log.debug("Updating POS with ID: {}", pos.id());
+            // the data layer loads the POS for the update anyway and throws PosNotFoundException if it does not exist
             return performUpsert(pos);
         }
     }
 
+    @Override
+    public long bulkInsert(@NonNull Stream<Pos> posStream) {
+        log.info("Inserting POS in bulk...");
+        snapshotService.stopServing();
+        try {
+            long count = posDataService.bulkInsert(posStream);
+            log.info("Inserted {} POS in bulk", count);
+            return count;
+        } finally {
+            // publish the event even on failure: previous batches may already have been committed
+            eventPublisher.publishEvent(PosChangedEvent.all());
+        }
+    }
+
     @Override
     public @NonNull Pos importFromOsmNode(@NonNull Long nodeId) throws OsmNodeNotFoundException {
-        log.info("Importing POS from OpenStreetMap node {}...", nodeId);
+        log.debug("Importing POS from OpenStreetMap node {}...", nodeId);
+        OsmImportEvent event = new OsmImportEvent(nodeId);
+        return event.record(() -> {
+            // Fetch the OSM node data using the port
+            OsmNode osmNode = new OsmFetchEvent(nodeId).record(() -> osmDataService.fetchNode(nodeId));
 
-        // Fetch the OSM node data using the port
-        OsmNode osmNode = osmDataService.fetchNode(nodeId);
+            // Convert OSM node to POS domain object and upsert it
+            // TODO: Implement the actual conversion (the response is currently hard-coded).
+            Pos importedPos = convertOsmNodeToPos(osmNode);
+            Pos savedPos;
+            try {
+                savedPos = upsert(importedPos);
+                UPSERT_LOG.atInfo()
+                        .addKeyValue("posId", savedPos.id())
+                        .addKeyValue("osmNodeId", nodeId)
+                        .log("Successfully imported POS '{}' from OSM node {}", savedPos.name(), nodeId);
+            } catch (PossibleDuplicatePosException e) {
+                savedPos = mergeInto(e.getMatch().posId(), importedPos);
+                UPSERT_LOG.atInfo()
+                        .addKeyValue("posId", savedPos.id())
+                        .addKeyValue("osmNodeId", nodeId)
+                        .log("Merged OSM node {} into the existing POS '{}'", nodeId, savedPos.name());
+            }
 
-        // Convert OSM node to POS domain object and upsert it
-        // TODO: Implement the actual conversion (the response is currently hard-coded).
-        Pos savedPos = upsert(convertOsmNodeToPos(osmNode));
-        log.info("Successfully imported POS '{}' from OSM node {}", savedPos.name(), nodeId);
+            event.setPosId(Objects.requireNonNull(savedPos.id()));
+            return savedPos;
+        });
+    }
 
-        return savedPos;
+    /**
+     * Merges an imported POS into the existing POS that it duplicates. The existing POS keeps its data, which may
+     * have been curated manually, and only takes over the opening hours if it has none.
+     */
+    private @NonNull Pos mergeInto(@NonNull Long existingId, @NonNull Pos importedPos) {
+        Pos existingPos = getById(existingId);
+        if (existingPos.openingHours() != null || importedPos.openingHours() == null) {
+            return existingPos;
+        }
+        return upsert(existingPos.toBuilder().openingHours(importedPos.openingHours()).build());
     }
 
     /**
@@ -94,25 +206,48 @@ public class PosServiceImpl implements PosService {
                     .houseNumber("21")
                     .postalCode(69117)
                     .city("Heidelberg")
+                    .openingHours(parseOpeningHours(osmNode))
                     .build();
         } else {
             throw new OsmNodeMissingFieldsException(osmNode.nodeId());
         }
     }
 
+    /**
+     * Parses the {@code opening_hours} tag of an OSM node. Tags in unsupported syntax are dropped rather than failing
+     * the import, because the opening hours are optional.
+     */
+    private @Nullable OpeningHours parseOpeningHours(@NonNull OsmNode osmNode) {
+        if (osmNode.openingHours() == null) {
+            return null;
+        }
+        try {
+            return OpeningHours.parse(osmNode.openingHours());
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring opening hours of OSM node {}: {}", osmNode.nodeId(), e.getMessage());
+            return null;
+        }
+    }
+
     /**
      * Performs the actual upsert operation with consistent error handling and logging.
-     * Database constraint enforces name uniqueness - data layer will throw DuplicatePosNameException if violated.
+     * Database constraint enforces name uniqueness per city - data layer will throw DuplicatePosNameException if
+     * violated.
      * JPA lifecycle callbacks (@PrePersist/@PreUpdate) set timestamps automatically.
      *
      * @param pos the POS to upsert
      * @return the persisted POS with updated ID and timestamps
-     * @throws DuplicatePosNameException if a POS with the same name already exists
+     * @throws DuplicatePosNameException if a POS with the same name already exists in the same city
      */
     private @NonNull Pos performUpsert(@NonNull Pos pos) throws DuplicatePosNameException {
+        // the snapshot becomes stale with the first write, so stop serving reads from it
+        snapshotService.stopServing();
         try {
             Pos upsertedPos = posDataService.upsert(pos);
-            log.info("Successfully upserted POS with ID: {}", upsertedPos.id());
+            UPSERT_LOG.atInfo()
+                    .addKeyValue("posId", upsertedPos.id())
+                    .log("Successfully upserted POS with ID: {}", upsertedPos.id());
+            eventPublisher.publishEvent(new PosChangedEvent(upsertedPos.id()));
             return upsertedPos;
         } catch (DuplicatePosNameException e) {
             log.error("Error upserting POS '{}': {}", pos.name(), e.getMessage());
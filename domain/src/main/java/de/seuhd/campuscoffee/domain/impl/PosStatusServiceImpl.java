@@ -0,0 +1,195 @@
+package de.seuhd.campuscoffee.domain.impl;
+
+import de.seuhd.campuscoffee.domain.exceptions.PosNotFoundException;
+import de.seuhd.campuscoffee.domain.model.PosAvailability;
+import de.seuhd.campuscoffee.domain.model.PosStatus;
+import de.seuhd.campuscoffee.domain.model.PosStatusAggregate;
+import de.seuhd.campuscoffee.domain.ports.PosDataService;
+import de.seuhd.campuscoffee.domain.ports.PosStatusDataService;
+import de.seuhd.campuscoffee.domain.ports.PosStatusService;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Implementation of the live status service with write-behind.
+ * <p>
+ * The latest status of each POS is kept in a {@link ConcurrentHashMap}, so that reports of different POS never
+ * contend, and reads never touch the database. Reports are also merged into a map of pending aggregates, which a
+ * single background thread writes to the database every {@code campus-coffee.live-status.flush-interval} in one
+ * batch: however often a POS reports between two flushes, it costs one row update. If a flush fails, its aggregates
+ * are merged back and written with the next one. Pending reports are flushed on shutdown, and the stored statuses are
+ * loaded on startup.
+ * <p>
+ * Each instance serves the statuses reported to it immediately. After every flush, it also reloads the stored
+ * statuses and takes over those that were reported more recently than the ones it knows, i.e., those flushed by other
+ * instances. A status reported to another instance is therefore visible after at most two flush intervals (its
+ * flush, then the reload here), plus the duration of a flush. Reports are counted as {@code campuscoffee.status.reports}, written rows as
+ * {@code campuscoffee.status.flushed}, and {@code campuscoffee.status.pending} is the number of POS waiting for the
+ * next flush.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PosStatusServiceImpl implements PosStatusService, SmartLifecycle {
+    private final PosStatusDataService posStatusDataService;
+    private final PosDataService posDataService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${campus-coffee.live-status.flush-interval:PT5S}")
+    private final Duration flushInterval;
+
+    private final Clock clock = Clock.systemUTC();
+    private final AtomicLong versions = new AtomicLong();
+    private final Map<Long, PosStatus> latest = new ConcurrentHashMap<>();
+    private final Map<Long, PosStatusAggregate> pending = new ConcurrentHashMap<>();
+
+    private volatile boolean running;
+    private @Nullable ScheduledExecutorService flusher;
+
+    @Override
+    public @NonNull PosStatus report(@NonNull Long posId, @NonNull PosAvailability availability, int queueLength)
+            throws PosNotFoundException {
+        if (queueLength < 0) {
+            throw new IllegalArgumentException("The queue length must not be negative.");
+        }
+        if (!latest.containsKey(posId)) {
+            // only the first report of a POS is checked against the database
+            posDataService.getById(posId);
+        }
+        PosStatus status = new PosStatus(posId, availability, queueLength, LocalDateTime.now(clock),
+                versions.incrementAndGet());
+        latest.merge(posId, status, PosStatusServiceImpl::newer);
+        pending.merge(posId, new PosStatusAggregate(status, 1, queueLength), PosStatusAggregate::combine);
+        meterRegistry.counter("campuscoffee.status.reports").increment();
+        return status;
+    }
+
+    @Override
+    public @NonNull Optional<PosStatus> find(@NonNull Long posId) {
+        return Optional.ofNullable(latest.get(posId));
+    }
+
+    @Override
+    public long version() {
+        return versions.get();
+    }
+
+    @Override
+    public void clear() {
+        // the stored statuses are deleted together with their POS
+        pending.clear();
+        latest.clear();
+    }
+
+    @Override
+    public void start() {
+        try {
+            posStatusDataService.getAll().forEach(status -> latest.putIfAbsent(status.posId(), status));
+            log.info("Loaded {} stored POS statuses", latest.size());
+        } catch (RuntimeException e) {
+            log.warn("Unable to load the stored POS statuses: {}", e.getMessage());
+        }
+        meterRegistry.gaugeMapSize("campuscoffee.status.pending", List.of(), pending);
+        flusher = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("status-flusher").daemon().factory());
+        flusher.scheduleWithFixedDelay(this::flushAndReload, flushInterval.toMillis(), flushInterval.toMillis(),
+                TimeUnit.MILLISECONDS);
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (flusher != null) {
+            flusher.shutdown();
+            try {
+                flusher.awaitTermination(flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        flush();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void flushAndReload() {
+        flush();
+        reload();
+    }
+
+    /**
+     * Takes over the stored statuses that are more recent than the ones known to this instance. Runs on the flusher
+     * thread after each flush.
+     */
+    void reload() {
+        List<PosStatus> stored;
+        try {
+            stored = posStatusDataService.getAll();
+        } catch (RuntimeException e) {
+            log.warn("Unable to reload the stored POS statuses: {}", e.getMessage());
+            return;
+        }
+        for (PosStatus status : stored) {
+            latest.compute(status.posId(), (posId, current) ->
+                    current == null || status.reportedAt().isAfter(current.reportedAt())
+                            ? status.toBuilder().version(versions.incrementAndGet()).build()
+                            : current);
+        }
+    }
+
+    /**
+     * Writes the pending aggregates in one batch. Runs on the flusher thread, and once more on shutdown.
+     */
+    void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<PosStatusAggregate> batch = new ArrayList<>(pending.size());
+        for (Long posId : pending.keySet()) {
+            PosStatusAggregate aggregate = pending.remove(posId);
+            if (aggregate != null) {
+                batch.add(aggregate);
+            }
+        }
+        // a consistent order prevents deadlocks between the flushes of several instances
+        batch.sort(Comparator.comparing(aggregate -> aggregate.latest().posId()));
+        try {
+            posStatusDataService.upsertAll(batch);
+            meterRegistry.counter("campuscoffee.status.flushed").increment(batch.size());
+        } catch (RuntimeException e) {
+            log.warn("Unable to write {} POS statuses, retrying with the next flush: {}", batch.size(), e.getMessage());
+            batch.forEach(aggregate ->
+                    pending.merge(aggregate.latest().posId(), aggregate, PosStatusAggregate::combine));
+        }
+    }
+
+    private static PosStatus newer(PosStatus current, PosStatus candidate) {
+        // a status reloaded from the database may have a higher version than a report received concurrently
+        int order = candidate.reportedAt().compareTo(current.reportedAt());
+        return order > 0 || (order == 0 && candidate.version() > current.version()) ? candidate : current;
+    }
+}
@@ -0,0 +1,180 @@
+package de.seuhd.campuscoffee.domain.impl;
+
+import de.seuhd.campuscoffee.domain.events.PosChangedEvent;
+import de.seuhd.campuscoffee.domain.model.CampusType;
+import de.seuhd.campuscoffee.domain.model.PosRating;
+import de.seuhd.campuscoffee.domain.model.PosType;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * In-memory leaderboards of the rated POS: one sorted set per campus, per type, per combination of both, and one
+ * across the catalog, each ordered by Bayesian average.
+ * <p>
+ * The sets are concurrent skip lists, so a rating moves its POS within each of its leaderboards in logarithmic time
+ * without blocking readers, and a read of the top N iterates just N entries, however many POS and ratings exist.
+ * Unlike a bounded heap of the top N, the sets also know the successor of a POS whose average drops.
+ * <p>
+ * The leaderboards are rebuilt from the stored aggregates on the first read after a POS changed on this instance
+ * (its name, campus, or type may have changed), or once they are older than
+ * {@code campus-coffee.ratings.leaderboard-max-age} (to pick up ratings made on other instances).
+ */
+@Slf4j
+@Component
+class RatingLeaderboards {
+    // best first; ties are broken by the number of ratings and then by ID, so that entries of different POS never
+    // compare as equal
+    private static final Comparator<PosRating> ORDER = Comparator
+            .comparingDouble(PosRating::bayesianAverage).reversed()
+            .thenComparing(Comparator.comparingLong(PosRating::ratingCount).reversed())
+            .thenComparing(PosRating::posId);
+
+    private final Duration maxAge;
+    private final Clock clock = Clock.systemUTC();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final AtomicLong generation = new AtomicLong();
+    private volatile @Nullable Leaderboards leaderboards;
+
+    RatingLeaderboards(@Value("${campus-coffee.ratings.leaderboard-max-age:PT30S}") Duration maxAge) {
+        this.maxAge = maxAge;
+    }
+
+    /**
+     * Retrieves the best rated POS.
+     *
+     * @param campus  the campus to filter by; null for all
+     * @param type    the POS type to filter by; null for all
+     * @param limit   the maximum number of POS to return
+     * @param ratings loads the aggregated ratings of all POS if the leaderboards have to be rebuilt
+     * @return the best rated POS in descending order
+     */
+    @NonNull List<PosRating> top(@Nullable CampusType campus, @Nullable PosType type, int limit,
+                                 @NonNull Supplier<List<PosRating>> ratings) {
+        NavigableSet<PosRating> leaderboard = current(ratings).get(new Group(campus, type));
+        List<PosRating> result = new ArrayList<>(limit);
+        if (leaderboard != null) {
+            Iterator<PosRating> iterator = leaderboard.iterator();
+            while (result.size() < limit && iterator.hasNext()) {
+                result.add(iterator.next());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Moves a POS according to its updated ratings. Does nothing before the leaderboards are built for the first
+     * time, since they are then built from the stored ratings anyway.
+     *
+     * @param rating the updated aggregated ratings of a POS
+     */
+    void update(@NonNull PosRating rating) {
+        Leaderboards current = leaderboards;
+        if (current != null) {
+            current.put(rating);
+        }
+    }
+
+    @EventListener
+    void onPosChanged(@NonNull PosChangedEvent event) {
+        generation.incrementAndGet();
+    }
+
+    private Leaderboards current(Supplier<List<PosRating>> ratings) {
+        Leaderboards current = leaderboards;
+        if (isFresh(current)) {
+            return current;
+        }
+        lock.lock();
+        try {
+            // concurrent reads after a change wait for a single rebuild
+            current = leaderboards;
+            if (!isFresh(current)) {
+                // read the generation first: a change during the load makes the new leaderboards stale right away
+                long builtGeneration = generation.get();
+                current = new Leaderboards(builtGeneration, clock.instant());
+                for (PosRating rating : ratings.get()) {
+                    current.put(rating);
+                }
+                leaderboards = current;
+                log.debug("Rebuilt rating leaderboards for {} POS", current.byPos.size());
+            }
+            return current;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean isFresh(@Nullable Leaderboards leaderboards) {
+        return leaderboards != null
+                && leaderboards.generation == generation.get()
+                && leaderboards.builtAt.plus(maxAge).isAfter(clock.instant());
+    }
+
+    /**
+     * The leaderboard a POS appears on; null components match all campuses or types.
+     */
+    private record Group(@Nullable CampusType campus, @Nullable PosType type) {
+        static List<Group> of(PosRating rating) {
+            return List.of(
+                    new Group(null, null),
+                    new Group(rating.campus(), null),
+                    new Group(null, rating.type()),
+                    new Group(rating.campus(), rating.type()));
+        }
+    }
+
+    /**
+     * The leaderboards built from one load of the stored ratings, updated in place by later ratings.
+     */
+    private static final class Leaderboards {
+        private final long generation;
+        private final Instant builtAt;
+        private final Map<Long, PosRating> byPos = new ConcurrentHashMap<>();
+        private final Map<Group, NavigableSet<PosRating>> byGroup = new ConcurrentHashMap<>();
+
+        Leaderboards(long generation, Instant builtAt) {
+            this.generation = generation;
+            this.builtAt = builtAt;
+        }
+
+        @Nullable NavigableSet<PosRating> get(Group group) {
+            return byGroup.get(group);
+        }
+
+        void put(PosRating rating) {
+            // the per-key atomicity of compute serializes concurrent updates of the same POS
+            byPos.compute(rating.posId(), (posId, previous) -> {
+                if (previous != null && previous.ratingCount() > rating.ratingCount()) {
+                    // every rating increases the count, so this update was overtaken by a more recent one
+                    return previous;
+                }
+                if (previous != null) {
+                    Group.of(previous).forEach(group -> byGroup.get(group).remove(previous));
+                }
+                Group.of(rating).forEach(group -> byGroup
+                        .computeIfAbsent(group, ignored -> new ConcurrentSkipListSet<>(ORDER))
+                        .add(rating));
+                return rating;
+            });
+        }
+    }
+}
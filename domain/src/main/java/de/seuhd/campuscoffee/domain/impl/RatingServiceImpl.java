@@ -0,0 +1,61 @@
+package de.seuhd.campuscoffee.domain.impl;
+
+import de.seuhd.campuscoffee.domain.exceptions.PosNotFoundException;
+import de.seuhd.campuscoffee.domain.model.CampusType;
+import de.seuhd.campuscoffee.domain.model.PosRating;
+import de.seuhd.campuscoffee.domain.model.PosType;
+import de.seuhd.campuscoffee.domain.ports.RatingDataService;
+import de.seuhd.campuscoffee.domain.ports.RatingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Implementation of the rating service.
+ * <p>
+ * The data layer stores each rating together with an incremental update of the count, sum, and Bayesian average of
+ * the POS, so aggregates are never computed over all ratings. The Bayesian average adds
+ * {@code campus-coffee.ratings.prior-weight} virtual ratings of {@code campus-coffee.ratings.prior-mean} stars.
+ * Leaderboards are served from the in-memory {@link RatingLeaderboards}, which every rating updates as well.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RatingServiceImpl implements RatingService {
+    private final RatingDataService ratingDataService;
+    private final RatingLeaderboards leaderboards;
+
+    @Value("${campus-coffee.ratings.prior-mean:3.5}")
+    private final double priorMean;
+
+    @Value("${campus-coffee.ratings.prior-weight:5}")
+    private final double priorWeight;
+
+    @Value("${campus-coffee.ratings.leaderboard-max-size:100}")
+    private final int leaderboardMaxSize;
+
+    @Override
+    public @NonNull PosRating rate(@NonNull Long posId, int stars) throws PosNotFoundException {
+        if (stars < PosRating.MIN_STARS || stars > PosRating.MAX_STARS) {
+            throw new IllegalArgumentException(
+                    "A rating must have between " + PosRating.MIN_STARS + " and " + PosRating.MAX_STARS + " stars.");
+        }
+        log.debug("Rating POS with ID {} with {} stars", posId, stars);
+        PosRating rating = ratingDataService.rate(posId, stars, priorMean, priorWeight);
+        leaderboards.update(rating);
+        return rating;
+    }
+
+    @Override
+    public @NonNull List<PosRating> getLeaderboard(@Nullable CampusType campus, @Nullable PosType type, int limit) {
+        if (limit < 1 || limit > leaderboardMaxSize) {
+            throw new IllegalArgumentException("The limit must be between 1 and " + leaderboardMaxSize + ".");
+        }
+        return leaderboards.top(campus, type, limit, ratingDataService::getAll);
+    }
+}
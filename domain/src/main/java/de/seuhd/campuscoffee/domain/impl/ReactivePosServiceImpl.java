@@ -0,0 +1,57 @@
+package de.seuhd.campuscoffee.domain.impl;
+
+import de.seuhd.campuscoffee.domain.exceptions.DuplicatePosNameException;
+import de.seuhd.campuscoffee.domain.model.Pos;
+import de.seuhd.campuscoffee.domain.ports.ReactivePosDataService;
+import de.seuhd.campuscoffee.domain.ports.ReactivePosService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.NonNull;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Implementation of the reactive POS service, the counterpart of {@link PosServiceImpl} for the reactive stack.
+ * Only active in reactive web applications, so that the servlet application (which scans this package) does not
+ * require a {@link ReactivePosDataService}.
+ */
+@Slf4j
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactivePosServiceImpl implements ReactivePosService {
+    private final ReactivePosDataService posDataService;
+
+    @Override
+    public @NonNull Mono<Void> clear() {
+        return posDataService.clear()
+                .doOnSubscribe(subscription -> log.warn("Clearing all POS data"));
+    }
+
+    @Override
+    public @NonNull Flux<Pos> getAll() {
+        return posDataService.getAll();
+    }
+
+    @Override
+    public @NonNull Mono<Pos> getById(@NonNull Long id) {
+        return posDataService.getById(id);
+    }
+
+    @Override
+    public @NonNull Mono<Pos> upsert(@NonNull Pos pos) {
+        return posDataService.upsert(pos)
+                .doOnSubscribe(subscription -> {
+                    if (pos.id() == null) {
+                        log.info("Creating new POS: {}", pos.name());
+                    } else {
+                        log.info("Updating POS with ID: {}", pos.id());
+                    }
+                })
+                .doOnNext(upsertedPos -> log.info("Successfully upserted POS with ID: {}", upsertedPos.id()))
+                .doOnError(DuplicatePosNameException.class,
+                        e -> log.error("Error upserting POS '{}': {}", pos.name(), e.getMessage()));
+    }
+}
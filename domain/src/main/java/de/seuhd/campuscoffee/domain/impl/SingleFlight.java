@@ -0,0 +1,103 @@
+package de.seuhd.campuscoffee.domain.impl;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.jspecify.annotations.NonNull;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent loads of the same key into a single in-flight load ("single flight").
+ * The first caller for a key runs the loader; callers that arrive while this load is in flight wait for it and
+ * share its result (or exception). Nothing is cached beyond the in-flight window: once the load completes,
+ * the next caller starts a new load.
+ *
+ * @param <K> the key type
+ * @param <V> the value type; values are shared between callers and must therefore be immutable
+ */
+final class SingleFlight<K, V> {
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter loaded;
+    private final Counter coalesced;
+
+    SingleFlight(@NonNull String operation, @NonNull MeterRegistry meterRegistry) {
+        this.loaded = Counter.builder("campuscoffee.singleflight.calls")
+                .description("Calls that ran their own load or joined an in-flight load")
+                .tag("operation", operation)
+                .tag("result", "loaded")
+                .register(meterRegistry);
+        this.coalesced = Counter.builder("campuscoffee.singleflight.calls")
+                .description("Calls that ran their own load or joined an in-flight load")
+                .tag("operation", operation)
+                .tag("result", "coalesced")
+                .register(meterRegistry);
+        Gauge.builder("campuscoffee.singleflight.in.flight", inFlight, ConcurrentHashMap::size)
+                .description("Number of loads currently in flight")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Runs the loader for the key or joins the load that is already in flight for it.
+     *
+     * @param key    the key identifying the load
+     * @param loader the loader to run if no load is in flight for the key
+     * @return the loaded value
+     */
+    V execute(@NonNull K key, @NonNull Supplier<V> loader) {
+        CompletableFuture<V> load = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, load);
+        if (existing != null) {
+            coalesced.increment();
+            return join(existing);
+        }
+
+        loaded.increment();
+        try {
+            V value = loader.get();
+            load.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, load);
+        }
+    }
+
+    /**
+     * Detaches the in-flight load for the key, so that subsequent callers start a new load.
+     * Called after writes; callers already waiting for the detached load still receive its result.
+     *
+     * @param key the key to detach
+     */
+    void forget(@NonNull K key) {
+        inFlight.remove(key);
+    }
+
+    /**
+     * Detaches all in-flight loads.
+     */
+    void forgetAll() {
+        inFlight.clear();
+    }
+
+    private static <V> V join(CompletableFuture<V> load) {
+        try {
+            return load.join();
+        } catch (CompletionException e) {
+            // rethrow the original exception (e.g., PosNotFoundException) to keep the error handling unchanged
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package de.seuhd.campuscoffee.domain.impl;
+
+import de.seuhd.campuscoffee.domain.events.PosChangedEvent;
+import de.seuhd.campuscoffee.domain.exceptions.SnapshotNotFoundException;
+import de.seuhd.campuscoffee.domain.model.SnapshotInfo;
+import de.seuhd.campuscoffee.domain.ports.CatalogSnapshot;
+import de.seuhd.campuscoffee.domain.ports.PosDataService;
+import de.seuhd.campuscoffee.domain.ports.SnapshotDataService;
+import de.seuhd.campuscoffee.domain.ports.SnapshotService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.NonNull;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Implementation of the snapshot service.
+ * On startup, an existing snapshot is opened and used to serve reads for a limited warm-start window. A snapshot is
+ * only served if it is younger than {@code campus-coffee.snapshot.max-age} and was taken at the current catalog
+ * version, i.e., no instance has modified the catalog since. The window ends early as soon as the catalog is
+ * modified, by this instance or (as far as the feed of their changes reports) by other instances, because the
+ * snapshot is stale from then on.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SnapshotServiceImpl implements SnapshotService, InitializingBean {
+    private final SnapshotDataService snapshotDataService;
+    private final PosDataService posDataService;
+
+    @Value("${campus-coffee.snapshot.warm-start:false}")
+    private final boolean warmStart;
+
+    @Value("${campus-coffee.snapshot.max-serve-duration:PT5M}")
+    private final Duration maxServeDuration;
+
+    @Value("${campus-coffee.snapshot.max-age:PT24H}")
+    private final Duration maxAge;
+
+    // the most recently mapped snapshot, so that its metadata can be returned without mapping the file again
+    private final AtomicReference<CatalogSnapshot> mappedSnapshot = new AtomicReference<>();
+    private final AtomicReference<CatalogSnapshot> servingSnapshot = new AtomicReference<>();
+    private volatile Instant servingDeadline = Instant.MIN;
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!warmStart) {
+            return;
+        }
+        snapshotDataService.open().ifPresentOrElse(snapshot -> {
+            mappedSnapshot.set(snapshot);
+            SnapshotInfo info = snapshot.info();
+            Instant expiresAt = info.createdAt().toInstant(ZoneOffset.UTC).plus(maxAge);
+            if (Instant.now().isAfter(expiresAt)) {
+                log.info("Catalog snapshot created at {} is older than {}, serving reads from the database",
+                        info.createdAt(), maxAge);
+                return;
+            }
+            long catalogVersion = posDataService.getCatalogVersion();
+            if (catalogVersion != info.catalogVersion()) {
+                log.info("Catalog snapshot was taken at catalog version {}, but the catalog is at version {}, "
+                        + "serving reads from the database", info.catalogVersion(), catalogVersion);
+                return;
+            }
+            Instant deadline = Instant.now().plus(maxServeDuration);
+            servingDeadline = deadline.isBefore(expiresAt) ? deadline : expiresAt;
+            servingSnapshot.set(snapshot);
+            log.info("Serving reads from catalog snapshot with {} POS (created at {}) until {}",
+                    info.posCount(), info.createdAt(), servingDeadline);
+        }, () -> log.info("No catalog snapshot found, serving reads from the database"));
+    }
+
+    @Override
+    public @NonNull SnapshotInfo createSnapshot() {
+        log.info("Creating catalog snapshot...");
+        // read the version first: a write in between makes the snapshot look older than it is, which is safe
+        long catalogVersion = posDataService.getCatalogVersion();
+        SnapshotInfo snapshotInfo = snapshotDataService.write(posDataService.getAll(), catalogVersion);
+        // the new file replaced the one mapped before, which stays readable until it is no longer referenced
+        mappedSnapshot.set(null);
+        log.info("Created catalog snapshot with {} POS ({} bytes)", snapshotInfo.posCount(), snapshotInfo.sizeBytes());
+        return snapshotInfo;
+    }
+
+    @Override
+    public @NonNull SnapshotInfo getSnapshotInfo() throws SnapshotNotFoundException {
+        CatalogSnapshot serving = servingSnapshot.get();
+        if (serving != null) {
+            return serving.info().toBuilder().serving(true).build();
+        }
+        CatalogSnapshot mapped = mappedSnapshot.get();
+        if (mapped == null) {
+            mapped = snapshotDataService.open().orElseThrow(SnapshotNotFoundException::new);
+            mappedSnapshot.compareAndSet(null, mapped);
+        }
+        return mapped.info();
+    }
+
+    @Override
+    public @NonNull Optional<CatalogSnapshot> getServingSnapshot() {
+        CatalogSnapshot serving = servingSnapshot.get();
+        if (serving != null && Instant.now().isAfter(servingDeadline)) {
+            log.info("Warm-start window elapsed, serving reads from the database");
+            stopServing();
+            return Optional.empty();
+        }
+        return Optional.ofNullable(serving);
+    }
+
+    @Override
+    public void stopServing() {
+        if (servingSnapshot.getAndSet(null) != null) {
+            log.info("Stopped serving reads from the catalog snapshot");
+        }
+    }
+
+    @EventListener
+    void onPosChanged(@NonNull PosChangedEvent event) {
+        CatalogSnapshot serving = servingSnapshot.get();
+        if (serving == null) {
+            return;
+        }
+        // events for the whole catalog are also published when nothing may have changed (e.g., when the change
+        // feed connects), so the snapshot is kept as long as the catalog version proves that it is current
+        if (event.affectsAll() && posDataService.getCatalogVersion() == serving.info().catalogVersion()) {
+            return;
+        }
+        stopServing();
+    }
+}
@@ -0,0 +1,142 @@
+package de.seuhd.campuscoffee.domain.impl;
+
+import org.jspecify.annotations.NonNull;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Space-Saving: tracks the most frequent keys of a stream with a fixed number of counters.
+ * <p>
+ * A key that is not tracked while all counters are in use takes over the counter with the smallest count and
+ * inherits that count as its potential overestimation ({@link Counter#error()}). Every key that occurred more than
+ * {@code total / capacity} times is guaranteed to be tracked. Each counter also estimates the distinct clients of its
+ * key with a small {@link HyperLogLog}, which is reset when the counter is taken over.
+ * <p>
+ * Finding the smallest counter is a linear scan, which is cheaper than maintaining an ordered structure for the
+ * small capacities used here. Not thread-safe.
+ */
+final class SpaceSaving {
+    private final int capacity;
+    private final int clientPrecision;
+    private final Map<Long, Counter> counters;
+
+    /**
+     * @param capacity        the number of counters
+     * @param clientPrecision the precision of the distinct client sketch of each counter
+     */
+    SpaceSaving(int capacity, int clientPrecision) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Invalid Space-Saving capacity " + capacity + ".");
+        }
+        this.capacity = capacity;
+        this.clientPrecision = clientPrecision;
+        this.counters = HashMap.newHashMap(capacity);
+    }
+
+    /**
+     * @param key    the key, e.g., a POS ID
+     * @param client the hash of the client (see {@link Hashes})
+     */
+    void add(long key, long client) {
+        Counter counter = counters.get(key);
+        if (counter == null) {
+            if (counters.size() < capacity) {
+                counter = new Counter(key, new HyperLogLog(clientPrecision));
+            } else {
+                counter = evictMinimum();
+                counter.error = counter.count;
+                counter.key = key;
+                counter.clients.clear();
+            }
+            counters.put(key, counter);
+        }
+        counter.count++;
+        counter.clients.add(client);
+    }
+
+    @NonNull Collection<Counter> counters() {
+        return counters.values();
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    void writeTo(@NonNull DataOutput out) throws IOException {
+        out.writeInt(capacity);
+        out.writeInt(clientPrecision);
+        out.writeInt(counters.size());
+        for (Counter counter : counters.values()) {
+            out.writeLong(counter.key);
+            out.writeLong(counter.count);
+            out.writeLong(counter.error);
+            counter.clients.writeTo(out);
+        }
+    }
+
+    static @NonNull SpaceSaving readFrom(@NonNull DataInput in) throws IOException {
+        SpaceSaving sketch = new SpaceSaving(in.readInt(), in.readInt());
+        int size = in.readInt();
+        for (int i = 0; i < size; i++) {
+            Counter counter = new Counter(in.readLong(), new HyperLogLog(sketch.clientPrecision));
+            counter.count = in.readLong();
+            counter.error = in.readLong();
+            counter.clients.merge(HyperLogLog.readFrom(in));
+            sketch.counters.put(counter.key, counter);
+        }
+        return sketch;
+    }
+
+    private Counter evictMinimum() {
+        Counter minimum = null;
+        for (Counter counter : counters.values()) {
+            if (minimum == null || counter.count < minimum.count) {
+                minimum = counter;
+            }
+        }
+        counters.remove(minimum.key);
+        return minimum;
+    }
+
+    /**
+     * The counter of a tracked key.
+     */
+    static final class Counter {
+        private long key;
+        private long count;
+        private long error;
+        private final HyperLogLog clients;
+
+        private Counter(long key, HyperLogLog clients) {
+            this.key = key;
+            this.clients = clients;
+        }
+
+        long key() {
+            return key;
+        }
+
+        /**
+         * @return the number of occurrences, overestimated by at most {@link #error()}
+         */
+        long count() {
+            return count;
+        }
+
+        long error() {
+            return error;
+        }
+
+        /**
+         * @return the distinct clients since the key took over this counter
+         */
+        @NonNull HyperLogLog clients() {
+            return clients;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package de.seuhd.campuscoffee.domain.instrumentation;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * JFR event for a mapper call (e.g., {@code PosEntityMapper.fromEntity}).
+ * Mapper calls are frequent and usually take less than a microsecond, so only slow calls are recorded by default.
+ */
+@Name("campuscoffee.Mapper")
+@Label("Mapper Call")
+@Description("Conversion between the domain model and DTOs or entities")
+@Category("CampusCoffee")
+@StackTrace(false)
+@Threshold("20 us")
+public class MapperEvent extends Event {
+    @Label("Mapper")
+    private String mapper;
+
+    @Label("Method")
+    private String method;
+
+    public void set(String mapper, String method) {
+        this.mapper = mapper;
+        this.method = method;
+    }
+}
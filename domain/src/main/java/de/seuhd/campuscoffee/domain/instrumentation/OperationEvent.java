@@ -0,0 +1,44 @@
+package de.seuhd.campuscoffee.domain.instrumentation;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+import org.jspecify.annotations.NonNull;
+
+import java.util.function.Supplier;
+
+/**
+ * Base class of the custom Java Flight Recorder events of CampusCoffee operations.
+ * The duration is recorded by JFR itself; the outcome is {@code ok} or the simple name of the thrown exception.
+ * Without a running recording, begin and commit are no-ops that the JIT compiler removes.
+ */
+@Category("CampusCoffee")
+@StackTrace(false)
+public abstract class OperationEvent extends Event {
+    public static final String OUTCOME_OK = "ok";
+
+    @Label("Outcome")
+    private String outcome;
+
+    /**
+     * Records the given operation as this event.
+     *
+     * @param operation the operation to record
+     * @param <T>       the result type of the operation
+     * @return the result of the operation
+     */
+    public final <T> T record(@NonNull Supplier<T> operation) {
+        begin();
+        try {
+            T result = operation.get();
+            outcome = OUTCOME_OK;
+            return result;
+        } catch (RuntimeException e) {
+            outcome = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            commit();
+        }
+    }
+}
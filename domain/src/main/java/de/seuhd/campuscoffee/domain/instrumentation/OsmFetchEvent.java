@@ -0,0 +1,20 @@
+package de.seuhd.campuscoffee.domain.instrumentation;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for fetching a node from OpenStreetMap.
+ */
+@Name("campuscoffee.OsmFetch")
+@Label("OSM Fetch")
+@Description("Fetching a node from OpenStreetMap")
+public class OsmFetchEvent extends OperationEvent {
+    @Label("Node ID")
+    private long nodeId;
+
+    public OsmFetchEvent(long nodeId) {
+        this.nodeId = nodeId;
+    }
+}
@@ -0,0 +1,28 @@
+package de.seuhd.campuscoffee.domain.instrumentation;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for the import of a POS from an OpenStreetMap node (including fetch and upsert).
+ */
+@Name("campuscoffee.OsmImport")
+@Label("OSM Import")
+@Description("Import of a POS from an OpenStreetMap node")
+public class OsmImportEvent extends OperationEvent {
+    @Label("Node ID")
+    private long nodeId;
+
+    @Label("POS ID")
+    @Description("ID of the imported POS, 0 if the import failed")
+    private long posId;
+
+    public OsmImportEvent(long nodeId) {
+        this.nodeId = nodeId;
+    }
+
+    public void setPosId(long posId) {
+        this.posId = posId;
+    }
+}
@@ -0,0 +1,20 @@
+package de.seuhd.campuscoffee.domain.instrumentation;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for the lookup of a single POS.
+ */
+@Name("campuscoffee.PosLookup")
+@Label("POS Lookup")
+@Description("Lookup of a single POS by ID")
+public class PosLookupEvent extends OperationEvent {
+    @Label("POS ID")
+    private long posId;
+
+    public PosLookupEvent(long posId) {
+        this.posId = posId;
+    }
+}
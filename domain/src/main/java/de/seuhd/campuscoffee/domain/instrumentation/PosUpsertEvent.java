@@ -0,0 +1,30 @@
+package de.seuhd.campuscoffee.domain.instrumentation;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * JFR event for the creation or update of a POS.
+ */
+@Name("campuscoffee.PosUpsert")
+@Label("POS Upsert")
+@Description("Creation or update of a POS")
+public class PosUpsertEvent extends OperationEvent {
+    @Label("POS ID")
+    @Description("ID of the POS, 0 if the creation failed")
+    private long posId;
+
+    @Label("Created")
+    private boolean created;
+
+    public PosUpsertEvent(@Nullable Long posId) {
+        this.posId = posId == null ? 0 : posId;
+        this.created = posId == null;
+    }
+
+    public void setPosId(long posId) {
+        this.posId = posId;
+    }
+}
@@ -0,0 +1,152 @@
+package de.seuhd.campuscoffee.domain.instrumentation;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Per-request breakdown of the time spent in the phases of a request (e.g., service, data access, SQL).
+ * <p>
+ * Timings are only collected for requests that opted in: the API layer starts a recording for the current thread,
+ * and instrumentation points (aspects, JDBC listeners) add to it via {@link #current()}. Without a recording,
+ * {@link #current()} returns null and the instrumentation points do nothing, so the cost for regular requests is a
+ * single thread-local lookup.
+ * <p>
+ * Instances are confined to the thread that handles the request and are not thread-safe. A phase entered again
+ * while it is active (e.g., a service calling itself through a proxy) is only measured once.
+ */
+public final class RequestTimings {
+    // phases recorded by the instrumentation points of the layers
+    public static final String SERVICE = "service";
+    public static final String DATA = "data";
+    public static final String OSM = "osm";
+    public static final String SQL = "sql";
+    public static final String ENTITY_MAPPER = "entity-mapper";
+    public static final String DTO_MAPPER = "dto-mapper";
+    public static final String ENCODE = "encode";
+    public static final String WRITE = "write";
+
+    private static final ThreadLocal<RequestTimings> CURRENT = new ThreadLocal<>();
+
+    private final long startedAt = System.nanoTime();
+    private final Map<String, Phase> phases = new LinkedHashMap<>();
+
+    private RequestTimings() {}
+
+    /**
+     * Starts a recording for the current thread, replacing any previous one.
+     *
+     * @return the new recording
+     */
+    public static @NonNull RequestTimings start() {
+        RequestTimings timings = new RequestTimings();
+        CURRENT.set(timings);
+        return timings;
+    }
+
+    /**
+     * Returns the recording of the current thread.
+     *
+     * @return the recording, or null if the current request did not opt in
+     */
+    public static @Nullable RequestTimings current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Ends the recording of the current thread.
+     */
+    public static void stop() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Marks the start of a phase.
+     *
+     * @param phase the name of the phase
+     */
+    public void enter(@NonNull String phase) {
+        Phase entry = phases.computeIfAbsent(phase, name -> new Phase());
+        if (entry.depth++ == 0) {
+            entry.enteredAt = System.nanoTime();
+        }
+    }
+
+    /**
+     * Marks the end of a phase that was started with {@link #enter(String)}.
+     *
+     * @param phase the name of the phase
+     */
+    public void exit(@NonNull String phase) {
+        Phase entry = phases.get(phase);
+        if (entry == null || entry.depth == 0) {
+            return;
+        }
+        if (--entry.depth == 0) {
+            entry.nanos += System.nanoTime() - entry.enteredAt;
+            entry.count++;
+        }
+    }
+
+    /**
+     * Adds a phase that was measured elsewhere.
+     *
+     * @param phase the name of the phase
+     * @param nanos the duration in nanoseconds
+     */
+    public void add(@NonNull String phase, long nanos) {
+        Phase entry = phases.computeIfAbsent(phase, name -> new Phase());
+        entry.nanos += nanos;
+        entry.count++;
+    }
+
+    /**
+     * Returns the number of completed executions of a phase, e.g., the number of SQL statements.
+     *
+     * @param phase the name of the phase
+     * @return the number of executions, 0 if the phase was never entered
+     */
+    public int count(@NonNull String phase) {
+        Phase entry = phases.get(phase);
+        return entry == null ? 0 : entry.count;
+    }
+
+    /**
+     * Returns the total duration of a phase.
+     *
+     * @param phase the name of the phase
+     * @return the duration in nanoseconds, 0 if the phase was never entered
+     */
+    public long nanos(@NonNull String phase) {
+        Phase entry = phases.get(phase);
+        return entry == null ? 0 : entry.nanos;
+    }
+
+    /**
+     * Returns the names of the phases in the order in which they were first entered.
+     *
+     * @return the phase names
+     */
+    public @NonNull Iterable<String> phases() {
+        return Collections.unmodifiableSet(phases.keySet());
+    }
+
+    /**
+     * Returns the time since the recording was started.
+     *
+     * @return the elapsed time in nanoseconds
+     */
+    public long elapsedNanos() {
+        return System.nanoTime() - startedAt;
+    }
+
+    private static final class Phase {
+        private int depth;
+        private long enteredAt;
+        private long nanos;
+        private int count;
+    }
+}
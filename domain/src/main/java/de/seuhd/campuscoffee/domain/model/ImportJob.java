@@ -0,0 +1,25 @@
+package de.seuhd.campuscoffee.domain.model;
+
+import lombok.Builder;
+import org.jspecify.annotations.NonNull;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * An asynchronous import of POS from one or more OpenStreetMap nodes.
+ *
+ * @param id        the unique identifier of the job
+ * @param createdAt timestamp when the job was submitted (UTC)
+ * @param updatedAt timestamp of the latest status change of an item (UTC)
+ * @param status    the status of the job, derived from its items (see {@link ImportStatus#ofJob})
+ * @param items     one item per OSM node, in the order of submission
+ */
+@Builder(toBuilder = true)
+public record ImportJob(
+        @NonNull Long id,
+        @NonNull LocalDateTime createdAt,
+        @NonNull LocalDateTime updatedAt,
+        @NonNull ImportStatus status,
+        @NonNull List<ImportJobItem> items
+) {}
@@ -0,0 +1,27 @@
+package de.seuhd.campuscoffee.domain.model;
+
+import lombok.Builder;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.time.LocalDateTime;
+
+/**
+ * The import of a single OpenStreetMap node within an {@link ImportJob}.
+ *
+ * @param nodeId        the OSM node ID to import
+ * @param status        the processing status
+ * @param attempts      the number of attempts started so far
+ * @param nextAttemptAt earliest time of the next attempt (UTC); only relevant while pending
+ * @param posId         the ID of the imported POS; null unless the import succeeded
+ * @param error         the error message of the latest failed attempt; null if there was none
+ */
+@Builder(toBuilder = true)
+public record ImportJobItem(
+        @NonNull Long nodeId,
+        @NonNull ImportStatus status,
+        int attempts,
+        @NonNull LocalDateTime nextAttemptAt,
+        @Nullable Long posId,
+        @Nullable String error
+) {}
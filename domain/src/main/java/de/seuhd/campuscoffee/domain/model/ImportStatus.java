@@ -0,0 +1,36 @@
+package de.seuhd.campuscoffee.domain.model;
+
+import org.jspecify.annotations.NonNull;
+
+import java.util.Collection;
+
+/**
+ * Processing status of an asynchronous OSM import job and of its items (one per OSM node).
+ */
+public enum ImportStatus {
+    /** Waiting for a worker, either for the first attempt or for a retry after a transient failure. */
+    PENDING,
+    /** Claimed by a worker of one of the application instances. */
+    RUNNING,
+    /** The POS was imported. */
+    SUCCEEDED,
+    /** The import failed permanently or ran out of attempts. */
+    FAILED;
+
+    /**
+     * Derives the status of a job from the status of its items: the job is pending until the first item is
+     * claimed, running until all items are done, and failed if at least one item failed.
+     *
+     * @param itemStatuses the status of all items of the job
+     * @return the status of the job
+     */
+    public static @NonNull ImportStatus ofJob(@NonNull Collection<ImportStatus> itemStatuses) {
+        if (itemStatuses.stream().allMatch(status -> status == PENDING)) {
+            return PENDING;
+        }
+        if (itemStatuses.contains(PENDING) || itemStatuses.contains(RUNNING)) {
+            return RUNNING;
+        }
+        return itemStatuses.contains(FAILED) ? FAILED : SUCCEEDED;
+    }
+}
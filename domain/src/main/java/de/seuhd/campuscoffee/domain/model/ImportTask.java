@@ -0,0 +1,20 @@
+package de.seuhd.campuscoffee.domain.model;
+
+import lombok.Builder;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * An import job item that a worker claimed for processing.
+ *
+ * @param itemId   the ID of the claimed item
+ * @param jobId    the ID of the job the item belongs to
+ * @param nodeId   the OSM node ID to import
+ * @param attempts the number of attempts including the current one
+ */
+@Builder
+public record ImportTask(
+        long itemId,
+        long jobId,
+        @NonNull Long nodeId,
+        int attempts
+) {}
@@ -0,0 +1,295 @@
+package de.seuhd.campuscoffee.domain.model;
+
+import org.jspecify.annotations.NonNull;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Weekly opening hours of a POS: the expression in OpenStreetMap {@code opening_hours} syntax as entered or imported,
+ * and the minutes of the week it covers as a sorted list of disjoint intervals.
+ * <p>
+ * The intervals are in minutes of the week ({@code 0} is Monday 00:00, see {@link #minuteOfWeek(LocalDateTime)}),
+ * with inclusive start and exclusive end. They are computed once when the expression is parsed and stored alongside
+ * it, so that checking whether a POS is open never parses the expression.
+ * <p>
+ * {@link #parse(String)} supports the subset of the OSM syntax that POS on campus use in practice:
+ * <ul>
+ *   <li>{@code 24/7}</li>
+ *   <li>rules separated by {@code ;}, e.g., {@code Mo-Fr 08:00-18:00; Sa 10:00-14:00}; later rules replace earlier
+ *   ones for the days they select</li>
+ *   <li>weekday ranges and lists, also wrapping around the week, e.g., {@code Mo,We,Fr-Su}</li>
+ *   <li>multiple time ranges per rule, e.g., {@code 08:00-12:00,13:00-17:00}, including ranges past midnight such as
+ *   {@code 20:00-02:00}, which spill into the next day</li>
+ *   <li>{@code off} and {@code closed} to close the selected days</li>
+ * </ul>
+ * Other selectors (public holidays, months, sunrise, ...) are rejected with an {@link IllegalArgumentException}.
+ */
+public final class OpeningHours implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public static final int MINUTES_PER_DAY = 24 * 60;
+    public static final int MINUTES_PER_WEEK = 7 * MINUTES_PER_DAY;
+
+    private static final List<String> DAYS = List.of("mo", "tu", "we", "th", "fr", "sa", "su");
+
+    private final String expression;
+    private final int[] intervals;
+
+    private OpeningHours(String expression, int[] intervals) {
+        this.expression = expression;
+        this.intervals = intervals;
+    }
+
+    /**
+     * Parses opening hours in OpenStreetMap syntax.
+     *
+     * @param expression the expression, e.g., {@code Mo-Fr 08:00-18:00; Sa 10:00-14:00}
+     * @return the parsed opening hours
+     * @throws IllegalArgumentException if the expression is empty or uses unsupported syntax
+     */
+    public static @NonNull OpeningHours parse(@NonNull String expression) {
+        String normalized = expression.strip();
+        if (normalized.isEmpty()) {
+            throw new IllegalArgumentException("Opening hours must not be empty.");
+        }
+        BitSet minutes = new BitSet(MINUTES_PER_WEEK);
+        for (String rule : normalized.split(";")) {
+            if (!rule.isBlank()) {
+                applyRule(rule.strip(), minutes, expression);
+            }
+        }
+        return new OpeningHours(normalized, toIntervals(minutes));
+    }
+
+    /**
+     * Restores opening hours that were parsed before, e.g., when loading them from the database.
+     *
+     * @param expression the expression in OpenStreetMap syntax
+     * @param intervals  the intervals computed by {@link #parse(String)}
+     * @return the opening hours
+     * @throws IllegalArgumentException if the intervals are not sorted, disjoint, and within the week
+     */
+    public static @NonNull OpeningHours of(@NonNull String expression, int @NonNull [] intervals) {
+        if (intervals.length % 2 != 0) {
+            throw new IllegalArgumentException("Opening hours intervals must consist of start and end minutes.");
+        }
+        int previousEnd = -1;
+        for (int i = 0; i < intervals.length; i += 2) {
+            if (intervals[i] <= previousEnd || intervals[i] >= intervals[i + 1] || intervals[i + 1] > MINUTES_PER_WEEK) {
+                throw new IllegalArgumentException("Invalid opening hours intervals for '" + expression + "'.");
+            }
+            previousEnd = intervals[i + 1];
+        }
+        return new OpeningHours(expression, intervals.clone());
+    }
+
+    /**
+     * Returns the minute of the week of a local date and time: {@code 0} for Monday 00:00, {@code 10079} for
+     * Sunday 23:59.
+     *
+     * @param dateTime the local date and time
+     * @return the minute of the week
+     */
+    public static int minuteOfWeek(@NonNull LocalDateTime dateTime) {
+        return (dateTime.getDayOfWeek().getValue() - 1) * MINUTES_PER_DAY
+                + dateTime.getHour() * 60
+                + dateTime.getMinute();
+    }
+
+    /**
+     * @return the expression in OpenStreetMap syntax
+     */
+    public @NonNull String expression() {
+        return expression;
+    }
+
+    /**
+     * @return the covered minutes of the week as start/end pairs (start inclusive, end exclusive), sorted and disjoint
+     */
+    public int @NonNull [] intervals() {
+        return intervals.clone();
+    }
+
+    /**
+     * @param minuteOfWeek the minute of the week (see {@link #minuteOfWeek(LocalDateTime)})
+     * @return whether the POS is open during that minute
+     */
+    public boolean isOpenAt(int minuteOfWeek) {
+        // starts are at even and (exclusive) ends at odd positions, so an odd insertion point lies within an interval
+        int position = Arrays.binarySearch(intervals, minuteOfWeek);
+        if (position >= 0) {
+            return position % 2 == 0;
+        }
+        int insertion = -position - 1;
+        return insertion % 2 == 1;
+    }
+
+    /**
+     * @param dateTime the local date and time
+     * @return whether the POS is open at that time
+     */
+    public boolean isOpenAt(@NonNull LocalDateTime dateTime) {
+        return isOpenAt(minuteOfWeek(dateTime));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof OpeningHours that
+                && expression.equals(that.expression)
+                && Arrays.equals(intervals, that.intervals);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * expression.hashCode() + Arrays.hashCode(intervals);
+    }
+
+    @Override
+    public String toString() {
+        return expression;
+    }
+
+    private static void applyRule(String rule, BitSet minutes, String expression) {
+        if (rule.equals("24/7")) {
+            minutes.set(0, MINUTES_PER_WEEK);
+            return;
+        }
+        String[] parts = rule.split("\\s+", 2);
+        boolean hasDays = Character.isLetter(parts[0].charAt(0)) && !isClosed(parts[0]);
+        boolean[] days = hasDays ? parseDays(parts[0], expression) : allDays();
+        String times = hasDays ? (parts.length > 1 ? parts[1].strip() : "") : rule;
+
+        // a rule replaces the hours of earlier rules for the days it selects
+        for (int day = 0; day < 7; day++) {
+            if (days[day]) {
+                minutes.clear(day * MINUTES_PER_DAY, (day + 1) * MINUTES_PER_DAY);
+            }
+        }
+        if (isClosed(times)) {
+            return;
+        }
+        if (times.isEmpty()) {
+            // e.g., "Mo-Fr": open all day
+            times = "00:00-24:00";
+        }
+        for (String range : times.split(",")) {
+            int[] startEnd = parseTimeRange(range.strip(), expression);
+            for (int day = 0; day < 7; day++) {
+                if (days[day]) {
+                    setWrapping(minutes, day * MINUTES_PER_DAY + startEnd[0], day * MINUTES_PER_DAY + startEnd[1]);
+                }
+            }
+        }
+    }
+
+    private static boolean isClosed(String token) {
+        String lower = token.toLowerCase(Locale.ROOT);
+        return lower.equals("off") || lower.equals("closed");
+    }
+
+    private static boolean[] allDays() {
+        boolean[] days = new boolean[7];
+        Arrays.fill(days, true);
+        return days;
+    }
+
+    private static boolean[] parseDays(String selector, String expression) {
+        boolean[] days = new boolean[7];
+        for (String part : selector.split(",")) {
+            String[] range = part.split("-", -1);
+            if (range.length > 2) {
+                throw unsupported(expression);
+            }
+            int from = day(range[0], expression);
+            int to = range.length == 2 ? day(range[1], expression) : from;
+            // ranges such as "Fr-Mo" wrap around the end of the week
+            for (int day = from; ; day = (day + 1) % 7) {
+                days[day] = true;
+                if (day == to) {
+                    break;
+                }
+            }
+        }
+        return days;
+    }
+
+    private static int day(String token, String expression) {
+        int day = DAYS.indexOf(token.strip().toLowerCase(Locale.ROOT));
+        if (day < 0) {
+            throw unsupported(expression);
+        }
+        return day;
+    }
+
+    /**
+     * @return start and end minute of the day; the end exceeds {@link #MINUTES_PER_DAY} for ranges past midnight
+     */
+    private static int[] parseTimeRange(String range, String expression) {
+        String[] startEnd = range.split("-", -1);
+        if (startEnd.length != 2) {
+            throw unsupported(expression);
+        }
+        int start = parseTime(startEnd[0], expression);
+        int end = parseTime(startEnd[1], expression);
+        if (start >= MINUTES_PER_DAY || start == end) {
+            throw unsupported(expression);
+        }
+        return new int[]{start, end < start ? end + MINUTES_PER_DAY : end};
+    }
+
+    private static int parseTime(String time, String expression) {
+        String[] hourMinute = time.strip().split(":", -1);
+        try {
+            if (hourMinute.length != 2 || hourMinute[1].length() != 2) {
+                throw unsupported(expression);
+            }
+            int hour = Integer.parseInt(hourMinute[0]);
+            int minute = Integer.parseInt(hourMinute[1]);
+            if (hour < 0 || minute < 0 || minute > 59 || hour * 60 + minute > MINUTES_PER_DAY) {
+                throw unsupported(expression);
+            }
+            return hour * 60 + minute;
+        } catch (NumberFormatException e) {
+            throw unsupported(expression);
+        }
+    }
+
+    /**
+     * Sets the minutes from start (inclusive) to end (exclusive), continuing at the start of the week for ranges
+     * that extend past Sunday midnight.
+     */
+    private static void setWrapping(BitSet minutes, int start, int end) {
+        if (end <= MINUTES_PER_WEEK) {
+            minutes.set(start, end);
+        } else {
+            minutes.set(start, MINUTES_PER_WEEK);
+            minutes.set(0, end - MINUTES_PER_WEEK);
+        }
+    }
+
+    private static int[] toIntervals(BitSet minutes) {
+        int[] intervals = new int[0];
+        int count = 0;
+        for (int start = minutes.nextSetBit(0); start >= 0; start = minutes.nextSetBit(start)) {
+            int end = minutes.nextClearBit(start);
+            if (count + 2 > intervals.length) {
+                intervals = Arrays.copyOf(intervals, Math.max(8, intervals.length * 2));
+            }
+            intervals[count++] = start;
+            intervals[count++] = end;
+            start = end;
+        }
+        return Arrays.copyOf(intervals, count);
+    }
+
+    private static IllegalArgumentException unsupported(String expression) {
+        return new IllegalArgumentException("Unsupported opening hours '" + expression + "'.");
+    }
+}
@@ -2,15 +2,17 @@ package de.seuhd.campuscoffee.domain.model;
 
 import lombok.Builder;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 
 /**
  * Represents an OpenStreetMap node with relevant Point of Sale information.
  * This is the domain model for OSM data before it is converted to a POS object.
  *
- * @param nodeId The OpenStreetMap node ID.
+ * @param nodeId       The OpenStreetMap node ID.
+ * @param openingHours The value of the {@code opening_hours} tag, if present.
  */
 @Builder
-public record OsmNode(@NonNull Long nodeId) {
+public record OsmNode(@NonNull Long nodeId, @Nullable String openingHours) {
     // TODO: The OsmNode record currently only contains the node ID, but should be extended to include
     //  all relevant fields for POS objects.
 }
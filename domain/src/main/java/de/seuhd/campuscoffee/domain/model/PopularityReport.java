@@ -0,0 +1,29 @@
+package de.seuhd.campuscoffee.domain.model;
+
+import lombok.Builder;
+import org.jspecify.annotations.NonNull;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Estimated popularity of the POS during a recent time window, derived from streaming sketches.
+ *
+ * @param since           the start of the window (UTC), aligned to the sketch buckets
+ * @param window          the length of the window
+ * @param views           the number of views of single POS
+ * @param distinctClients the estimated number of distinct clients that viewed or listed POS
+ * @param listings        the number of list requests per listing
+ * @param trending        the most viewed POS in descending order
+ */
+@Builder(toBuilder = true)
+public record PopularityReport(
+        @NonNull LocalDateTime since,
+        @NonNull Duration window,
+        long views,
+        long distinctClients,
+        @NonNull Map<PosListing, Long> listings,
+        @NonNull List<TrendingPos> trending
+) {}
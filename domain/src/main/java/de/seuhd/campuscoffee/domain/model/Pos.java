@@ -24,6 +24,7 @@ import java.time.LocalDateTime;
  * @param houseNumber house number (may include suffix such as "21a")
  * @param postalCode  postal code
  * @param city        city name
+ * @param openingHours weekly opening hours; null if unknown
  */
 @Builder(toBuilder = true)
 public record Pos(
@@ -37,7 +38,8 @@ public record Pos(
         @NonNull String street,
         @NonNull String houseNumber,
         @NonNull Integer postalCode,
-        @NonNull String city
+        @NonNull String city,
+        @Nullable OpeningHours openingHours
 ) implements Serializable { // serializable to allow cloning (see TestFixtures class).
     @Serial
     private static final long serialVersionUID = 1L;
@@ -0,0 +1,10 @@
+package de.seuhd.campuscoffee.domain.model;
+
+/**
+ * Enum for the live availability that a POS reports.
+ */
+public enum PosAvailability {
+    AVAILABLE,
+    OUT_OF_STOCK, // e.g., a vending machine that ran out of coffee
+    OUT_OF_ORDER
+}
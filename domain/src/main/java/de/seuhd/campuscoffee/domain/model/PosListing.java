@@ -0,0 +1,10 @@
+package de.seuhd.campuscoffee.domain.model;
+
+/**
+ * Enum for the ways clients list POS, as counted by the popularity analytics.
+ */
+public enum PosListing {
+    ALL,
+    OPEN,
+    LEADERBOARD
+}
@@ -0,0 +1,20 @@
+package de.seuhd.campuscoffee.domain.model;
+
+import lombok.Builder;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * An existing POS that is similar to a POS about to be created, i.e., a potential duplicate.
+ *
+ * @param posId          the ID of the existing POS
+ * @param name           the name of the existing POS
+ * @param nameSimilarity the trigram similarity of the normalized names, between 0 and 1
+ * @param sameAddress    whether both POS have the same postal code, house number, and normalized street
+ */
+@Builder(toBuilder = true)
+public record PosMatch(
+        @NonNull Long posId,
+        @NonNull String name,
+        double nameSimilarity,
+        boolean sameAddress
+) {}
@@ -0,0 +1,37 @@
+package de.seuhd.campuscoffee.domain.model;
+
+import lombok.Builder;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * The aggregated ratings of a POS, maintained incrementally with every rating.
+ *
+ * @param posId           the ID of the POS
+ * @param name            the name of the POS
+ * @param campus          the campus of the POS
+ * @param type            the type of the POS
+ * @param ratingCount     the number of ratings
+ * @param ratingSum       the sum of all stars
+ * @param bayesianAverage the average shrunk towards the prior mean, so that a POS with few ratings does not top
+ *                        the leaderboards (see {@code campus-coffee.ratings.prior-*})
+ */
+@Builder(toBuilder = true)
+public record PosRating(
+        @NonNull Long posId,
+        @NonNull String name,
+        @NonNull CampusType campus,
+        @NonNull PosType type,
+        long ratingCount,
+        long ratingSum,
+        double bayesianAverage
+) {
+    public static final int MIN_STARS = 1;
+    public static final int MAX_STARS = 5;
+
+    /**
+     * @return the arithmetic mean of all stars; 0 if there are no ratings
+     */
+    public double averageRating() {
+        return ratingCount == 0 ? 0 : (double) ratingSum / ratingCount;
+    }
+}
@@ -0,0 +1,25 @@
+package de.seuhd.campuscoffee.domain.model;
+
+import lombok.Builder;
+import org.jspecify.annotations.NonNull;
+
+import java.time.LocalDateTime;
+
+/**
+ * The latest live status that a POS reported.
+ *
+ * @param posId        the ID of the POS
+ * @param availability whether the POS can currently serve coffee
+ * @param queueLength  the number of people waiting
+ * @param reportedAt   timestamp when the status was received (UTC)
+ * @param version      increases with every status received by this instance, so that derived state (e.g., encoded
+ *                     responses) can tell whether it is still current
+ */
+@Builder(toBuilder = true)
+public record PosStatus(
+        @NonNull Long posId,
+        @NonNull PosAvailability availability,
+        int queueLength,
+        @NonNull LocalDateTime reportedAt,
+        long version
+) {}
@@ -0,0 +1,32 @@
+package de.seuhd.campuscoffee.domain.model;
+
+import lombok.Builder;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * The status reports of one POS since the last flush, coalesced into a single write.
+ *
+ * @param latest         the latest status
+ * @param reports        the number of reports
+ * @param queueLengthSum the sum of the reported queue lengths (for the average queue length)
+ */
+@Builder(toBuilder = true)
+public record PosStatusAggregate(
+        @NonNull PosStatus latest,
+        long reports,
+        long queueLengthSum
+) {
+    /**
+     * Combines two aggregates of the same POS.
+     *
+     * @param other the aggregate to add
+     * @return the combined aggregate with the more recent status as the latest
+     */
+    public @NonNull PosStatusAggregate combine(@NonNull PosStatusAggregate other) {
+        return new PosStatusAggregate(
+                other.latest().version() > latest.version() ? other.latest() : latest,
+                reports + other.reports(),
+                queueLengthSum + other.queueLengthSum()
+        );
+    }
+}
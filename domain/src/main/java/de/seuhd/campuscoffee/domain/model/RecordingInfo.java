@@ -0,0 +1,30 @@
+package de.seuhd.campuscoffee.domain.model;
+
+import lombok.Builder;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Metadata of a Java Flight Recorder recording.
+ *
+ * @param name        the name of the recording
+ * @param settings    the name of the JFR settings the recording was started with (e.g., "default" or "profile")
+ * @param state       the JFR recording state (e.g., RUNNING or STOPPED)
+ * @param startedAt   timestamp when the recording was started (UTC)
+ * @param duration    the configured duration after which the recording stops, null if it runs until stopped
+ * @param destination the file the recording is written to when it stops
+ * @param sizeBytes   the number of bytes recorded so far
+ */
+@Builder(toBuilder = true)
+public record RecordingInfo(
+        @NonNull String name,
+        @NonNull String settings,
+        @NonNull String state,
+        @Nullable LocalDateTime startedAt,
+        @Nullable Duration duration,
+        @NonNull String destination,
+        long sizeBytes
+) {}
@@ -0,0 +1,60 @@
+package de.seuhd.campuscoffee.domain.model;
+
+import lombok.Builder;
+import org.jspecify.annotations.NonNull;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Summary of the CampusCoffee events contained in a flight recording.
+ *
+ * @param source     the recording file that was summarized
+ * @param eventCount the number of CampusCoffee events in the recording
+ * @param operations duration statistics per event type, slowest (by maximum) first
+ * @param slowest    the slowest events over all types, slowest first
+ */
+@Builder(toBuilder = true)
+public record RecordingSummary(
+        @NonNull String source,
+        long eventCount,
+        @NonNull List<OperationStats> operations,
+        @NonNull List<SlowOperation> slowest
+) {
+    /**
+     * Duration statistics of one event type.
+     *
+     * @param event the JFR event name (e.g., {@code campuscoffee.PosLookup})
+     * @param count the number of events
+     * @param mean  the mean duration
+     * @param p95   the 95th percentile of the duration
+     * @param max   the maximum duration
+     */
+    @Builder(toBuilder = true)
+    public record OperationStats(
+            @NonNull String event,
+            long count,
+            @NonNull Duration mean,
+            @NonNull Duration p95,
+            @NonNull Duration max
+    ) {}
+
+    /**
+     * A single slow event.
+     *
+     * @param event     the JFR event name
+     * @param startedAt timestamp when the operation started (UTC)
+     * @param duration  the duration of the operation
+     * @param thread    the name of the thread that executed the operation
+     * @param details   the event fields, e.g., {@code posId=42, outcome=ok}
+     */
+    @Builder(toBuilder = true)
+    public record SlowOperation(
+            @NonNull String event,
+            @NonNull LocalDateTime startedAt,
+            @NonNull Duration duration,
+            @NonNull String thread,
+            @NonNull String details
+    ) {}
+}
@@ -0,0 +1,26 @@
+package de.seuhd.campuscoffee.domain.model;
+
+import lombok.Builder;
+import org.jspecify.annotations.NonNull;
+
+import java.time.LocalDateTime;
+
+/**
+ * Metadata of a binary catalog snapshot.
+ *
+ * @param location  the location of the snapshot file
+ * @param createdAt timestamp when the snapshot was written (UTC)
+ * @param posCount  number of POS records contained in the snapshot
+ * @param catalogVersion the catalog version the snapshot was taken at (see {@code PosDataService#getCatalogVersion})
+ * @param sizeBytes size of the snapshot file in bytes
+ * @param serving   whether reads are currently served from this snapshot
+ */
+@Builder(toBuilder = true)
+public record SnapshotInfo(
+        @NonNull String location,
+        @NonNull LocalDateTime createdAt,
+        int posCount,
+        long catalogVersion,
+        long sizeBytes,
+        boolean serving
+) {}
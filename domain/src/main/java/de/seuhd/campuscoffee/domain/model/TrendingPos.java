@@ -0,0 +1,20 @@
+package de.seuhd.campuscoffee.domain.model;
+
+import lombok.Builder;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * A frequently viewed POS with estimated view statistics.
+ *
+ * @param posId           the ID of the POS
+ * @param views           the estimated number of views in the window (never underestimated)
+ * @param previousViews   the estimated number of views in the equally long window before; 0 if it is not retained
+ * @param distinctClients the estimated number of distinct clients that viewed the POS in the window
+ */
+@Builder(toBuilder = true)
+public record TrendingPos(
+        @NonNull Long posId,
+        long views,
+        long previousViews,
+        long distinctClients
+) {}
@@ -0,0 +1,37 @@
+package de.seuhd.campuscoffee.domain.ports;
+
+import de.seuhd.campuscoffee.domain.model.Pos;
+import de.seuhd.campuscoffee.domain.model.SnapshotInfo;
+import org.jspecify.annotations.NonNull;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Read-only view of a POS catalog snapshot.
+ * Implementations are provided by the data layer and may decode the records lazily from an off-heap
+ * (e.g., memory-mapped) representation.
+ */
+public interface CatalogSnapshot {
+    /**
+     * Returns the metadata of this snapshot.
+     *
+     * @return the snapshot metadata; never null
+     */
+    @NonNull SnapshotInfo info();
+
+    /**
+     * Decodes all POS contained in the snapshot.
+     *
+     * @return a list of all POS in the snapshot; never null, but may be empty
+     */
+    @NonNull List<Pos> getAll();
+
+    /**
+     * Looks up a single POS in the snapshot.
+     *
+     * @param id the unique identifier of the POS; must not be null
+     * @return the POS with the given ID or an empty optional if the snapshot does not contain it
+     */
+    @NonNull Optional<Pos> findById(@NonNull Long id);
+}
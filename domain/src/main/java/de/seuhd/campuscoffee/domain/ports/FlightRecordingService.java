@@ -0,0 +1,64 @@
+package de.seuhd.campuscoffee.domain.ports;
+
+import de.seuhd.campuscoffee.domain.exceptions.RecordingAlreadyRunningException;
+import de.seuhd.campuscoffee.domain.exceptions.RecordingNotFoundException;
+import de.seuhd.campuscoffee.domain.model.RecordingInfo;
+import de.seuhd.campuscoffee.domain.model.RecordingSummary;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Service interface for on-demand Java Flight Recorder recordings, e.g., to capture evidence during an incident
+ * without restarting the service. At most one recording runs at a time.
+ */
+public interface FlightRecordingService {
+    /**
+     * Starts a new recording.
+     *
+     * @param settings the name of the JFR settings to use, e.g., "default" (low overhead) or "profile"
+     * @param duration the duration after which the recording stops automatically, null to run until stopped
+     * @return the metadata of the started recording; never null
+     * @throws IllegalArgumentException          if the settings do not exist
+     * @throws RecordingAlreadyRunningException if a recording is already running
+     */
+    @NonNull RecordingInfo start(@NonNull String settings, @Nullable Duration duration)
+            throws RecordingAlreadyRunningException;
+
+    /**
+     * Stops the current recording and writes it to its destination file.
+     *
+     * @return the metadata of the stopped recording; never null
+     * @throws RecordingNotFoundException if no recording has been started
+     */
+    @NonNull RecordingInfo stop() throws RecordingNotFoundException;
+
+    /**
+     * Returns the metadata of the current or, if none is running, the last recording.
+     *
+     * @return the recording metadata; never null
+     * @throws RecordingNotFoundException if no recording has been started
+     */
+    @NonNull RecordingInfo getInfo() throws RecordingNotFoundException;
+
+    /**
+     * Writes the data recorded so far to the dump file of the recording, replacing its previous dump.
+     * For a stopped recording, this is its destination file.
+     *
+     * @return the path of the recording file; never null
+     * @throws RecordingNotFoundException if no recording has been started
+     */
+    @NonNull Path dump() throws RecordingNotFoundException;
+
+    /**
+     * Summarizes the CampusCoffee events recorded so far. Memory does not grow with the number of events.
+     *
+     * @param top the number of slowest events to include, at most 1000
+     * @return the summary; never null
+     * @throws IllegalArgumentException   if the number of slowest events is out of range
+     * @throws RecordingNotFoundException if no recording has been started
+     */
+    @NonNull RecordingSummary summarize(int top) throws RecordingNotFoundException;
+}
@@ -0,0 +1,68 @@
+package de.seuhd.campuscoffee.domain.ports;
+
+import de.seuhd.campuscoffee.domain.exceptions.ImportJobNotFoundException;
+import de.seuhd.campuscoffee.domain.model.ImportJob;
+import de.seuhd.campuscoffee.domain.model.ImportTask;
+import org.jspecify.annotations.NonNull;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Port interface for the persistent queue of asynchronous OSM import jobs.
+ * The queue is shared by all application instances: claiming items must be safe under concurrent claims from
+ * multiple instances, and an item must never be processed by two workers at the same time unless its lease expired.
+ */
+public interface ImportJobDataService {
+    /**
+     * Creates a job with one pending item per OSM node.
+     *
+     * @param nodeIds the OSM node IDs to import; must not be empty
+     * @return the created job
+     */
+    @NonNull ImportJob create(@NonNull List<Long> nodeIds);
+
+    /**
+     * Retrieves a job with all its items.
+     *
+     * @param id the ID of the job
+     * @return the job; never null
+     * @throws ImportJobNotFoundException if no job exists with the given ID
+     */
+    @NonNull ImportJob getById(@NonNull Long id) throws ImportJobNotFoundException;
+
+    /**
+     * Claims up to {@code limit} items that are due (pending and past their next attempt time, or running with an
+     * expired lease) and marks them as running. Items claimed by other workers are skipped, not waited for.
+     *
+     * @param limit the maximum number of items to claim
+     * @param lease the time after which the claim expires, so that items of crashed instances are picked up again
+     * @return the claimed items with their attempt counts incremented; empty if no item is due
+     */
+    @NonNull List<ImportTask> claim(int limit, @NonNull Duration lease);
+
+    /**
+     * Marks a claimed item as succeeded.
+     *
+     * @param itemId the ID of the item
+     * @param posId  the ID of the imported POS
+     */
+    void complete(long itemId, long posId);
+
+    /**
+     * Returns a claimed item to the queue for another attempt.
+     *
+     * @param itemId the ID of the item
+     * @param delay  the time to wait before the next attempt
+     * @param error  the error message of the failed attempt
+     */
+    void retry(long itemId, @NonNull Duration delay, @NonNull String error);
+
+    /**
+     * Marks a claimed item as failed permanently.
+     *
+     * @param itemId the ID of the item
+     * @param error  the error message of the failed attempt
+     */
+    void fail(long itemId, @NonNull String error);
+}
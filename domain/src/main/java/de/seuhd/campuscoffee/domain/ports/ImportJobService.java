@@ -0,0 +1,33 @@
+package de.seuhd.campuscoffee.domain.ports;
+
+import de.seuhd.campuscoffee.domain.exceptions.ImportJobNotFoundException;
+import de.seuhd.campuscoffee.domain.model.ImportJob;
+import org.jspecify.annotations.NonNull;
+
+import java.util.List;
+
+/**
+ * Service interface for asynchronous imports of POS from OpenStreetMap nodes.
+ * Unlike {@link PosService#importFromOsmNode(Long)}, submitting a job only stores it: the imports are processed in
+ * the background by the workers of all application instances, so the latency of the submitting request does not
+ * depend on the latency of OpenStreetMap.
+ */
+public interface ImportJobService {
+    /**
+     * Submits a job that imports a POS from each of the given OSM nodes.
+     *
+     * @param nodeIds the OSM node IDs to import; must not be empty, duplicates are imported once
+     * @return the pending job
+     * @throws IllegalArgumentException if no or too many node IDs are given
+     */
+    @NonNull ImportJob submit(@NonNull List<Long> nodeIds);
+
+    /**
+     * Retrieves the current state of a job.
+     *
+     * @param id the ID of the job
+     * @return the job with the status of all its items; never null
+     * @throws ImportJobNotFoundException if no job exists with the given ID
+     */
+    @NonNull ImportJob getById(@NonNull Long id) throws ImportJobNotFoundException;
+}
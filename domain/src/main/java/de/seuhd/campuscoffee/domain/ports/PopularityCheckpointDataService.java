@@ -0,0 +1,23 @@
+package de.seuhd.campuscoffee.domain.ports;
+
+import org.jspecify.annotations.NonNull;
+
+import java.util.Optional;
+
+/**
+ * Port interface for storing checkpoints of the popularity sketches, so that the statistics survive restarts.
+ * Checkpoints are opaque to the data layer.
+ */
+public interface PopularityCheckpointDataService {
+    /**
+     * Replaces the stored checkpoint atomically.
+     *
+     * @param checkpoint the serialized sketches
+     */
+    void save(byte @NonNull [] checkpoint);
+
+    /**
+     * @return the stored checkpoint; empty if none exists or it cannot be read
+     */
+    @NonNull Optional<byte[]> load();
+}
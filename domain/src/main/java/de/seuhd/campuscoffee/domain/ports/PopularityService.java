@@ -0,0 +1,44 @@
+package de.seuhd.campuscoffee.domain.ports;
+
+import de.seuhd.campuscoffee.domain.model.PopularityReport;
+import de.seuhd.campuscoffee.domain.model.PosListing;
+import org.jspecify.annotations.NonNull;
+
+import java.time.Duration;
+
+/**
+ * Service interface for the popularity analytics of POS: which POS are viewed most and by how many distinct clients.
+ * <p>
+ * Views are summarized in streaming sketches of fixed size instead of being stored individually, so the statistics
+ * are estimates, and memory does not grow with the traffic. Recording a view must be cheap enough to be called on
+ * every read request.
+ */
+public interface PopularityService {
+    /**
+     * Records that a client viewed a single POS.
+     *
+     * @param posId  the ID of the POS
+     * @param client identifies the client, e.g., its address; only a hash is kept
+     */
+    void recordView(long posId, @NonNull String client);
+
+    /**
+     * Records that a client listed POS.
+     *
+     * @param listing the kind of list
+     * @param client  identifies the client, e.g., its address; only a hash is kept
+     */
+    void recordListing(@NonNull PosListing listing, @NonNull String client);
+
+    /**
+     * Reports the most viewed POS of a recent time window.
+     *
+     * @param window the length of the window; rounded up to whole sketch buckets and at most the retained history
+     *               ({@code campus-coffee.analytics.buckets} times {@code campus-coffee.analytics.bucket-duration})
+     * @param limit  the maximum number of trending POS; must be positive and at most
+     *               {@code campus-coffee.analytics.top-k}
+     * @return the report
+     * @throws IllegalArgumentException if the window or the limit is out of range
+     */
+    @NonNull PopularityReport getReport(@NonNull Duration window, int limit);
+}
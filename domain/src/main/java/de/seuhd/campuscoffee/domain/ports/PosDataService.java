@@ -1,10 +1,14 @@
 package de.seuhd.campuscoffee.domain.ports;
 
+import de.seuhd.campuscoffee.domain.model.CampusType;
 import de.seuhd.campuscoffee.domain.model.Pos;
+import de.seuhd.campuscoffee.domain.model.PosMatch;
 import de.seuhd.campuscoffee.domain.exceptions.PosNotFoundException;
 import org.jspecify.annotations.NonNull;
 
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 /**
  * Port interface for POS data operations.
@@ -28,6 +32,20 @@ public interface PosDataService {
      */
     @NonNull List<Pos> getAll();
 
+    /**
+     * Counts the POS per campus without loading them.
+     *
+     * @return the number of POS per campus; campuses without POS are missing from the map
+     */
+    @NonNull Map<CampusType, Long> countByCampus();
+
+    /**
+     * Returns the catalog version, which advances with every write to the POS catalog by any instance.
+     *
+     * @return the current catalog version; 0 if the catalog was never modified
+     */
+    long getCatalogVersion();
+
     /**
      * Retrieves a single POS entity by its unique identifier.
      *
@@ -37,6 +55,22 @@ public interface PosDataService {
      */
     @NonNull Pos getById(@NonNull Long id) throws PosNotFoundException;
 
+    /**
+     * Finds existing POS in the same city whose name is similar to the name of the given POS after normalization
+     * (case, umlauts, accents, punctuation, and whitespace are ignored). The lookup is backed by an index, so its
+     * cost does not grow with the number of POS that do not match.
+     *
+     * @param pos                    the POS to find matches for; a POS with the same ID is not a match
+     * @param minSimilarity          the minimum trigram similarity of the normalized names of a POS at the same
+     *                               address, between 0 and 1
+     * @param minSimilarityElsewhere the minimum trigram similarity of the normalized names of a POS at another
+     *                               address, between 0 and 1
+     * @param limit                  the maximum number of matches to return
+     * @return the matches, most similar first; never null, but may be empty
+     */
+    @NonNull List<PosMatch> findSimilar(@NonNull Pos pos, double minSimilarity, double minSimilarityElsewhere,
+                                        int limit);
+
     /**
      * Creates a new POS or updates an existing one.
      * If the POS has an ID and exists in the data store, it will be updated.
@@ -47,4 +81,14 @@ public interface PosDataService {
      * @throws PosNotFoundException if attempting to update a POS that does not exist
      */
     @NonNull Pos upsert(@NonNull Pos pos) throws PosNotFoundException;
+
+    /**
+     * Inserts new POS in bulk, bypassing the per-entity persistence logic used by {@link #upsert(Pos)}.
+     * The POS must not have an ID; IDs and timestamps are assigned by the data store.
+     * The stream is consumed in batches, so arbitrarily large catalogs can be inserted without materializing them.
+     *
+     * @param posStream the POS to insert; must not be null
+     * @return the number of inserted POS
+     */
+    long bulkInsert(@NonNull Stream<Pos> posStream);
 }
@@ -2,13 +2,19 @@ package de.seuhd.campuscoffee.domain.ports;
 
 
 import de.seuhd.campuscoffee.domain.exceptions.DuplicatePosNameException;
+import de.seuhd.campuscoffee.domain.exceptions.PossibleDuplicatePosException;
 import de.seuhd.campuscoffee.domain.exceptions.OsmNodeMissingFieldsException;
 import de.seuhd.campuscoffee.domain.exceptions.OsmNodeNotFoundException;
 import de.seuhd.campuscoffee.domain.exceptions.PosNotFoundException;
+import de.seuhd.campuscoffee.domain.model.CampusType;
 import de.seuhd.campuscoffee.domain.model.Pos;
+import de.seuhd.campuscoffee.domain.model.PosType;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Service interface for POS (Point of Sale) operations.
@@ -42,6 +48,19 @@ public interface PosService {
      */
     @NonNull Pos getById(@NonNull Long id) throws PosNotFoundException;
 
+    /**
+     * Retrieves the Points of Sale that are open at the given time, optionally filtered by campus and type.
+     * POS without opening hours are not included. The query is answered from an in-memory index over the catalog,
+     * so it does not parse opening hours or query the database per request.
+     *
+     * @param at     the local time in the time zone of the campus ({@code campus-coffee.opening-hours.time-zone});
+     *               null for the current time
+     * @param campus the campus to filter by; null for all campuses
+     * @param type   the POS type to filter by; null for all types
+     * @return the open POS; never null, but may be empty
+     */
+    @NonNull List<Pos> getOpenAt(@Nullable LocalDateTime at, @Nullable CampusType campus, @Nullable PosType type);
+
     /**
      * Creates a new POS or updates an existing one.
      * This method performs an "upsert" operation:
@@ -52,7 +71,8 @@ public interface PosService {
      * <p>
      * Business rules enforced:
      * <ul>
-     *   <li>POS names must be unique (enforced by database constraint)</li>
+     *   <li>POS names must be unique within a city (enforced by database constraint)</li>
+     *   <li>New POS must not be likely duplicates of existing POS, e.g., at the same address with a similar name</li>
      *   <li>All required fields must be present and valid</li>
      *   <li>Timestamps (createdAt, updatedAt) are managed by the {@link PosDataService}.</li>
      * </ul>
@@ -61,27 +81,40 @@ public interface PosService {
      * @return the persisted POS entity with populated ID and timestamps; never null
      * @throws PosNotFoundException if attempting to update a POS that does not exist
      * @throws DuplicatePosNameException if a POS with the same name already exists
+     * @throws PossibleDuplicatePosException if a new POS is likely a duplicate of an existing POS
      */
-    @NonNull Pos upsert(@NonNull Pos pos) throws PosNotFoundException, DuplicatePosNameException;
+    @NonNull Pos upsert(@NonNull Pos pos)
+            throws PosNotFoundException, DuplicatePosNameException, PossibleDuplicatePosException;
 
     /**
      * Imports a Point of Sale from an OpenStreetMap node.
      * Fetches POS data from OpenStreetMap using the {@link OsmDataService}, converts it to a POS entity,
-     * and saves it to the system. If a POS with the same name already exists, it will be updated.
+     * and saves it to the system. If the imported POS is likely a duplicate of an existing POS, it is merged into the
+     * existing POS instead, which only takes over the opening hours if it has none.
      * <p>
      * The import process:
      * <ol>
      *   <li>Fetches the OSM node data using the provided node ID</li>
      *   <li>Extracts relevant tags (name, address, etc.)</li>
      *   <li>Maps OSM data to the POS domain model </li>
-     *   <li>Persists the POS entity using the upsert method</li>
+     *   <li>Persists the POS entity using the upsert method, or merges it into its duplicate</li>
      * </ol>
      *
      * @param nodeId the OpenStreetMap node ID to import; must not be null
-     * @return the created or updated POS entity; never null
+     * @return the created POS entity or the existing POS it was merged into; never null
      * @throws OsmNodeNotFoundException if the OSM node with the given ID doesn't exist or cannot be fetched
      * @throws OsmNodeMissingFieldsException if the OSM node lacks required fields for creating a valid POS
      * @throws DuplicatePosNameException if a POS with the same name already exists
      */
     @NonNull Pos importFromOsmNode(@NonNull Long nodeId) throws OsmNodeNotFoundException, OsmNodeMissingFieldsException, DuplicatePosNameException;
+
+    /**
+     * Inserts new POS in bulk, e.g., to seed large (synthetic) catalogs.
+     * Unlike {@link #upsert(Pos)}, this method does not return the created POS and fails as a whole
+     * (for the current batch) if a name already exists.
+     *
+     * @param posStream the POS to insert; must not be null, the POS must not have an ID
+     * @return the number of inserted POS
+     */
+    long bulkInsert(@NonNull Stream<Pos> posStream);
 }
@@ -0,0 +1,28 @@
+package de.seuhd.campuscoffee.domain.ports;
+
+import de.seuhd.campuscoffee.domain.model.PosStatus;
+import de.seuhd.campuscoffee.domain.model.PosStatusAggregate;
+import org.jspecify.annotations.NonNull;
+
+import java.util.List;
+
+/**
+ * Port interface for persisting the live status of POS.
+ */
+public interface PosStatusDataService {
+    /**
+     * Writes the aggregated status reports of several POS in one batch: the latest status replaces the stored one
+     * (unless the stored one is more recent), and the report counters are added up.
+     * Aggregates of POS that no longer exist are skipped.
+     *
+     * @param aggregates the aggregates to write, at most one per POS
+     */
+    void upsertAll(@NonNull List<PosStatusAggregate> aggregates);
+
+    /**
+     * Retrieves the stored status of all POS, e.g., to restore them after a restart.
+     *
+     * @return the stored statuses (with version 0); never null, but may be empty
+     */
+    @NonNull List<PosStatus> getAll();
+}
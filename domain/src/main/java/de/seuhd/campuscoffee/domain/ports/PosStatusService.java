@@ -0,0 +1,52 @@
+package de.seuhd.campuscoffee.domain.ports;
+
+import de.seuhd.campuscoffee.domain.exceptions.PosNotFoundException;
+import de.seuhd.campuscoffee.domain.model.PosAvailability;
+import de.seuhd.campuscoffee.domain.model.PosStatus;
+import org.jspecify.annotations.NonNull;
+
+import java.util.Optional;
+
+/**
+ * Service interface for the live status of POS (availability and queue length), reported by the POS themselves
+ * every few seconds.
+ * <p>
+ * Unlike the POS metadata managed by {@link PosService}, statuses are kept in memory and written to the database in
+ * periodic batches: a report neither reads nor writes the POS, and many reports of the same POS between two
+ * flushes result in a single write.
+ */
+public interface PosStatusService {
+    /**
+     * Records the current status of a POS.
+     *
+     * @param posId        the ID of the POS
+     * @param availability whether the POS can currently serve coffee
+     * @param queueLength  the number of people waiting; must not be negative
+     * @return the recorded status
+     * @throws PosNotFoundException     if no POS exists with the given ID
+     * @throws IllegalArgumentException if the queue length is negative
+     */
+    @NonNull PosStatus report(@NonNull Long posId, @NonNull PosAvailability availability, int queueLength)
+            throws PosNotFoundException;
+
+    /**
+     * Retrieves the latest status of a POS.
+     *
+     * @param posId the ID of the POS
+     * @return the latest status known to this instance; empty if the POS has not reported a status yet
+     */
+    @NonNull Optional<PosStatus> find(@NonNull Long posId);
+
+    /**
+     * Returns the version of the most recent status change of any POS (see {@link PosStatus#version()}), so that
+     * derived state that embeds the statuses of many POS (e.g., an encoded list) can tell whether it is still current.
+     *
+     * @return the current version; increases with every status change
+     */
+    long version();
+
+    /**
+     * Discards all statuses, e.g., after the catalog was cleared.
+     */
+    void clear();
+}
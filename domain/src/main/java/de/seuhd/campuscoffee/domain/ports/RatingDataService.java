@@ -0,0 +1,33 @@
+package de.seuhd.campuscoffee.domain.ports;
+
+import de.seuhd.campuscoffee.domain.exceptions.PosNotFoundException;
+import de.seuhd.campuscoffee.domain.model.PosRating;
+import org.jspecify.annotations.NonNull;
+
+import java.util.List;
+
+/**
+ * Port interface for persisting ratings and the aggregated ratings per POS.
+ */
+public interface RatingDataService {
+    /**
+     * Stores a rating and updates the aggregated ratings of the POS in the same atomic operation, so that
+     * concurrent ratings of the same POS are never lost.
+     *
+     * @param posId       the ID of the POS
+     * @param stars       the number of stars
+     * @param priorMean   the mean the Bayesian average is shrunk towards
+     * @param priorWeight the number of virtual ratings with the prior mean
+     * @return the updated aggregated ratings of the POS
+     * @throws PosNotFoundException if no POS exists with the given ID
+     */
+    @NonNull PosRating rate(@NonNull Long posId, int stars, double priorMean, double priorWeight)
+            throws PosNotFoundException;
+
+    /**
+     * Retrieves the aggregated ratings of all rated POS, e.g., to build the leaderboards.
+     *
+     * @return the aggregated ratings; never null, but may be empty
+     */
+    @NonNull List<PosRating> getAll();
+}
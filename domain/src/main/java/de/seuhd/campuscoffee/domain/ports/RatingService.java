@@ -0,0 +1,39 @@
+package de.seuhd.campuscoffee.domain.ports;
+
+import de.seuhd.campuscoffee.domain.exceptions.PosNotFoundException;
+import de.seuhd.campuscoffee.domain.model.CampusType;
+import de.seuhd.campuscoffee.domain.model.PosRating;
+import de.seuhd.campuscoffee.domain.model.PosType;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * Service interface for rating POS and for the "best coffee" leaderboards derived from the ratings.
+ */
+public interface RatingService {
+    /**
+     * Rates a POS and updates its aggregated ratings.
+     *
+     * @param posId the ID of the POS
+     * @param stars the number of stars, from {@link PosRating#MIN_STARS} to {@link PosRating#MAX_STARS}
+     * @return the updated aggregated ratings of the POS
+     * @throws PosNotFoundException     if no POS exists with the given ID
+     * @throws IllegalArgumentException if the number of stars is out of range
+     */
+    @NonNull PosRating rate(@NonNull Long posId, int stars) throws PosNotFoundException;
+
+    /**
+     * Retrieves the best rated POS by Bayesian average, optionally restricted to a campus and/or type.
+     * POS without ratings are not listed.
+     *
+     * @param campus the campus to filter by; null for all
+     * @param type   the POS type to filter by; null for all
+     * @param limit  the maximum number of POS to return; must be positive and at most
+     *               {@code campus-coffee.ratings.leaderboard-max-size}
+     * @return the best rated POS in descending order
+     * @throws IllegalArgumentException if the limit is out of range
+     */
+    @NonNull List<PosRating> getLeaderboard(@Nullable CampusType campus, @Nullable PosType type, int limit);
+}
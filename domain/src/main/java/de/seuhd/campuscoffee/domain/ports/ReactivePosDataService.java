@@ -0,0 +1,48 @@
+package de.seuhd.campuscoffee.domain.ports;
+
+import de.seuhd.campuscoffee.domain.exceptions.DuplicatePosNameException;
+import de.seuhd.campuscoffee.domain.exceptions.PosNotFoundException;
+import de.seuhd.campuscoffee.domain.model.Pos;
+import org.jspecify.annotations.NonNull;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking variant of the {@link PosDataService} port, implemented by the R2DBC data layer (adapter).
+ * No method blocks the calling thread; results and errors are signaled through the returned publishers, which
+ * do nothing until they are subscribed to.
+ */
+public interface ReactivePosDataService {
+    /**
+     * Clears all POS data from the data store.
+     * Warning: This operation is destructive and cannot be undone.
+     *
+     * @return a publisher that completes when the data was cleared
+     */
+    @NonNull Mono<Void> clear();
+
+    /**
+     * Streams all POS from the data store. Rows are fetched as the subscriber requests them (backpressure),
+     * so the catalog is never materialized in memory as a whole.
+     *
+     * @return the POS ordered by ID; empty if there are none
+     */
+    @NonNull Flux<Pos> getAll();
+
+    /**
+     * Retrieves a single POS by its unique identifier.
+     *
+     * @param id the unique identifier of the POS to retrieve; must not be null
+     * @return the POS, or an error with {@link PosNotFoundException} if no POS exists with the given ID
+     */
+    @NonNull Mono<Pos> getById(@NonNull Long id);
+
+    /**
+     * Creates a new POS (if the ID is null) or updates an existing one.
+     *
+     * @param pos the POS to create or update; must not be null
+     * @return the persisted POS with updated timestamps and ID, or an error with {@link PosNotFoundException}
+     *         if the POS to update does not exist or {@link DuplicatePosNameException} if the name already exists
+     */
+    @NonNull Mono<Pos> upsert(@NonNull Pos pos);
+}
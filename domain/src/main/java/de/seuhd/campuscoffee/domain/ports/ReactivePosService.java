@@ -0,0 +1,49 @@
+package de.seuhd.campuscoffee.domain.ports;
+
+import de.seuhd.campuscoffee.domain.exceptions.DuplicatePosNameException;
+import de.seuhd.campuscoffee.domain.exceptions.PosNotFoundException;
+import de.seuhd.campuscoffee.domain.model.Pos;
+import org.jspecify.annotations.NonNull;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking variant of the {@link PosService} port for the reactive (WebFlux and R2DBC) stack.
+ * It orchestrates data operations through the {@link ReactivePosDataService} port.
+ * <p>
+ * The OSM import and bulk inserts are only offered by {@link PosService}: the OSM adapter is blocking, and
+ * bulk inserts are an administrative operation of the servlet stack.
+ */
+public interface ReactivePosService {
+    /**
+     * Clears all POS data.
+     * Warning: This is a destructive operation typically used only for testing or administrative purposes.
+     *
+     * @return a publisher that completes when the data was cleared
+     */
+    @NonNull Mono<Void> clear();
+
+    /**
+     * Streams all Points of Sale in the system, with backpressure.
+     *
+     * @return the POS; empty if no POS exist
+     */
+    @NonNull Flux<Pos> getAll();
+
+    /**
+     * Retrieves a specific Point of Sale by its unique identifier.
+     *
+     * @param id the unique identifier of the POS to retrieve; must not be null
+     * @return the POS, or an error with {@link PosNotFoundException} if no POS exists with the given ID
+     */
+    @NonNull Mono<Pos> getById(@NonNull Long id);
+
+    /**
+     * Creates a new POS (if the ID is null) or updates an existing one, see {@link PosService#upsert(Pos)}.
+     *
+     * @param pos the POS to create or update; must not be null
+     * @return the persisted POS with populated ID and timestamps, or an error with {@link PosNotFoundException}
+     *         if the POS to update does not exist or {@link DuplicatePosNameException} if the name already exists
+     */
+    @NonNull Mono<Pos> upsert(@NonNull Pos pos);
+}
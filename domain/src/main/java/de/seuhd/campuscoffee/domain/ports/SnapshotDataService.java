@@ -0,0 +1,30 @@
+package de.seuhd.campuscoffee.domain.ports;
+
+import de.seuhd.campuscoffee.domain.model.Pos;
+import de.seuhd.campuscoffee.domain.model.SnapshotInfo;
+import org.jspecify.annotations.NonNull;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Port interface for storing and loading binary catalog snapshots.
+ * This port is implemented by the data layer (adapter), which decides on the storage format and location.
+ */
+public interface SnapshotDataService {
+    /**
+     * Writes the given POS list as a new snapshot, replacing an existing snapshot atomically.
+     *
+     * @param posList        the POS to store in the snapshot; must not be null
+     * @param catalogVersion the catalog version the POS were read at or before
+     * @return the metadata of the written snapshot; never null
+     */
+    @NonNull SnapshotInfo write(@NonNull List<Pos> posList, long catalogVersion);
+
+    /**
+     * Opens the current snapshot for reading.
+     *
+     * @return the snapshot or an empty optional if no (valid) snapshot exists
+     */
+    @NonNull Optional<CatalogSnapshot> open();
+}
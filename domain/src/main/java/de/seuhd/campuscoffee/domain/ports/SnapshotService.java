@@ -0,0 +1,43 @@
+package de.seuhd.campuscoffee.domain.ports;
+
+import de.seuhd.campuscoffee.domain.exceptions.SnapshotNotFoundException;
+import de.seuhd.campuscoffee.domain.model.SnapshotInfo;
+import org.jspecify.annotations.NonNull;
+
+import java.util.Optional;
+
+/**
+ * Service interface for binary catalog snapshots.
+ * A snapshot is a compact copy of the POS catalog that new instances can map into memory to serve reads
+ * immediately after startup, before they have warmed up against the database.
+ */
+public interface SnapshotService {
+    /**
+     * Creates a new snapshot from the current database state or refreshes the existing one.
+     *
+     * @return the metadata of the created snapshot; never null
+     */
+    @NonNull SnapshotInfo createSnapshot();
+
+    /**
+     * Returns the metadata of the current snapshot.
+     *
+     * @return the snapshot metadata; never null
+     * @throws SnapshotNotFoundException if no snapshot exists
+     */
+    @NonNull SnapshotInfo getSnapshotInfo() throws SnapshotNotFoundException;
+
+    /**
+     * Returns the snapshot that reads should currently be served from.
+     * A snapshot is only served during the warm-start window after startup, only if no instance modified the
+     * catalog after it was taken, and never after a write happened on this instance.
+     *
+     * @return the snapshot to serve reads from or an empty optional if reads must go to the database
+     */
+    @NonNull Optional<CatalogSnapshot> getServingSnapshot();
+
+    /**
+     * Stops serving reads from the snapshot, e.g., because the catalog was modified.
+     */
+    void stopServing();
+}
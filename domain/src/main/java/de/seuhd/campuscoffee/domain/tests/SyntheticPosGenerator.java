@@ -0,0 +1,137 @@
+package de.seuhd.campuscoffee.domain.tests;
+
+import de.seuhd.campuscoffee.domain.model.CampusType;
+import de.seuhd.campuscoffee.domain.model.OpeningHours;
+import de.seuhd.campuscoffee.domain.model.Pos;
+import de.seuhd.campuscoffee.domain.model.PosType;
+import org.jspecify.annotations.NonNull;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * Deterministic generator for large synthetic POS catalogs (for benchmarks, load tests, and dev seeding).
+ * <p>
+ * Each POS is derived only from the seed and its index, so the same seed always yields the same catalog, and
+ * any slice of a catalog can be generated independently (e.g., in parallel). Names contain the index and are
+ * therefore unique within a catalog. Types, campuses, cities (with matching postal code ranges), streets,
+ * house numbers (including suffixes and ranges), and opening hours follow fixed, roughly realistic distributions.
+ */
+public final class SyntheticPosGenerator {
+    private static final Weighted<PosType> TYPES = new Weighted<>(List.of(
+            PosType.CAFE, PosType.BAKERY, PosType.VENDING_MACHINE, PosType.CAFETERIA),
+            new int[]{40, 25, 20, 15});
+    private static final Weighted<CampusType> CAMPUSES = new Weighted<>(List.of(
+            CampusType.INF, CampusType.ALTSTADT, CampusType.BERGHEIM),
+            new int[]{40, 40, 20});
+    private static final Weighted<City> CITIES = new Weighted<>(List.of(
+            new City("Heidelberg", 69115, 69126),
+            new City("Mannheim", 68159, 68309),
+            new City("Karlsruhe", 76131, 76229),
+            new City("Stuttgart", 70173, 70619),
+            new City("Frankfurt am Main", 60306, 60599),
+            new City("Freiburg im Breisgau", 79098, 79117)),
+            new int[]{50, 15, 10, 10, 8, 7});
+    private static final List<String> STREETS = List.of(
+            "Hauptstraße", "Bahnhofstraße", "Schulstraße", "Gartenstraße", "Bergstraße", "Kirchstraße",
+            "Lindenstraße", "Waldstraße", "Ringstraße", "Friedrichstraße", "Goethestraße", "Schillerstraße",
+            "Marktplatz", "Universitätsplatz", "Im Neuenheimer Feld", "Berliner Straße", "Römerstraße",
+            "Rohrbacher Straße", "Plöck", "Untere Straße");
+    private static final List<String> NAME_PREFIXES = List.of(
+            "Café", "Kaffeehaus", "Bäckerei", "Espresso Bar", "Rösterei", "Coffee Corner", "Mensa", "Bistro");
+    private static final List<String> NAME_WORDS = List.of(
+            "Aroma", "Bohne", "Crema", "Hörsaal", "Campus", "Altstadt", "Neckar", "Sonne", "Kranich", "Linde");
+    private static final List<String> DESCRIPTIONS = List.of(
+            "Great waffles", "Walking distance to lecture hall", "Outdoor seating available",
+            "Use only in case of emergencies", "Fair trade beans", "Vegan options", "Quiet place to study",
+            "Student discount");
+    // null for POS without known opening hours
+    private static final Weighted<OpeningHours> OPENING_HOURS = new Weighted<>(Arrays.asList(
+            OpeningHours.parse("Mo-Fr 08:00-18:00"),
+            OpeningHours.parse("Mo-Fr 07:30-19:00; Sa 08:00-14:00"),
+            OpeningHours.parse("Mo-Sa 09:00-22:00; Su 10:00-18:00"),
+            OpeningHours.parse("Mo-Th 11:30-14:15; Fr 11:30-14:00"),
+            OpeningHours.parse("Mo-Sa 06:30-18:30; Su 07:00-12:00"),
+            OpeningHours.parse("24/7"),
+            null),
+            new int[]{25, 20, 15, 10, 10, 10, 10});
+
+    private final long seed;
+
+    public SyntheticPosGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Generates a stream of POS for insertion (without ID and timestamps).
+     *
+     * @param count the number of POS to generate
+     * @return a sequential stream of POS with the indexes 0 to count - 1
+     */
+    public @NonNull Stream<Pos> stream(long count) {
+        return LongStream.range(0, count).mapToObj(this::generate);
+    }
+
+    /**
+     * Generates the POS with the given index (without ID and timestamps).
+     *
+     * @param index the index of the POS in the catalog
+     * @return the generated POS
+     */
+    public @NonNull Pos generate(long index) {
+        SplittableRandom random = new SplittableRandom(seed ^ (index * 0x9E3779B97F4A7C15L));
+        PosType type = TYPES.sample(random);
+        City city = CITIES.sample(random);
+        return Pos.builder()
+                .name(pick(NAME_PREFIXES, random) + " " + pick(NAME_WORDS, random) + " " + (index + 1))
+                .description(pick(DESCRIPTIONS, random))
+                .type(type)
+                .campus(CAMPUSES.sample(random))
+                .street(pick(STREETS, random))
+                .houseNumber(houseNumber(random))
+                .postalCode(random.nextInt(city.minPostalCode(), city.maxPostalCode() + 1))
+                .city(city.name())
+                // drawn last, so that the other fields are the same as in catalogs generated without opening hours
+                .openingHours(OPENING_HOURS.sample(random))
+                .build();
+    }
+
+    private static String houseNumber(SplittableRandom random) {
+        // low house numbers are more frequent than high ones
+        double skewed = random.nextDouble();
+        int number = 1 + (int) (skewed * skewed * 199);
+        int variant = random.nextInt(100);
+        if (variant < 10) {
+            return number + String.valueOf((char) ('a' + random.nextInt(4)));
+        } else if (variant < 13) {
+            return number + "-" + (number + 2);
+        }
+        return Integer.toString(number);
+    }
+
+    private static String pick(List<String> values, SplittableRandom random) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    private record City(String name, int minPostalCode, int maxPostalCode) {}
+
+    private record Weighted<T>(List<T> values, int[] weights) {
+        T sample(SplittableRandom random) {
+            int total = 0;
+            for (int weight : weights) {
+                total += weight;
+            }
+            int value = random.nextInt(total);
+            for (int i = 0; i < weights.length; i++) {
+                value -= weights[i];
+                if (value < 0) {
+                    return values.get(i);
+                }
+            }
+            throw new IllegalStateException("Weights must be positive.");
+        }
+    }
+}
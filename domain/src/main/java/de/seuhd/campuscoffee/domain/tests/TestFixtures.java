@@ -20,18 +20,21 @@ public class TestFixtures {
                     .name("Schmelzpunkt").description("Great waffles")
                     .type(PosType.CAFE).campus(CampusType.ALTSTADT)
                     .street("Hauptstraße").houseNumber("90").postalCode(69117).city("Heidelberg")
+                    .openingHours(OpeningHours.parse("Mo-Fr 10:00-18:00; Sa 11:00-17:00"))
                     .build(),
             Pos.builder()
                     .id(1L).createdAt(DATE_TIME).updatedAt(DATE_TIME)
                     .name("Bäcker Görtz ").description("Walking distance to lecture hall")
                     .type(PosType.BAKERY).campus(CampusType.INF)
                     .street("Berliner Str.").houseNumber("43").postalCode(69120).city("Heidelberg")
+                    .openingHours(OpeningHours.parse("Mo-Sa 06:30-18:30; Su 08:00-11:00"))
                     .build(),
             Pos.builder()
                     .id(1L).createdAt(DATE_TIME).updatedAt(DATE_TIME)
                     .name("Café Botanik").description("Outdoor seating available")
                     .type(PosType.CAFETERIA).campus(CampusType.INF)
                     .street("Im Neuenheimer Feld").houseNumber("304").postalCode(69120).city("Heidelberg")
+                    .openingHours(OpeningHours.parse("Mo-Fr 08:00-16:00"))
                     .build(),
             Pos.builder()
                     .id(1L).createdAt(DATE_TIME).updatedAt(DATE_TIME)
@@ -0,0 +1,40 @@
+package de.seuhd.campuscoffee.loadtest;
+
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * Operations that a load test scenario mixes, together with the HTTP status codes that count as success.
+ */
+enum LoadTestOperation {
+    GET_ALL("get-all", Set.of(200)),
+    GET_BY_ID("get-by-id", Set.of(200)),
+    CREATE("create", Set.of(201)),
+    UPDATE("update", Set.of(200)),
+    // the stubbed OSM service always returns the same POS, so every import after the first one is merged into it;
+    // concurrent first imports may still collide on the name
+    OSM_IMPORT("import", Set.of(201, 409));
+
+    private final String key;
+    private final Set<Integer> expectedStatusCodes;
+
+    LoadTestOperation(String key, Set<Integer> expectedStatusCodes) {
+        this.key = key;
+        this.expectedStatusCodes = expectedStatusCodes;
+    }
+
+    String key() {
+        return key;
+    }
+
+    boolean isSuccess(int statusCode) {
+        return expectedStatusCodes.contains(statusCode);
+    }
+
+    static LoadTestOperation fromKey(String key) {
+        return Arrays.stream(values())
+                .filter(operation -> operation.key.equals(key))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown load test operation: " + key));
+    }
+}
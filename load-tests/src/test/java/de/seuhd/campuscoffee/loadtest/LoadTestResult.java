@@ -0,0 +1,88 @@
+package de.seuhd.campuscoffee.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Latency histograms (in nanoseconds) and error counts of the measured phase of a load test run.
+ *
+ * @param duration   duration of the measured phase
+ * @param cpuTime    CPU time used by the JVM (all cores) during the measured phase
+ * @param histograms latency histogram per operation, including failed requests
+ * @param errors     number of failed requests per operation
+ */
+record LoadTestResult(
+        Duration duration,
+        Duration cpuTime,
+        Map<LoadTestOperation, Histogram> histograms,
+        Map<LoadTestOperation, Long> errors
+) {
+    double p99Millis(LoadTestOperation operation) {
+        return histograms.get(operation).getValueAtPercentile(99.0) / 1_000_000.0;
+    }
+
+    long totalRequests() {
+        return histograms.values().stream().mapToLong(Histogram::getTotalCount).sum();
+    }
+
+    long totalErrors() {
+        return errors.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    double throughput() {
+        return (totalRequests() - totalErrors()) / (duration.toMillis() / 1000.0);
+    }
+
+    /**
+     * Returns the successful requests per second of CPU time, i.e., the throughput that a single fully used core
+     * sustains. Unlike the throughput, it does not depend on the arrival rate or the number of cores of the machine.
+     * The load generator runs in the same JVM, so its share is included.
+     *
+     * @return the requests per CPU second
+     */
+    double requestsPerCpuSecond() {
+        double cpuSeconds = cpuTime.toNanos() / 1_000_000_000.0;
+        return cpuSeconds == 0 ? 0 : (totalRequests() - totalErrors()) / cpuSeconds;
+    }
+
+    double errorRate() {
+        long total = totalRequests();
+        return total == 0 ? 0 : (double) totalErrors() / total;
+    }
+
+    /**
+     * Formats the result in the format of the baseline file, so that it can be used as a new baseline.
+     *
+     * @return the result as properties
+     */
+    Properties toProperties() {
+        Properties properties = new Properties();
+        for (LoadTestOperation operation : LoadTestOperation.values()) {
+            if (histograms.get(operation).getTotalCount() > 0) {
+                properties.setProperty(operation.key() + ".p99-ms", String.format("%.1f", p99Millis(operation)));
+            }
+        }
+        properties.setProperty("throughput-rps", String.format("%.1f", throughput()));
+        properties.setProperty("requests-per-cpu-second", String.format("%.1f", requestsPerCpuSecond()));
+        return properties;
+    }
+
+    String summary() {
+        StringBuilder summary = new StringBuilder(String.format("%-10s %8s %8s %8s %8s %8s%n",
+                "operation", "count", "errors", "p50 ms", "p99 ms", "max ms"));
+        for (LoadTestOperation operation : LoadTestOperation.values()) {
+            Histogram histogram = histograms.get(operation);
+            summary.append(String.format("%-10s %8d %8d %8.1f %8.1f %8.1f%n",
+                    operation.key(), histogram.getTotalCount(), errors.get(operation),
+                    histogram.getValueAtPercentile(50.0) / 1_000_000.0,
+                    histogram.getValueAtPercentile(99.0) / 1_000_000.0,
+                    histogram.getMaxValue() / 1_000_000.0));
+        }
+        summary.append(String.format("throughput: %.1f requests/s (%.1f per CPU second), error rate: %.2f%%%n",
+                throughput(), requestsPerCpuSecond(), errorRate() * 100));
+        return summary.toString();
+    }
+}
@@ -0,0 +1,127 @@
+package de.seuhd.campuscoffee.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.http.HttpRequest;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs a load test scenario against one stack, writes its results, and checks them against the baseline.
+ * <p>
+ * The results are written to the results file of the stack (see {@link LoadTestStack}), which has the format of
+ * the baseline and can replace it after an intended change. Besides latencies and throughput, they contain the
+ * requests per CPU second, the peak number of platform threads, and the peak heap usage. Once the results of more
+ * than one stack exist, they are logged side by side.
+ */
+@Slf4j
+final class LoadTestRunner {
+    private static final String BASELINE = "/load-test-baseline.properties";
+
+    private final LoadTestStack stack;
+
+    LoadTestRunner(LoadTestStack stack) {
+        this.stack = stack;
+    }
+
+    /**
+     * Runs the scenario and fails if the p99 latency of an operation or the throughput regresses beyond the
+     * baseline (plus the tolerance configured there).
+     *
+     * @param scenario       the scenario to run
+     * @param requestFactory creates the request for an operation
+     * @throws IOException if the results cannot be written
+     */
+    void runAndAssertBaseline(LoadTestScenario scenario, Function<LoadTestOperation, HttpRequest> requestFactory)
+            throws IOException {
+        LoadTestResult result;
+        Properties resultProperties;
+        try (ResourceSampler sampler = new ResourceSampler()) {
+            result = new OpenModelLoadGenerator(requestFactory).run(scenario);
+            resultProperties = result.toProperties();
+            resultProperties.setProperty("peak-platform-threads", String.valueOf(sampler.peakPlatformThreads()));
+            resultProperties.setProperty("peak-heap-mb", String.valueOf(sampler.peakHeapBytes() / (1024 * 1024)));
+        }
+        log.info("Load test result ({} requests/s for {}, {}):\n{}peak platform threads: {}, peak heap: {} MB",
+                scenario.arrivalRate(), scenario.duration(), stack.label(), result.summary(),
+                resultProperties.getProperty("peak-platform-threads"), resultProperties.getProperty("peak-heap-mb"));
+        try (OutputStream out = Files.newOutputStream(stack.results())) {
+            resultProperties.store(out, "Load test results, usable as new baseline");
+        }
+        logComparison();
+
+        Properties baseline = loadBaseline();
+        double tolerance = Double.parseDouble(baseline.getProperty("tolerance", "1.2"));
+        for (LoadTestOperation operation : scenario.mix().keySet()) {
+            String p99 = baseline.getProperty(operation.key() + ".p99-ms");
+            if (p99 != null) {
+                assertThat(result.p99Millis(operation))
+                        .as("p99 latency of %s in ms", operation.key())
+                        .isLessThanOrEqualTo(Double.parseDouble(p99) * tolerance);
+            }
+        }
+        assertThat(result.throughput())
+                .as("throughput in requests/s")
+                .isGreaterThanOrEqualTo(Double.parseDouble(baseline.getProperty("throughput-rps", "0")) / tolerance);
+        assertThat(result.errorRate())
+                .as("error rate")
+                .isLessThanOrEqualTo(Double.parseDouble(baseline.getProperty("max-error-rate", "0.01")));
+    }
+
+    /**
+     * Logs the results of all stacks that were run side by side, once there are at least two.
+     */
+    private static void logComparison() throws IOException {
+        List<LoadTestStack> stacks = Arrays.stream(LoadTestStack.values())
+                .filter(stack -> Files.exists(stack.results()))
+                .toList();
+        if (stacks.size() < 2) {
+            return;
+        }
+        TreeSet<String> keys = new TreeSet<>();
+        Properties[] results = new Properties[stacks.size()];
+        StringBuilder comparison = new StringBuilder(String.format("%-24s", ""));
+        for (int i = 0; i < results.length; i++) {
+            results[i] = loadProperties(stacks.get(i).results());
+            keys.addAll(results[i].stringPropertyNames());
+            comparison.append(String.format(" %16s", stacks.get(i).label()));
+        }
+        comparison.append(System.lineSeparator());
+        for (String key : keys) {
+            comparison.append(String.format("%-24s", key));
+            for (Properties result : results) {
+                comparison.append(String.format(" %16s", result.getProperty(key, "-")));
+            }
+            comparison.append(System.lineSeparator());
+        }
+        log.info("Comparison of the stacks:\n{}", comparison);
+    }
+
+    private static Properties loadProperties(Path path) throws IOException {
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(path)) {
+            properties.load(in);
+        }
+        return properties;
+    }
+
+    private static Properties loadBaseline() throws IOException {
+        Properties baseline = new Properties();
+        try (InputStream in = LoadTestRunner.class.getResourceAsStream(BASELINE)) {
+            if (in != null) {
+                baseline.load(in);
+            }
+        }
+        return baseline;
+    }
+}
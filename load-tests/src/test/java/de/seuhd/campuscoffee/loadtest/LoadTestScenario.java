@@ -0,0 +1,59 @@
+package de.seuhd.campuscoffee.loadtest;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Configuration of a load test run, read from system properties (e.g., {@code -Dloadtest.arrival-rate=500}).
+ *
+ * @param arrivalRate    requests per second, independent of the response times (open model)
+ * @param warmup         duration of the warm-up phase whose results are discarded
+ * @param duration       duration of the measured phase
+ * @param catalogSize    number of POS created before the run
+ * @param mix            relative weights of the operations
+ * @param maxOutstanding upper bound of requests in flight; requests beyond it are counted as errors
+ * @param seed           seed for the operation mix, so that runs are reproducible
+ */
+record LoadTestScenario(
+        int arrivalRate,
+        Duration warmup,
+        Duration duration,
+        int catalogSize,
+        Map<LoadTestOperation, Integer> mix,
+        int maxOutstanding,
+        long seed
+) {
+    static LoadTestScenario fromSystemProperties() {
+        return new LoadTestScenario(
+                Integer.getInteger("loadtest.arrival-rate", 200),
+                Duration.parse(System.getProperty("loadtest.warmup", "PT20S")),
+                Duration.parse(System.getProperty("loadtest.duration", "PT60S")),
+                Integer.getInteger("loadtest.catalog-size", 500),
+                parseMix(System.getProperty("loadtest.mix", "get-all=10,get-by-id=70,create=10,update=8,import=2")),
+                Integer.getInteger("loadtest.max-outstanding", 2_000),
+                Long.getLong("loadtest.seed", 42L)
+        );
+    }
+
+    /**
+     * Returns this scenario without an operation, for APIs that do not offer it.
+     *
+     * @param operation the operation to remove from the mix
+     * @return the scenario without the operation
+     */
+    LoadTestScenario without(LoadTestOperation operation) {
+        Map<LoadTestOperation, Integer> weights = new EnumMap<>(mix);
+        weights.remove(operation);
+        return new LoadTestScenario(arrivalRate, warmup, duration, catalogSize, weights, maxOutstanding, seed);
+    }
+
+    private static Map<LoadTestOperation, Integer> parseMix(String mix) {
+        Map<LoadTestOperation, Integer> weights = new EnumMap<>(LoadTestOperation.class);
+        for (String entry : mix.split(",")) {
+            String[] keyAndWeight = entry.trim().split("=");
+            weights.put(LoadTestOperation.fromKey(keyAndWeight[0].trim()), Integer.parseInt(keyAndWeight[1].trim()));
+        }
+        return weights;
+    }
+}
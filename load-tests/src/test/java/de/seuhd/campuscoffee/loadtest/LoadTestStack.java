@@ -0,0 +1,28 @@
+package de.seuhd.campuscoffee.loadtest;
+
+import java.nio.file.Path;
+
+/**
+ * The deployment variants that the load tests compare, each with its own results file in {@code target}.
+ */
+enum LoadTestStack {
+    PLATFORM_THREADS("platform threads", "load-test-results.properties"),
+    VIRTUAL_THREADS("virtual threads", "load-test-results-virtual-threads.properties"),
+    REACTIVE("reactive", "load-test-results-reactive.properties");
+
+    private final String label;
+    private final Path results;
+
+    LoadTestStack(String label, String resultsFile) {
+        this.label = label;
+        this.results = Path.of("target", resultsFile);
+    }
+
+    String label() {
+        return label;
+    }
+
+    Path results() {
+        return results;
+    }
+}
@@ -0,0 +1,125 @@
+package de.seuhd.campuscoffee.loadtest;
+
+import com.sun.management.OperatingSystemMXBean;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.lang.management.ManagementFactory;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+/**
+ * Load generator following the open model: requests are started at a constant arrival rate, regardless of how
+ * long previous requests take. Latencies are measured from the intended start time of each request, so that a
+ * stalled server shows up in the percentiles instead of silently lowering the request rate (coordinated omission).
+ */
+final class OpenModelLoadGenerator {
+    private static final long MAX_TRACKED_LATENCY_NANOS = Duration.ofMinutes(1).toNanos();
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final Function<LoadTestOperation, HttpRequest> requestFactory;
+    private final Map<LoadTestOperation, Recorder> recorders = new EnumMap<>(LoadTestOperation.class);
+    private final Map<LoadTestOperation, AtomicLong> errors = new EnumMap<>(LoadTestOperation.class);
+    private final AtomicInteger outstanding = new AtomicInteger();
+
+    OpenModelLoadGenerator(Function<LoadTestOperation, HttpRequest> requestFactory) {
+        this.requestFactory = requestFactory;
+        for (LoadTestOperation operation : LoadTestOperation.values()) {
+            recorders.put(operation, new Recorder(MAX_TRACKED_LATENCY_NANOS, 3));
+            errors.put(operation, new AtomicLong());
+        }
+    }
+
+    /**
+     * Runs the warm-up and the measured phase of the scenario.
+     *
+     * @param scenario the scenario to run
+     * @return the latencies and errors of the measured phase
+     */
+    LoadTestResult run(LoadTestScenario scenario) {
+        SplittableRandom random = new SplittableRandom(scenario.seed());
+        generate(scenario, scenario.warmup(), random);
+        awaitOutstanding();
+        // discard the warm-up results
+        recorders.values().forEach(Recorder::reset);
+        errors.values().forEach(counter -> counter.set(0));
+
+        long cpuNanosBefore = processCpuNanos();
+        generate(scenario, scenario.duration(), random);
+        awaitOutstanding();
+        Duration cpuTime = Duration.ofNanos(processCpuNanos() - cpuNanosBefore);
+
+        Map<LoadTestOperation, Histogram> histograms = new EnumMap<>(LoadTestOperation.class);
+        Map<LoadTestOperation, Long> errorCounts = new EnumMap<>(LoadTestOperation.class);
+        for (LoadTestOperation operation : LoadTestOperation.values()) {
+            histograms.put(operation, recorders.get(operation).getIntervalHistogram());
+            errorCounts.put(operation, errors.get(operation).get());
+        }
+        return new LoadTestResult(scenario.duration(), cpuTime, histograms, errorCounts);
+    }
+
+    private void generate(LoadTestScenario scenario, Duration duration, SplittableRandom random) {
+        long intervalNanos = 1_000_000_000L / scenario.arrivalRate();
+        long requestCount = duration.toNanos() / intervalNanos;
+        int totalWeight = scenario.mix().values().stream().mapToInt(Integer::intValue).sum();
+        long start = System.nanoTime();
+
+        for (long i = 0; i < requestCount; i++) {
+            long intendedStart = start + i * intervalNanos;
+            long delay;
+            while ((delay = intendedStart - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(delay);
+            }
+            LoadTestOperation operation = selectOperation(scenario.mix(), random.nextInt(totalWeight));
+            if (outstanding.incrementAndGet() > scenario.maxOutstanding()) {
+                // the server cannot keep up; counting the request as failed (with maximum latency) keeps the
+                // arrival rate constant and still shows up in the percentiles
+                outstanding.decrementAndGet();
+                recorders.get(operation).recordValue(MAX_TRACKED_LATENCY_NANOS);
+                errors.get(operation).incrementAndGet();
+                continue;
+            }
+            httpClient.sendAsync(requestFactory.apply(operation), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, exception) -> {
+                        long latency = System.nanoTime() - intendedStart;
+                        recorders.get(operation).recordValue(Math.min(latency, MAX_TRACKED_LATENCY_NANOS));
+                        if (exception != null || !operation.isSuccess(response.statusCode())) {
+                            errors.get(operation).incrementAndGet();
+                        }
+                        outstanding.decrementAndGet();
+                    });
+        }
+    }
+
+    private void awaitOutstanding() {
+        long deadline = System.nanoTime() + MAX_TRACKED_LATENCY_NANOS;
+        while (outstanding.get() > 0 && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(Duration.ofMillis(10).toNanos());
+        }
+    }
+
+    private static long processCpuNanos() {
+        return ManagementFactory.getPlatformMXBean(OperatingSystemMXBean.class).getProcessCpuTime();
+    }
+
+    private static LoadTestOperation selectOperation(Map<LoadTestOperation, Integer> mix, int value) {
+        for (Map.Entry<LoadTestOperation, Integer> entry : mix.entrySet()) {
+            value -= entry.getValue();
+            if (value < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("Operation mix must not be empty.");
+    }
+}
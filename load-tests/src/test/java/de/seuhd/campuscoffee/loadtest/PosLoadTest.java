@@ -0,0 +1,58 @@
+package de.seuhd.campuscoffee.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.seuhd.campuscoffee.domain.model.Pos;
+import de.seuhd.campuscoffee.domain.tests.SyntheticPosGenerator;
+import de.seuhd.campuscoffee.systest.AbstractSysTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * End-to-end load test of the REST API against a Testcontainers Postgres database.
+ * <p>
+ * The test drives the operation mix of {@link LoadTestScenario} at a constant arrival rate and fails if the p99
+ * latency of an operation or the throughput regresses beyond the baseline stored in
+ * {@code load-test-baseline.properties} (plus the tolerance configured there). The measured values are written to
+ * {@code target/load-test-results.properties}, which has the same format and can replace the baseline after an
+ * intended change (see {@link LoadTestRunner}).
+ * <p>
+ * {@link PosVirtualThreadsLoadTest} runs the same scenario with request handling on virtual threads and
+ * {@link ReactivePosLoadTest} against the reactive stack. Each run writes its own results file; once more than one
+ * exists, the results are logged side by side.
+ * <p>
+ * Run with: {@code mvn verify -Pload-test -pl load-tests -am}
+ */
+// the OSM stub does not call OpenStreetMap, so its rate limit would only distort the measured import latency
+@TestPropertySource(properties = {
+        "campus-coffee.osm.rate-limit.requests-per-second=1000000",
+        "campus-coffee.osm.rate-limit.burst=1000000"
+})
+class PosLoadTest extends AbstractSysTest {
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @LocalServerPort
+    private int port;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Test
+    void meetsLatencyAndThroughputBaseline() throws IOException {
+        LoadTestScenario scenario = LoadTestScenario.fromSystemProperties();
+        List<Pos> catalog = createCatalog(scenario.catalogSize(), scenario.seed());
+        new LoadTestRunner(virtualThreads ? LoadTestStack.VIRTUAL_THREADS : LoadTestStack.PLATFORM_THREADS)
+                .runAndAssertBaseline(scenario, new PosRequestFactory(port, catalog, objectMapper, posDtoMapper));
+    }
+
+    private List<Pos> createCatalog(int size, long seed) {
+        posService.bulkInsert(new SyntheticPosGenerator(seed).stream(size));
+        return posService.getAll();
+    }
+}
@@ -0,0 +1,72 @@
+package de.seuhd.campuscoffee.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.seuhd.campuscoffee.api.dtos.PosDto;
+import de.seuhd.campuscoffee.api.mapper.PosDtoMapper;
+import de.seuhd.campuscoffee.domain.model.Pos;
+
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Creates the HTTP request for an operation of the load test, for a random POS of the catalog.
+ * The servlet and the reactive stack offer the same API, so both are driven with the same requests.
+ */
+final class PosRequestFactory implements Function<LoadTestOperation, HttpRequest> {
+    private final int port;
+    private final List<Pos> catalog;
+    private final ObjectMapper objectMapper;
+    private final PosDtoMapper posDtoMapper;
+    private final AtomicLong sequence = new AtomicLong();
+
+    PosRequestFactory(int port, List<Pos> catalog, ObjectMapper objectMapper, PosDtoMapper posDtoMapper) {
+        this.port = port;
+        this.catalog = catalog;
+        this.objectMapper = objectMapper;
+        this.posDtoMapper = posDtoMapper;
+    }
+
+    @Override
+    public HttpRequest apply(LoadTestOperation operation) {
+        Pos existing = catalog.get(ThreadLocalRandom.current().nextInt(catalog.size()));
+        return switch (operation) {
+            case GET_ALL -> request("/api/pos").GET().build();
+            case GET_BY_ID -> request("/api/pos/" + existing.id()).GET().build();
+            case CREATE -> {
+                // a house number of its own, so that the created POS are not likely duplicates of each other
+                long number = sequence.incrementAndGet();
+                yield request("/api/pos")
+                        .POST(json(existing.toBuilder().id(null).name("Load test " + number)
+                                .houseNumber(String.valueOf(number)).build()))
+                        .build();
+            }
+            case UPDATE -> request("/api/pos/" + existing.id())
+                    .PUT(json(existing.toBuilder().description("Updated " + sequence.incrementAndGet()).build()))
+                    .build();
+            case OSM_IMPORT -> request("/api/pos/import/osm/5589879349")
+                    .POST(HttpRequest.BodyPublishers.noBody())
+                    .build();
+        };
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json");
+    }
+
+    private HttpRequest.BodyPublisher json(Pos pos) {
+        try {
+            PosDto posDto = posDtoMapper.fromDomain(pos);
+            return HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(posDto));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
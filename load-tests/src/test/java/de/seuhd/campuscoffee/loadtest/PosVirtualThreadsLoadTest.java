@@ -0,0 +1,11 @@
+package de.seuhd.campuscoffee.loadtest;
+
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Runs the load test of {@link PosLoadTest} with request handling on virtual threads (profile "virtual-threads"),
+ * for a comparison with platform threads. Increase the arrival rate (e.g., {@code -Dloadtest.arrival-rate=2000})
+ * to compare both at high concurrency.
+ */
+@ActiveProfiles("virtual-threads")
+class PosVirtualThreadsLoadTest extends PosLoadTest {}
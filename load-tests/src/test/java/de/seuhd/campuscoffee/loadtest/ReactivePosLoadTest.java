@@ -0,0 +1,93 @@
+package de.seuhd.campuscoffee.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.seuhd.campuscoffee.api.mapper.PosDtoMapper;
+import de.seuhd.campuscoffee.domain.model.Pos;
+import de.seuhd.campuscoffee.domain.ports.ReactivePosService;
+import de.seuhd.campuscoffee.domain.tests.SyntheticPosGenerator;
+import de.seuhd.campuscoffee.reactive.ReactiveApplication;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.util.List;
+
+import static de.seuhd.campuscoffee.TestUtils.getPostgresContainer;
+
+/**
+ * Runs the load test of {@link PosLoadTest} against the reactive stack (WebFlux on Netty and R2DBC, see
+ * {@link ReactiveApplication}) and writes its results to {@code target/load-test-results-reactive.properties}.
+ * The reactive API does not offer the OSM import, so it is removed from the operation mix.
+ * <p>
+ * Compare the {@code requests-per-cpu-second} of the stacks at high concurrency, e.g., with
+ * {@code -Dloadtest.arrival-rate=2000 -Dloadtest.max-outstanding=20000}. The test runs in its own Surefire execution,
+ * because the servlet application must not see the reactive adapters on its classpath (see the load-tests POM).
+ */
+@SpringBootTest(
+        classes = ReactiveApplication.class,
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        // the web application type of a test context is only read from inlined properties
+        properties = "spring.main.web-application-type=reactive"
+)
+class ReactivePosLoadTest {
+    // loading the catalog with a few concurrent inserts keeps the setup short without exhausting the pool
+    private static final int CATALOG_INSERT_CONCURRENCY = 8;
+    private static final PostgreSQLContainer<?> postgresContainer;
+
+    static {
+        // reuses the container of the servlet load tests
+        postgresContainer = getPostgresContainer();
+        postgresContainer.start();
+    }
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.r2dbc.url", () -> "r2dbc:postgresql://%s:%d/%s".formatted(postgresContainer.getHost(),
+                postgresContainer.getMappedPort(PostgreSQLContainer.POSTGRESQL_PORT), postgresContainer.getDatabaseName()));
+        registry.add("spring.r2dbc.username", postgresContainer::getUsername);
+        registry.add("spring.r2dbc.password", postgresContainer::getPassword);
+        registry.add("spring.flyway.url", postgresContainer::getJdbcUrl);
+        registry.add("spring.flyway.user", postgresContainer::getUsername);
+        registry.add("spring.flyway.password", postgresContainer::getPassword);
+    }
+
+    @Autowired
+    private ReactivePosService posService;
+
+    @Autowired
+    private PosDtoMapper posDtoMapper;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @LocalServerPort
+    private int port;
+
+    @AfterEach
+    void afterEach() {
+        posService.clear().block();
+    }
+
+    @Test
+    void meetsLatencyAndThroughputBaseline() throws IOException {
+        LoadTestScenario scenario = LoadTestScenario.fromSystemProperties().without(LoadTestOperation.OSM_IMPORT);
+        List<Pos> catalog = createCatalog(scenario.catalogSize(), scenario.seed());
+        new LoadTestRunner(LoadTestStack.REACTIVE)
+                .runAndAssertBaseline(scenario, new PosRequestFactory(port, catalog, objectMapper, posDtoMapper));
+    }
+
+    private List<Pos> createCatalog(int size, long seed) {
+        posService.clear().block();
+        return Flux.fromStream(new SyntheticPosGenerator(seed).stream(size))
+                .flatMap(posService::upsert, CATALOG_INSERT_CONCURRENCY)
+                .collectList()
+                .block();
+    }
+}
@@ -0,0 +1,41 @@
+package de.seuhd.campuscoffee.loadtest;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Samples the peak number of platform threads and the peak used heap of the JVM while a load test runs.
+ * The load generator runs in the same JVM as the application, so both values include its (constant) share.
+ * Virtual threads are not platform threads and are therefore not counted.
+ */
+final class ResourceSampler implements AutoCloseable {
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    private final AtomicLong peakHeapBytes = new AtomicLong();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+    ResourceSampler() {
+        threads.resetPeakThreadCount();
+        scheduler.scheduleAtFixedRate(
+                () -> peakHeapBytes.accumulateAndGet(memory.getHeapMemoryUsage().getUsed(), Math::max),
+                0, 100, TimeUnit.MILLISECONDS);
+    }
+
+    int peakPlatformThreads() {
+        return threads.getPeakThreadCount();
+    }
+
+    long peakHeapBytes() {
+        return peakHeapBytes.get();
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
@@ -0,0 +1,217 @@
+package de.seuhd.campuscoffee.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarFile;
+
+import static de.seuhd.campuscoffee.TestUtils.getPostgresContainer;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures the time to first request of the application: the time from launching a fresh JVM with the executable
+ * jar until {@code GET /api/pos} first succeeds, which is what an autoscaler waits for.
+ * <p>
+ * A plain start ({@code java -jar}, which also migrates the schema) is compared with the fast-startup mode: the
+ * extracted jar with the class data archive of a training run, the ahead-of-time processed application context, and
+ * the "fast-startup" profile (see the README). The training run also migrates and validates the schema, as in a
+ * deployment. The AOT classes only exist if the application was built with the Maven profile {@code fast-startup};
+ * otherwise, the fast-startup mode runs without them.
+ * <p>
+ * The medians and maxima of {@code -Dstartup.runs} starts per mode are written to
+ * {@code target/startup-time-results.properties}. The test fails if the median of the fast-startup mode exceeds
+ * {@code fast-startup.time-to-first-request-ms} of the baseline (plus the tolerance configured there).
+ * <p>
+ * Run with: {@code mvn verify -Pload-test,fast-startup -pl load-tests -am -Dtest=StartupTimeLoadTest}
+ */
+@Slf4j
+class StartupTimeLoadTest {
+    private static final String BASELINE = "/load-test-baseline.properties";
+    private static final Path RESULTS = Path.of("target", "startup-time-results.properties");
+    private static final String AOT_INITIALIZER =
+            "BOOT-INF/classes/de/seuhd/campuscoffee/Application__ApplicationContextInitializer.class";
+    private static final Duration START_TIMEOUT = Duration.ofMinutes(2);
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(10);
+    private static final PostgreSQLContainer<?> postgresContainer;
+
+    static {
+        // reuses the container of the other load tests
+        postgresContainer = getPostgresContainer();
+        postgresContainer.start();
+    }
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(1))
+            .build();
+
+    @TempDir
+    Path workDir;
+
+    @Test
+    void meetsTimeToFirstRequestBaseline() throws Exception {
+        int runs = Integer.getInteger("startup.runs", 5);
+        Path jar = Path.of(System.getProperty("startup.jar", ""));
+        assertThat(jar).as("executable jar of the application (-Dstartup.jar)").isRegularFile();
+
+        Path extractedJar = extract(jar);
+        Path archive = workDir.resolve("application.jsa");
+        List<String> fastStartupOptions = new ArrayList<>(List.of("-XX:SharedArchiveFile=" + archive));
+        if (hasAotClasses(jar)) {
+            fastStartupOptions.add("-Dspring.aot.enabled=true");
+        } else {
+            log.warn("{} was built without AOT processing (Maven profile fast-startup)", jar.getFileName());
+        }
+
+        // the training run migrates and validates the schema and writes the class data archive when it exits
+        List<String> trainingOptions = new ArrayList<>(fastStartupOptions);
+        trainingOptions.set(0, "-XX:ArchiveClassesAtExit=" + archive);
+        trainingOptions.add("-Dspring.context.exit=onRefresh");
+        Process training = launch(trainingOptions, extractedJar, "fast-startup",
+                "--campus-coffee.migration.on-startup=migrate", "--spring.flyway.validate-on-migrate=true");
+        assertThat(training.waitFor(START_TIMEOUT.toSeconds(), TimeUnit.SECONDS)).as("training run finished").isTrue();
+        assertThat(training.exitValue()).as("exit code of the training run").isZero();
+        assertThat(archive).as("class data archive").isRegularFile();
+
+        long[] plain = new long[runs];
+        long[] fastStartup = new long[runs];
+        for (int i = 0; i < runs; i++) {
+            // alternate the modes, so that both see the same state of the machine
+            plain[i] = timeToFirstRequest(List.of(), jar, "default");
+            fastStartup[i] = timeToFirstRequest(fastStartupOptions, extractedJar, "fast-startup");
+        }
+
+        Properties results = new Properties();
+        addResults(results, "plain", plain);
+        addResults(results, "fast-startup", fastStartup);
+        try (OutputStream out = Files.newOutputStream(RESULTS)) {
+            results.store(out, "Startup time results, usable as new baseline");
+        }
+        log.info("Time to first request in ms ({} runs): plain median {}, max {}; fast-startup median {}, max {}",
+                runs, results.getProperty("plain.time-to-first-request-ms"),
+                results.getProperty("plain.max-time-to-first-request-ms"),
+                results.getProperty("fast-startup.time-to-first-request-ms"),
+                results.getProperty("fast-startup.max-time-to-first-request-ms"));
+
+        Properties baseline = loadBaseline();
+        double tolerance = Double.parseDouble(baseline.getProperty("tolerance", "1.2"));
+        String fastStartupBaseline = baseline.getProperty("fast-startup.time-to-first-request-ms");
+        if (fastStartupBaseline != null) {
+            assertThat(median(fastStartup))
+                    .as("median time to first request of the fast-startup mode in ms")
+                    .isLessThanOrEqualTo((long) (Double.parseDouble(fastStartupBaseline) * tolerance));
+        }
+    }
+
+    /**
+     * Extracts the executable jar, because a class data archive only covers classes loaded from plain jar files.
+     */
+    private Path extract(Path jar) throws IOException, InterruptedException {
+        Path destination = workDir.resolve("extracted");
+        Process process = new ProcessBuilder(java(), "-Djarmode=tools", "-jar", jar.toAbsolutePath().toString(),
+                "extract", "--destination", destination.toString())
+                .redirectErrorStream(true)
+                .redirectOutput(workDir.resolve("extract.log").toFile())
+                .start();
+        assertThat(process.waitFor()).as("exit code of the jar extraction").isZero();
+        return destination.resolve(jar.getFileName());
+    }
+
+    private long timeToFirstRequest(List<String> jvmOptions, Path jar, String profile) throws Exception {
+        int port = freePort();
+        long start = System.nanoTime();
+        Process process = launch(jvmOptions, jar, profile, "--server.port=" + port);
+        try {
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/pos")).build();
+            while (System.nanoTime() - start < START_TIMEOUT.toNanos()) {
+                assertThat(process.isAlive()).as("application started with profile %s", profile).isTrue();
+                try {
+                    if (httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        return Duration.ofNanos(System.nanoTime() - start).toMillis();
+                    }
+                } catch (ConnectException e) {
+                    // the server is not listening yet
+                }
+                Thread.sleep(POLL_INTERVAL);
+            }
+            throw new AssertionError("No successful request within " + START_TIMEOUT);
+        } finally {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+
+    private Process launch(List<String> jvmOptions, Path jar, String profile, String... arguments) throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add(java());
+        command.addAll(jvmOptions);
+        command.addAll(List.of("-jar", jar.toAbsolutePath().toString(),
+                "--spring.profiles.active=" + profile,
+                "--spring.datasource.url=" + postgresContainer.getJdbcUrl(),
+                "--spring.datasource.username=" + postgresContainer.getUsername(),
+                "--spring.datasource.password=" + postgresContainer.getPassword()));
+        command.addAll(Arrays.asList(arguments));
+        // the working directory keeps the log file, snapshots, and checkpoints of the runs out of the module
+        return new ProcessBuilder(command)
+                .directory(workDir.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.appendTo(workDir.resolve(profile + ".log").toFile()))
+                .start();
+    }
+
+    private static boolean hasAotClasses(Path jar) throws IOException {
+        try (JarFile jarFile = new JarFile(jar.toFile())) {
+            return jarFile.getEntry(AOT_INITIALIZER) != null;
+        }
+    }
+
+    private static void addResults(Properties results, String mode, long[] millis) {
+        results.setProperty(mode + ".time-to-first-request-ms", String.valueOf(median(millis)));
+        results.setProperty(mode + ".max-time-to-first-request-ms",
+                String.valueOf(Arrays.stream(millis).max().orElse(0)));
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static String java() {
+        return Path.of(System.getProperty("java.home"), "bin", "java").toString();
+    }
+
+    private static Properties loadBaseline() throws IOException {
+        Properties baseline = new Properties();
+        try (InputStream in = StartupTimeLoadTest.class.getResourceAsStream(BASELINE)) {
+            if (in != null) {
+                baseline.load(in);
+            }
+        }
+        return baseline;
+    }
+}